@@ -23,10 +23,14 @@ package de.quantummaid.httpmaid;
 
 import de.quantummaid.httpmaid.chains.Configurator;
 import de.quantummaid.httpmaid.handler.http.HttpHandler;
+import de.quantummaid.httpmaid.handler.http.files.JavaResourceCache;
 import de.quantummaid.httpmaid.responsetemplate.ResponseTemplate;
 
+import java.time.Duration;
+
 import static de.quantummaid.httpmaid.chains.Configurator.configuratorForType;
 import static de.quantummaid.httpmaid.exceptions.HandlerExceptionMapper.handlerExceptionMapper;
+import static de.quantummaid.httpmaid.handler.http.files.JavaResourceCache.javaResourceCache;
 import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
 
 public final class Configurators {
@@ -40,6 +44,35 @@ public final class Configurators {
                 coreModule -> coreModule.setPageNotFoundExceptionMapper(handlerExceptionMapper(handler)));
     }
 
+    public static Configurator toLimitRequestBodiesTo(final long maximumSizeInBytes) {
+        if (maximumSizeInBytes < 0) {
+            throw new IllegalArgumentException("maximumSizeInBytes must not be negative");
+        }
+        return configuratorForType(CoreModule.class,
+                coreModule -> coreModule.setMaximumRequestBodySize(maximumSizeInBytes));
+    }
+
+    public static Configurator toCacheJavaResources(final long maximumSizeInBytes) {
+        final JavaResourceCache javaResourceCache = javaResourceCache(maximumSizeInBytes, false);
+        return configuratorForType(CoreModule.class,
+                coreModule -> coreModule.setJavaResourceCache(javaResourceCache));
+    }
+
+    public static Configurator toCacheAndGzipJavaResources(final long maximumSizeInBytes) {
+        final JavaResourceCache javaResourceCache = javaResourceCache(maximumSizeInBytes, true);
+        return configuratorForType(CoreModule.class,
+                coreModule -> coreModule.setJavaResourceCache(javaResourceCache));
+    }
+
+    public static Configurator toTimeOutAsynchronousResponsesAfter(final Duration timeout) {
+        validateNotNull(timeout, "timeout");
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("timeout must be positive");
+        }
+        return configuratorForType(CoreModule.class,
+                coreModule -> coreModule.setAsyncResponseTimeout(timeout));
+    }
+
     public static Configurator toCustomizeResponsesUsing(final ResponseTemplate responseTemplate) {
         validateNotNull(responseTemplate, "responseTemplate");
         return configuratorForType(CoreModule.class,
@@ -25,6 +25,7 @@ import de.quantummaid.httpmaid.chains.*;
 import de.quantummaid.httpmaid.chains.builder.ChainBuilder;
 import de.quantummaid.httpmaid.chains.rules.Consume;
 import de.quantummaid.httpmaid.chains.rules.Jump;
+import de.quantummaid.httpmaid.checkpoint.CheckpointHooks;
 import de.quantummaid.httpmaid.closing.ClosingActions;
 import de.quantummaid.httpmaid.exceptions.ExceptionMapper;
 import de.quantummaid.httpmaid.exceptions.ExceptionSerializer;
@@ -38,7 +39,9 @@ import de.quantummaid.httpmaid.handler.InvokeHandlerProcessor;
 import de.quantummaid.httpmaid.handler.PageNotFoundException;
 import de.quantummaid.httpmaid.handler.distribution.DistributableHandler;
 import de.quantummaid.httpmaid.handler.distribution.HandlerDistributors;
+import de.quantummaid.httpmaid.handler.http.files.JavaResourceCache;
 import de.quantummaid.httpmaid.http.Http;
+import de.quantummaid.httpmaid.http.RequestBodyTooLargeException;
 import de.quantummaid.httpmaid.processors.MapExceptionProcessor;
 import de.quantummaid.httpmaid.responsetemplate.ApplyResponseTemplateProcessor;
 import de.quantummaid.httpmaid.responsetemplate.InitResponseProcessor;
@@ -51,6 +54,7 @@ import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
@@ -64,7 +68,8 @@ import static de.quantummaid.httpmaid.handler.DefaultPageNotFoundHandler.default
 import static de.quantummaid.httpmaid.handler.distribution.DistributableHandler.distributableHandler;
 import static de.quantummaid.httpmaid.handler.distribution.HandlerDistributors.HANDLER_DISTRIBUTORS;
 import static de.quantummaid.httpmaid.handler.distribution.HandlerDistributors.handlerDistributors;
-import static de.quantummaid.httpmaid.processors.StreamToStringProcessor.streamToStringProcessor;
+import static de.quantummaid.httpmaid.processors.JavaResourceCacheProcessor.javaResourceCacheProcessor;
+import static de.quantummaid.httpmaid.processors.LimitRequestBodySizeProcessor.limitRequestBodySizeProcessor;
 import static de.quantummaid.httpmaid.processors.StringBodyToStreamProcessor.stringBodyToStreamProcessor;
 import static de.quantummaid.httpmaid.processors.TranslateToValueObjectsProcessor.translateToValueObjectsProcessor;
 import static de.quantummaid.httpmaid.responsetemplate.ResponseTemplate.emptyResponseTemplate;
@@ -73,6 +78,7 @@ import static de.quantummaid.httpmaid.startupchecks.StartupChecks.STARTUP_CHECKS
 import static de.quantummaid.httpmaid.startupchecks.StartupChecks.startupChecks;
 import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
 import static java.util.Collections.emptyList;
+import static java.util.Objects.nonNull;
 
 @ToString
 @EqualsAndHashCode
@@ -80,6 +86,8 @@ import static java.util.Collections.emptyList;
 public final class CoreModule implements ChainModule {
     public static final MetaDataKey<ReflectMaid> REFLECT_MAID = metaDataKey("REFLECT_MAID");
     public static final MetaDataKey<RuntimeConfiguration> RUNTIME_CONFIGURATION = metaDataKey("RUNTIME_CONFIGURATION");
+    public static final MetaDataKey<Duration> ASYNC_RESPONSE_TIMEOUT = metaDataKey("ASYNC_RESPONSE_TIMEOUT");
+    private static final Duration DEFAULT_ASYNC_RESPONSE_TIMEOUT = Duration.ofSeconds(30);
 
     private final ReflectMaid reflectMaid;
     private final List<DistributableHandler> handlers = new ArrayList<>();
@@ -88,6 +96,10 @@ public final class CoreModule implements ChainModule {
     private final FilterMapBuilder<Throwable, ExceptionMapper<Throwable>> exceptionMappers = FilterMapBuilder.filterMapBuilder();
     private ExceptionMapper<?> pageNotFoundExceptionMapper = handlerExceptionMapper(defaultPageNotFoundHandler());
     private final ClosingActions closingActions = ClosingActions.closingActions();
+    private final CheckpointHooks checkpointHooks = CheckpointHooks.checkpointHooks();
+    private Long maximumRequestBodySize;
+    private JavaResourceCache javaResourceCache;
+    private Duration asyncResponseTimeout = DEFAULT_ASYNC_RESPONSE_TIMEOUT;
 
     public static CoreModule coreModule(final ReflectMaid reflectMaid) {
         final CoreModule coreModule = new CoreModule(reflectMaid);
@@ -114,6 +126,20 @@ public final class CoreModule implements ChainModule {
         this.pageNotFoundExceptionMapper = pageNotFoundExceptionMapper;
     }
 
+    public void setMaximumRequestBodySize(final long maximumRequestBodySize) {
+        this.maximumRequestBodySize = maximumRequestBodySize;
+    }
+
+    public void setJavaResourceCache(final JavaResourceCache javaResourceCache) {
+        validateNotNull(javaResourceCache, "javaResourceCache");
+        this.javaResourceCache = javaResourceCache;
+    }
+
+    public void setAsyncResponseTimeout(final Duration asyncResponseTimeout) {
+        validateNotNull(asyncResponseTimeout, "asyncResponseTimeout");
+        this.asyncResponseTimeout = asyncResponseTimeout;
+    }
+
     public void addExceptionMapper(final Predicate<Throwable> filter,
                                    final ExceptionMapper<Throwable> responseMapper) {
         validateNotNull(filter, "filter");
@@ -151,13 +177,15 @@ public final class CoreModule implements ChainModule {
     @Override
     public void register(final ChainExtender extender) {
         addExceptionMapper(PageNotFoundException.class::isInstance, (ExceptionMapper<Throwable>) pageNotFoundExceptionMapper);
+        addExceptionMapper(RequestBodyTooLargeException.class::isInstance,
+                (exception, metaData) -> metaData.set(HttpMaidChainKeys.RESPONSE_STATUS, Http.StatusCodes.PAYLOAD_TOO_LARGE));
         final ExceptionSerializer exceptionSerializer = ExceptionSerializer.exceptionSerializer(exceptionMappers.build());
         ChainBuilder.extendAChainWith(extender)
                 .append(INIT)
                 .append(PRE_PROCESS, translateToValueObjectsProcessor())
                 .append(PROCESS_HEADERS)
                 .append(PROCESS_BODY)
-                .append(PROCESS_BODY_STRING, streamToStringProcessor())
+                .append(PROCESS_BODY_STRING)
                 .append(PRE_DETERMINE_HANDLER)
                 .append(DETERMINE_HANDLER, DetermineHandlerProcessor.determineHandlerProcessor(Generators.generators(lowLevelHandlers)))
                 .append(PREPARE_RESPONSE, InitResponseProcessor.initResponseProcessor(), ApplyResponseTemplateProcessor.applyResponseTemplateProcessor(responseTemplate))
@@ -175,11 +203,21 @@ public final class CoreModule implements ChainModule {
                 .withTheExceptionChain(ERROR)
                 .withTheFinalAction(Jump.jumpTo(POST_INVOKE));
 
+        if (nonNull(maximumRequestBodySize)) {
+            extender.appendProcessor(PRE_PROCESS, limitRequestBodySizeProcessor(maximumRequestBodySize));
+        }
+        if (nonNull(javaResourceCache)) {
+            extender.addMetaDatum(JavaResourceCache.JAVA_RESOURCE_CACHE, javaResourceCache);
+            extender.appendProcessor(PRE_PROCESS, javaResourceCacheProcessor(javaResourceCache));
+        }
+
         extender.createChain(POST_PROCESS, Consume.consume(), Jump.jumpTo(ERROR));
         extender.appendProcessor(POST_PROCESS, stringBodyToStreamProcessor());
 
         extender.createChain(ERROR, Consume.consume(), Consume.consume());
 
         extender.addMetaDatum(ClosingActions.CLOSING_ACTIONS, closingActions);
+        extender.addMetaDatum(CheckpointHooks.CHECKPOINT_HOOKS, checkpointHooks);
+        extender.addMetaDatum(ASYNC_RESPONSE_TIMEOUT, asyncResponseTimeout);
     }
 }
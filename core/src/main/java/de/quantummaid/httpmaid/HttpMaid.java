@@ -24,6 +24,7 @@ package de.quantummaid.httpmaid;
 import de.quantummaid.httpmaid.chains.ChainRegistry;
 import de.quantummaid.httpmaid.chains.MetaData;
 import de.quantummaid.httpmaid.chains.MetaDataKey;
+import de.quantummaid.httpmaid.checkpoint.CheckpointHooks;
 import de.quantummaid.httpmaid.closing.ClosingActions;
 import de.quantummaid.httpmaid.endpoint.*;
 import de.quantummaid.httpmaid.http.headers.ContentType;
@@ -48,12 +49,16 @@ import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import static de.quantummaid.httpmaid.CoreModule.REFLECT_MAID;
+import static de.quantummaid.httpmaid.HttpMaidException.httpMaidException;
 import static de.quantummaid.httpmaid.HttpMaidBuilder.httpMaidBuilder;
 import static de.quantummaid.httpmaid.RuntimeInformation.runtimeInformation;
 import static de.quantummaid.httpmaid.chains.MetaData.emptyMetaData;
 import static de.quantummaid.httpmaid.chains.MetaDataKey.metaDataKey;
+import static de.quantummaid.httpmaid.checkpoint.CheckpointHooks.CHECKPOINT_HOOKS;
 import static de.quantummaid.httpmaid.closing.ClosingActions.CLOSING_ACTIONS;
 import static de.quantummaid.httpmaid.endpoint.RawResponse.rawResponse;
 import static de.quantummaid.httpmaid.endpoint.SynchronizationWrapper.synchronizationWrapper;
@@ -68,6 +73,7 @@ import static de.quantummaid.httpmaid.websockets.broadcast.SerializingSender.ser
 import static de.quantummaid.httpmaid.websockets.disconnect.Disconnector.disconnector;
 import static de.quantummaid.httpmaid.websockets.sender.WebsocketSenders.WEBSOCKET_SENDERS;
 import static de.quantummaid.reflectmaid.GenericType.genericType;
+import static java.util.concurrent.CompletableFuture.completedStage;
 
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class HttpMaid implements AutoCloseable {
@@ -84,26 +90,48 @@ public final class HttpMaid implements AutoCloseable {
     public <T> T handleRequestSynchronously(final RawRequestExtractor<RawRequest> rawRequestExtractor,
                                             final RawResponseFactory<T> rawResponseFactory) {
         final SynchronizationWrapper<T> synchronizationWrapper = synchronizationWrapper();
-        handleRequest(rawRequestExtractor, response -> {
+        process(rawRequestExtractor, response -> {
             final T returnedResponse = rawResponseFactory.createResponse(response);
             synchronizationWrapper.setObject(returnedResponse);
-        });
+        }).toCompletableFuture().join();
         return synchronizationWrapper.getObject();
     }
 
+    public <T> CompletionStage<T> handleRequestAsynchronously(final RawRequestExtractor<RawRequest> rawRequestExtractor,
+                                                              final RawResponseFactory<T> rawResponseFactory) {
+        final CompletableFuture<T> response = new CompletableFuture<>();
+        process(rawRequestExtractor, rawResponse -> {
+            try {
+                response.complete(rawResponseFactory.createResponse(rawResponse));
+            } catch (final Exception e) {
+                response.completeExceptionally(e);
+            }
+        }).whenComplete((ignored, exception) -> {
+            if (!response.isDone()) {
+                response.completeExceptionally(httpMaidException("request processing ended without a response", exception));
+            }
+        });
+        return response;
+    }
+
     public void handleRequest(final RawRequestExtractor<RawRequest> rawRequestExtractor,
                               final RawResponseHandler rawResponseHandler) {
+        process(rawRequestExtractor, rawResponseHandler);
+    }
+
+    private CompletionStage<Void> process(final RawRequestExtractor<RawRequest> rawRequestExtractor,
+                                          final RawResponseHandler rawResponseHandler) {
         final RawRequest rawHttpRequest;
         try {
             rawHttpRequest = rawRequestExtractor.extract();
         } catch (final Exception e) {
             LOGGER.error("Exception in endpoint request handling", e);
-            return;
+            return completedStage(null);
             // throwing an exception here might pose a security risk (http://cwe.mitre.org/data/definitions/600.html)
         }
         final MetaData metaData = emptyMetaData();
         rawHttpRequest.enter(metaData);
-        chainRegistry.putIntoChain(HttpMaidChains.INIT, metaData, finalMetaData -> {
+        return chainRegistry.putIntoChain(HttpMaidChains.INIT, metaData, finalMetaData -> {
             final RawResponse rawResponse = rawResponse(finalMetaData);
             try {
                 rawResponseHandler.handle(rawResponse);
@@ -245,7 +273,25 @@ public final class HttpMaid implements AutoCloseable {
         try {
             closingActions.closeAll();
         } catch (final Exception e) {
-            throw HttpMaidException.httpMaidException("exception during closing of HttpMaid", e);
+            throw httpMaidException("exception during closing of HttpMaid", e);
+        }
+    }
+
+    public void beforeCheckpoint() {
+        final CheckpointHooks checkpointHooks = chainRegistry.getMetaDatum(CHECKPOINT_HOOKS);
+        try {
+            checkpointHooks.beforeCheckpoint();
+        } catch (final Exception e) {
+            throw httpMaidException("exception before checkpoint of HttpMaid", e);
+        }
+    }
+
+    public void afterRestore() {
+        final CheckpointHooks checkpointHooks = chainRegistry.getMetaDatum(CHECKPOINT_HOOKS);
+        try {
+            checkpointHooks.afterRestore();
+        } catch (final Exception e) {
+            throw httpMaidException("exception after restore of HttpMaid", e);
         }
     }
 
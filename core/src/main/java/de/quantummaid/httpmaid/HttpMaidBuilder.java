@@ -158,6 +158,7 @@ public final class HttpMaidBuilder implements HttpConfiguration<HttpMaidBuilder>
         }
         configurators.forEach(chainRegistryBuilder::addConfigurator);
         final ChainRegistry chainRegistry = chainRegistryBuilder.build();
+        chainRegistry.compile();
         final HttpMaid httpMaid = HttpMaid.httpMaid(chainRegistry);
         final Instant end = Instant.now();
         final Duration startUpTime = between(begin, end);
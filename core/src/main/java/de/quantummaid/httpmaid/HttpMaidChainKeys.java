@@ -24,10 +24,14 @@ package de.quantummaid.httpmaid;
 import de.quantummaid.httpmaid.chains.MetaDataKey;
 import de.quantummaid.httpmaid.handler.Handler;
 import de.quantummaid.httpmaid.http.*;
+import de.quantummaid.httpmaid.http.body.ResponseBody;
 import de.quantummaid.httpmaid.http.headers.ContentType;
+import de.quantummaid.httpmaid.http.headers.cookies.Cookies;
 import de.quantummaid.httpmaid.path.Path;
 
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletionStage;
 
 import static de.quantummaid.httpmaid.chains.MetaDataKey.metaDataKey;
 
@@ -41,6 +45,7 @@ public final class HttpMaidChainKeys {
     public static final MetaDataKey<Object> AUTHENTICATION_INFORMATION = metaDataKey("AUTHENTICATION_INFORMATION");
 
     public static final MetaDataKey<Handler> HANDLER = metaDataKey("HANDLER");
+    public static final MetaDataKey<CompletionStage<?>> PENDING_COMPLETION = metaDataKey("PENDING_COMPLETION");
 
     public static final MetaDataKey<Boolean> IS_HTTP_REQUEST = metaDataKey("IS_HTTP_REQUEST");
 
@@ -53,14 +58,19 @@ public final class HttpMaidChainKeys {
 
     public static final MetaDataKey<InputStream> REQUEST_BODY_STREAM = metaDataKey("REQUEST_BODY_STREAM");
     public static final MetaDataKey<String> REQUEST_BODY_STRING = metaDataKey("REQUEST_BODY_STRING");
+    public static final MetaDataKey<ByteBuffer> REQUEST_BODY_BINARY = metaDataKey("REQUEST_BODY_BINARY");
+    public static final MetaDataKey<Long> MAXIMUM_REQUEST_BODY_SIZE = metaDataKey("MAXIMUM_REQUEST_BODY_SIZE");
     public static final MetaDataKey<Object> UNMARSHALLED_REQUEST_BODY = metaDataKey("UNMARSHALLED_REQUEST_BODY");
 
     public static final MetaDataKey<ContentType> REQUEST_CONTENT_TYPE = metaDataKey("REQUEST_CONTENT_TYPE");
     public static final MetaDataKey<Headers> REQUEST_HEADERS = metaDataKey("REQUEST_HEADERS");
+    public static final MetaDataKey<Cookies> REQUEST_COOKIES = metaDataKey("REQUEST_COOKIES");
 
     public static final MetaDataKey<Object> RESPONSE_BODY_OBJECT = metaDataKey("RESPONSE_BODY_MAP");
     public static final MetaDataKey<String> RESPONSE_BODY_STRING = metaDataKey("RESPONSE_BODY_STRING");
     public static final MetaDataKey<InputStream> RESPONSE_STREAM = metaDataKey("RESPONSE_STREAM");
+    public static final MetaDataKey<ResponseBody> RESPONSE_BODY = metaDataKey("RESPONSE_BODY");
+    public static final MetaDataKey<Boolean> IS_BINARY_RESPONSE_BODY = metaDataKey("IS_BINARY_RESPONSE_BODY");
 
     public static final MetaDataKey<ContentType> RESPONSE_CONTENT_TYPE = metaDataKey("RESPONSE_CONTENT_TYPE");
     public static final MetaDataKey<ResponseHeaders> RESPONSE_HEADERS = metaDataKey("RESPONSE_HEADERS");
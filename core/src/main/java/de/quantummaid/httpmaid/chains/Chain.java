@@ -25,15 +25,12 @@ import de.quantummaid.httpmaid.chains.rules.Action;
 import de.quantummaid.httpmaid.chains.rules.Rule;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 
 import java.util.LinkedList;
 import java.util.List;
 
-import static de.quantummaid.httpmaid.HttpMaidChainKeys.EXCEPTION;
 import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
 
-@Slf4j
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public class Chain {
     private final Action defaultAction;
@@ -68,32 +65,14 @@ public class Chain {
         rules.add(routingRule);
     }
 
-    Action accept(final ProcessingContext processingContext) {
-        final MetaData metaData = processingContext.metaData();
-        try {
-            processors.stream()
-                    .map(RegisteredProcessor::processor)
-                    .forEach(processor -> {
-                        if (log.isTraceEnabled()) {
-                            log.trace("executing chain processor {}", processor.identifier());
-                        }
-                        processor.apply(metaData);
-                    });
-            return rules.stream()
-                    .filter(rule -> rule.matches(metaData))
-                    .findFirst()
-                    .map(Rule::action)
-                    .orElse(defaultAction);
-        } catch (final Exception e) {
-            metaData.set(EXCEPTION, e);
-            return exceptionAction;
-        }
-    }
-
     Action defaultAction() {
         return defaultAction;
     }
 
+    Action exceptionAction() {
+        return exceptionAction;
+    }
+
     List<RegisteredProcessor> processors() {
         return processors;
     }
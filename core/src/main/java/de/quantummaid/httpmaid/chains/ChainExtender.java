@@ -93,9 +93,10 @@ public final class ChainExtender {
                             final MetaDataKey<T> key,
                             final Predicate<T> predicate,
                             final String description) {
-        route(name, action, m -> m.getOptional(key)
-                .map(predicate::test)
-                .orElse(false), description);
+        route(name, action, m -> {
+            final T value = m.getOrNull(key);
+            return value != null && predicate.test(value);
+        }, description);
     }
 
     public void route(final ChainName name,
@@ -21,13 +21,14 @@
 
 package de.quantummaid.httpmaid.chains;
 
-import de.quantummaid.httpmaid.chains.rules.*;
+import de.quantummaid.httpmaid.chains.rules.Action;
+import de.quantummaid.httpmaid.chains.rules.Rule;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
 import static de.quantummaid.httpmaid.chains.Chain.chain;
@@ -36,13 +37,15 @@ import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
 import static java.lang.String.format;
 import static lombok.AccessLevel.PRIVATE;
 
-@Slf4j
 @RequiredArgsConstructor(access = PRIVATE)
 public class ChainRegistry {
     public static final MetaDataKey<ChainRegistry> CHAIN_REGISTRY = MetaDataKey.metaDataKey("CHAIN_REGISTRY");
 
     private final Map<ChainName, Chain> namedChains;
     private final MetaData metaData;
+    // compiled chains are linked to each other after construction, so the plan is only
+    // safely visible to request threads because it is published through this volatile field
+    private volatile ExecutionPlan executionPlan;
 
     static ChainRegistry emptyChainRegistry(final MetaData metaData) {
         validateNotNull(metaData, "metaData");
@@ -58,36 +61,19 @@ public class ChainRegistry {
         module.register(extender);
     }
 
-    public void putIntoChain(final ChainName chainName,
-                             final MetaData initialMetaData,
-                             final Consumer<MetaData> consumer) {
-        final ProcessingContext processingContext = ProcessingContext.processingContext(initialMetaData, consumer);
-        accept(chainName, processingContext);
+    public void compile() {
+        executionPlan = ExecutionPlan.compile(namedChains);
     }
 
-    private void accept(final ChainName chainName,
-                        final ProcessingContext processingContext) {
-        final Chain chain = getChainFor(chainName);
-        if (log.isTraceEnabled()) {
-            log.trace("executing chain {}", chainName.name());
-        }
-        final Action action = chain.accept(processingContext);
-        handleAction(action, processingContext);
-    }
-
-    private void handleAction(final Action action,
-                              final ProcessingContext processingContext) {
-        if (action instanceof Jump) {
-            final Jump jump = (Jump) action;
-            final ChainName name = jump.target().orElseThrow();
-            accept(name, processingContext);
-        } else if (action instanceof Consume) {
-            processingContext.consume();
-        } else if (action instanceof Drop) {
-            // do nothing
-        } else {
-            throw chainException("Unknown action: " + action.getClass().getName());
+    public CompletionStage<Void> putIntoChain(final ChainName chainName,
+                                              final MetaData initialMetaData,
+                                              final Consumer<MetaData> consumer) {
+        ExecutionPlan plan = executionPlan;
+        if (plan == null) {
+            plan = ExecutionPlan.compile(namedChains);
+            executionPlan = plan;
         }
+        return plan.execute(chainName, initialMetaData, consumer);
     }
 
     public String dump() {
@@ -123,6 +109,7 @@ public class ChainRegistry {
         }
         final Chain chain = chain(defaultAction, exceptionAction, name, moduleIdentifier);
         namedChains.put(name, chain);
+        executionPlan = null;
     }
 
     void prependProcessorToChain(final ChainName chainName,
@@ -131,6 +118,7 @@ public class ChainRegistry {
         validateNotNull(processor, "processor");
         final Chain chain = getChainFor(chainName);
         chain.prependProcessor(processor);
+        executionPlan = null;
     }
 
     void appendProcessorToChain(final ChainName chainName,
@@ -139,6 +127,7 @@ public class ChainRegistry {
         validateNotNull(processor, "processor");
         final Chain chain = getChainFor(chainName);
         chain.appendProcessor(processor);
+        executionPlan = null;
     }
 
     void addRoutingRouleToChain(final ChainName chainName,
@@ -147,6 +136,7 @@ public class ChainRegistry {
         validateNotNull(rule, "rule");
         final Chain chain = getChainFor(chainName);
         chain.addRoutingRule(rule);
+        executionPlan = null;
     }
 
     private Chain getChainFor(final ChainName chainName) {
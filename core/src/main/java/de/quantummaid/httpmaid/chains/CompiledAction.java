@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.chains;
+
+import de.quantummaid.httpmaid.chains.rules.Action;
+import de.quantummaid.httpmaid.chains.rules.Consume;
+import de.quantummaid.httpmaid.chains.rules.Drop;
+import de.quantummaid.httpmaid.chains.rules.Jump;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static de.quantummaid.httpmaid.chains.ChainException.chainException;
+
+interface CompiledAction {
+
+    static CompiledAction compileAction(final Action action,
+                                        final Map<ChainName, CompiledChain> compiledChains) {
+        if (action instanceof Jump) {
+            final ChainName targetName = action.target().orElseThrow();
+            final CompiledChain target = compiledChains.get(targetName);
+            if (target == null) {
+                return (metaData, consumer) -> {
+                    throw new NoChainForNameException(targetName);
+                };
+            }
+            return (metaData, consumer) -> target;
+        } else if (action instanceof Consume) {
+            return (metaData, consumer) -> {
+                consumer.accept(metaData);
+                return null;
+            };
+        } else if (action instanceof Drop) {
+            return (metaData, consumer) -> null;
+        } else {
+            return (metaData, consumer) -> {
+                throw chainException("Unknown action: " + action.getClass().getName());
+            };
+        }
+    }
+
+    CompiledChain execute(MetaData metaData, Consumer<MetaData> consumer);
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.chains;
+
+import de.quantummaid.httpmaid.chains.rules.Rule;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+import static de.quantummaid.httpmaid.HttpMaidChainKeys.EXCEPTION;
+import static de.quantummaid.httpmaid.HttpMaidChainKeys.PENDING_COMPLETION;
+import static de.quantummaid.httpmaid.chains.CompiledAction.compileAction;
+import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
+
+@Slf4j
+final class CompiledChain {
+    private static final Processor[] NO_PROCESSORS = new Processor[0];
+    private static final Rule[] NO_RULES = new Rule[0];
+    private static final CompiledAction[] NO_ACTIONS = new CompiledAction[0];
+
+    private final ChainName name;
+    private Processor[] processors = NO_PROCESSORS;
+    private Rule[] rules = NO_RULES;
+    private CompiledAction[] ruleActions = NO_ACTIONS;
+    private CompiledAction defaultAction;
+    private CompiledAction exceptionAction;
+
+    private CompiledChain(final ChainName name) {
+        this.name = name;
+    }
+
+    static CompiledChain compiledChain(final ChainName name) {
+        validateNotNull(name, "name");
+        return new CompiledChain(name);
+    }
+
+    void link(final Chain chain,
+              final Map<ChainName, CompiledChain> compiledChains) {
+        validateNotNull(chain, "chain");
+        validateNotNull(compiledChains, "compiledChains");
+        processors = chain.processors().stream()
+                .map(RegisteredProcessor::processor)
+                .toArray(Processor[]::new);
+        final List<Rule> chainRules = chain.rules();
+        rules = chainRules.toArray(Rule[]::new);
+        ruleActions = chainRules.stream()
+                .map(rule -> compileAction(rule.action(), compiledChains))
+                .toArray(CompiledAction[]::new);
+        defaultAction = compileAction(chain.defaultAction(), compiledChains);
+        exceptionAction = compileAction(chain.exceptionAction(), compiledChains);
+    }
+
+    CompiledChain accept(final ProcessingContext context,
+                         final int firstProcessor) {
+        if (log.isTraceEnabled()) {
+            log.trace("executing chain {}", name.name());
+        }
+        final MetaData metaData = context.metaData();
+        final CompiledAction action;
+        try {
+            for (int i = firstProcessor; i < processors.length; ++i) {
+                final Processor processor = processors[i];
+                if (log.isTraceEnabled()) {
+                    log.trace("executing chain processor {}", processor.identifier());
+                }
+                processor.apply(metaData);
+                final CompletionStage<?> pending = metaData.getOrNull(PENDING_COMPLETION);
+                if (pending != null) {
+                    metaData.set(PENDING_COMPLETION, null);
+                    context.suspend(this, i + 1, pending);
+                    return null;
+                }
+            }
+            action = route(metaData);
+        } catch (final Exception e) {
+            return fail(e, context);
+        }
+        return action.execute(metaData, context.consumer());
+    }
+
+    CompiledChain fail(final Throwable exception,
+                       final ProcessingContext context) {
+        final MetaData metaData = context.metaData();
+        metaData.set(PENDING_COMPLETION, null);
+        metaData.set(EXCEPTION, exception);
+        return exceptionAction.execute(metaData, context.consumer());
+    }
+
+    private CompiledAction route(final MetaData metaData) {
+        for (int i = 0; i < rules.length; ++i) {
+            if (rules[i].matches(metaData)) {
+                return ruleActions[i];
+            }
+        }
+        return defaultAction;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.chains;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+
+import static de.quantummaid.httpmaid.chains.CompiledChain.compiledChain;
+import static de.quantummaid.httpmaid.chains.ProcessingContext.processingContext;
+import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
+
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class ExecutionPlan {
+    private final Map<ChainName, CompiledChain> compiledChains;
+
+    static ExecutionPlan compile(final Map<ChainName, Chain> chains) {
+        validateNotNull(chains, "chains");
+        final Map<ChainName, CompiledChain> compiledChains = new HashMap<>(chains.size());
+        chains.keySet().forEach(name -> compiledChains.put(name, compiledChain(name)));
+        chains.forEach((name, chain) -> compiledChains.get(name).link(chain, compiledChains));
+        return new ExecutionPlan(compiledChains);
+    }
+
+    CompletionStage<Void> execute(final ChainName entryChain,
+                                  final MetaData metaData,
+                                  final Consumer<MetaData> consumer) {
+        validateNotNull(metaData, "metaData");
+        validateNotNull(consumer, "consumer");
+        final CompiledChain entry = compiledChains.get(entryChain);
+        if (entry == null) {
+            throw new NoChainForNameException(entryChain);
+        }
+        return processingContext(metaData, consumer).run(entry);
+    }
+}
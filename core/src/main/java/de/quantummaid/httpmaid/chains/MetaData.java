@@ -22,48 +22,62 @@
 package de.quantummaid.httpmaid.chains;
 
 import de.quantummaid.httpmaid.util.Validators;
-import lombok.AccessLevel;
-import lombok.EqualsAndHashCode;
-import lombok.RequiredArgsConstructor;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 import java.util.Optional;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 import static de.quantummaid.httpmaid.chains.ChainException.chainException;
+import static de.quantummaid.httpmaid.chains.MetaDataKey.nameOfSlot;
+import static de.quantummaid.httpmaid.chains.MetaDataKey.numberOfSlots;
+import static java.lang.Math.max;
 import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.joining;
 
-@EqualsAndHashCode
-@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class MetaData {
-    private final Map<String, Object> map;
+    private Object[] values;
+
+    private MetaData(final Object[] values) {
+        this.values = values;
+    }
 
     public static MetaData emptyMetaData() {
-        return new MetaData(new HashMap<>());
+        return new MetaData(new Object[numberOfSlots()]);
     }
 
     public <T> void set(final MetaDataKey<T> key, final T value) {
         Validators.validateNotNull(key, "key");
-        map.put(key.key(), value);
+        put(key.slot(), value);
     }
 
     public void setUnchecked(final MetaDataKey<?> key, final Object value) {
         Validators.validateNotNull(key, "key");
-        map.put(key.key(), value);
+        put(key.slot(), value);
     }
 
     public <T> T get(final MetaDataKey<T> key) {
-        return getOptional(key).orElseThrow(() -> new RuntimeException(format(
-                "Could not find meta datum %s in %s", key.key(), map)));
+        final T datum = getOrNull(key);
+        if (datum == null) {
+            throw new RuntimeException(format("Could not find meta datum %s in %s", key.key(), prettyPrint()));
+        }
+        return datum;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T getOrNull(final MetaDataKey<T> key) {
+        final int slot = key.slot();
+        if (slot >= values.length) {
+            return null;
+        }
+        return (T) values[slot];
     }
 
     public <T> T getOrSetDefault(final MetaDataKey<T> key, final Supplier<T> defaultProvider) {
-        final Optional<T> optional = getOptional(key);
-        if (optional.isPresent()) {
-            return optional.get();
+        final T datum = getOrNull(key);
+        if (datum != null) {
+            return datum;
         }
         final T defaultValue = defaultProvider.get();
         set(key, defaultValue);
@@ -77,10 +91,8 @@ public final class MetaData {
         return (T) object;
     }
 
-    @SuppressWarnings("unchecked")
     public <T> Optional<T> getOptional(final MetaDataKey<T> key) {
-        final T datum = (T) map.get(key.key());
-        return ofNullable(datum);
+        return ofNullable(getOrNull(key));
     }
 
     @SuppressWarnings("unchecked")
@@ -91,7 +103,45 @@ public final class MetaData {
     }
 
     public boolean contains(final MetaDataKey<?> key) {
-        return getOptional(key).isPresent();
+        return getOrNull(key) != null;
+    }
+
+    private void put(final int slot, final Object value) {
+        if (slot >= values.length) {
+            values = Arrays.copyOf(values, max(slot + 1, numberOfSlots()));
+        }
+        values[slot] = value;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof MetaData)) {
+            return false;
+        }
+        final Object[] otherValues = ((MetaData) other).values;
+        final int length = max(values.length, otherValues.length);
+        for (int slot = 0; slot < length; ++slot) {
+            final Object value = slot < values.length ? values[slot] : null;
+            final Object otherValue = slot < otherValues.length ? otherValues[slot] : null;
+            if (value == null ? otherValue != null : !value.equals(otherValue)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 0;
+        for (int slot = 0; slot < values.length; ++slot) {
+            if (values[slot] != null) {
+                hashCode += slot ^ values[slot].hashCode();
+            }
+        }
+        return hashCode;
     }
 
     @Override
@@ -100,8 +150,9 @@ public final class MetaData {
     }
 
     public String prettyPrint() {
-        return map.entrySet().stream()
-                .map(entry -> format("%s = %s", entry.getKey(), entry.getValue()))
+        return IntStream.range(0, values.length)
+                .filter(slot -> values[slot] != null)
+                .mapToObj(slot -> format("%s = %s", nameOfSlot(slot), values[slot]))
                 .collect(joining("\n"));
     }
 
@@ -26,20 +26,51 @@ import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import static de.quantummaid.httpmaid.util.Validators.validateNotNullNorEmpty;
 
 @ToString
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class MetaDataKey<T> { // NOSONAR
+    private static final Map<String, Integer> SLOTS = new HashMap<>();
+    private static volatile List<String> slotNames = List.of();
+
     private final String key;
+    private final int slot;
 
     public static <T> MetaDataKey<T> metaDataKey(final String key) {
         validateNotNullNorEmpty(key, "key");
-        return new MetaDataKey<>(key);
+        final int slot = slotFor(key);
+        return new MetaDataKey<>(key, slot);
+    }
+
+    private static synchronized int slotFor(final String key) {
+        return SLOTS.computeIfAbsent(key, newKey -> {
+            final List<String> names = new ArrayList<>(slotNames);
+            names.add(newKey);
+            slotNames = List.copyOf(names);
+            return names.size() - 1;
+        });
+    }
+
+    static int numberOfSlots() {
+        return slotNames.size();
+    }
+
+    static String nameOfSlot(final int slot) {
+        return slotNames.get(slot);
     }
 
     String key() {
         return key;
     }
+
+    int slot() {
+        return slot;
+    }
 }
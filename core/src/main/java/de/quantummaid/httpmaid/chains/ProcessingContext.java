@@ -21,40 +21,107 @@
 
 package de.quantummaid.httpmaid.chains;
 
-import lombok.AccessLevel;
-import lombok.EqualsAndHashCode;
-import lombok.RequiredArgsConstructor;
-import lombok.ToString;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Consumer;
 
 import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
+import static java.util.concurrent.CompletableFuture.completedStage;
 
-@ToString
-@EqualsAndHashCode
-@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 final class ProcessingContext {
-    private final RunId runId;
+    private static final CompletionStage<Void> FINISHED = completedStage(null);
+
     private final MetaData metaData;
     private final Consumer<MetaData> consumer;
+    private CompletableFuture<Void> completion;
+    private CompiledChain suspendedChain;
+    private int nextProcessor;
+    private CompletionStage<?> pending;
+
+    private ProcessingContext(final MetaData metaData,
+                              final Consumer<MetaData> consumer) {
+        this.metaData = metaData;
+        this.consumer = consumer;
+    }
 
     static ProcessingContext processingContext(final MetaData metaData,
                                                final Consumer<MetaData> consumer) {
         validateNotNull(metaData, "metaData");
         validateNotNull(consumer, "consumer");
-        final RunId runId = RunId.randomRunId();
-        return new ProcessingContext(runId, metaData, consumer);
+        return new ProcessingContext(metaData, consumer);
     }
 
     MetaData metaData() {
         return metaData;
     }
 
-    void consume() {
-        consumer.accept(metaData);
+    Consumer<MetaData> consumer() {
+        return consumer;
+    }
+
+    CompletionStage<Void> run(final CompiledChain entry) {
+        if (runFrom(entry, 0)) {
+            return completion;
+        }
+        return FINISHED;
+    }
+
+    void suspend(final CompiledChain chain,
+                 final int nextProcessor,
+                 final CompletionStage<?> pending) {
+        this.suspendedChain = chain;
+        this.nextProcessor = nextProcessor;
+        this.pending = pending;
+    }
+
+    private boolean runFrom(final CompiledChain entry, final int firstProcessor) {
+        CompiledChain current = entry;
+        int processor = firstProcessor;
+        while (current != null) {
+            current = current.accept(this, processor);
+            processor = 0;
+        }
+        if (pending == null) {
+            return false;
+        }
+        final CompiledChain chain = suspendedChain;
+        final int next = nextProcessor;
+        final CompletionStage<?> stage = pending;
+        suspendedChain = null;
+        pending = null;
+        if (completion == null) {
+            completion = new CompletableFuture<>();
+        }
+        stage.whenComplete((result, failure) -> resume(chain, next, failure));
+        return true;
+    }
+
+    private void resume(final CompiledChain chain,
+                        final int next,
+                        final Throwable failure) {
+        final boolean suspendedAgain;
+        try {
+            if (failure == null) {
+                suspendedAgain = runFrom(chain, next);
+            } else {
+                suspendedAgain = runFrom(chain.fail(unwrap(failure), this), 0);
+            }
+        } catch (final Throwable throwable) { // NOSONAR
+            completion.completeExceptionally(throwable);
+            return;
+        }
+        if (!suspendedAgain) {
+            completion.complete(null);
+        }
     }
 
-    RunId runId() {
-        return runId;
+    private static Throwable unwrap(final Throwable failure) {
+        if ((failure instanceof CompletionException || failure instanceof ExecutionException)
+                && failure.getCause() != null) {
+            return failure.getCause();
+        }
+        return failure;
     }
 }
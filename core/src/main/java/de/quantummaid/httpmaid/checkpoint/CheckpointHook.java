@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.checkpoint;
+
+/**
+ * Called around a JVM snapshot (e.g. AWS Lambda SnapStart or CRaC). Implementations
+ * can warm up hot paths before the checkpoint and re-create state that must not be
+ * shared between restored instances (network connections, credentials) afterwards.
+ */
+public interface CheckpointHook {
+
+    default void beforeCheckpoint() throws Exception {
+    }
+
+    default void afterRestore() throws Exception {
+    }
+}
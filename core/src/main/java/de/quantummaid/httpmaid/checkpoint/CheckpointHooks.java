@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.checkpoint;
+
+import de.quantummaid.httpmaid.chains.MetaDataKey;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+import static de.quantummaid.httpmaid.chains.MetaDataKey.metaDataKey;
+import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CheckpointHooks {
+    public static final MetaDataKey<CheckpointHooks> CHECKPOINT_HOOKS = metaDataKey("CHECKPOINT_HOOKS");
+
+    private final List<WarmUp> warmUps;
+    private final LinkedList<CheckpointHook> hooks;
+
+    public static CheckpointHooks checkpointHooks() {
+        return new CheckpointHooks(new ArrayList<>(), new LinkedList<>());
+    }
+
+    public void addWarmUp(final WarmUp warmUp) {
+        validateNotNull(warmUp, "warmUp");
+        warmUps.add(warmUp);
+    }
+
+    public void addCheckpointHook(final CheckpointHook checkpointHook) {
+        validateNotNull(checkpointHook, "checkpointHook");
+        hooks.add(checkpointHook);
+    }
+
+    public void beforeCheckpoint() throws Exception {
+        for (final WarmUp warmUp : warmUps) {
+            warmUp.warmUp();
+        }
+        final Iterator<CheckpointHook> reversed = hooks.descendingIterator();
+        while (reversed.hasNext()) {
+            final CheckpointHook hook = reversed.next();
+            hook.beforeCheckpoint();
+        }
+    }
+
+    public void afterRestore() throws Exception {
+        for (final CheckpointHook hook : hooks) {
+            hook.afterRestore();
+        }
+    }
+}
@@ -40,6 +40,7 @@ import lombok.ToString;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import static de.quantummaid.httpmaid.cors.CorsModule.corsModule;
@@ -54,6 +55,7 @@ import static java.util.Arrays.asList;
 import static java.util.Arrays.stream;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toUnmodifiableSet;
 
 @ToString
 @EqualsAndHashCode
@@ -89,10 +91,10 @@ public final class CorsConfigurator implements Configurator {
 
     public CorsConfigurator withAllowedHeaders(final String... headers) {
         validateNotNull(headers, "headers");
-        final List<RequestedHeader> allowedHeadersList = Arrays.stream(headers)
+        final Set<RequestedHeader> allowedHeadersSet = Arrays.stream(headers)
                 .map(RequestedHeader::requestedHeader)
-                .collect(toList());
-        this.allowedHeaders = allowedHeadersList::contains;
+                .collect(toUnmodifiableSet());
+        this.allowedHeaders = allowedHeadersSet::contains;
         return this;
     }
 
@@ -25,9 +25,9 @@ import de.quantummaid.httpmaid.cors.domain.Origin;
 import de.quantummaid.httpmaid.util.Validators;
 
 import java.util.Arrays;
-import java.util.List;
+import java.util.Set;
 
-import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toUnmodifiableSet;
 
 public final class CorsConfigurators {
 
@@ -36,9 +36,9 @@ public final class CorsConfigurators {
 
     public static CorsConfigurator toActivateCORSWithAllowedOrigins(final String... hostNames) {
         Validators.validateNotNull(hostNames, "hostNames");
-        final List<Origin> allowedOrigins = Arrays.stream(hostNames)
+        final Set<Origin> allowedOrigins = Arrays.stream(hostNames)
                 .map(Origin::fromString)
-                .collect(toList());
+                .collect(toUnmodifiableSet());
         return CorsConfigurator.corsConfigurator(allowedOrigins::contains);
     }
 
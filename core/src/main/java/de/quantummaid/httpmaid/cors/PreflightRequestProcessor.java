@@ -26,68 +26,104 @@ import de.quantummaid.httpmaid.chains.Processor;
 import de.quantummaid.httpmaid.cors.domain.Origin;
 import de.quantummaid.httpmaid.cors.domain.RequestedHeaders;
 import de.quantummaid.httpmaid.cors.domain.RequestedMethod;
+import de.quantummaid.httpmaid.cors.policy.AllowedHeaders;
+import de.quantummaid.httpmaid.cors.policy.AllowedMethods;
 import de.quantummaid.httpmaid.cors.policy.ResourceSharingPolicy;
+import de.quantummaid.httpmaid.http.Headers;
 import de.quantummaid.httpmaid.http.Http;
-import de.quantummaid.httpmaid.http.ResponseHeaders;
 import de.quantummaid.httpmaid.util.Validators;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static de.quantummaid.httpmaid.HttpMaidChainKeys.REQUEST_HEADERS;
 import static de.quantummaid.httpmaid.HttpMaidChainKeys.RESPONSE_HEADERS;
 import static de.quantummaid.httpmaid.HttpMaidChainKeys.RESPONSE_STATUS;
+import static de.quantummaid.httpmaid.cors.PreflightResponseTemplate.allowedPreflight;
+import static de.quantummaid.httpmaid.cors.PreflightResponseTemplate.rejectedPreflight;
 import static de.quantummaid.httpmaid.http.ResponseHeaders.emptyResponseHeaders;
 
+/**
+ * Answers CORS preflight requests. The response for a combination of requested method and
+ * requested headers is compiled once and then reused, so the {@link AllowedMethods} and
+ * {@link AllowedHeaders} of the policy are expected to be pure: they must give the same
+ * answer for the same input on every call. The origin is still checked for every request.
+ */
 @ToString
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class PreflightRequestProcessor implements Processor {
+    private static final int MAXIMUM_NUMBER_OF_CACHED_TEMPLATES = 256;
+
     private final ResourceSharingPolicy resourceSharingPolicy;
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final Map<String, String> commonHeaders;
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final Map<List<String>, PreflightResponseTemplate> templates;
 
     public static Processor preflightRequestProcessor(final ResourceSharingPolicy resourceSharingPolicy) {
         Validators.validateNotNull(resourceSharingPolicy, "resourceSharingPolicy");
-        return new PreflightRequestProcessor(resourceSharingPolicy);
+        final Map<String, String> commonHeaders = new LinkedHashMap<>();
+        if(resourceSharingPolicy.supportsCredentials()) {
+            commonHeaders.put(Cors.ACCESS_CONTROL_ALLOW_CREDENTIALS, "true");
+        }
+        resourceSharingPolicy.maxAge().generateHeaderValue()
+                .ifPresent(maxAge -> commonHeaders.put(Cors.ACCESS_CONTROL_MAX_AGE, maxAge));
+        return new PreflightRequestProcessor(resourceSharingPolicy, commonHeaders, new ConcurrentHashMap<>());
     }
 
     @Override
     public void apply(final MetaData metaData) {
         metaData.set(RESPONSE_HEADERS, emptyResponseHeaders());
         metaData.set(RESPONSE_STATUS, Http.StatusCodes.OK);
-        // 1
         Origin.load(metaData).ifPresent(origin -> {
-            // 2
             if(!resourceSharingPolicy.validateOrigin(origin)) {
                 return;
             }
-            // 3
-            final RequestedMethod requestedMethod = RequestedMethod.load(metaData);
-            // 4
-            final RequestedHeaders requestedHeaders = RequestedHeaders.load(metaData);
-            // 5
-            if(!resourceSharingPolicy.validateRequestedMethod(requestedMethod)) {
-                return;
-            }
-            // 6
-            if(!resourceSharingPolicy.validateRequestedHeaders(requestedHeaders)) {
-                return;
-            }
-            // 7
-            final ResponseHeaders responseHeaders = metaData.get(RESPONSE_HEADERS);
-            responseHeaders.setHeader(Cors.ACCESS_CONTROL_ALLOW_ORIGIN, origin.internalValueForMapping());
-            if(resourceSharingPolicy.supportsCredentials()) {
-                responseHeaders.setHeader(Cors.ACCESS_CONTROL_ALLOW_CREDENTIALS, "true");
-            }
-            // 8
-            resourceSharingPolicy.maxAge().generateHeaderValue()
-                    .ifPresent(maxAge -> responseHeaders.setHeader(Cors.ACCESS_CONTROL_MAX_AGE, maxAge));
-            // 9
-            if(!requestedMethod.isSimpleMethod()) {
-                responseHeaders.setHeader(Cors.ACCESS_CONTROL_ALLOW_METHODS, requestedMethod.internalValueForMapping());
-            }
-            // 10
-            requestedHeaders.generateHeaderValue()
-                    .ifPresent(allowedHeaders -> responseHeaders.setHeader(Cors.ACCESS_CONTROL_ALLOW_HEADERS, allowedHeaders));
+            final Headers requestHeaders = metaData.get(REQUEST_HEADERS);
+            final String requestedMethod = requestHeaders.optionalHeader(Cors.ACCESS_CONTROL_REQUEST_METHOD).orElseThrow();
+            final String requestedHeaders = requestHeaders.optionalHeader(Cors.ACCESS_CONTROL_REQUEST_HEADERS).orElse("");
+            final PreflightResponseTemplate template = templateFor(requestedMethod, requestedHeaders);
+            template.applyTo(origin, metaData.get(RESPONSE_HEADERS));
         });
     }
+
+    private PreflightResponseTemplate templateFor(final String requestedMethod, final String requestedHeaders) {
+        final List<String> key = List.of(requestedMethod, requestedHeaders);
+        final PreflightResponseTemplate cached = templates.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        final PreflightResponseTemplate template = compileTemplate(
+                RequestedMethod.fromString(requestedMethod), RequestedHeaders.fromString(requestedHeaders));
+        if (templates.size() < MAXIMUM_NUMBER_OF_CACHED_TEMPLATES) {
+            templates.put(key, template);
+        }
+        return template;
+    }
+
+    private PreflightResponseTemplate compileTemplate(final RequestedMethod requestedMethod,
+                                                      final RequestedHeaders requestedHeaders) {
+        if(!resourceSharingPolicy.validateRequestedMethod(requestedMethod)) {
+            return rejectedPreflight();
+        }
+        if(!resourceSharingPolicy.validateRequestedHeaders(requestedHeaders)) {
+            return rejectedPreflight();
+        }
+        final Map<String, String> headers = new LinkedHashMap<>(commonHeaders);
+        if(!requestedMethod.isSimpleMethod()) {
+            headers.put(Cors.ACCESS_CONTROL_ALLOW_METHODS, requestedMethod.internalValueForMapping());
+        }
+        requestedHeaders.generateHeaderValue()
+                .ifPresent(allowedHeaders -> headers.put(Cors.ACCESS_CONTROL_ALLOW_HEADERS, allowedHeaders));
+        return allowedPreflight(headers);
+    }
 }
@@ -19,39 +19,43 @@
  * under the License.
  */
 
-package de.quantummaid.httpmaid.path.statemachine;
+package de.quantummaid.httpmaid.cors;
 
+import de.quantummaid.httpmaid.cors.domain.Origin;
+import de.quantummaid.httpmaid.http.ResponseHeaders;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
 import java.util.Collections;
-import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Optional;
 
-import static java.util.Collections.emptyList;
-import static java.util.Comparator.comparingInt;
-import static java.util.stream.Collectors.toList;
+import static java.util.Collections.unmodifiableMap;
 
 @ToString
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
-final class TransitionFunction<T> {
-    private final Map<State, List<Transition<T>>> transitions;
+final class PreflightResponseTemplate {
+    private static final PreflightResponseTemplate REJECTED = new PreflightResponseTemplate(false, Collections.emptyMap());
 
-    static <T> TransitionFunction<T> transitionFunction(final Map<State, List<Transition<T>>> transitions) {
-        return new TransitionFunction<>(transitions);
+    private final boolean allowed;
+    private final Map<String, String> headers;
+
+    static PreflightResponseTemplate rejectedPreflight() {
+        return REJECTED;
+    }
+
+    static PreflightResponseTemplate allowedPreflight(final Map<String, String> headers) {
+        return new PreflightResponseTemplate(true, unmodifiableMap(new LinkedHashMap<>(headers)));
     }
 
-    List<SuccessfulTransition> transition(final State from, final T input) {
-        final List<Transition<T>> transitionsOfState = transitions.getOrDefault(from, emptyList());
-        return transitionsOfState.stream()
-                .map(transistion -> transistion.transition(input))
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .sorted(Collections.reverseOrder(comparingInt(transition -> transition.nextState().number())))
-                .collect(toList());
+    void applyTo(final Origin origin, final ResponseHeaders responseHeaders) {
+        if (!allowed) {
+            return;
+        }
+        responseHeaders.setHeader(Cors.ACCESS_CONTROL_ALLOW_ORIGIN, origin.internalValueForMapping());
+        headers.forEach(responseHeaders::setHeader);
     }
 }
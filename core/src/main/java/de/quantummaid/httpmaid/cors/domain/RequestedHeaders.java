@@ -49,6 +49,10 @@ public final class RequestedHeaders {
         Validators.validateNotNull(metaData, "metaData");
         final String commaSeparatedHeaders = metaData.get(REQUEST_HEADERS)
                 .optionalHeader(Cors.ACCESS_CONTROL_REQUEST_HEADERS).orElse("");
+        return fromString(commaSeparatedHeaders);
+    }
+
+    public static RequestedHeaders fromString(final String commaSeparatedHeaders) {
         Validators.validateNotNull(commaSeparatedHeaders, "commaSeparatedHeaders");
         final List<RequestedHeader> headers = stream(commaSeparatedHeaders.split(","))
                 .filter(s -> !s.isEmpty())
@@ -46,6 +46,10 @@ public final class RequestedMethod {
     public static RequestedMethod load(final MetaData metaData) {
         Validators.validateNotNull(metaData, "metaData");
         final String method = metaData.get(REQUEST_HEADERS).optionalHeader(Cors.ACCESS_CONTROL_REQUEST_METHOD).orElseThrow();
+        return fromString(method);
+    }
+
+    public static RequestedMethod fromString(final String method) {
         Validators.validateNotNullNorEmpty(method, "method");
         return new RequestedMethod(HttpRequestMethod.parse(method));
     }
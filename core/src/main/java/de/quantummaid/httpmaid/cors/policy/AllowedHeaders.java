@@ -23,6 +23,10 @@ package de.quantummaid.httpmaid.cors.policy;
 
 import de.quantummaid.httpmaid.cors.domain.RequestedHeader;
 
+/**
+ * Decides whether a requested header may be used in a cross-origin request. Preflight responses are
+ * cached per requested method and headers, so implementations must only depend on their argument.
+ */
 public interface AllowedHeaders {
     boolean isAllowed(RequestedHeader requestedHeader);
 }
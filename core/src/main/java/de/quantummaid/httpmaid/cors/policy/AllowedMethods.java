@@ -23,6 +23,10 @@ package de.quantummaid.httpmaid.cors.policy;
 
 import de.quantummaid.httpmaid.cors.domain.RequestedMethod;
 
+/**
+ * Decides whether a requested method may be used in a cross-origin request. Preflight responses are
+ * cached per requested method and headers, so implementations must only depend on their argument.
+ */
 public interface AllowedMethods {
     boolean isAllowed(RequestedMethod requestedMethod);
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.endpoint;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Decides whether an asynchronously handled request is answered by its response or by the endpoint's timeout,
+ * whichever comes first. A response that arrives after the timeout is not written, so its body is closed instead.
+ */
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class AsyncResponseTimeout {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncResponseTimeout.class);
+
+    private final AtomicBoolean responded;
+    private final long timeoutInMillis;
+
+    public static AsyncResponseTimeout asyncResponseTimeout(final long timeoutInMillis) {
+        return new AsyncResponseTimeout(new AtomicBoolean(false), timeoutInMillis);
+    }
+
+    public long timeoutInMillis() {
+        return timeoutInMillis;
+    }
+
+    public void timeOut(final Runnable respondWithTimeout) {
+        validateNotNull(respondWithTimeout, "respondWithTimeout");
+        if (responded.compareAndSet(false, true)) {
+            LOGGER.warn("Asynchronous response did not complete within {} ms", timeoutInMillis);
+            respondWithTimeout.run();
+        }
+    }
+
+    public void complete(final RawResponse response, final Consumer<RawResponse> respond) {
+        validateNotNull(respond, "respond");
+        if (responded.compareAndSet(false, true)) {
+            respond.accept(response);
+            return;
+        }
+        if (nonNull(response)) {
+            try {
+                response.close();
+            } catch (final RuntimeException e) {
+                LOGGER.warn("Failed to release the body of a response that arrived after its timeout", e);
+            }
+        }
+    }
+}
@@ -22,21 +22,28 @@
 package de.quantummaid.httpmaid.endpoint;
 
 import de.quantummaid.httpmaid.chains.MetaData;
+import de.quantummaid.httpmaid.http.body.ResponseBody;
 import de.quantummaid.httpmaid.util.streams.Streams;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import static de.quantummaid.httpmaid.HttpMaidChainKeys.*;
+import static de.quantummaid.httpmaid.http.Http.StatusCodes.*;
 import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
+import static de.quantummaid.httpmaid.util.streams.StreamProcessingException.streamProcessingException;
+import static java.util.Objects.nonNull;
 
 @ToString
 @EqualsAndHashCode
@@ -65,19 +72,59 @@ public final class RawResponse {
         );
     }
 
+    public boolean permitsBody() {
+        final int status = status();
+        return status >= OK && status != NO_CONTENT && status != NOT_MODIFIED;
+    }
+
+    public long contentLength() {
+        if (!permitsBody()) {
+            return 0;
+        }
+        return optionalResponseBody()
+                .map(ResponseBody::contentLength)
+                .orElse(0L);
+    }
+
     public void streamBodyToOutputStream(final OutputStream outputStream) {
-        final InputStream bodyStream = body();
-        Streams.streamInputStreamToOutputStream(bodyStream, outputStream);
+        if (permitsBody()) {
+            optionalResponseBody().ifPresent(responseBody -> responseBody.writeTo(outputStream));
+        }
+        try {
+            outputStream.close();
+        } catch (final IOException e) {
+            throw streamProcessingException(e);
+        }
     }
 
     public InputStream body() {
-        return metaData.getOptional(RESPONSE_STREAM)
+        return optionalResponseBody()
+                .map(ResponseBody::asInputStream)
                 .orElseGet(() -> Streams.stringToInputStream(""));
     }
 
     public Optional<String> optionalStringBody() {
-        return metaData.getOptional(RESPONSE_STREAM)
-                .map(Streams::inputStreamToString);
+        return optionalResponseBody()
+                .map(responseBody -> Streams.inputStreamToString(
+                        responseBody.asInputStream(), responseBody.contentLength(), Long.MAX_VALUE));
+    }
+
+    public Optional<ByteBuffer> optionalBinaryBody() {
+        if (!metaData.getOptional(IS_BINARY_RESPONSE_BODY).orElse(false)) {
+            return Optional.empty();
+        }
+        return optionalResponseBody()
+                .map(ResponseBody::asByteBuffer);
+    }
+
+    public void dispatchBody(final Consumer<String> onStringBody,
+                             final Consumer<ByteBuffer> onBinaryBody) {
+        final Optional<ByteBuffer> binaryBody = optionalBinaryBody();
+        if (binaryBody.isPresent()) {
+            onBinaryBody.accept(binaryBody.get());
+        } else {
+            optionalStringBody().ifPresent(onStringBody);
+        }
     }
 
     public String stringBody() {
@@ -88,4 +135,17 @@ public final class RawResponse {
     public MetaData metaData() {
         return metaData;
     }
+
+    public void close() {
+        optionalResponseBody().ifPresent(ResponseBody::close);
+    }
+
+    private Optional<ResponseBody> optionalResponseBody() {
+        final ResponseBody responseBody = metaData.getOrNull(RESPONSE_BODY);
+        if (nonNull(responseBody)) {
+            return Optional.of(responseBody);
+        }
+        return metaData.getOptional(RESPONSE_STREAM)
+                .map(ResponseBody::streamBody);
+    }
 }
@@ -21,20 +21,13 @@
 
 package de.quantummaid.httpmaid.endpoint.purejavaendpoint;
 
-import com.sun.net.httpserver.HttpHandler; // NOSONAR
-import com.sun.net.httpserver.HttpServer; // NOSONAR
 import de.quantummaid.httpmaid.HttpMaid;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
-import java.io.IOException;
-import java.net.InetSocketAddress;
-
-import static de.quantummaid.httpmaid.closing.ClosingActions.CLOSING_ACTIONS;
-import static de.quantummaid.httpmaid.endpoint.purejavaendpoint.PureJavaEndpointException.pureJavaEndpointException;
-import static de.quantummaid.httpmaid.endpoint.purejavaendpoint.PureJavaEndpointHandler.javaOnlyEndpointHandler;
+import static de.quantummaid.httpmaid.endpoint.purejavaendpoint.PureJavaEndpointBuilder.pureJavaEndpointBuilder;
 
 @ToString
 @EqualsAndHashCode
@@ -42,20 +35,12 @@ import static de.quantummaid.httpmaid.endpoint.purejavaendpoint.PureJavaEndpoint
 public final class PureJavaEndpoint implements AutoCloseable {
     private final HttpMaid httpMaid;
 
-    public static PortStage pureJavaEndpointFor(final HttpMaid httpMaid) {
-        return port -> {
-            try {
-                final HttpServer httpServer = HttpServer.create(new InetSocketAddress(port), 0);
-                final HttpHandler httpHandler = javaOnlyEndpointHandler(httpMaid);
-                httpServer.createContext("/", httpHandler);
-                httpServer.setExecutor(null);
-                httpServer.start();
-                httpMaid.getMetaDatum(CLOSING_ACTIONS).addClosingAction(() -> httpServer.stop(0));
-            } catch (final IOException e) {
-                throw pureJavaEndpointException(e);
-            }
-            return new PureJavaEndpoint(httpMaid);
-        };
+    public static PureJavaEndpointBuilder pureJavaEndpointFor(final HttpMaid httpMaid) {
+        return pureJavaEndpointBuilder(httpMaid);
+    }
+
+    static PureJavaEndpoint pureJavaEndpoint(final HttpMaid httpMaid) {
+        return new PureJavaEndpoint(httpMaid);
     }
 
     @Override
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.endpoint.purejavaendpoint;
+
+import com.sun.net.httpserver.HttpServer; // NOSONAR
+import de.quantummaid.httpmaid.HttpMaid;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import static de.quantummaid.httpmaid.closing.ClosingActions.CLOSING_ACTIONS;
+import static de.quantummaid.httpmaid.endpoint.purejavaendpoint.PureJavaEndpointException.pureJavaEndpointException;
+import static de.quantummaid.httpmaid.endpoint.purejavaendpoint.PureJavaEndpointHandler.javaOnlyEndpointHandler;
+import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
+import static java.util.Objects.nonNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PureJavaEndpointBuilder implements PortStage {
+    private static final int DEFAULT_BACKLOG = 0;
+
+    private final HttpMaid httpMaid;
+    private Executor executor;
+    private Supplier<ExecutorService> ownedExecutorFactory;
+    private int backlog = DEFAULT_BACKLOG;
+    private Duration drainTimeout = Duration.ZERO;
+
+    static PureJavaEndpointBuilder pureJavaEndpointBuilder(final HttpMaid httpMaid) {
+        validateNotNull(httpMaid, "httpMaid");
+        return new PureJavaEndpointBuilder(httpMaid);
+    }
+
+    public PureJavaEndpointBuilder handlingRequestsOn(final Executor executor) {
+        validateNotNull(executor, "executor");
+        this.executor = executor;
+        this.ownedExecutorFactory = null;
+        return this;
+    }
+
+    public PureJavaEndpointBuilder handlingRequestsOnAFixedThreadPool(final int numberOfThreads) {
+        if (numberOfThreads <= 0) {
+            throw new IllegalArgumentException("numberOfThreads must be positive");
+        }
+        return owningExecutor(() -> Executors.newFixedThreadPool(numberOfThreads));
+    }
+
+    public PureJavaEndpointBuilder handlingRequestsOnAWorkStealingPool() {
+        return owningExecutor(Executors::newWorkStealingPool);
+    }
+
+    public PureJavaEndpointBuilder handlingRequestsOnVirtualThreads() {
+        final Method factory;
+        try {
+            factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (final NoSuchMethodException e) {
+            throw pureJavaEndpointException("Virtual threads are not supported by this JVM", e);
+        }
+        return owningExecutor(() -> {
+            try {
+                return (ExecutorService) factory.invoke(null);
+            } catch (final ReflectiveOperationException e) {
+                throw pureJavaEndpointException("Could not create a virtual thread executor", e);
+            }
+        });
+    }
+
+    public PureJavaEndpointBuilder withABacklogOf(final int backlog) {
+        if (backlog < 0) {
+            throw new IllegalArgumentException("backlog must not be negative");
+        }
+        this.backlog = backlog;
+        return this;
+    }
+
+    public PureJavaEndpointBuilder drainingRequestsOnShutdownFor(final Duration timeout) {
+        validateNotNull(timeout, "timeout");
+        if (timeout.isNegative()) {
+            throw new IllegalArgumentException("timeout must not be negative");
+        }
+        this.drainTimeout = timeout;
+        return this;
+    }
+
+    @Override
+    public PureJavaEndpoint listeningOnThePort(final int port) {
+        final ExecutorService ownedExecutor = nonNull(ownedExecutorFactory) ? ownedExecutorFactory.get() : null;
+        try {
+            final HttpServer httpServer = HttpServer.create(new InetSocketAddress(port), backlog);
+            httpServer.createContext("/", javaOnlyEndpointHandler(httpMaid));
+            httpServer.setExecutor(nonNull(ownedExecutor) ? ownedExecutor : executor);
+            httpServer.start();
+            httpMaid.getMetaDatum(CLOSING_ACTIONS).addClosingAction(() -> stop(httpServer, ownedExecutor));
+        } catch (final IOException e) {
+            if (nonNull(ownedExecutor)) {
+                ownedExecutor.shutdownNow();
+            }
+            throw pureJavaEndpointException(e);
+        }
+        return PureJavaEndpoint.pureJavaEndpoint(httpMaid);
+    }
+
+    private PureJavaEndpointBuilder owningExecutor(final Supplier<ExecutorService> executorFactory) {
+        this.executor = null;
+        this.ownedExecutorFactory = executorFactory;
+        return this;
+    }
+
+    private void stop(final HttpServer httpServer, final ExecutorService ownedExecutor) throws InterruptedException {
+        final long deadline = System.nanoTime() + drainTimeout.toNanos();
+        final long drainSeconds = (drainTimeout.toMillis() + 999) / 1000;
+        httpServer.stop((int) Math.min(drainSeconds, Integer.MAX_VALUE));
+        if (nonNull(ownedExecutor)) {
+            ownedExecutor.shutdown();
+            final long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || !ownedExecutor.awaitTermination(remaining, NANOSECONDS)) {
+                ownedExecutor.shutdownNow();
+            }
+        }
+    }
+}
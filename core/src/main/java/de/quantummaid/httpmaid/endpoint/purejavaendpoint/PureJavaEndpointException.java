@@ -27,7 +27,15 @@ public final class PureJavaEndpointException extends RuntimeException {
         super(cause);
     }
 
+    private PureJavaEndpointException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+
     public static PureJavaEndpointException pureJavaEndpointException(final Throwable cause) {
         return new PureJavaEndpointException(cause);
     }
+
+    public static PureJavaEndpointException pureJavaEndpointException(final String message, final Throwable cause) {
+        return new PureJavaEndpointException(message, cause);
+    }
 }
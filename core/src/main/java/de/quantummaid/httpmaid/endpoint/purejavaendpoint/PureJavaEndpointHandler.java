@@ -25,29 +25,47 @@ import com.sun.net.httpserver.Headers; // NOSONAR
 import com.sun.net.httpserver.HttpExchange; // NOSONAR
 import com.sun.net.httpserver.HttpHandler; // NOSONAR
 import de.quantummaid.httpmaid.HttpMaid;
+import de.quantummaid.httpmaid.endpoint.AsyncResponseTimeout;
 import de.quantummaid.httpmaid.endpoint.RawHttpRequestBuilder;
+import de.quantummaid.httpmaid.endpoint.RawResponse;
 import de.quantummaid.httpmaid.http.HeadersBuilder;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
 
+import static de.quantummaid.httpmaid.CoreModule.ASYNC_RESPONSE_TIMEOUT;
+import static de.quantummaid.httpmaid.endpoint.AsyncResponseTimeout.asyncResponseTimeout;
 import static de.quantummaid.httpmaid.endpoint.RawHttpRequest.rawHttpRequestBuilder;
 import static de.quantummaid.httpmaid.http.HeadersBuilder.headersBuilder;
+import static de.quantummaid.httpmaid.http.Http.StatusCodes.SERVICE_UNAVAILABLE;
+import static de.quantummaid.httpmaid.http.body.ResponseBody.UNKNOWN_LENGTH;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 final class PureJavaEndpointHandler implements HttpHandler {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PureJavaEndpointHandler.class);
+    private static final long NO_RESPONSE_BODY = -1;
+    private static final long CHUNKED_RESPONSE_BODY = 0;
+
     private final HttpMaid httpMaid;
+    private final long asyncTimeoutInMillis;
 
     static HttpHandler javaOnlyEndpointHandler(final HttpMaid httpMaid) {
-        return new PureJavaEndpointHandler(httpMaid);
+        final long asyncTimeoutInMillis = httpMaid.getMetaDatum(ASYNC_RESPONSE_TIMEOUT).toMillis();
+        return new PureJavaEndpointHandler(httpMaid, asyncTimeoutInMillis);
     }
 
     @Override
     public void handle(final HttpExchange httpExchange) {
-        httpMaid.handleRequest(() -> {
+        final CompletableFuture<RawResponse> completion = httpMaid.handleRequestAsynchronously(() -> {
                     final RawHttpRequestBuilder builder = rawHttpRequestBuilder();
                     final URI requestURI = httpExchange.getRequestURI();
                     builder.withUri(requestURI);
@@ -61,12 +79,56 @@ final class PureJavaEndpointHandler implements HttpHandler {
                     builder.withBody(requestBody);
                     return builder.build();
                 },
-                response -> {
-                    final Headers responseHeaders = httpExchange.getResponseHeaders();
-                    response.headers().forEach(responseHeaders::put);
-                    httpExchange.sendResponseHeaders(response.status(), 0);
-                    final OutputStream outputStream = httpExchange.getResponseBody();
-                    response.streamBodyToOutputStream(outputStream);
+                response -> response).toCompletableFuture();
+        if (completion.isDone()) {
+            respond(completion.exceptionally(exception -> null).join(), httpExchange);
+            return;
+        }
+        final AsyncResponseTimeout timeout = asyncResponseTimeout(asyncTimeoutInMillis);
+        completion.copy()
+                .orTimeout(asyncTimeoutInMillis, MILLISECONDS)
+                .whenComplete((response, exception) -> {
+                    if (exception instanceof TimeoutException) {
+                        timeout.timeOut(() -> respondWithoutBody(SERVICE_UNAVAILABLE, httpExchange));
+                    }
                 });
+        completion.whenComplete((response, exception) ->
+                timeout.complete(response, completedResponse -> respond(completedResponse, httpExchange)));
+    }
+
+    private static void respond(final RawResponse response, final HttpExchange httpExchange) {
+        if (response == null) {
+            return;
+        }
+        try {
+            final Headers responseHeaders = httpExchange.getResponseHeaders();
+            response.headers().forEach(responseHeaders::put);
+            httpExchange.sendResponseHeaders(response.status(), responseLength(response.contentLength()));
+            final OutputStream outputStream = httpExchange.getResponseBody();
+            response.streamBodyToOutputStream(outputStream);
+        } catch (final Exception e) {
+            LOGGER.error("Exception in endpoint reponse handling", e);
+            // throwing an exception here might pose a security risk (http://cwe.mitre.org/data/definitions/600.html)
+        }
+    }
+
+    private static void respondWithoutBody(final int status, final HttpExchange httpExchange) {
+        try {
+            httpExchange.sendResponseHeaders(status, NO_RESPONSE_BODY);
+        } catch (final IOException e) {
+            LOGGER.error("Exception in endpoint reponse handling", e);
+        } finally {
+            httpExchange.close();
+        }
+    }
+
+    private static long responseLength(final long contentLength) {
+        if (contentLength == 0) {
+            return NO_RESPONSE_BODY;
+        }
+        if (contentLength == UNKNOWN_LENGTH) {
+            return CHUNKED_RESPONSE_BODY;
+        }
+        return contentLength;
     }
 }
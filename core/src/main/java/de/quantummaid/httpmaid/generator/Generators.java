@@ -22,25 +22,58 @@
 package de.quantummaid.httpmaid.generator;
 
 import de.quantummaid.httpmaid.chains.MetaData;
+import de.quantummaid.httpmaid.http.HttpRequestMethod;
+import de.quantummaid.httpmaid.path.Path;
+import de.quantummaid.httpmaid.path.PathTemplateIndex;
+import de.quantummaid.httpmaid.path.PathTemplateMatch;
 import de.quantummaid.httpmaid.util.Validators;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
-@ToString
-@EqualsAndHashCode
+import static de.quantummaid.httpmaid.HttpMaidChainKeys.METHOD;
+import static de.quantummaid.httpmaid.HttpMaidChainKeys.PATH;
+import static de.quantummaid.httpmaid.generator.PathAndMethodGenerationCondition.enterPathParameters;
+import static de.quantummaid.httpmaid.path.PathTemplateIndex.pathTemplateIndex;
+import static java.lang.Integer.MAX_VALUE;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+
+@ToString(of = "generators")
+@EqualsAndHashCode(of = "generators")
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class Generators<T> {
     private final List<Generator<T>> generators;
+    private final PathTemplateIndex<Generator<T>> pathIndex;
+    private final List<Generator<T>> unindexedGenerators;
+    private final int[] unindexedOrders;
 
     public static <T> Generators<T> generators(final List<Generator<T>> generators) {
         Validators.validateNotNull(generators, "generators");
         validateForConflicts(generators);
-        return new Generators<>(generators);
+        final PathTemplateIndex<Generator<T>> pathIndex = pathTemplateIndex();
+        final List<Generator<T>> unindexedGenerators = new ArrayList<>();
+        final List<Integer> unindexedOrders = new ArrayList<>();
+        for (int order = 0; order < generators.size(); ++order) {
+            final Generator<T> generator = generators.get(order);
+            final GenerationCondition condition = generator.condition();
+            if (condition instanceof PathAndMethodGenerationCondition) {
+                final PathAndMethodGenerationCondition pathCondition = (PathAndMethodGenerationCondition) condition;
+                pathIndex.add(pathCondition.pathTemplate(), order, generator);
+            } else {
+                unindexedGenerators.add(generator);
+                unindexedOrders.add(order);
+            }
+        }
+        final int[] unindexedOrdersArray = unindexedOrders.stream()
+                .mapToInt(Integer::intValue)
+                .toArray();
+        return new Generators<>(generators, pathIndex, unindexedGenerators, unindexedOrdersArray);
     }
 
     private static <T> void validateForConflicts(final List<Generator<T>> generators) {
@@ -56,10 +89,37 @@ public final class Generators<T> {
     }
 
     public Optional<T> generate(final MetaData metaData) {
-        return generators.stream()
-                .map(generator -> generator.generate(metaData))
-                .filter(Optional::isPresent)
-                .map(Optional::orElseThrow)
-                .findFirst();
+        final PathTemplateMatch<Generator<T>> indexedMatch = lookupInPathIndex(metaData);
+        final int indexedOrder = indexedMatch == null ? MAX_VALUE : indexedMatch.order();
+        for (int i = 0; i < unindexedGenerators.size() && unindexedOrders[i] < indexedOrder; ++i) {
+            final Optional<T> generated = unindexedGenerators.get(i).generate(metaData);
+            if (generated.isPresent()) {
+                return generated;
+            }
+        }
+        if (indexedMatch == null) {
+            return empty();
+        }
+        enterPathParameters(metaData, indexedMatch.captures());
+        return of(indexedMatch.value().value());
+    }
+
+    private PathTemplateMatch<Generator<T>> lookupInPathIndex(final MetaData metaData) {
+        if (pathIndex.isEmpty()) {
+            return null;
+        }
+        final HttpRequestMethod method = metaData.getOrNull(METHOD);
+        final Path path = metaData.getOrNull(PATH);
+        if (method == null || path == null) {
+            return null;
+        }
+        return pathIndex.lookup(path, generator -> allowsMethod(generator, method))
+                .orElse(null);
+    }
+
+    private static boolean allowsMethod(final Generator<?> generator,
+                                        final HttpRequestMethod method) {
+        final PathAndMethodGenerationCondition condition = (PathAndMethodGenerationCondition) generator.condition();
+        return condition.allowsMethod(method);
     }
 }
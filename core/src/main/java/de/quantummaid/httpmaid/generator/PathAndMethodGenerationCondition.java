@@ -33,6 +33,7 @@ import lombok.ToString;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static de.quantummaid.httpmaid.HttpMaidChainKeys.*;
 import static de.quantummaid.httpmaid.util.Validators.validateArrayNeitherNullNorEmptyNorContainsNull;
@@ -78,12 +79,29 @@ public final class PathAndMethodGenerationCondition implements GenerationConditi
             return false;
         }
         final Path path = metaData.get(PATH);
-        if (!pathTemplate.matches(path)) {
+        final Optional<Map<String, String>> pathParameters = pathTemplate.matchAndExtractPathParameters(path);
+        if (pathParameters.isEmpty()) {
             return false;
         }
+        enterPathParameters(metaData, pathParameters.get());
+        return true;
+    }
+
+    PathTemplate pathTemplate() {
+        return pathTemplate;
+    }
 
-        final Map<String, String> pathParameters = pathTemplate.extractPathParameters(path);
+    boolean allowsMethod(final HttpRequestMethod method) {
+        for (final HttpRequestMethod allowedMethod : methods) {
+            if (allowedMethod.equals(method)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static void enterPathParameters(final MetaData metaData,
+                                    final Map<String, String> pathParameters) {
         metaData.set(PATH_PARAMETERS, PathParameters.pathParameters(pathParameters));
-        return true;
     }
 }
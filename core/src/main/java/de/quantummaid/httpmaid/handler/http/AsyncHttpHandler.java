@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.handler.http;
+
+import de.quantummaid.httpmaid.chains.MetaData;
+import de.quantummaid.httpmaid.handler.Handler;
+
+import java.util.concurrent.CompletionStage;
+
+import static de.quantummaid.httpmaid.HttpMaidChainKeys.PENDING_COMPLETION;
+import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
+
+/**
+ * A handler that finishes the response once the returned {@link CompletionStage} completes.
+ * Request processing is suspended until then and continues on the thread that completes the stage.
+ * A stage that completes exceptionally is treated like an exception thrown by a synchronous handler.
+ */
+public interface AsyncHttpHandler extends Handler {
+
+    @Override
+    default void handle(final MetaData metaData) {
+        final HttpRequest httpRequest = HttpRequest.httpRequest(metaData);
+        final HttpResponse httpResponse = HttpResponse.httpResponse(metaData);
+        final CompletionStage<?> completion = handle(httpRequest, httpResponse);
+        validateNotNull(completion, "completion");
+        metaData.set(PENDING_COMPLETION, completion);
+    }
+
+    CompletionStage<?> handle(HttpRequest request, HttpResponse response);
+}
@@ -26,9 +26,11 @@ import de.quantummaid.httpmaid.http.Headers;
 import de.quantummaid.httpmaid.http.HttpRequestMethod;
 import de.quantummaid.httpmaid.http.PathParameters;
 import de.quantummaid.httpmaid.http.QueryParameters;
+import de.quantummaid.httpmaid.http.RequestBodyTooLargeException;
 import de.quantummaid.httpmaid.http.headers.ContentType;
 import de.quantummaid.httpmaid.http.headers.cookies.Cookies;
 import de.quantummaid.httpmaid.path.Path;
+import de.quantummaid.httpmaid.util.streams.StreamLimitExceededException;
 import de.quantummaid.httpmaid.websockets.Websockets;
 import de.quantummaid.httpmaid.websockets.broadcast.NonSerializingSender;
 import de.quantummaid.httpmaid.websockets.disconnect.Disconnector;
@@ -36,19 +38,27 @@ import de.quantummaid.httpmaid.websockets.registry.WebsocketRegistry;
 import de.quantummaid.httpmaid.websockets.sender.WebsocketSenders;
 import lombok.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
 
 import static de.quantummaid.httpmaid.HttpMaidChainKeys.*;
+import static de.quantummaid.httpmaid.http.Http.Headers.CONTENT_LENGTH;
+import static de.quantummaid.httpmaid.http.RequestBodyTooLargeException.requestBodyTooLargeException;
 import static de.quantummaid.httpmaid.http.headers.cookies.Cookies.cookiesFromHeaders;
 import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
+import static de.quantummaid.httpmaid.util.streams.Streams.inputStreamToByteBuffer;
+import static de.quantummaid.httpmaid.util.streams.Streams.limitInputStream;
 import static de.quantummaid.httpmaid.websockets.WebsocketMetaDataKeys.ADDITIONAL_WEBSOCKET_DATA;
 import static de.quantummaid.httpmaid.websockets.WebsocketMetaDataKeys.WEBSOCKET_REGISTRY;
 import static de.quantummaid.httpmaid.websockets.broadcast.NonSerializingSender.nonSerializingSender;
 import static de.quantummaid.httpmaid.websockets.disconnect.Disconnector.disconnector;
 import static de.quantummaid.httpmaid.websockets.sender.WebsocketSenders.WEBSOCKET_SENDERS;
 import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 @Getter
 @ToString
@@ -83,7 +93,7 @@ public final class HttpRequest {
     }
 
     public Cookies cookies() {
-        return cookiesFromHeaders(headers());
+        return metaData.getOrSetDefault(REQUEST_COOKIES, () -> cookiesFromHeaders(headers()));
     }
 
     public ContentType contentType() {
@@ -96,7 +106,85 @@ public final class HttpRequest {
     }
 
     public Optional<String> optionalBodyString() {
-        return metaData.getOptional(REQUEST_BODY_STRING);
+        final Optional<String> bodyString = metaData.getOptional(REQUEST_BODY_STRING);
+        if (bodyString.isPresent()) {
+            return bodyString;
+        }
+        final Optional<ByteBuffer> binaryBody = metaData.getOptional(REQUEST_BODY_BINARY);
+        if (binaryBody.isPresent()) {
+            final String decoded = UTF_8.decode(binaryBody.get().duplicate()).toString();
+            metaData.set(REQUEST_BODY_STRING, decoded);
+            return Optional.of(decoded);
+        }
+        return metaData.getOptional(REQUEST_BODY_STREAM).map(this::readBodyString);
+    }
+
+    public Optional<ByteBuffer> optionalBinaryBody() {
+        final Optional<ByteBuffer> binaryBody = metaData.getOptional(REQUEST_BODY_BINARY);
+        if (binaryBody.isPresent()) {
+            return binaryBody.map(ByteBuffer::asReadOnlyBuffer);
+        }
+        final Optional<String> bodyString = metaData.getOptional(REQUEST_BODY_STRING);
+        if (bodyString.isPresent()) {
+            return bodyString.map(string -> ByteBuffer.wrap(string.getBytes(UTF_8)).asReadOnlyBuffer());
+        }
+        return metaData.getOptional(REQUEST_BODY_STREAM)
+                .map(this::readBinaryBody)
+                .map(ByteBuffer::asReadOnlyBuffer);
+    }
+
+    public Optional<InputStream> optionalBodyStream() {
+        if (!metaData.contains(REQUEST_BODY_BINARY) && !metaData.contains(REQUEST_BODY_STRING)) {
+            final long maximumSize = metaData.getOptional(MAXIMUM_REQUEST_BODY_SIZE).orElse(Long.MAX_VALUE);
+            return metaData.getOptional(REQUEST_BODY_STREAM)
+                    .map(bodyStream -> limitInputStream(bodyStream, maximumSize, RequestBodyTooLargeException::requestBodyTooLargeException));
+        }
+        return metaData.getOptional(REQUEST_BODY_BINARY)
+                .or(() -> metaData.getOptional(REQUEST_BODY_STRING).map(string -> ByteBuffer.wrap(string.getBytes(UTF_8))))
+                .map(HttpRequest::byteBufferToInputStream);
+    }
+
+    private String readBodyString(final InputStream bodyStream) {
+        final ByteBuffer body = readBody(bodyStream);
+        final String bodyString = new String(body.array(), 0, body.limit(), UTF_8);
+        metaData.set(REQUEST_BODY_STRING, bodyString);
+        return bodyString;
+    }
+
+    private ByteBuffer readBinaryBody(final InputStream bodyStream) {
+        final ByteBuffer body = readBody(bodyStream);
+        metaData.set(REQUEST_BODY_BINARY, body);
+        return body;
+    }
+
+    private ByteBuffer readBody(final InputStream bodyStream) {
+        final long maximumSize = metaData.getOptional(MAXIMUM_REQUEST_BODY_SIZE).orElse(Long.MAX_VALUE);
+        final long expectedSize = metaData.getOptional(REQUEST_HEADERS)
+                .flatMap(headers -> headers.optionalHeader(CONTENT_LENGTH))
+                .map(HttpRequest::parseContentLength)
+                .orElse(0L);
+        try {
+            return inputStreamToByteBuffer(bodyStream, expectedSize, maximumSize);
+        } catch (final StreamLimitExceededException e) {
+            throw requestBodyTooLargeException(maximumSize);
+        }
+    }
+
+    private static InputStream byteBufferToInputStream(final ByteBuffer body) {
+        if (body.hasArray()) {
+            return new ByteArrayInputStream(body.array(), body.arrayOffset() + body.position(), body.remaining());
+        }
+        final byte[] bytes = new byte[body.remaining()];
+        body.duplicate().get(bytes);
+        return new ByteArrayInputStream(bytes);
+    }
+
+    private static long parseContentLength(final String contentLength) {
+        try {
+            return Long.parseLong(contentLength.trim());
+        } catch (final NumberFormatException e) {
+            return 0L;
+        }
     }
 
     public String bodyString() {
@@ -104,6 +192,11 @@ public final class HttpRequest {
                 .orElseThrow(() -> new RuntimeException("Request does not have a body"));
     }
 
+    public ByteBuffer binaryBody() {
+        return optionalBinaryBody()
+                .orElseThrow(() -> new RuntimeException("Request does not have a body"));
+    }
+
     public <T> T authenticationInformationAs(final Class<T> type) {
         return metaData.getOptionalAs(AUTHENTICATION_INFORMATION, type)
                 .orElseThrow(() -> new RuntimeException("Request is not authenticated"));
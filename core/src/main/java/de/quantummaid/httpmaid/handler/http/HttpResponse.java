@@ -23,7 +23,9 @@ package de.quantummaid.httpmaid.handler.http;
 
 import de.quantummaid.httpmaid.chains.MetaData;
 import de.quantummaid.httpmaid.handler.http.files.FileLoader;
+import de.quantummaid.httpmaid.handler.http.files.JavaResourceCache;
 import de.quantummaid.httpmaid.handler.http.files.MultiformatPath;
+import de.quantummaid.httpmaid.http.body.ResponseBody;
 import de.quantummaid.httpmaid.http.headers.ContentType;
 import de.quantummaid.httpmaid.http.headers.cookies.CookieBuilder;
 import de.quantummaid.httpmaid.path.Path;
@@ -35,15 +37,18 @@ import lombok.ToString;
 
 import java.io.File;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Map;
 
 import static de.quantummaid.httpmaid.HttpMaidChainKeys.*;
+import static de.quantummaid.httpmaid.handler.http.files.JavaResourceCache.JAVA_RESOURCE_CACHE;
 import static de.quantummaid.httpmaid.http.Http.Headers.*;
 import static de.quantummaid.httpmaid.http.Http.StatusCodes.FOUND;
 import static de.quantummaid.httpmaid.http.headers.ContentType.fromString;
 import static de.quantummaid.httpmaid.http.headers.cookies.CookieBuilder.cookie;
 import static java.lang.String.format;
 import static java.time.Instant.EPOCH;
+import static java.util.Objects.nonNull;
 
 @ToString
 @EqualsAndHashCode
@@ -106,11 +111,31 @@ public final class HttpResponse {
     public void setBody(final String body) {
         Validators.validateNotNull(body, "body");
         metaData.set(RESPONSE_BODY_STRING, body);
+        clearTypedBody();
     }
 
     public void setBody(final InputStream inputStream) {
         Validators.validateNotNull(inputStream, "inputStream");
         metaData.set(RESPONSE_STREAM, inputStream);
+        clearTypedBody();
+    }
+
+    public void setBody(final byte[] bytes) {
+        Validators.validateNotNull(bytes, "bytes");
+        setBody(ResponseBody.bytesBody(bytes));
+        metaData.set(IS_BINARY_RESPONSE_BODY, true);
+    }
+
+    public void setBody(final ByteBuffer byteBuffer) {
+        Validators.validateNotNull(byteBuffer, "byteBuffer");
+        setBody(ResponseBody.byteBufferBody(byteBuffer));
+        metaData.set(IS_BINARY_RESPONSE_BODY, true);
+    }
+
+    public void setBody(final ResponseBody body) {
+        Validators.validateNotNull(body, "body");
+        metaData.set(RESPONSE_BODY, body);
+        metaData.set(IS_BINARY_RESPONSE_BODY, null);
     }
 
     public void setFileAsBody(final String path) {
@@ -121,13 +146,17 @@ public final class HttpResponse {
 
     public void setFileAsBody(final File file) {
         Validators.validateNotNull(file, "file");
-        final InputStream stream = FileLoader.loadFile(file);
-        setBody(stream);
+        FileLoader.loadFileContent(file).serve(metaData);
     }
 
     public void setJavaResourceAsBody(final String path) {
         Validators.validateNotNullNorEmpty(path, "path");
         final MultiformatPath multiformatPath = MultiformatPath.multiformatPath(path);
+        final JavaResourceCache javaResourceCache = metaData.getOrNull(JAVA_RESOURCE_CACHE);
+        if (nonNull(javaResourceCache)) {
+            javaResourceCache.serve(multiformatPath, metaData);
+            return;
+        }
         final InputStream stream = FileLoader.loadJavaResource(multiformatPath);
         setBody(stream);
     }
@@ -157,4 +186,9 @@ public final class HttpResponse {
                 .safelyRebaseTo(directory);
         return rebasedPath.raw();
     }
+
+    private void clearTypedBody() {
+        metaData.set(RESPONSE_BODY, null);
+        metaData.set(IS_BINARY_RESPONSE_BODY, null);
+    }
 }
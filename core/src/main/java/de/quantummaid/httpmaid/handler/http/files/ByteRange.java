@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.handler.http.files;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.Optional;
+
+import static java.lang.Math.min;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class ByteRange {
+    private static final String BYTES_PREFIX = "bytes=";
+
+    private final long first;
+    private final long last;
+    private final boolean satisfiable;
+
+    static Optional<ByteRange> parseByteRange(final String range, final long size) {
+        final String trimmed = range.trim();
+        if (!trimmed.startsWith(BYTES_PREFIX) || trimmed.indexOf(',') >= 0) {
+            return Optional.empty();
+        }
+        final String spec = trimmed.substring(BYTES_PREFIX.length()).trim();
+        final int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return Optional.empty();
+        }
+        final String firstPart = spec.substring(0, dash).trim();
+        final String lastPart = spec.substring(dash + 1).trim();
+        try {
+            if (firstPart.isEmpty()) {
+                final long suffixLength = Long.parseLong(lastPart);
+                if (suffixLength < 0) {
+                    return Optional.empty();
+                }
+                if (suffixLength == 0 || size == 0) {
+                    return Optional.of(unsatisfiable());
+                }
+                return Optional.of(new ByteRange(size - min(suffixLength, size), size - 1, true));
+            }
+            final long first = Long.parseLong(firstPart);
+            final long last = lastPart.isEmpty() ? size - 1 : Long.parseLong(lastPart);
+            if (first < 0) {
+                return Optional.empty();
+            }
+            if (first >= size) {
+                return Optional.of(unsatisfiable());
+            }
+            if (last < first) {
+                return Optional.empty();
+            }
+            return Optional.of(new ByteRange(first, min(last, size - 1), true));
+        } catch (final NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static ByteRange unsatisfiable() {
+        return new ByteRange(0, -1, false);
+    }
+
+    boolean isSatisfiable() {
+        return satisfiable;
+    }
+
+    long first() {
+        return first;
+    }
+
+    long last() {
+        return last;
+    }
+
+    long length() {
+        return last - first + 1;
+    }
+}
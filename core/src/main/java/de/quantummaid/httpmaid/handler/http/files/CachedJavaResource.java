@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.handler.http.files;
+
+import de.quantummaid.httpmaid.chains.MetaData;
+import de.quantummaid.httpmaid.http.ResponseHeaders;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPOutputStream;
+
+import static de.quantummaid.httpmaid.HttpMaidChainKeys.REQUEST_HEADERS;
+import static de.quantummaid.httpmaid.HttpMaidChainKeys.RESPONSE_HEADERS;
+import static de.quantummaid.httpmaid.handler.http.files.StaticContent.UNKNOWN_LAST_MODIFIED;
+import static de.quantummaid.httpmaid.handler.http.files.StaticContent.staticContent;
+import static de.quantummaid.httpmaid.http.Http.Headers.*;
+import static de.quantummaid.httpmaid.http.body.ResponseBody.byteBufferBody;
+import static de.quantummaid.httpmaid.util.streams.StreamProcessingException.streamProcessingException;
+import static java.lang.String.format;
+import static java.util.Objects.nonNull;
+
+@ToString(of = "entityTag")
+@EqualsAndHashCode(of = "entityTag")
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class CachedJavaResource {
+    private static final String GZIP = "gzip";
+
+    private final StaticContent identity;
+    private final StaticContent gzipped;
+    private final String entityTag;
+    private final long size;
+
+    static CachedJavaResource cachedJavaResource(final byte[] content, final boolean gzip) {
+        final CRC32 checksum = new CRC32();
+        checksum.update(content);
+        final String entityTag = format("\"%x-%x\"", content.length, checksum.getValue());
+        final StaticContent identity = staticContentOf(content, entityTag);
+        if (!gzip) {
+            return new CachedJavaResource(identity, null, entityTag, content.length);
+        }
+        final byte[] compressed = gzip(content);
+        if (compressed.length >= content.length) {
+            return new CachedJavaResource(identity, null, entityTag, content.length);
+        }
+        final String gzippedEntityTag = format("\"%x-%x-gz\"", content.length, checksum.getValue());
+        final StaticContent gzipped = staticContentOf(compressed, gzippedEntityTag);
+        return new CachedJavaResource(identity, gzipped, entityTag, (long) content.length + compressed.length);
+    }
+
+    long size() {
+        return size;
+    }
+
+    void serve(final MetaData metaData) {
+        if (nonNull(gzipped)) {
+            final ResponseHeaders responseHeaders = metaData.get(RESPONSE_HEADERS);
+            responseHeaders.setHeader(VARY, ACCEPT_ENCODING);
+            if (acceptsGzip(metaData)) {
+                responseHeaders.setHeader(CONTENT_ENCODING, GZIP);
+                gzipped.serve(metaData);
+                return;
+            }
+        }
+        identity.serve(metaData);
+    }
+
+    private static boolean acceptsGzip(final MetaData metaData) {
+        return metaData.getOptional(REQUEST_HEADERS)
+                .flatMap(headers -> headers.optionalHeader(ACCEPT_ENCODING))
+                .map(CachedJavaResource::containsAcceptableGzip)
+                .orElse(false);
+    }
+
+    private static boolean containsAcceptableGzip(final String acceptEncoding) {
+        for (final String coding : acceptEncoding.split(",")) {
+            final String[] parts = coding.split(";");
+            if (!GZIP.equalsIgnoreCase(parts[0].trim())) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; ++i) {
+                final String parameter = parts[i].trim();
+                if (parameter.startsWith("q=") && isZero(parameter.substring(2))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isZero(final String quality) {
+        try {
+            return Double.parseDouble(quality.trim()) == 0;
+        } catch (final NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static StaticContent staticContentOf(final byte[] content, final String entityTag) {
+        final ByteBuffer buffer = ByteBuffer.wrap(content);
+        return staticContent(content.length, UNKNOWN_LAST_MODIFIED, entityTag,
+                (position, count) -> byteBufferBody(buffer.duplicate().position((int) position).limit((int) (position + count))));
+    }
+
+    private static byte[] gzip(final byte[] content) {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(content.length / 2 + 32);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(content);
+        } catch (final IOException e) {
+            throw streamProcessingException(e);
+        }
+        return outputStream.toByteArray();
+    }
+}
@@ -26,10 +26,15 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.nio.channels.FileChannel;
 
+import static de.quantummaid.httpmaid.handler.http.files.StaticContent.entityTagFor;
+import static de.quantummaid.httpmaid.handler.http.files.StaticContent.staticContent;
+import static de.quantummaid.httpmaid.http.body.ResponseBody.lazyFileChannelBody;
 import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
 import static java.lang.String.format;
 import static java.lang.Thread.currentThread;
+import static java.nio.file.StandardOpenOption.READ;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
@@ -47,6 +52,29 @@ public final class FileLoader {
         }
     }
 
+    public static StaticContent loadFileContent(final File file) {
+        validateNotNull(file, "file");
+        if (!file.isFile()) {
+            throw FileDoesNotExistException.filesystemFileDoesNotExistException(file.getAbsolutePath(), null);
+        }
+        final long size = file.length();
+        final long lastModified = file.lastModified();
+        return staticContent(size, lastModified, entityTagFor(size, lastModified),
+                (position, count) -> lazyFileChannelBody(() -> openFile(file), position, count));
+    }
+
+    public static FileChannel openFile(final File file) {
+        validateNotNull(file, "file");
+        if (!file.isFile()) {
+            throw FileDoesNotExistException.filesystemFileDoesNotExistException(file.getAbsolutePath(), null);
+        }
+        try {
+            return FileChannel.open(file.toPath(), READ);
+        } catch (final IOException e) {
+            throw FileDoesNotExistException.filesystemFileDoesNotExistException(file.getAbsolutePath(), e);
+        }
+    }
+
     public static InputStream loadJavaResource(final MultiformatPath path) {
         final ClassLoader contextClassLoader = currentThread().getContextClassLoader();
         final String properlyFormatted = path.formatted("", "");
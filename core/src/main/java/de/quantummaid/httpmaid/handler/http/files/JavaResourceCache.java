@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.handler.http.files;
+
+import de.quantummaid.httpmaid.chains.MetaData;
+import de.quantummaid.httpmaid.chains.MetaDataKey;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static de.quantummaid.httpmaid.HttpMaidChainKeys.IS_BINARY_RESPONSE_BODY;
+import static de.quantummaid.httpmaid.HttpMaidChainKeys.RESPONSE_BODY;
+import static de.quantummaid.httpmaid.chains.MetaDataKey.metaDataKey;
+import static de.quantummaid.httpmaid.handler.http.files.CachedJavaResource.cachedJavaResource;
+import static de.quantummaid.httpmaid.handler.http.files.FileDoesNotExistException.javaResourceDoesNotExistException;
+import static de.quantummaid.httpmaid.http.body.ResponseBody.streamBody;
+import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
+import static java.util.Objects.nonNull;
+
+@ToString(of = {"maximumSize", "gzip"})
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JavaResourceCache {
+    public static final MetaDataKey<JavaResourceCache> JAVA_RESOURCE_CACHE = metaDataKey("JAVA_RESOURCE_CACHE");
+
+    private final long maximumSize;
+    private final boolean gzip;
+    private final Map<String, CachedJavaResource> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Set<String> tooLarge = new HashSet<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private long currentSize;
+
+    public static JavaResourceCache javaResourceCache(final long maximumSize, final boolean gzip) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("maximumSize must not be negative");
+        }
+        return new JavaResourceCache(maximumSize, gzip);
+    }
+
+    public void serve(final MultiformatPath path, final MetaData metaData) {
+        validateNotNull(path, "path");
+        validateNotNull(metaData, "metaData");
+        metaData.set(IS_BINARY_RESPONSE_BODY, null);
+        final String key = path.formatted("", "");
+        final CachedJavaResource cached = lookup(key);
+        if (nonNull(cached)) {
+            hits.incrementAndGet();
+            cached.serve(metaData);
+            return;
+        }
+        misses.incrementAndGet();
+        if (isTooLarge(key)) {
+            metaData.set(RESPONSE_BODY, streamBody(FileLoader.loadJavaResource(path)));
+            return;
+        }
+        final InputStream inputStream = FileLoader.loadJavaResource(path);
+        final byte[] head = readAtMost(inputStream, maximumSize + 1, path);
+        if (head.length > maximumSize) {
+            markAsTooLarge(key);
+            metaData.set(RESPONSE_BODY, streamBody(new SequenceInputStream(new ByteArrayInputStream(head), inputStream)));
+            return;
+        }
+        final CachedJavaResource loaded = cachedJavaResource(head, gzip);
+        store(key, loaded);
+        loaded.serve(metaData);
+    }
+
+    public long hits() {
+        return hits.get();
+    }
+
+    public long misses() {
+        return misses.get();
+    }
+
+    public long evictions() {
+        return evictions.get();
+    }
+
+    public synchronized long currentSize() {
+        return currentSize;
+    }
+
+    private synchronized CachedJavaResource lookup(final String key) {
+        return entries.get(key);
+    }
+
+    private synchronized boolean isTooLarge(final String key) {
+        return tooLarge.contains(key);
+    }
+
+    private synchronized void markAsTooLarge(final String key) {
+        tooLarge.add(key);
+    }
+
+    private synchronized void store(final String key, final CachedJavaResource resource) {
+        if (resource.size() > maximumSize) {
+            tooLarge.add(key);
+            return;
+        }
+        final CachedJavaResource previous = entries.put(key, resource);
+        if (nonNull(previous)) {
+            currentSize = currentSize - previous.size();
+        }
+        currentSize = currentSize + resource.size();
+        final Iterator<CachedJavaResource> leastRecentlyUsed = entries.values().iterator();
+        while (currentSize > maximumSize && leastRecentlyUsed.hasNext()) {
+            final CachedJavaResource evicted = leastRecentlyUsed.next();
+            leastRecentlyUsed.remove();
+            currentSize = currentSize - evicted.size();
+            evictions.incrementAndGet();
+        }
+    }
+
+    private static byte[] readAtMost(final InputStream inputStream,
+                                     final long limit,
+                                     final MultiformatPath path) {
+        try {
+            final byte[] head = inputStream.readNBytes((int) Math.min(limit, Integer.MAX_VALUE - 8));
+            if (head.length < limit) {
+                inputStream.close();
+            }
+            return head;
+        } catch (final IOException e) {
+            closeQuietly(inputStream);
+            throw javaResourceDoesNotExistException(path, e);
+        }
+    }
+
+    private static void closeQuietly(final InputStream inputStream) {
+        try {
+            inputStream.close();
+        } catch (final IOException ignored) {
+            // the read failure is reported instead
+        }
+    }
+}
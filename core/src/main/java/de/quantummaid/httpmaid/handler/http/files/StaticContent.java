@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.handler.http.files;
+
+import de.quantummaid.httpmaid.chains.MetaData;
+import de.quantummaid.httpmaid.http.Headers;
+import de.quantummaid.httpmaid.http.HttpRequestMethod;
+import de.quantummaid.httpmaid.http.ResponseHeaders;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+import static de.quantummaid.httpmaid.HttpMaidChainKeys.*;
+import static de.quantummaid.httpmaid.handler.http.files.ByteRange.parseByteRange;
+import static de.quantummaid.httpmaid.http.Http.Headers.*;
+import static de.quantummaid.httpmaid.http.Http.StatusCodes.*;
+import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
+import static java.lang.String.format;
+import static java.time.ZoneOffset.UTC;
+import static java.time.format.DateTimeFormatter.RFC_1123_DATE_TIME;
+import static java.time.format.DateTimeFormatter.ofPattern;
+import static java.util.Locale.US;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class StaticContent {
+    public static final long UNKNOWN_LAST_MODIFIED = 0;
+    private static final DateTimeFormatter HTTP_DATE_FORMATTER = ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", US).withZone(UTC);
+    private static final String BYTES = "bytes";
+    private static final String ANY_ENTITY_TAG = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    private final long size;
+    private final long lastModifiedSeconds;
+    private final String entityTag;
+    private final StaticContentSource source;
+
+    public static StaticContent staticContent(final long size,
+                                              final long lastModifiedMillis,
+                                              final String entityTag,
+                                              final StaticContentSource source) {
+        validateNotNull(entityTag, "entityTag");
+        validateNotNull(source, "source");
+        return new StaticContent(size, lastModifiedMillis / 1000, entityTag, source);
+    }
+
+    public static String entityTagFor(final long size, final long lastModifiedMillis) {
+        return format("\"%x-%x\"", lastModifiedMillis / 1000, size);
+    }
+
+    public void serve(final MetaData metaData) {
+        validateNotNull(metaData, "metaData");
+        final ResponseHeaders responseHeaders = metaData.get(RESPONSE_HEADERS);
+        responseHeaders.setHeader(ETAG, entityTag);
+        responseHeaders.setHeader(ACCEPT_RANGES, BYTES);
+        if (lastModifiedSeconds != UNKNOWN_LAST_MODIFIED) {
+            responseHeaders.setHeader(LAST_MODIFIED, HTTP_DATE_FORMATTER.format(Instant.ofEpochSecond(lastModifiedSeconds)));
+        }
+
+        final Optional<Headers> requestHeaders = metaData.getOptional(REQUEST_HEADERS);
+        if (requestHeaders.isEmpty() || !isGetOrHead(metaData)) {
+            metaData.set(RESPONSE_BODY, source.region(0, size));
+            return;
+        }
+        final Headers headers = requestHeaders.get();
+        if (isNotModified(headers)) {
+            metaData.set(RESPONSE_STATUS, NOT_MODIFIED);
+            return;
+        }
+        final Optional<ByteRange> range = headers.optionalHeader(RANGE)
+                .filter(rangeHeader -> rangeIsApplicable(headers))
+                .flatMap(rangeHeader -> parseByteRange(rangeHeader, size));
+        if (range.isEmpty()) {
+            metaData.set(RESPONSE_BODY, source.region(0, size));
+            return;
+        }
+        final ByteRange byteRange = range.get();
+        if (!byteRange.isSatisfiable()) {
+            responseHeaders.setHeader(CONTENT_RANGE, format("%s */%d", BYTES, size));
+            metaData.set(RESPONSE_STATUS, RANGE_NOT_SATISFIABLE);
+            return;
+        }
+        responseHeaders.setHeader(CONTENT_RANGE, format("%s %d-%d/%d", BYTES, byteRange.first(), byteRange.last(), size));
+        metaData.set(RESPONSE_STATUS, PARTIAL_CONTENT);
+        metaData.set(RESPONSE_BODY, source.region(byteRange.first(), byteRange.length()));
+    }
+
+    private boolean isNotModified(final Headers headers) {
+        final Optional<String> ifNoneMatch = headers.optionalHeader(IF_NONE_MATCH);
+        if (ifNoneMatch.isPresent()) {
+            return matchesAnyEntityTag(ifNoneMatch.get());
+        }
+        return headers.optionalHeader(IF_MODIFIED_SINCE)
+                .flatMap(StaticContent::parseHttpDate)
+                .map(since -> lastModifiedSeconds != UNKNOWN_LAST_MODIFIED && lastModifiedSeconds <= since)
+                .orElse(false);
+    }
+
+    private boolean matchesAnyEntityTag(final String ifNoneMatch) {
+        final String weakEntityTag = withoutWeakPrefix(entityTag);
+        for (final String candidate : ifNoneMatch.split(",")) {
+            final String trimmed = candidate.trim();
+            if (ANY_ENTITY_TAG.equals(trimmed) || weakEntityTag.equals(withoutWeakPrefix(trimmed))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean rangeIsApplicable(final Headers headers) {
+        return headers.optionalHeader(IF_RANGE)
+                .map(String::trim)
+                .map(ifRange -> {
+                    if (ifRange.startsWith("\"") || ifRange.startsWith(WEAK_PREFIX)) {
+                        return !entityTag.startsWith(WEAK_PREFIX) && entityTag.equals(ifRange);
+                    }
+                    return parseHttpDate(ifRange)
+                            .map(date -> date == lastModifiedSeconds)
+                            .orElse(false);
+                })
+                .orElse(true);
+    }
+
+    private static boolean isGetOrHead(final MetaData metaData) {
+        return metaData.getOptional(METHOD)
+                .map(method -> HttpRequestMethod.GET.equals(method) || HttpRequestMethod.HEAD.equals(method))
+                .orElse(true);
+    }
+
+    private static String withoutWeakPrefix(final String entityTag) {
+        if (entityTag.startsWith(WEAK_PREFIX)) {
+            return entityTag.substring(WEAK_PREFIX.length());
+        }
+        return entityTag;
+    }
+
+    private static Optional<Long> parseHttpDate(final String date) {
+        try {
+            return Optional.of(ZonedDateTime.parse(date.trim(), RFC_1123_DATE_TIME).toEpochSecond());
+        } catch (final DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+}
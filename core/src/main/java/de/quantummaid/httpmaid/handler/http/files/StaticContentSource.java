@@ -19,17 +19,11 @@
  * under the License.
  */
 
-package de.quantummaid.httpmaid.http.headers.accept;
+package de.quantummaid.httpmaid.handler.http.files;
 
-public interface MimeTypeElementMatcher {
+import de.quantummaid.httpmaid.http.body.ResponseBody;
 
-    static MimeTypeElementMatcher parse(final String raw) {
-        if("*".equals(raw)) {
-            return candidate -> true;
-        } else {
-            return raw::equals;
-        }
-    }
-
-    boolean matches(String candidate);
+@FunctionalInterface
+public interface StaticContentSource {
+    ResponseBody region(long position, long count);
 }
@@ -25,20 +25,52 @@ import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import static de.quantummaid.httpmaid.util.Validators.validateNotNullNorEmpty;
 
 @ToString
 @EqualsAndHashCode
 @RequiredArgsConstructor
 public final class HeaderName {
+    private static final Map<String, String> WELL_KNOWN_NAMES = wellKnownNames(List.of(
+            Http.Headers.CONTENT_TYPE,
+            Http.Headers.CONTENT_LENGTH,
+            Http.Headers.ACCEPT,
+            Http.Headers.ACCEPT_ENCODING,
+            Http.Headers.COOKIE,
+            Http.Headers.AUTHORIZATION,
+            Http.Headers.ORIGIN
+    ));
+
     private final String value;
 
     public static HeaderName headerName(final String value) {
         validateNotNullNorEmpty(value, "stringValue");
-        final String cleanValue = value.toLowerCase();
+        final String cleanValue = normalizedHeaderName(value);
         return new HeaderName(cleanValue);
     }
 
+    private static String normalizedHeaderName(final String value) {
+        final String wellKnown = WELL_KNOWN_NAMES.get(value);
+        if (wellKnown != null) {
+            return wellKnown;
+        }
+        return value.toLowerCase();
+    }
+
+    private static Map<String, String> wellKnownNames(final List<String> names) {
+        final Map<String, String> wellKnownNames = new HashMap<>();
+        names.forEach(name -> {
+            final String lowerCase = name.toLowerCase().intern();
+            wellKnownNames.put(name, lowerCase);
+            wellKnownNames.put(lowerCase, lowerCase);
+        });
+        return wellKnownNames;
+    }
+
     public String stringValue() {
         return this.value;
     }
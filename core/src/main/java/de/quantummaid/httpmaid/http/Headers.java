@@ -27,46 +27,54 @@ import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 import static de.quantummaid.httpmaid.http.HeaderName.headerName;
 import static de.quantummaid.httpmaid.http.HttpRequestException.httpHandlerException;
+import static de.quantummaid.httpmaid.http.NameIndex.nameIndex;
 import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
 import static java.lang.String.format;
 import static java.lang.String.join;
 import static java.util.Collections.unmodifiableList;
+import static java.util.stream.Collectors.toList;
 
 @ToString
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class Headers {
     private final List<Header> headers;
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final NameIndex index;
 
     public static Headers headers(final List<Header> headers) {
         validateNotNull(headers, "headers");
-        return new Headers(headers);
+        final List<Header> copiedHeaders = List.copyOf(headers);
+        final List<String> names = copiedHeaders.stream()
+                .map(header -> header.name().stringValue())
+                .collect(toList());
+        return new Headers(copiedHeaders, nameIndex(names));
     }
 
     public List<String> allValuesFor(final String name) {
-        final HeaderName headerName = headerName(name);
-        return headers.stream()
-                .filter(header -> headerName.equals(header.name()))
-                .map(Header::value)
-                .map(HeaderValue::stringValue)
-                .collect(Collectors.toList());
+        final int[] positions = positionsOf(name);
+        final List<String> values = new ArrayList<>(positions.length);
+        for (final int position : positions) {
+            values.add(headers.get(position).value().stringValue());
+        }
+        return values;
     }
 
     public Optional<String> optionalHeader(final String name) {
-        final List<String> values = allValuesFor(name);
-        if (values.isEmpty()) {
+        final int[] positions = positionsOf(name);
+        if (positions.length == 0) {
             return Optional.empty();
         }
-        if (values.size() > 1) {
-            final String joinedValues = join(", ", values);
+        if (positions.length > 1) {
+            final String joinedValues = join(", ", allValuesFor(name));
             throw httpHandlerException(format("Expecting header '%s' to only have one value but got [%s]",
                     name, joinedValues));
         }
-        return Optional.of(values.get(0));
+        return Optional.of(headers.get(positions[0]).value().stringValue());
     }
 
     public String header(final String name) {
@@ -89,4 +97,9 @@ public final class Headers {
         });
         return result;
     }
+
+    private int[] positionsOf(final String name) {
+        final HeaderName headerName = headerName(name);
+        return index.positionsOf(headerName.stringValue());
+    }
 }
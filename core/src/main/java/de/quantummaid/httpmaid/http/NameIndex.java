@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.http;
+
+import java.util.List;
+
+/**
+ * Small open-addressing multimap from a name to the positions it occupies in an ordered list.
+ * Built once per {@link Headers} or {@link QueryParameters} instance so that lookups do not
+ * have to scan every entry.
+ */
+final class NameIndex {
+    private static final int[] NO_POSITIONS = new int[0];
+
+    private final String[] names;
+    private final int[][] positions;
+    private final int mask;
+
+    private NameIndex(final String[] names, final int[][] positions) {
+        this.names = names;
+        this.positions = positions;
+        this.mask = names.length - 1;
+    }
+
+    static NameIndex nameIndex(final List<String> names) {
+        int capacity = 2;
+        while (capacity < names.size() * 2) {
+            capacity <<= 1;
+        }
+        final String[] slots = new String[capacity];
+        final int[] counts = new int[capacity];
+        final int[] slotOfEntry = new int[names.size()];
+        for (int i = 0; i < names.size(); ++i) {
+            final String name = names.get(i);
+            int slot = name.hashCode() & (capacity - 1);
+            while (slots[slot] != null && !slots[slot].equals(name)) {
+                slot = (slot + 1) & (capacity - 1);
+            }
+            slots[slot] = name;
+            counts[slot]++;
+            slotOfEntry[i] = slot;
+        }
+        final int[][] positions = new int[capacity][];
+        for (int slot = 0; slot < capacity; ++slot) {
+            if (slots[slot] != null) {
+                positions[slot] = new int[counts[slot]];
+                counts[slot] = 0;
+            }
+        }
+        for (int i = 0; i < slotOfEntry.length; ++i) {
+            final int slot = slotOfEntry[i];
+            positions[slot][counts[slot]++] = i;
+        }
+        return new NameIndex(slots, positions);
+    }
+
+    int[] positionsOf(final String name) {
+        int slot = name.hashCode() & mask;
+        while (names[slot] != null) {
+            if (names[slot].equals(name)) {
+                return positions[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NO_POSITIONS;
+    }
+}
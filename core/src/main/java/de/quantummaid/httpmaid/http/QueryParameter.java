@@ -23,10 +23,12 @@ package de.quantummaid.httpmaid.http;
 
 import de.quantummaid.httpmaid.util.Validators;
 import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
 @ToString
+@EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public class QueryParameter {
     private final QueryParameterName name;
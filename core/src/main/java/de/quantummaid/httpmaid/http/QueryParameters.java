@@ -26,56 +26,44 @@ import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
-import java.net.URLDecoder;
 import java.util.*;
-import java.util.stream.Collectors;
 
 import static de.quantummaid.httpmaid.http.HttpRequestException.httpHandlerException;
+import static de.quantummaid.httpmaid.http.NameIndex.nameIndex;
 import static de.quantummaid.httpmaid.http.QueryParameterName.queryParameterName;
-import static de.quantummaid.httpmaid.http.QueryParameterValue.queryParameterValue;
+import static de.quantummaid.httpmaid.http.QueryStringParser.parseQueryString;
 import static java.lang.String.format;
 import static java.lang.String.join;
-import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
+import static java.util.stream.Collectors.toList;
 
-@ToString
-@EqualsAndHashCode
-@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@ToString(onlyExplicitlyIncluded = true)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public final class QueryParameters {
-    private static final QueryParameters EMPTY = new QueryParameters(emptyList());
+    private static final QueryParameters EMPTY = queryParameters(emptyList());
 
-    private final List<QueryParameter> queryParameters;
+    private final String queryString;
+    private volatile IndexedQueryParameters parsed;
+
+    private QueryParameters(final String queryString, final IndexedQueryParameters parsed) {
+        this.queryString = queryString;
+        this.parsed = parsed;
+    }
 
     public static QueryParametersBuilder builder() {
         return new QueryParametersBuilder();
     }
 
     public static QueryParameters queryParameters(final List<QueryParameter> parameters) {
-        return new QueryParameters(List.copyOf(parameters));
+        return new QueryParameters(null, indexed(parameters));
     }
 
     public static QueryParameters fromQueryString(final String queryString) {
         if (queryString == null || queryString.isEmpty()) {
             return QueryParameters.EMPTY;
         }
-        final List<QueryParameter> queryParameters = new ArrayList<>();
-        for (final String param : queryString.split("&")) {
-            final String[] entry = param.split("=");
-            final QueryParameterName name = queryParameterName(decode(entry[0]));
-            final QueryParameterValue value;
-            if (entry.length > 1) {
-                value = queryParameterValue(decode(entry[1]));
-            } else {
-                value = queryParameterValue("");
-            }
-            queryParameters.add(QueryParameter.queryParameter(name, value));
-        }
-        return QueryParameters.queryParameters(queryParameters);
-    }
-
-    private static String decode(final String s) {
-        return URLDecoder.decode(s, UTF_8);
+        return new QueryParameters(queryString, null);
     }
 
     public String parameter(final String name) {
@@ -84,25 +72,21 @@ public final class QueryParameters {
     }
 
     public Optional<String> optionalParameter(final String name) {
-        final QueryParameterName requestedName = queryParameterName(name);
-        final List<String> found = queryParameters.stream()
-                .filter(queryParameter -> queryParameter.name().equals(requestedName))
-                .map(queryParameter -> queryParameter.value().stringValue())
-                .collect(Collectors.toList());
-        if (found.isEmpty()) {
+        final int[] positions = positionsOf(name);
+        if (positions.length == 0) {
             return Optional.empty();
-        } else if (found.size() > 1) {
-            final String joinedValues = join(", ", found);
+        } else if (positions.length > 1) {
+            final String joinedValues = join(", ", allValuesFor(name));
             throw httpHandlerException(format("Expecting query string parameter '%s' to only have one value but got [%s]",
                     name, joinedValues));
         } else {
-            return Optional.of(found.get(0));
+            return Optional.of(parsed().parameters.get(positions[0]).value().stringValue());
         }
     }
 
     public Map<String, List<String>> asMap() {
         final LinkedHashMap<String, List<String>> result = new LinkedHashMap<>();
-        queryParameters.forEach(queryParameter -> {
+        parsed().parameters.forEach(queryParameter -> {
             final String name = queryParameter.name().stringValue();
             final String value = queryParameter.value().stringValue();
             final List<String> values = result.getOrDefault(name, new ArrayList<>());
@@ -113,15 +97,67 @@ public final class QueryParameters {
     }
 
     public List<QueryParameter> asList() {
-        return unmodifiableList(queryParameters);
+        return unmodifiableList(parsed().parameters);
+    }
+
+    public void enforceParameterLimit() {
+        if (parsed == null) {
+            QueryStringParser.enforceParameterLimit(queryString);
+        }
     }
 
     public List<String> allValuesFor(final String name) {
+        final int[] positions = positionsOf(name);
+        final List<QueryParameter> parameters = parsed().parameters;
+        final List<String> values = new ArrayList<>(positions.length);
+        for (final int position : positions) {
+            values.add(parameters.get(position).value().stringValue());
+        }
+        return values;
+    }
+
+    private int[] positionsOf(final String name) {
         final QueryParameterName parameterName = queryParameterName(name);
-        return this.queryParameters.stream()
-                .filter(parameter -> parameterName.equals(parameter.name()))
-                .map(QueryParameter::value)
-                .map(QueryParameterValue::stringValue)
-                .collect(Collectors.toList());
+        return parsed().index.positionsOf(parameterName.stringValue());
+    }
+
+    @ToString.Include(name = "queryParameters")
+    private Object description() {
+        if (queryString != null) {
+            return queryString;
+        }
+        return parsed.parameters;
+    }
+
+    @EqualsAndHashCode.Include
+    private Object comparableForm() {
+        try {
+            return parsed().parameters;
+        } catch (final HttpRequestException | IllegalArgumentException e) {
+            return queryString;
+        }
+    }
+
+    private IndexedQueryParameters parsed() {
+        IndexedQueryParameters current = parsed;
+        if (current == null) {
+            current = indexed(parseQueryString(queryString));
+            parsed = current;
+        }
+        return current;
+    }
+
+    private static IndexedQueryParameters indexed(final List<QueryParameter> parameters) {
+        final List<QueryParameter> copiedParameters = List.copyOf(parameters);
+        final List<String> names = copiedParameters.stream()
+                .map(parameter -> parameter.name().stringValue())
+                .collect(toList());
+        return new IndexedQueryParameters(copiedParameters, nameIndex(names));
+    }
+
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class IndexedQueryParameters {
+        private final List<QueryParameter> parameters;
+        private final NameIndex index;
     }
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.http;
+
+import java.net.URLDecoder;
+import java.util.ArrayList;
+import java.util.List;
+
+import static de.quantummaid.httpmaid.http.HttpRequestException.httpHandlerException;
+import static de.quantummaid.httpmaid.http.QueryParameter.queryParameter;
+import static de.quantummaid.httpmaid.http.QueryParameterName.queryParameterName;
+import static de.quantummaid.httpmaid.http.QueryParameterValue.queryParameterValue;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+final class QueryStringParser {
+    static final int MAXIMUM_NUMBER_OF_QUERY_PARAMETERS = 1000;
+
+    private QueryStringParser() {
+    }
+
+    static List<QueryParameter> parseQueryString(final String queryString) {
+        final List<QueryParameter> queryParameters = new ArrayList<>();
+        final int length = queryString.length();
+        int start = 0;
+        while (start < length) {
+            int end = queryString.indexOf('&', start);
+            if (end < 0) {
+                end = length;
+            }
+            if (end > start) {
+                if (queryParameters.size() == MAXIMUM_NUMBER_OF_QUERY_PARAMETERS) {
+                    throw tooManyParameters();
+                }
+                parseParameter(queryString, start, end, queryParameters);
+            }
+            start = end + 1;
+        }
+        return queryParameters;
+    }
+
+    static void enforceParameterLimit(final String queryString) {
+        final int length = queryString.length();
+        int numberOfParameters = 0;
+        int start = 0;
+        while (start < length) {
+            int end = queryString.indexOf('&', start);
+            if (end < 0) {
+                end = length;
+            }
+            if (end > start) {
+                ++numberOfParameters;
+                if (numberOfParameters > MAXIMUM_NUMBER_OF_QUERY_PARAMETERS) {
+                    throw tooManyParameters();
+                }
+            }
+            start = end + 1;
+        }
+    }
+
+    private static HttpRequestException tooManyParameters() {
+        return httpHandlerException(format(
+                "Query string contains more than %d parameters", MAXIMUM_NUMBER_OF_QUERY_PARAMETERS));
+    }
+
+    private static void parseParameter(final String queryString,
+                                       final int start,
+                                       final int end,
+                                       final List<QueryParameter> queryParameters) {
+        int separator = queryString.indexOf('=', start);
+        if (separator < 0 || separator > end) {
+            separator = end;
+        }
+        if (separator == start) {
+            return;
+        }
+        final String name = decode(queryString, start, separator);
+        final String value;
+        if (separator < end) {
+            value = decode(queryString, separator + 1, end);
+        } else {
+            value = "";
+        }
+        queryParameters.add(queryParameter(queryParameterName(name), queryParameterValue(value)));
+    }
+
+    private static String decode(final String queryString, final int start, final int end) {
+        final String encoded = queryString.substring(start, end);
+        for (int i = 0; i < encoded.length(); ++i) {
+            final char c = encoded.charAt(i);
+            if (c == '%' || c == '+') {
+                return URLDecoder.decode(encoded, UTF_8);
+            }
+        }
+        return encoded;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.http.body;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
+import static de.quantummaid.httpmaid.util.streams.Streams.writeByteBufferToOutputStream;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class ByteBufferResponseBody implements ResponseBody {
+    private final ByteBuffer byteBuffer;
+
+    static ByteBufferResponseBody byteBufferResponseBody(final ByteBuffer byteBuffer) {
+        validateNotNull(byteBuffer, "byteBuffer");
+        return new ByteBufferResponseBody(byteBuffer.duplicate());
+    }
+
+    @Override
+    public long contentLength() {
+        return byteBuffer.remaining();
+    }
+
+    @Override
+    public void writeTo(final OutputStream outputStream) {
+        writeByteBufferToOutputStream(byteBuffer, outputStream);
+    }
+
+    @Override
+    public InputStream asInputStream() {
+        if (byteBuffer.hasArray()) {
+            return new ByteArrayInputStream(byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(), byteBuffer.remaining());
+        }
+        final byte[] bytes = new byte[byteBuffer.remaining()];
+        byteBuffer.duplicate().get(bytes);
+        return new ByteArrayInputStream(bytes);
+    }
+
+    @Override
+    public ByteBuffer asByteBuffer() {
+        return byteBuffer.asReadOnlyBuffer();
+    }
+}
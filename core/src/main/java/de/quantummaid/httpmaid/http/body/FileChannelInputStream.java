@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.http.body;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import static java.lang.Math.min;
+
+final class FileChannelInputStream extends InputStream {
+    private final FileChannel fileChannel;
+    private long position;
+    private long remaining;
+
+    private FileChannelInputStream(final FileChannel fileChannel,
+                                   final long position,
+                                   final long remaining) {
+        this.fileChannel = fileChannel;
+        this.position = position;
+        this.remaining = remaining;
+    }
+
+    static InputStream fileChannelInputStream(final FileChannel fileChannel,
+                                              final long position,
+                                              final long count) {
+        return new FileChannelInputStream(fileChannel, position, count);
+    }
+
+    @Override
+    public int read() throws IOException {
+        final byte[] single = new byte[1];
+        final int read = read(single, 0, 1);
+        if (read <= 0) {
+            return -1;
+        }
+        return single[0] & 0xFF;
+    }
+
+    @Override
+    public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (remaining <= 0) {
+            return -1;
+        }
+        final int maximum = (int) min(length, remaining);
+        final int read = fileChannel.read(ByteBuffer.wrap(buffer, offset, maximum), position);
+        if (read < 0) {
+            remaining = 0;
+            return -1;
+        }
+        position = position + read;
+        remaining = remaining - read;
+        return read;
+    }
+
+    @Override
+    public int available() {
+        return (int) min(remaining, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void close() throws IOException {
+        fileChannel.close();
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.http.body;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.function.Supplier;
+
+import static de.quantummaid.httpmaid.http.body.FileChannelInputStream.fileChannelInputStream;
+import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
+import static de.quantummaid.httpmaid.util.streams.StreamProcessingException.streamProcessingException;
+import static java.lang.String.format;
+import static java.util.Objects.isNull;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class FileChannelResponseBody implements ResponseBody {
+    private final Supplier<FileChannel> fileChannelOpener;
+    private final FileChannel openedFileChannel;
+    private final long position;
+    private final long count;
+
+    static FileChannelResponseBody fileChannelResponseBody(final FileChannel fileChannel) {
+        validateNotNull(fileChannel, "fileChannel");
+        try {
+            final long position = fileChannel.position();
+            return new FileChannelResponseBody(() -> fileChannel, fileChannel, position, fileChannel.size() - position);
+        } catch (final IOException e) {
+            throw streamProcessingException(e);
+        }
+    }
+
+    static FileChannelResponseBody fileChannelResponseBody(final FileChannel fileChannel,
+                                                           final long position,
+                                                           final long count) {
+        validateNotNull(fileChannel, "fileChannel");
+        validateFileRegion(position, count);
+        return new FileChannelResponseBody(() -> fileChannel, fileChannel, position, count);
+    }
+
+    static FileChannelResponseBody lazyFileChannelResponseBody(final Supplier<FileChannel> fileChannelOpener,
+                                                               final long position,
+                                                               final long count) {
+        validateNotNull(fileChannelOpener, "fileChannelOpener");
+        validateFileRegion(position, count);
+        return new FileChannelResponseBody(fileChannelOpener, null, position, count);
+    }
+
+    private static void validateFileRegion(final long position, final long count) {
+        if (position < 0 || count < 0) {
+            throw new IllegalArgumentException(format("Invalid file region: position %d, count %d", position, count));
+        }
+    }
+
+    @Override
+    public long contentLength() {
+        return count;
+    }
+
+    @Override
+    public void writeTo(final OutputStream outputStream) {
+        final WritableByteChannel target = Channels.newChannel(outputStream);
+        try (FileChannel fileChannel = fileChannelOpener.get()) {
+            long transferred = 0;
+            while (transferred < count) {
+                final long written = fileChannel.transferTo(position + transferred, count - transferred, target);
+                if (written <= 0) {
+                    break;
+                }
+                transferred = transferred + written;
+            }
+        } catch (final IOException e) {
+            throw streamProcessingException(e);
+        }
+    }
+
+    @Override
+    public InputStream asInputStream() {
+        return fileChannelInputStream(fileChannelOpener.get(), position, count);
+    }
+
+    @Override
+    public void close() {
+        if (isNull(openedFileChannel)) {
+            return;
+        }
+        try {
+            openedFileChannel.close();
+        } catch (final IOException e) {
+            throw streamProcessingException(e);
+        }
+    }
+}
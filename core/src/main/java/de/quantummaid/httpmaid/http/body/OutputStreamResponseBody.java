@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.http.body;
+
+import de.quantummaid.httpmaid.util.streams.ByteBufferOutputStream;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+import static de.quantummaid.httpmaid.http.body.ResponseBody.byteBufferBody;
+import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
+import static de.quantummaid.httpmaid.util.streams.ByteBufferOutputStream.byteBufferOutputStream;
+import static de.quantummaid.httpmaid.util.streams.Streams.writeByteBufferToOutputStream;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+@ToString(of = "writer")
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class OutputStreamResponseBody implements ResponseBody {
+    private final Consumer<OutputStream> writer;
+    private ByteBuffer buffered;
+
+    static OutputStreamResponseBody outputStreamResponseBody(final Consumer<OutputStream> writer) {
+        validateNotNull(writer, "writer");
+        return new OutputStreamResponseBody(writer);
+    }
+
+    @Override
+    public synchronized long contentLength() {
+        if (nonNull(buffered)) {
+            return buffered.remaining();
+        }
+        return UNKNOWN_LENGTH;
+    }
+
+    @Override
+    public void writeTo(final OutputStream outputStream) {
+        final ByteBuffer alreadyBuffered = currentBuffer();
+        if (nonNull(alreadyBuffered)) {
+            writeByteBufferToOutputStream(alreadyBuffered, outputStream);
+            return;
+        }
+        writer.accept(outputStream);
+    }
+
+    @Override
+    public InputStream asInputStream() {
+        return byteBufferBody(buffer()).asInputStream();
+    }
+
+    @Override
+    public ByteBuffer asByteBuffer() {
+        return buffer().asReadOnlyBuffer();
+    }
+
+    private synchronized ByteBuffer buffer() {
+        if (isNull(buffered)) {
+            final ByteBufferOutputStream outputStream = byteBufferOutputStream();
+            writer.accept(outputStream);
+            buffered = outputStream.asByteBuffer();
+        }
+        return buffered.duplicate();
+    }
+
+    private synchronized ByteBuffer currentBuffer() {
+        if (isNull(buffered)) {
+            return null;
+        }
+        return buffered.duplicate();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.http.body;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static de.quantummaid.httpmaid.http.body.ByteBufferResponseBody.byteBufferResponseBody;
+import static de.quantummaid.httpmaid.http.body.FileChannelResponseBody.fileChannelResponseBody;
+import static de.quantummaid.httpmaid.http.body.FileChannelResponseBody.lazyFileChannelResponseBody;
+import static de.quantummaid.httpmaid.http.body.OutputStreamResponseBody.outputStreamResponseBody;
+import static de.quantummaid.httpmaid.http.body.StreamResponseBody.streamResponseBody;
+import static de.quantummaid.httpmaid.util.streams.Streams.inputStreamToByteBuffer;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+public interface ResponseBody {
+    long UNKNOWN_LENGTH = -1;
+
+    static ResponseBody bytesBody(final byte[] bytes) {
+        return byteBufferResponseBody(ByteBuffer.wrap(bytes));
+    }
+
+    static ResponseBody stringBody(final String string) {
+        return bytesBody(string.getBytes(UTF_8));
+    }
+
+    static ResponseBody byteBufferBody(final ByteBuffer byteBuffer) {
+        return byteBufferResponseBody(byteBuffer);
+    }
+
+    static ResponseBody fileChannelBody(final FileChannel fileChannel) {
+        return fileChannelResponseBody(fileChannel);
+    }
+
+    static ResponseBody fileChannelBody(final FileChannel fileChannel,
+                                        final long position,
+                                        final long count) {
+        return fileChannelResponseBody(fileChannel, position, count);
+    }
+
+    static ResponseBody lazyFileChannelBody(final Supplier<FileChannel> fileChannelOpener,
+                                            final long position,
+                                            final long count) {
+        return lazyFileChannelResponseBody(fileChannelOpener, position, count);
+    }
+
+    static ResponseBody streamBody(final InputStream inputStream) {
+        return streamResponseBody(inputStream);
+    }
+
+    static ResponseBody outputStreamBody(final Consumer<OutputStream> writer) {
+        return outputStreamResponseBody(writer);
+    }
+
+    long contentLength();
+
+    void writeTo(OutputStream outputStream);
+
+    InputStream asInputStream();
+
+    default ByteBuffer asByteBuffer() {
+        return inputStreamToByteBuffer(asInputStream(), contentLength(), Long.MAX_VALUE);
+    }
+
+    /**
+     * Releases the resources held by a body that will never be written, e.g. because the response arrived after
+     * the endpoint already gave up on it.
+     */
+    default void close() {
+        // nothing to release
+    }
+}
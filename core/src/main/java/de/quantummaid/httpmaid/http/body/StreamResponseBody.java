@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.http.body;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
+import static de.quantummaid.httpmaid.util.streams.StreamProcessingException.streamProcessingException;
+import static de.quantummaid.httpmaid.util.streams.Streams.transferInputStreamToOutputStream;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class StreamResponseBody implements ResponseBody {
+    private final InputStream inputStream;
+
+    static StreamResponseBody streamResponseBody(final InputStream inputStream) {
+        validateNotNull(inputStream, "inputStream");
+        return new StreamResponseBody(inputStream);
+    }
+
+    @Override
+    public long contentLength() {
+        return UNKNOWN_LENGTH;
+    }
+
+    @Override
+    public void writeTo(final OutputStream outputStream) {
+        transferInputStreamToOutputStream(inputStream, outputStream);
+    }
+
+    @Override
+    public InputStream asInputStream() {
+        return inputStream;
+    }
+
+    @Override
+    public void close() {
+        try {
+            inputStream.close();
+        } catch (final IOException e) {
+            throw streamProcessingException(e);
+        }
+    }
+}
@@ -40,20 +40,29 @@ public final class Accept {
     private final MimeTypeMatcher mimeTypeMatcher;
 
     public static Accept fromMetaData(final MetaData metaData) {
-        return metaData.getOptional(HttpMaidChainKeys.REQUEST_HEADERS).map(headers -> {
-            final List<String> mimeTypes = headers.allValuesFor(ACCEPT);
-            final MimeTypeMatcher mimeTypeMatcher;
-            if (mimeTypes.isEmpty()) {
-                mimeTypeMatcher = MimeTypeMatcher.anyMatcher();
-            } else {
-                mimeTypeMatcher = MimeTypeMatcher.parseMimeTypeMatcher(mimeTypes);
-            }
-            return new Accept(mimeTypeMatcher);
-        }).orElseGet(() -> new Accept(MimeTypeMatcher.anyMatcher()));
+        final List<String> mimeTypes = acceptHeaderValues(metaData);
+        return accept(mimeTypes);
+    }
+
+    public static Accept accept(final List<String> mimeTypes) {
+        if (mimeTypes.isEmpty()) {
+            return new Accept(MimeTypeMatcher.anyMatcher());
+        }
+        return new Accept(MimeTypeMatcher.parseMimeTypeMatcher(mimeTypes));
+    }
+
+    public static List<String> acceptHeaderValues(final MetaData metaData) {
+        return metaData.getOptional(HttpMaidChainKeys.REQUEST_HEADERS)
+                .map(headers -> headers.allValuesFor(ACCEPT))
+                .orElseGet(List::of);
     }
 
     public boolean contentTypeIsAccepted(final ContentType contentType) {
+        return quality(contentType) > 0;
+    }
+
+    public double quality(final ContentType contentType) {
         final MimeType mimeType = MimeType.parseMimeType(contentType.internalValueForMapping());
-        return mimeTypeMatcher.matches(mimeType);
+        return mimeTypeMatcher.quality(mimeType);
     }
 }
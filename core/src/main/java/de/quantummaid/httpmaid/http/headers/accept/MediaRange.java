@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.http.headers.accept;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class MediaRange {
+    private static final String WILDCARD = "*";
+    private static final double DEFAULT_QUALITY = 1.0;
+
+    private final MimeType mimeType;
+    private final double quality;
+
+    static MediaRange parseMediaRange(final String string) {
+        final MimeType mimeType = MimeType.parseMimeType(string);
+        final String[] parameters = string.split(";");
+        double quality = DEFAULT_QUALITY;
+        for (int i = 1; i < parameters.length; ++i) {
+            final String parameter = parameters[i].trim();
+            if (parameter.length() > 2 && (parameter.startsWith("q=") || parameter.startsWith("Q="))) {
+                quality = parseQuality(parameter.substring(2));
+            }
+        }
+        return new MediaRange(mimeType, quality);
+    }
+
+    private static double parseQuality(final String string) {
+        try {
+            final double quality = Double.parseDouble(string.trim());
+            return Math.max(0.0, Math.min(DEFAULT_QUALITY, quality));
+        } catch (final NumberFormatException e) {
+            return DEFAULT_QUALITY;
+        }
+    }
+
+    boolean includes(final MimeType candidate) {
+        final String type = mimeType.type();
+        if (WILDCARD.equals(type)) {
+            return true;
+        }
+        if (!type.equalsIgnoreCase(candidate.type())) {
+            return false;
+        }
+        final String subtype = mimeType.subtype();
+        return WILDCARD.equals(subtype) || subtype.equalsIgnoreCase(candidate.subtype());
+    }
+
+    int specificity() {
+        if (WILDCARD.equals(mimeType.type())) {
+            return 0;
+        }
+        if (WILDCARD.equals(mimeType.subtype())) {
+            return 1;
+        }
+        return 2;
+    }
+
+    double quality() {
+        return quality;
+    }
+}
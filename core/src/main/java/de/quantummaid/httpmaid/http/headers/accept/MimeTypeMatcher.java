@@ -27,32 +27,49 @@ import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.util.Arrays;
 import java.util.List;
 
+import static java.util.stream.Collectors.toList;
+
 @ToString
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class MimeTypeMatcher {
-    private final MimeTypeElementMatcher type;
-    private final MimeTypeElementMatcher subtype;
+    private final List<MediaRange> mediaRanges;
 
     static MimeTypeMatcher anyMatcher() {
         return parseMimeTypeMatcher(List.of("*/*"));
     }
 
     static MimeTypeMatcher parseMimeTypeMatcher(final List<String> mimeTypes) {
-        final String combinedMimeTypes = String.join(", ", mimeTypes);
-        final MimeType mimeType = MimeType.parseMimeType(combinedMimeTypes);
-
-        final MimeTypeElementMatcher type = MimeTypeElementMatcher.parse(mimeType.type());
-        final MimeTypeElementMatcher subtype = MimeTypeElementMatcher.parse(mimeType.subtype());
-
-        return new MimeTypeMatcher(type, subtype);
+        final List<MediaRange> mediaRanges = mimeTypes.stream()
+                .flatMap(mimeType -> Arrays.stream(mimeType.split(",")))
+                .map(String::trim)
+                .filter(mimeType -> !mimeType.isEmpty())
+                .map(MediaRange::parseMediaRange)
+                .collect(toList());
+        return new MimeTypeMatcher(mediaRanges);
     }
 
     public boolean matches(final MimeType mimeType) {
+        return quality(mimeType) > 0;
+    }
+
+    public double quality(final MimeType mimeType) {
         Validators.validateNotNull(mimeType, "mimeType");
-        return type.matches(mimeType.type()) &&
-                subtype.matches(mimeType.subtype());
+        MediaRange mostSpecificRange = null;
+        for (final MediaRange mediaRange : mediaRanges) {
+            if (!mediaRange.includes(mimeType)) {
+                continue;
+            }
+            if (mostSpecificRange == null || mediaRange.specificity() > mostSpecificRange.specificity()) {
+                mostSpecificRange = mediaRange;
+            }
+        }
+        if (mostSpecificRange == null) {
+            return 0;
+        }
+        return mostSpecificRange.quality();
     }
 }
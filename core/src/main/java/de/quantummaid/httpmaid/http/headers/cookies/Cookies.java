@@ -28,26 +28,26 @@ import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
-import java.util.*;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static de.quantummaid.httpmaid.http.Http.Headers.COOKIE;
+import static de.quantummaid.httpmaid.http.HttpRequestException.httpHandlerException;
 import static java.lang.String.format;
-import static java.util.Arrays.stream;
 
 @ToString
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class Cookies {
+    private static final int MAXIMUM_NUMBER_OF_COOKIES = 200;
+
     private final Map<CookieName, CookieValue> cookies;
 
     public static Cookies cookiesFromHeaders(final Headers headers) {
         final Map<CookieName, CookieValue> cookies = new HashMap<>();
-        headers.allValuesFor(COOKIE).stream()
-                .map(header -> header.split("; "))
-                .flatMap(Arrays::stream)
-                .map(Cookies::parseKeyValuePair)
-                .forEach(entry -> cookies.put(entry.getKey(), entry.getValue()));
+        headers.allValuesFor(COOKIE).forEach(header -> parseCookieHeader(header, cookies));
         return new Cookies(cookies);
     }
 
@@ -62,22 +62,47 @@ public final class Cookies {
                 .orElseThrow(() -> new RuntimeException(format("No cookie with name '%s'", name)));
     }
 
-    private static Map.Entry<CookieName, CookieValue> parseKeyValuePair(final String keyValuePair) {
-        final String[] tokens = keyValuePair.split("=");
-        final String value;
-        if (tokens.length == 1) {
-            value = "";
-        } else {
-            value = tokens[1];
+    private static void parseCookieHeader(final String header, final Map<CookieName, CookieValue> cookies) {
+        final int length = header.length();
+        int start = 0;
+        while (start < length) {
+            int end = header.indexOf(';', start);
+            if (end < 0) {
+                end = length;
+            }
+            while (start < end && header.charAt(start) == ' ') {
+                ++start;
+            }
+            if (end > start) {
+                if (cookies.size() == MAXIMUM_NUMBER_OF_COOKIES) {
+                    throw httpHandlerException(format("Request contains more than %d cookies", MAXIMUM_NUMBER_OF_COOKIES));
+                }
+                parseKeyValuePair(header, start, end, cookies);
+            }
+            start = end + 1;
+        }
+    }
+
+    private static void parseKeyValuePair(final String header,
+                                          final int start,
+                                          final int end,
+                                          final Map<CookieName, CookieValue> cookies) {
+        int separator = header.indexOf('=', start);
+        if (separator < 0 || separator > end) {
+            separator = end;
+        }
+        if (separator == start) {
+            return;
         }
-        final String adjustedValue;
-        if(value.startsWith("\"") && value.endsWith("\"")) {
-            adjustedValue = value.substring(1, value.length() - 1);
-        } else {
-            adjustedValue = value;
+        int valueStart = Math.min(separator + 1, end);
+        int valueEnd = end;
+        if (valueEnd - valueStart >= 2 && header.charAt(valueStart) == '"' && header.charAt(valueEnd - 1) == '"') {
+            ++valueStart;
+            --valueEnd;
         }
-        final String key = tokens[0];
-        return new AbstractMap.SimpleEntry<>(CookieName.cookieName(key), CookieValue.cookieValue(adjustedValue));
+        final String key = header.substring(start, separator);
+        final String value = header.substring(valueStart, valueEnd);
+        cookies.put(CookieName.cookieName(key), CookieValue.cookieValue(value));
     }
 
     public Map<String, String> asStringMap() {
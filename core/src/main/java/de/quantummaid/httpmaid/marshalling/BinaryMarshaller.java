@@ -19,24 +19,23 @@
  * under the License.
  */
 
-package de.quantummaid.httpmaid.path.statemachine;
+package de.quantummaid.httpmaid.marshalling;
 
-import lombok.AccessLevel;
-import lombok.EqualsAndHashCode;
-import lombok.RequiredArgsConstructor;
-import lombok.ToString;
+import java.nio.ByteBuffer;
 
-@ToString
-@EqualsAndHashCode
-@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
-public final class State {
-    private final int number;
+@FunctionalInterface
+public interface BinaryMarshaller extends Marshaller {
 
-    static State aState(final int number) {
-        return new State(number);
+    @Override
+    ByteBuffer marshallToBinary(Object map);
+
+    @Override
+    default String marshall(final Object map) {
+        throw new MarshallingException("binary marshallers cannot marshall to strings");
     }
 
-    int number() {
-        return number;
+    @Override
+    default boolean isBinary() {
+        return true;
     }
 }
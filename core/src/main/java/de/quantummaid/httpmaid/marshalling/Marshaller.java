@@ -21,6 +21,33 @@
 
 package de.quantummaid.httpmaid.marshalling;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import static de.quantummaid.httpmaid.util.streams.Streams.writeByteBufferToOutputStream;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 public interface Marshaller {
     String marshall(Object map);
+
+    default ByteBuffer marshallToBinary(final Object map) {
+        return ByteBuffer.wrap(marshall(map).getBytes(UTF_8));
+    }
+
+    default void marshallTo(final Object map, final OutputStream outputStream) throws IOException {
+        if (isBinary()) {
+            writeByteBufferToOutputStream(marshallToBinary(map), outputStream);
+        } else {
+            outputStream.write(marshall(map).getBytes(UTF_8));
+        }
+    }
+
+    default boolean isBinary() {
+        return false;
+    }
+
+    default boolean isStreaming() {
+        return false;
+    }
 }
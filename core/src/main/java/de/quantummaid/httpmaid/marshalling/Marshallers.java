@@ -31,21 +31,23 @@ import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static de.quantummaid.httpmaid.HttpMaidChainKeys.REQUEST_CONTENT_TYPE;
 import static de.quantummaid.httpmaid.HttpMaidChainKeys.RESPONSE_HEADERS;
 import static de.quantummaid.httpmaid.chains.MetaDataKey.metaDataKey;
 import static de.quantummaid.httpmaid.handler.http.HttpRequest.httpRequest;
 import static de.quantummaid.httpmaid.http.Http.Headers.CONTENT_TYPE;
-import static de.quantummaid.httpmaid.http.headers.accept.Accept.fromMetaData;
+import static de.quantummaid.httpmaid.http.headers.accept.Accept.accept;
+import static de.quantummaid.httpmaid.http.headers.accept.Accept.acceptHeaderValues;
 import static de.quantummaid.httpmaid.marshalling.UnsupportedContentTypeException.unsupportedContentTypeException;
 import static java.util.Objects.isNull;
 import static java.util.Optional.empty;
 import static java.util.Optional.ofNullable;
-import static java.util.stream.Collectors.toList;
 
 @ToString
 @EqualsAndHashCode
@@ -53,13 +55,17 @@ import static java.util.stream.Collectors.toList;
 @SuppressWarnings("java:S1845")
 public final class Marshallers {
     public static final MetaDataKey<Marshallers> MARSHALLERS = metaDataKey("MARSHALLERS");
+    private static final int MAXIMUM_NUMBER_OF_CACHED_NEGOTIATIONS = 256;
 
     private final Map<ContentType, Marshaller> marshallersMap;
     private final DefaultContentTypeProvider defaultContentTypeProvider;
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final Map<List<String>, List<ContentType>> negotiations;
 
     public static Marshallers marshallers(final Map<ContentType, Marshaller> marshallers,
                                           final DefaultContentTypeProvider defaultContentTypeProvider) {
-        return new Marshallers(marshallers, defaultContentTypeProvider);
+        return new Marshallers(marshallers, defaultContentTypeProvider, new ConcurrentHashMap<>());
     }
 
     public boolean isEmpty() {
@@ -84,14 +90,14 @@ public final class Marshallers {
         if (responseContentType.isPresent()) {
             return responseContentType.get();
         }
-        final Accept accept = fromMetaData(metaData);
-        final List<ContentType> candidates = marshallersMap.keySet().stream()
-                .filter(accept::contentTypeIsAccepted)
-                .collect(toList());
+        final List<ContentType> candidates = mostAcceptedContentTypes(metaData);
         if (candidates.isEmpty()) {
             return defaultResponseContentType(metaData)
                     .orElseThrow(() -> ResponseContentTypeCouldNotBeDeterminedException.responseContentTypeCouldNotBeDeterminedException(metaData));
         }
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
         final Optional<ContentType> requestContentType = metaData.getOptional(REQUEST_CONTENT_TYPE)
                 .filter(candidates::contains);
         if (requestContentType.isPresent()) {
@@ -105,6 +111,36 @@ public final class Marshallers {
         return candidates.get(0);
     }
 
+    private List<ContentType> mostAcceptedContentTypes(final MetaData metaData) {
+        final List<String> acceptHeaderValues = acceptHeaderValues(metaData);
+        final List<ContentType> cached = negotiations.get(acceptHeaderValues);
+        if (cached != null) {
+            return cached;
+        }
+        final List<ContentType> negotiated = negotiate(accept(acceptHeaderValues));
+        if (negotiations.size() < MAXIMUM_NUMBER_OF_CACHED_NEGOTIATIONS) {
+            negotiations.put(acceptHeaderValues, negotiated);
+        }
+        return negotiated;
+    }
+
+    private List<ContentType> negotiate(final Accept accept) {
+        final List<ContentType> candidates = new ArrayList<>();
+        double highestQuality = 0;
+        for (final ContentType contentType : marshallersMap.keySet()) {
+            final double quality = accept.quality(contentType);
+            if (quality <= 0 || quality < highestQuality) {
+                continue;
+            }
+            if (quality > highestQuality) {
+                highestQuality = quality;
+                candidates.clear();
+            }
+            candidates.add(contentType);
+        }
+        return List.copyOf(candidates);
+    }
+
     private Optional<ContentType> defaultResponseContentType(final MetaData metaData) {
         if (marshallersMap.isEmpty()) {
             return empty();
@@ -42,6 +42,18 @@ public final class MarshallingConfigurators {
         };
     }
 
+    public static MarshallingModuleConfigurator toMarshallBinaryContentType(final ContentType contentType,
+                                                                            final BinaryUnmarshaller unmarshaller,
+                                                                            final BinaryMarshaller marshaller) {
+        return toMarshallContentType(contentType, unmarshaller, marshaller);
+    }
+
+    public static MarshallingModuleConfigurator toMarshallContentTypeUsingStreams(final ContentType contentType,
+                                                                                  final StreamingUnmarshaller unmarshaller,
+                                                                                  final StreamingMarshaller marshaller) {
+        return toMarshallContentType(contentType, unmarshaller, marshaller);
+    }
+
     public static MarshallingModuleConfigurator toUnmarshallContentTypeInRequests(final ContentType contentType,
                                                                                   final Unmarshaller unmarshaller) {
         validateNotNull(contentType, "contentType"); // NOSONAR
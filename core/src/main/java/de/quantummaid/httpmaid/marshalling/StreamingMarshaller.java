@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.marshalling;
+
+import de.quantummaid.httpmaid.util.streams.ByteBufferOutputStream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import static de.quantummaid.httpmaid.marshalling.MarshallingException.marshallingException;
+import static de.quantummaid.httpmaid.util.streams.ByteBufferOutputStream.byteBufferOutputStream;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@FunctionalInterface
+public interface StreamingMarshaller extends Marshaller {
+
+    @Override
+    void marshallTo(Object map, OutputStream outputStream) throws IOException;
+
+    @Override
+    default String marshall(final Object map) {
+        return UTF_8.decode(marshallToBinary(map)).toString();
+    }
+
+    @Override
+    default ByteBuffer marshallToBinary(final Object map) {
+        final ByteBufferOutputStream outputStream = byteBufferOutputStream();
+        try {
+            marshallTo(map, outputStream);
+        } catch (final IOException e) {
+            throw marshallingException(e);
+        }
+        return outputStream.asByteBuffer();
+    }
+
+    @Override
+    default boolean isStreaming() {
+        return true;
+    }
+}
@@ -21,6 +21,32 @@
 
 package de.quantummaid.httpmaid.marshalling;
 
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import static de.quantummaid.httpmaid.util.streams.Streams.inputStreamToByteBuffer;
+import static de.quantummaid.httpmaid.util.streams.Streams.inputStreamToString;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 public interface Unmarshaller {
     Object unmarshall(String string) throws Exception; // NOSONAR
+
+    default Object unmarshallBinary(final ByteBuffer bytes) throws Exception { // NOSONAR
+        return unmarshall(UTF_8.decode(bytes).toString());
+    }
+
+    default Object unmarshallFrom(final InputStream inputStream) throws Exception { // NOSONAR
+        if (isBinary()) {
+            return unmarshallBinary(inputStreamToByteBuffer(inputStream, 0, Long.MAX_VALUE));
+        }
+        return unmarshall(inputStreamToString(inputStream));
+    }
+
+    default boolean isBinary() {
+        return false;
+    }
+
+    default boolean isStreaming() {
+        return false;
+    }
 }
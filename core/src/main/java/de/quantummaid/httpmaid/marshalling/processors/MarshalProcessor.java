@@ -23,23 +23,33 @@ package de.quantummaid.httpmaid.marshalling.processors;
 
 import de.quantummaid.httpmaid.chains.MetaData;
 import de.quantummaid.httpmaid.chains.Processor;
+import de.quantummaid.httpmaid.http.body.ResponseBody;
 import de.quantummaid.httpmaid.http.headers.ContentType;
 import de.quantummaid.httpmaid.marshalling.Marshaller;
 import de.quantummaid.httpmaid.marshalling.Marshallers;
 import de.quantummaid.httpmaid.marshalling.MarshallingException;
+import de.quantummaid.httpmaid.util.streams.ByteBufferOutputStream;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.function.Supplier;
 
 import static de.quantummaid.httpmaid.HttpMaidChainKeys.*;
+import static de.quantummaid.httpmaid.http.body.ResponseBody.byteBufferBody;
+import static de.quantummaid.httpmaid.http.body.ResponseBody.outputStreamBody;
+import static de.quantummaid.httpmaid.marshalling.MarshallingException.marshallingException;
+import static de.quantummaid.httpmaid.util.streams.ByteBufferOutputStream.byteBufferOutputStream;
 
 @ToString
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class MarshalProcessor implements Processor {
+    private static final int MAXIMUM_BUFFERED_BODY_SIZE = 64 * 1024;
+
     private final Marshallers marshallers;
     private final boolean throwExceptionIfNoMarshallerFound;
 
@@ -55,8 +65,18 @@ public final class MarshalProcessor implements Processor {
                 final ContentType responseContentType = marshallers.determineResponseContentType(metaData);
                 final Marshaller marshaller = marshallers.marshallerFor(responseContentType);
                 metaData.set(RESPONSE_CONTENT_TYPE, responseContentType);
-                final String stringBody = marshaller.marshall(map);
-                metaData.set(RESPONSE_BODY_STRING, stringBody);
+                if (marshaller.isStreaming()) {
+                    metaData.set(RESPONSE_BODY, streamingBody(marshaller, map));
+                    metaData.set(IS_BINARY_RESPONSE_BODY, marshaller.isBinary());
+                } else if (marshaller.isBinary()) {
+                    metaData.set(RESPONSE_BODY, byteBufferBody(marshaller.marshallToBinary(map)));
+                    metaData.set(IS_BINARY_RESPONSE_BODY, true);
+                } else {
+                    final String stringBody = marshaller.marshall(map);
+                    metaData.set(RESPONSE_BODY_STRING, stringBody);
+                    metaData.set(RESPONSE_BODY, null);
+                    metaData.set(IS_BINARY_RESPONSE_BODY, null);
+                }
             });
         } catch (final MarshallingException e) {
             if (metaData.getOptional(EXCEPTION).isEmpty()) {
@@ -65,6 +85,35 @@ public final class MarshalProcessor implements Processor {
         }
     }
 
+    // Small bodies are marshalled here, so failures still reach the exception mappers and the length is known.
+    // Once a body outgrows the buffer, the marshaller is run again when the response is written, straight into it.
+    private static ResponseBody streamingBody(final Marshaller marshaller, final Object map) {
+        final ByteBufferOutputStream outputStream = byteBufferOutputStream(MAXIMUM_BUFFERED_BODY_SIZE);
+        try {
+            marshaller.marshallTo(map, outputStream);
+        } catch (final IOException e) {
+            if (!outputStream.limitExceeded()) {
+                throw marshallingException(e);
+            }
+        } catch (final RuntimeException e) {
+            if (!outputStream.limitExceeded()) {
+                throw e;
+            }
+        }
+        if (outputStream.limitExceeded()) {
+            return outputStreamBody(responseStream -> marshallTo(marshaller, map, responseStream));
+        }
+        return byteBufferBody(outputStream.asByteBuffer());
+    }
+
+    private static void marshallTo(final Marshaller marshaller, final Object map, final OutputStream outputStream) {
+        try {
+            marshaller.marshallTo(map, outputStream);
+        } catch (final IOException e) {
+            throw marshallingException(e);
+        }
+    }
+
     private void failIfConfiguredToDoSo(final Supplier<RuntimeException> exceptionSupplier) {
         if (throwExceptionIfNoMarshallerFound) {
             throw exceptionSupplier.get();
@@ -24,10 +24,12 @@ package de.quantummaid.httpmaid.marshalling.processors;
 import de.quantummaid.httpmaid.chains.MetaData;
 import de.quantummaid.httpmaid.chains.Processor;
 import de.quantummaid.httpmaid.handler.http.HttpRequest;
+import de.quantummaid.httpmaid.http.RequestBodyTooLargeException;
 import de.quantummaid.httpmaid.http.headers.ContentType;
 import de.quantummaid.httpmaid.marshalling.DefaultContentTypeProvider;
 import de.quantummaid.httpmaid.marshalling.Unmarshaller;
 import de.quantummaid.httpmaid.marshalling.Unmarshallers;
+import de.quantummaid.httpmaid.util.streams.StreamLimitExceededException;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
@@ -35,11 +37,14 @@ import lombok.ToString;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.Callable;
+
 import static de.quantummaid.httpmaid.HttpMaidChainKeys.*;
 import static de.quantummaid.httpmaid.handler.http.HttpRequest.httpRequest;
+import static de.quantummaid.httpmaid.http.RequestBodyTooLargeException.requestBodyTooLargeException;
 import static de.quantummaid.httpmaid.marshalling.UnsupportedContentTypeException.unsupportedContentTypeException;
 import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
-import static java.util.Objects.nonNull;
+import static java.util.Objects.isNull;
 
 @ToString
 @EqualsAndHashCode
@@ -66,27 +71,46 @@ public final class UnmarshalProcessor implements Processor {
 
     @Override
     public void apply(final MetaData metaData) {
-        metaData.getOptional(REQUEST_BODY_STRING).ifPresent(body -> {
-            final ContentType contentType = metaData.get(REQUEST_CONTENT_TYPE);
-            final Unmarshaller unmarshaller;
-            if (contentType.isEmpty()) {
-                unmarshaller = defaultUnmarshaller(metaData);
-            } else if (unmarshallersMap.supportsContentType(contentType)) {
-                unmarshaller = unmarshallersMap.byContentType(contentType);
-            } else if (!throwExceptionIfNoMarshallerFound) {
-                unmarshaller = defaultUnmarshaller(metaData);
-            } else {
-                throw unsupportedContentTypeException(contentType, unmarshallersMap.supportedContentTypes());
-            }
-            if (nonNull(unmarshaller)) {
-                try {
-                    final Object unmarshalled = unmarshaller.unmarshall(body);
-                    metaData.set(UNMARSHALLED_REQUEST_BODY, unmarshalled);
-                } catch (final Exception e) {
-                    LOGGER.info("exception during marshalling", e);
-                }
-            }
-        });
+        if (!metaData.contains(REQUEST_BODY_STRING)
+                && !metaData.contains(REQUEST_BODY_STREAM)
+                && !metaData.contains(REQUEST_BODY_BINARY)) {
+            return;
+        }
+        final ContentType contentType = metaData.get(REQUEST_CONTENT_TYPE);
+        final Unmarshaller unmarshaller;
+        if (contentType.isEmpty()) {
+            unmarshaller = defaultUnmarshaller(metaData);
+        } else if (unmarshallersMap.supportsContentType(contentType)) {
+            unmarshaller = unmarshallersMap.byContentType(contentType);
+        } else if (!throwExceptionIfNoMarshallerFound) {
+            unmarshaller = defaultUnmarshaller(metaData);
+        } else {
+            throw unsupportedContentTypeException(contentType, unmarshallersMap.supportedContentTypes());
+        }
+        if (isNull(unmarshaller)) {
+            return;
+        }
+        final HttpRequest request = httpRequest(metaData);
+        if (unmarshaller.isStreaming()) {
+            request.optionalBodyStream().ifPresent(body -> unmarshal(() -> unmarshaller.unmarshallFrom(body), metaData));
+        } else if (unmarshaller.isBinary()) {
+            request.optionalBinaryBody().ifPresent(body -> unmarshal(() -> unmarshaller.unmarshallBinary(body), metaData));
+        } else {
+            request.optionalBodyString().ifPresent(body -> unmarshal(() -> unmarshaller.unmarshall(body), metaData));
+        }
+    }
+
+    private static void unmarshal(final Callable<Object> unmarshalling, final MetaData metaData) {
+        try {
+            final Object unmarshalled = unmarshalling.call();
+            metaData.set(UNMARSHALLED_REQUEST_BODY, unmarshalled);
+        } catch (final StreamLimitExceededException e) {
+            throw requestBodyTooLargeException(metaData.get(MAXIMUM_REQUEST_BODY_SIZE));
+        } catch (final RequestBodyTooLargeException e) {
+            throw e;
+        } catch (final Exception e) {
+            LOGGER.info("exception during marshalling", e);
+        }
     }
 
     private Unmarshaller defaultUnmarshaller(final MetaData metaData) {
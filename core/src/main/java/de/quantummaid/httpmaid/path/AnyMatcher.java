@@ -21,7 +21,6 @@
 
 package de.quantummaid.httpmaid.path;
 
-import de.quantummaid.httpmaid.path.statemachine.StateMachineMatcher;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
@@ -34,13 +33,13 @@ import static java.util.Collections.emptyList;
 
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
-public final class AnyMatcher implements StateMachineMatcher<String> {
+public final class AnyMatcher implements PathElementMatcher {
 
     static boolean isRecursiveWildcard(final String stringSpecification) {
         return "*".equals(stringSpecification);
     }
 
-    static StateMachineMatcher<String> anyMatcher() {
+    static PathElementMatcher anyMatcher() {
         return new AnyMatcher();
     }
 
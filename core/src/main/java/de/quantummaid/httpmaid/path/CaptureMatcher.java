@@ -21,7 +21,6 @@
 
 package de.quantummaid.httpmaid.path;
 
-import de.quantummaid.httpmaid.path.statemachine.StateMachineMatcher;
 import de.quantummaid.httpmaid.util.Validators;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
@@ -39,7 +38,7 @@ import static de.quantummaid.httpmaid.path.PathException.pathException;
 @ToString
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
-final class CaptureMatcher implements StateMachineMatcher<String> {
+final class CaptureMatcher implements PathElementMatcher {
 
     private static final Pattern PATTERN = Pattern.compile("<(.*)>");
     private final String name;
@@ -49,7 +48,7 @@ final class CaptureMatcher implements StateMachineMatcher<String> {
         return matcher.matches();
     }
 
-    static StateMachineMatcher<String> fromStringSpecification(final String stringSpecification) {
+    static PathElementMatcher fromStringSpecification(final String stringSpecification) {
         Validators.validateNotNullNorEmpty(stringSpecification, "stringSpecification");
         final Matcher matcher = PATTERN.matcher(stringSpecification);
         if(!matcher.matches()) {
@@ -68,4 +67,8 @@ final class CaptureMatcher implements StateMachineMatcher<String> {
     public List<String> captures() {
         return List.of(name);
     }
+
+    String name() {
+        return name;
+    }
 }
@@ -19,14 +19,14 @@
  * under the License.
  */
 
-package de.quantummaid.httpmaid.path.statemachine;
+package de.quantummaid.httpmaid.path;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
-public interface StateMachineMatcher<T> {
-    Optional<Map<String, String>> matchAndReturnCaptures(T element);
+interface PathElementMatcher {
+    Optional<Map<String, String>> matchAndReturnCaptures(String element);
 
     List<String> captures();
 }
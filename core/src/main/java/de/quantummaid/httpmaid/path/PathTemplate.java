@@ -21,14 +21,15 @@
 
 package de.quantummaid.httpmaid.path;
 
-import de.quantummaid.httpmaid.path.statemachine.*;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.joining;
@@ -38,38 +39,26 @@ import static java.util.stream.Collectors.toList;
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class PathTemplate {
     private final List<String> elements;
-    private final StateMachine<String> stateMachine;
+    private final List<PathElementMatcher> matchers;
+    @EqualsAndHashCode.Exclude
+    private final PathTemplateMatcher matcher;
     private final List<String> parameters;
 
     public static PathTemplate pathTemplate(final String asString) {
         final List<String> elementsAsStrings = splitIntoElements(asString);
-        final List<StateMachineMatcher<String>> matchers = elementsAsStrings.stream()
+        final List<PathElementMatcher> matchers = elementsAsStrings.stream()
                 .map(PathTemplate::elementFromStringSpecification)
                 .collect(toList());
-
-        final StateMachineBuilder<String> stateMachineBuilder = StateMachineBuilder.stateMachineBuilder();
-        State currentState = stateMachineBuilder.createState();
-        for (final StateMachineMatcher<String> matcher : matchers) {
-            if (matcher instanceof AnyMatcher) {
-                stateMachineBuilder.addTransition(currentState, Transition.transition(matcher, currentState));
-            } else {
-                final State nextState = stateMachineBuilder.createState();
-                stateMachineBuilder.addTransition(currentState, Transition.transition(matcher, nextState));
-                currentState = nextState;
-            }
-        }
-        stateMachineBuilder.markAsFinal(currentState);
-        final StateMachine<String> stateMachine = stateMachineBuilder.build();
-
+        final PathTemplateMatcher matcher = PathTemplateMatcher.compile(matchers);
         final List<String> parameters = matchers.stream()
-                .map(StateMachineMatcher::captures)
+                .map(PathElementMatcher::captures)
                 .flatMap(Collection::stream)
                 .collect(toList());
-        return new PathTemplate(elementsAsStrings, stateMachine, parameters);
+        return new PathTemplate(elementsAsStrings, matchers, matcher, parameters);
     }
 
     public boolean matches(final Path path) {
-        return match(path).isSuccessful();
+        return matcher.matches(path.raw());
     }
 
     public List<String> parameters() {
@@ -77,14 +66,16 @@ public final class PathTemplate {
     }
 
     public Map<String, String> extractPathParameters(final Path path) {
-        return match(path).captures();
+        return matchAndExtractPathParameters(path)
+                .orElseGet(HashMap::new);
+    }
+
+    public Optional<Map<String, String>> matchAndExtractPathParameters(final Path path) {
+        return matcher.matchAndExtract(path.raw());
     }
 
-    private MatchingResult match(final Path path) {
-        final String raw = path.raw();
-        final List<String> elementsAsStrings = splitIntoElements(raw);
-        final ElementPosition<String> inputPosition = ElementPosition.start(elementsAsStrings);
-        return stateMachine.accept(inputPosition);
+    List<PathElementMatcher> matchers() {
+        return matchers;
     }
 
     public String toString() {
@@ -92,7 +83,7 @@ public final class PathTemplate {
                 .collect(joining("/", "/", ""));
     }
 
-    private static StateMachineMatcher<String> elementFromStringSpecification(final String stringSpecification) {
+    private static PathElementMatcher elementFromStringSpecification(final String stringSpecification) {
         if (AnyMatcher.isRecursiveWildcard(stringSpecification)) {
             return AnyMatcher.anyMatcher();
         }
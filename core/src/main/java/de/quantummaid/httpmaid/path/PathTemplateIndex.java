@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.path;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import static de.quantummaid.httpmaid.path.PathTemplateIndexLookup.pathTemplateIndexLookup;
+import static de.quantummaid.httpmaid.path.PathTemplateIndexNode.rootNode;
+import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
+
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PathTemplateIndex<T> {
+    private final PathTemplateIndexNode<T> root;
+    private int size;
+
+    public static <T> PathTemplateIndex<T> pathTemplateIndex() {
+        return new PathTemplateIndex<>(rootNode());
+    }
+
+    public void add(final PathTemplate pathTemplate,
+                    final int order,
+                    final T value) {
+        validateNotNull(pathTemplate, "pathTemplate");
+        validateNotNull(value, "value");
+        root.insert(pathTemplate.matchers(), 0, order, value);
+        size = size + 1;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public Optional<PathTemplateMatch<T>> lookup(final Path path,
+                                                 final Predicate<T> filter) {
+        validateNotNull(path, "path");
+        validateNotNull(filter, "filter");
+        final PathTemplateIndexLookup<T> lookup = pathTemplateIndexLookup(path.raw(), filter);
+        root.collect(lookup, 0);
+        return lookup.result();
+    }
+}
@@ -19,38 +19,32 @@
  * under the License.
  */
 
-package de.quantummaid.httpmaid.path.statemachine;
+package de.quantummaid.httpmaid.path;
 
 import lombok.AccessLevel;
-import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
-import lombok.ToString;
 
-import java.util.List;
-
-@ToString
-@EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
-public final class ElementPosition<T> {
-    private final int index;
-    private final List<T> elements;
-
-    public static <T> ElementPosition<T> start(final List<T> elements) {
-        return new ElementPosition<>(0, elements);
+final class PathTemplateIndexEdge<T> {
+    private final String key;
+    private final PathElementMatcher matcher;
+    private final PathTemplateIndexNode<T> target;
+
+    static <T> PathTemplateIndexEdge<T> pathTemplateIndexEdge(final String key,
+                                                              final PathElementMatcher matcher,
+                                                              final PathTemplateIndexNode<T> target) {
+        return new PathTemplateIndexEdge<>(key, matcher, target);
     }
 
-    public boolean isEnd() {
-        return elements.size() <= index;
+    String key() {
+        return key;
     }
 
-    public ElementPosition<T> next() {
-        return new ElementPosition<>(index + 1, elements);
+    PathElementMatcher matcher() {
+        return matcher;
     }
 
-    public T get() {
-        if (isEnd()) {
-            throw new IndexOutOfBoundsException();
-        }
-        return elements.get(index);
+    PathTemplateIndexNode<T> target() {
+        return target;
     }
 }
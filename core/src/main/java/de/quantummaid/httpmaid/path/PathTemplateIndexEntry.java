@@ -19,26 +19,29 @@
  * under the License.
  */
 
-package de.quantummaid.httpmaid.chains;
+package de.quantummaid.httpmaid.path;
 
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
-import static java.util.UUID.randomUUID;
-
 @ToString
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
-final class RunId {
-    private final String id;
+final class PathTemplateIndexEntry<T> {
+    private final int order;
+    private final T value;
+
+    static <T> PathTemplateIndexEntry<T> pathTemplateIndexEntry(final int order, final T value) {
+        return new PathTemplateIndexEntry<>(order, value);
+    }
 
-    static RunId randomRunId() {
-        return new RunId(randomUUID().toString());
+    int order() {
+        return order;
     }
 
-    String id() {
-        return id;
+    T value() {
+        return value;
     }
 }
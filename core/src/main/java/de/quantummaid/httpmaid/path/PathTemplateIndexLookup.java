@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.path;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import static de.quantummaid.httpmaid.path.PathTemplateMatch.pathTemplateMatch;
+import static java.lang.Integer.MAX_VALUE;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+
+final class PathTemplateIndexLookup<T> {
+    private static final int INITIAL_CAPTURE_CAPACITY = 8;
+
+    private final String[] segments;
+    private final Predicate<T> filter;
+    private String[] captureNames = new String[INITIAL_CAPTURE_CAPACITY];
+    private String[] captureValues = new String[INITIAL_CAPTURE_CAPACITY];
+    private int captureCount;
+    private PathTemplateIndexEntry<T> best;
+    private Map<String, String> bestCaptures;
+
+    private PathTemplateIndexLookup(final String[] segments,
+                                    final Predicate<T> filter) {
+        this.segments = segments;
+        this.filter = filter;
+    }
+
+    static <T> PathTemplateIndexLookup<T> pathTemplateIndexLookup(final String rawPath,
+                                                                  final Predicate<T> filter) {
+        return new PathTemplateIndexLookup<>(splitIntoSegments(rawPath), filter);
+    }
+
+    int bestOrder() {
+        if (best == null) {
+            return MAX_VALUE;
+        }
+        return best.order();
+    }
+
+    boolean isEnd(final int position) {
+        return position >= segments.length;
+    }
+
+    String segment(final int position) {
+        return segments[position];
+    }
+
+    boolean offer(final PathTemplateIndexEntry<T> entry) {
+        if (!filter.test(entry.value())) {
+            return false;
+        }
+        best = entry;
+        bestCaptures = snapshotCaptures();
+        return true;
+    }
+
+    void pushCapture(final String name, final String value) {
+        if (captureCount == captureNames.length) {
+            captureNames = Arrays.copyOf(captureNames, captureCount * 2);
+            captureValues = Arrays.copyOf(captureValues, captureCount * 2);
+        }
+        captureNames[captureCount] = name;
+        captureValues[captureCount] = value;
+        captureCount = captureCount + 1;
+    }
+
+    int pushCaptures(final Map<String, String> captures) {
+        captures.forEach(this::pushCapture);
+        return captures.size();
+    }
+
+    void popCaptures(final int count) {
+        captureCount = captureCount - count;
+    }
+
+    Optional<PathTemplateMatch<T>> result() {
+        if (best == null) {
+            return empty();
+        }
+        return of(pathTemplateMatch(best.value(), best.order(), bestCaptures));
+    }
+
+    private Map<String, String> snapshotCaptures() {
+        final Map<String, String> captures = new HashMap<>(captureCount * 2);
+        for (int i = 0; i < captureCount; ++i) {
+            if (!captures.containsKey(captureNames[i])) {
+                captures.put(captureNames[i], captureValues[i]);
+            }
+        }
+        return captures;
+    }
+
+    private static String[] splitIntoSegments(final String rawPath) {
+        final List<String> segments = new ArrayList<>();
+        int start = 0;
+        while (start <= rawPath.length()) {
+            int end = rawPath.indexOf('/', start);
+            if (end < 0) {
+                end = rawPath.length();
+            }
+            if (end > start) {
+                segments.add(rawPath.substring(start, end));
+            }
+            start = end + 1;
+        }
+        return segments.toArray(String[]::new);
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.path;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static de.quantummaid.httpmaid.path.PathException.pathException;
+import static de.quantummaid.httpmaid.path.PathTemplateIndexEdge.pathTemplateIndexEdge;
+import static de.quantummaid.httpmaid.path.PathTemplateIndexEntry.pathTemplateIndexEntry;
+import static java.lang.Integer.MAX_VALUE;
+import static java.lang.Math.min;
+import static java.util.Comparator.comparingInt;
+
+final class PathTemplateIndexNode<T> {
+    private final boolean loops;
+    private final Map<String, PathTemplateIndexNode<T>> staticChildren = new HashMap<>();
+    private final List<PathTemplateIndexEdge<T>> captureEdges = new ArrayList<>();
+    private final List<PathTemplateIndexEdge<T>> regexEdges = new ArrayList<>();
+    private final List<PathTemplateIndexEntry<T>> entries = new ArrayList<>();
+    private PathTemplateIndexNode<T> anyChild;
+    private int minimumOrder = MAX_VALUE;
+
+    private PathTemplateIndexNode(final boolean loops) {
+        this.loops = loops;
+    }
+
+    static <T> PathTemplateIndexNode<T> rootNode() {
+        return new PathTemplateIndexNode<>(false);
+    }
+
+    void insert(final List<PathElementMatcher> matchers,
+                final int position,
+                final int order,
+                final T value) {
+        minimumOrder = min(minimumOrder, order);
+        if (position == matchers.size()) {
+            entries.add(pathTemplateIndexEntry(order, value));
+            entries.sort(comparingInt(PathTemplateIndexEntry::order));
+            return;
+        }
+        final PathTemplateIndexNode<T> child = childFor(matchers.get(position));
+        child.insert(matchers, position + 1, order, value);
+    }
+
+    void collect(final PathTemplateIndexLookup<T> lookup,
+                 final int position) {
+        if (minimumOrder >= lookup.bestOrder()) {
+            return;
+        }
+        if (lookup.isEnd(position)) {
+            collectEntries(lookup);
+        } else {
+            collectChildren(lookup, position);
+        }
+        if (anyChild != null) {
+            anyChild.collect(lookup, position);
+        }
+        if (loops && !lookup.isEnd(position)) {
+            collect(lookup, position + 1);
+        }
+    }
+
+    private void collectEntries(final PathTemplateIndexLookup<T> lookup) {
+        for (int i = 0; i < entries.size(); ++i) {
+            final PathTemplateIndexEntry<T> entry = entries.get(i);
+            if (entry.order() >= lookup.bestOrder() || lookup.offer(entry)) {
+                return;
+            }
+        }
+    }
+
+    private void collectChildren(final PathTemplateIndexLookup<T> lookup,
+                                 final int position) {
+        final String segment = lookup.segment(position);
+        final PathTemplateIndexNode<T> staticChild = staticChildren.get(segment);
+        if (staticChild != null) {
+            staticChild.collect(lookup, position + 1);
+        }
+        for (int i = 0; i < captureEdges.size(); ++i) {
+            final PathTemplateIndexEdge<T> edge = captureEdges.get(i);
+            lookup.pushCapture(edge.key(), segment);
+            edge.target().collect(lookup, position + 1);
+            lookup.popCaptures(1);
+        }
+        for (int i = 0; i < regexEdges.size(); ++i) {
+            final PathTemplateIndexEdge<T> edge = regexEdges.get(i);
+            final Optional<Map<String, String>> captures = edge.matcher().matchAndReturnCaptures(segment);
+            if (captures.isPresent()) {
+                final int pushed = lookup.pushCaptures(captures.get());
+                edge.target().collect(lookup, position + 1);
+                lookup.popCaptures(pushed);
+            }
+        }
+    }
+
+    private PathTemplateIndexNode<T> childFor(final PathElementMatcher matcher) {
+        if (matcher instanceof AnyMatcher) {
+            if (anyChild == null) {
+                anyChild = new PathTemplateIndexNode<>(true);
+            }
+            return anyChild;
+        }
+        if (matcher instanceof StaticMatcher) {
+            final String value = ((StaticMatcher) matcher).value();
+            return staticChildren.computeIfAbsent(value, key -> new PathTemplateIndexNode<>(false));
+        }
+        if (matcher instanceof CaptureMatcher) {
+            final String name = ((CaptureMatcher) matcher).name();
+            return edgeTarget(captureEdges, name, matcher);
+        }
+        if (matcher instanceof RegexMatcher) {
+            final String pattern = ((RegexMatcher) matcher).pattern();
+            return edgeTarget(regexEdges, pattern, matcher);
+        }
+        throw pathException("Unsupported path template element: " + matcher);
+    }
+
+    private static <T> PathTemplateIndexNode<T> edgeTarget(final List<PathTemplateIndexEdge<T>> edges,
+                                                           final String key,
+                                                           final PathElementMatcher matcher) {
+        for (final PathTemplateIndexEdge<T> edge : edges) {
+            if (edge.key().equals(key)) {
+                return edge.target();
+            }
+        }
+        final PathTemplateIndexNode<T> target = new PathTemplateIndexNode<>(false);
+        edges.add(pathTemplateIndexEdge(key, matcher, target));
+        return target;
+    }
+}
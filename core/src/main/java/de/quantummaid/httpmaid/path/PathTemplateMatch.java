@@ -19,37 +19,38 @@
  * under the License.
  */
 
-package de.quantummaid.httpmaid.path.statemachine;
+package de.quantummaid.httpmaid.path;
 
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
-import java.util.HashMap;
 import java.util.Map;
 
 @ToString
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
-final class SuccessfulTransition {
-    private final State nextState;
+public final class PathTemplateMatch<T> {
+    private final T value;
+    private final int order;
     private final Map<String, String> captures;
 
-    static SuccessfulTransition successfulTransition(final State nextState) {
-        return new SuccessfulTransition(nextState, new HashMap<>());
+    static <T> PathTemplateMatch<T> pathTemplateMatch(final T value,
+                                                      final int order,
+                                                      final Map<String, String> captures) {
+        return new PathTemplateMatch<>(value, order, captures);
     }
 
-    static SuccessfulTransition successfulTransition(final State nextState,
-                                                     final Map<String, String> captures) {
-        return new SuccessfulTransition(nextState, captures);
+    public T value() {
+        return value;
     }
 
-    State nextState() {
-        return nextState;
+    public int order() {
+        return order;
     }
 
-    Map<String, String> captures() {
+    public Map<String, String> captures() {
         return captures;
     }
 }
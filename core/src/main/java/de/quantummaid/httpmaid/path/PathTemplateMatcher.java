@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.path;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static de.quantummaid.httpmaid.path.PathException.pathException;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+
+final class PathTemplateMatcher {
+    private static final int STATIC = 0;
+    private static final int CAPTURE = 1;
+    private static final int REGEX = 2;
+    private static final int ANY = 3;
+    private static final int NOT_CAPTURED = -1;
+    private static final int NO_SUCH_GROUP = -2;
+
+    private final int[] kinds;
+    private final String[] staticValues;
+    private final Pattern[] patterns;
+    private final int[] firstSlots;
+    private final String[] slotNames;
+
+    private PathTemplateMatcher(final int[] kinds,
+                                final String[] staticValues,
+                                final Pattern[] patterns,
+                                final int[] firstSlots,
+                                final String[] slotNames) {
+        this.kinds = kinds;
+        this.staticValues = staticValues;
+        this.patterns = patterns;
+        this.firstSlots = firstSlots;
+        this.slotNames = slotNames;
+    }
+
+    static PathTemplateMatcher compile(final List<PathElementMatcher> matchers) {
+        final int size = matchers.size();
+        final int[] kinds = new int[size];
+        final String[] staticValues = new String[size];
+        final Pattern[] patterns = new Pattern[size];
+        final int[] firstSlots = new int[size];
+        final List<String> slotNames = new ArrayList<>();
+        for (int i = 0; i < size; ++i) {
+            final PathElementMatcher matcher = matchers.get(i);
+            firstSlots[i] = slotNames.size();
+            if (matcher instanceof StaticMatcher) {
+                kinds[i] = STATIC;
+                staticValues[i] = ((StaticMatcher) matcher).value();
+            } else if (matcher instanceof CaptureMatcher) {
+                kinds[i] = CAPTURE;
+                slotNames.add(((CaptureMatcher) matcher).name());
+            } else if (matcher instanceof RegexMatcher) {
+                kinds[i] = REGEX;
+                patterns[i] = ((RegexMatcher) matcher).regex();
+                slotNames.addAll(matcher.captures());
+            } else if (matcher instanceof AnyMatcher) {
+                kinds[i] = ANY;
+            } else {
+                throw pathException("Unsupported path template element: " + matcher);
+            }
+        }
+        return new PathTemplateMatcher(kinds, staticValues, patterns, firstSlots, slotNames.toArray(String[]::new));
+    }
+
+    boolean matches(final String path) {
+        return matchFrom(path, 0, 0, newCaptureBuffer());
+    }
+
+    Optional<Map<String, String>> matchAndExtract(final String path) {
+        final int[] captureBuffer = newCaptureBuffer();
+        if (!matchFrom(path, 0, 0, captureBuffer)) {
+            return empty();
+        }
+        return of(capturesFrom(path, captureBuffer));
+    }
+
+    private int[] newCaptureBuffer() {
+        return new int[slotNames.length * 2];
+    }
+
+    private boolean matchFrom(final String path,
+                              final int element,
+                              final int offset,
+                              final int[] captureBuffer) {
+        final int start = skipSeparators(path, offset);
+        if (element == kinds.length) {
+            return start == path.length();
+        }
+        if (kinds[element] == ANY) {
+            int position = start;
+            while (true) {
+                if (matchFrom(path, element + 1, position, captureBuffer)) {
+                    return true;
+                }
+                if (position == path.length()) {
+                    return false;
+                }
+                position = skipSeparators(path, endOfSegment(path, position));
+            }
+        }
+        if (start == path.length()) {
+            return false;
+        }
+        final int end = endOfSegment(path, start);
+        if (!matchSegment(element, path, start, end, captureBuffer)) {
+            return false;
+        }
+        return matchFrom(path, element + 1, end, captureBuffer);
+    }
+
+    private boolean matchSegment(final int element,
+                                 final String path,
+                                 final int start,
+                                 final int end,
+                                 final int[] captureBuffer) {
+        switch (kinds[element]) {
+            case STATIC:
+                final String value = staticValues[element];
+                return value.length() == end - start && path.regionMatches(start, value, 0, value.length());
+            case CAPTURE:
+                capture(captureBuffer, firstSlots[element], start, end);
+                return true;
+            case REGEX:
+                return matchRegex(element, path, start, end, captureBuffer);
+            default:
+                throw pathException("Unsupported path template element kind: " + kinds[element]);
+        }
+    }
+
+    private boolean matchRegex(final int element,
+                               final String path,
+                               final int start,
+                               final int end,
+                               final int[] captureBuffer) {
+        final Matcher matcher = patterns[element].matcher(path).region(start, end);
+        if (!matcher.matches()) {
+            return false;
+        }
+        final int firstSlot = firstSlots[element];
+        final int lastSlot = element + 1 < kinds.length ? firstSlots[element + 1] : slotNames.length;
+        for (int slot = firstSlot; slot < lastSlot; ++slot) {
+            try {
+                capture(captureBuffer, slot, matcher.start(slotNames[slot]), matcher.end(slotNames[slot]));
+            } catch (final IllegalArgumentException e) {
+                capture(captureBuffer, slot, NO_SUCH_GROUP, NO_SUCH_GROUP);
+            }
+        }
+        return true;
+    }
+
+    private Map<String, String> capturesFrom(final String path, final int[] captureBuffer) {
+        final Map<String, String> captures = new HashMap<>(slotNames.length * 2);
+        for (int slot = 0; slot < slotNames.length; ++slot) {
+            final String name = slotNames[slot];
+            final int start = captureBuffer[slot * 2];
+            if (start == NO_SUCH_GROUP || captures.containsKey(name)) {
+                continue;
+            }
+            if (start == NOT_CAPTURED) {
+                captures.put(name, null);
+            } else {
+                captures.put(name, path.substring(start, captureBuffer[slot * 2 + 1]));
+            }
+        }
+        return captures;
+    }
+
+    private static void capture(final int[] captureBuffer,
+                                final int slot,
+                                final int start,
+                                final int end) {
+        captureBuffer[slot * 2] = start;
+        captureBuffer[slot * 2 + 1] = end;
+    }
+
+    private static int skipSeparators(final String path, final int offset) {
+        int position = offset;
+        while (position < path.length() && path.charAt(position) == '/') {
+            ++position;
+        }
+        return position;
+    }
+
+    private static int endOfSegment(final String path, final int start) {
+        final int end = path.indexOf('/', start);
+        if (end < 0) {
+            return path.length();
+        }
+        return end;
+    }
+}
@@ -21,7 +21,6 @@
 
 package de.quantummaid.httpmaid.path;
 
-import de.quantummaid.httpmaid.path.statemachine.StateMachineMatcher;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
@@ -41,7 +40,7 @@ import static java.util.regex.Pattern.compile;
 @ToString
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
-public final class RegexMatcher implements StateMachineMatcher<String> {
+public final class RegexMatcher implements PathElementMatcher {
     private static final Pattern PATTERN = compile("\\|(.*)\\|");
     private static final Pattern NAMES_PATTERN = compile("\\(\\?<([a-zA-Z][a-zA-Z0-9]*)>");
     private final Pattern regex;
@@ -52,7 +51,7 @@ public final class RegexMatcher implements StateMachineMatcher<String> {
         return matcher.matches();
     }
 
-    static StateMachineMatcher<String> fromStringSpecification(final String stringSpecification) {
+    static PathElementMatcher fromStringSpecification(final String stringSpecification) {
         validateNotNullNorEmpty(stringSpecification, "stringSpecification");
         final Matcher matcher = PATTERN.matcher(stringSpecification);
         if (!matcher.matches()) {
@@ -94,4 +93,12 @@ public final class RegexMatcher implements StateMachineMatcher<String> {
     public List<String> captures() {
         return unmodifiableList(names);
     }
+
+    String pattern() {
+        return regex.pattern();
+    }
+
+    Pattern regex() {
+        return regex;
+    }
 }
@@ -21,7 +21,6 @@
 
 package de.quantummaid.httpmaid.path;
 
-import de.quantummaid.httpmaid.path.statemachine.StateMachineMatcher;
 import de.quantummaid.httpmaid.util.Validators;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
@@ -35,10 +34,10 @@ import static java.util.Collections.emptyList;
 
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
-final class StaticMatcher implements StateMachineMatcher<String> {
+final class StaticMatcher implements PathElementMatcher {
     private final String value;
 
-    static StateMachineMatcher<String> fromStringSpecification(final String stringSpecification) {
+    static PathElementMatcher fromStringSpecification(final String stringSpecification) {
         Validators.validateNotNullNorEmpty(stringSpecification, "stringSpecification");
         return new StaticMatcher(stringSpecification);
     }
@@ -56,6 +55,10 @@ final class StaticMatcher implements StateMachineMatcher<String> {
         return this.value;
     }
 
+    String value() {
+        return value;
+    }
+
     @Override
     public List<String> captures() {
         return emptyList();
@@ -23,29 +23,28 @@ package de.quantummaid.httpmaid.processors;
 
 import de.quantummaid.httpmaid.chains.MetaData;
 import de.quantummaid.httpmaid.chains.Processor;
+import de.quantummaid.httpmaid.handler.http.files.JavaResourceCache;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
-import static de.quantummaid.httpmaid.HttpMaidChainKeys.REQUEST_BODY_STREAM;
-import static de.quantummaid.httpmaid.HttpMaidChainKeys.REQUEST_BODY_STRING;
-import static de.quantummaid.httpmaid.util.streams.Streams.inputStreamToString;
+import static de.quantummaid.httpmaid.handler.http.files.JavaResourceCache.JAVA_RESOURCE_CACHE;
+import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
 
 @ToString
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
-public final class StreamToStringProcessor implements Processor {
+public final class JavaResourceCacheProcessor implements Processor {
+    private final JavaResourceCache javaResourceCache;
 
-    public static Processor streamToStringProcessor() {
-        return new StreamToStringProcessor();
+    public static Processor javaResourceCacheProcessor(final JavaResourceCache javaResourceCache) {
+        validateNotNull(javaResourceCache, "javaResourceCache");
+        return new JavaResourceCacheProcessor(javaResourceCache);
     }
 
     @Override
     public void apply(final MetaData metaData) {
-        metaData.getOptional(REQUEST_BODY_STREAM).ifPresent(inputStream -> {
-            final String bodyString = inputStreamToString(inputStream);
-            metaData.set(REQUEST_BODY_STRING, bodyString);
-        });
+        metaData.set(JAVA_RESOURCE_CACHE, javaResourceCache);
     }
 }
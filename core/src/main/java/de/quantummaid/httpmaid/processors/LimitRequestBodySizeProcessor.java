@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.processors;
+
+import de.quantummaid.httpmaid.chains.MetaData;
+import de.quantummaid.httpmaid.chains.Processor;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import static de.quantummaid.httpmaid.HttpMaidChainKeys.MAXIMUM_REQUEST_BODY_SIZE;
+import static de.quantummaid.httpmaid.HttpMaidChainKeys.REQUEST_HEADERS;
+import static de.quantummaid.httpmaid.http.Http.Headers.CONTENT_LENGTH;
+import static de.quantummaid.httpmaid.http.RequestBodyTooLargeException.requestBodyTooLargeException;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LimitRequestBodySizeProcessor implements Processor {
+    private final long maximumSize;
+
+    public static Processor limitRequestBodySizeProcessor(final long maximumSize) {
+        return new LimitRequestBodySizeProcessor(maximumSize);
+    }
+
+    @Override
+    public void apply(final MetaData metaData) {
+        metaData.set(MAXIMUM_REQUEST_BODY_SIZE, maximumSize);
+        metaData.getOptional(REQUEST_HEADERS)
+                .flatMap(headers -> headers.optionalHeader(CONTENT_LENGTH))
+                .filter(this::exceedsMaximumSize)
+                .ifPresent(contentLength -> {
+                    throw requestBodyTooLargeException(maximumSize);
+                });
+    }
+
+    private boolean exceedsMaximumSize(final String contentLength) {
+        try {
+            return Long.parseLong(contentLength.trim()) > maximumSize;
+        } catch (final NumberFormatException e) {
+            return false;
+        }
+    }
+}
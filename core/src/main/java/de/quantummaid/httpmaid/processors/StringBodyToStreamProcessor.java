@@ -25,12 +25,17 @@ import de.quantummaid.httpmaid.HttpMaidChainKeys;
 import de.quantummaid.httpmaid.chains.MetaData;
 import de.quantummaid.httpmaid.chains.Processor;
 import de.quantummaid.httpmaid.http.Http;
-import de.quantummaid.httpmaid.util.streams.Streams;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.io.InputStream;
+
+import static de.quantummaid.httpmaid.http.body.ResponseBody.streamBody;
+import static de.quantummaid.httpmaid.http.body.ResponseBody.stringBody;
+import static java.util.Objects.nonNull;
+
 @ToString
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
@@ -45,9 +50,15 @@ public final class StringBodyToStreamProcessor implements Processor {
         metaData.getOptional(HttpMaidChainKeys.RESPONSE_CONTENT_TYPE)
                 .ifPresent(contentType -> metaData.getOptional(HttpMaidChainKeys.RESPONSE_HEADERS)
                         .ifPresent(headers -> headers.addHeader(Http.Headers.CONTENT_TYPE, contentType.internalValueForMapping())));
-        if (!metaData.contains(HttpMaidChainKeys.RESPONSE_STREAM)) {
-            metaData.getOptional(HttpMaidChainKeys.RESPONSE_BODY_STRING).ifPresent(stringResponse ->
-                    metaData.set(HttpMaidChainKeys.RESPONSE_STREAM, Streams.stringToInputStream(stringResponse)));
+        if (metaData.contains(HttpMaidChainKeys.RESPONSE_BODY)) {
+            return;
+        }
+        final InputStream responseStream = metaData.getOrNull(HttpMaidChainKeys.RESPONSE_STREAM);
+        if (nonNull(responseStream)) {
+            metaData.set(HttpMaidChainKeys.RESPONSE_BODY, streamBody(responseStream));
+            return;
         }
+        metaData.getOptional(HttpMaidChainKeys.RESPONSE_BODY_STRING).ifPresent(stringResponse ->
+                metaData.set(HttpMaidChainKeys.RESPONSE_BODY, stringBody(stringResponse)));
     }
 }
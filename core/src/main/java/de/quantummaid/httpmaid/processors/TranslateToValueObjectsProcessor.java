@@ -24,6 +24,7 @@ package de.quantummaid.httpmaid.processors;
 import de.quantummaid.httpmaid.chains.MetaData;
 import de.quantummaid.httpmaid.chains.Processor;
 import de.quantummaid.httpmaid.http.HttpRequestMethod;
+import de.quantummaid.httpmaid.http.QueryParameters;
 import de.quantummaid.httpmaid.http.headers.ContentType;
 import de.quantummaid.httpmaid.path.Path;
 import lombok.AccessLevel;
@@ -57,5 +58,6 @@ public final class TranslateToValueObjectsProcessor implements Processor {
         );
         metaData.getOptional(RAW_METHOD).ifPresent(rawMethod -> metaData.set(METHOD, HttpRequestMethod.parse(rawMethod)));
         metaData.getOptional(RAW_PATH).ifPresent(rawPath -> metaData.set(PATH, Path.path(rawPath)));
+        metaData.getOptional(QUERY_PARAMETERS).ifPresent(QueryParameters::enforceParameterLimit);
     }
 }
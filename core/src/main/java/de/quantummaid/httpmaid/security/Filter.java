@@ -22,12 +22,12 @@
 package de.quantummaid.httpmaid.security;
 
 import de.quantummaid.httpmaid.handler.http.HttpRequest;
-import de.quantummaid.httpmaid.path.Path;
 import de.quantummaid.httpmaid.path.PathTemplate;
 
 import java.util.Arrays;
 import java.util.List;
 
+import static de.quantummaid.httpmaid.security.PathFilter.pathFilter;
 import static java.util.stream.Collectors.toList;
 
 public interface Filter {
@@ -36,12 +36,12 @@ public interface Filter {
         final List<PathTemplate> pathTemplates = Arrays.stream(paths)
                 .map(PathTemplate::pathTemplate)
                 .collect(toList());
-        return request -> {
-            final Path path = request.path();
-            return pathTemplates.stream()
-                    .anyMatch(pathTemplate -> pathTemplate.matches(path));
-        };
+        return pathFilter(pathTemplates);
     }
 
     boolean filter(HttpRequest request);
+
+    default Filter negate() {
+        return request -> !filter(request);
+    }
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.security;
+
+import de.quantummaid.httpmaid.handler.http.HttpRequest;
+import de.quantummaid.httpmaid.path.Path;
+import de.quantummaid.httpmaid.path.PathTemplate;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
+
+/**
+ * A {@link Filter} that only depends on the request path and can therefore be
+ * evaluated once per path instead of once per request.
+ */
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class PathFilter implements Filter {
+    private final List<PathTemplate> pathTemplates;
+    private final boolean negated;
+
+    static PathFilter pathFilter(final List<PathTemplate> pathTemplates) {
+        validateNotNull(pathTemplates, "pathTemplates");
+        return new PathFilter(List.copyOf(pathTemplates), false);
+    }
+
+    List<PathTemplate> pathTemplates() {
+        return pathTemplates;
+    }
+
+    boolean filter(final Path path) {
+        return filter(pathTemplate -> pathTemplate.matches(path));
+    }
+
+    boolean filter(final Predicate<PathTemplate> matchingTemplates) {
+        for (final PathTemplate pathTemplate : pathTemplates) {
+            if (matchingTemplates.test(pathTemplate)) {
+                return !negated;
+            }
+        }
+        return negated;
+    }
+
+    @Override
+    public boolean filter(final HttpRequest request) {
+        return filter(request.path());
+    }
+
+    @Override
+    public Filter negate() {
+        return new PathFilter(pathTemplates, !negated);
+    }
+}
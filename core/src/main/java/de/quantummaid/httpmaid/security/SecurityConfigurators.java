@@ -24,15 +24,21 @@ package de.quantummaid.httpmaid.security;
 import de.quantummaid.httpmaid.handler.http.HttpRequest;
 import de.quantummaid.httpmaid.security.authentication.Authenticator;
 import de.quantummaid.httpmaid.security.authentication.AuthenticatorConfigurator;
+import de.quantummaid.httpmaid.security.authentication.CachingAuthenticator;
 import de.quantummaid.httpmaid.security.authorization.AuthorizerConfigurator;
 import de.quantummaid.httpmaid.security.authorization.HttpAuthorizer;
 import de.quantummaid.httpmaid.security.basicauth.BasicAuthAuthenticator;
 import de.quantummaid.httpmaid.security.basicauth.BasicAuthConfigurator;
 import de.quantummaid.httpmaid.security.filtering.FilterConfigurator;
 
+import java.time.Duration;
+
 import static de.quantummaid.httpmaid.handler.http.HttpRequest.httpRequest;
+import static de.quantummaid.httpmaid.http.Http.Headers.AUTHORIZATION;
 import static de.quantummaid.httpmaid.security.authentication.AuthenticatorConfigurator.authenticatorConfigurator;
+import static de.quantummaid.httpmaid.security.authentication.CachingAuthenticator.cachingAuthenticator;
 import static de.quantummaid.httpmaid.security.authorization.AuthorizerConfigurator.authorizerConfigurator;
+import static de.quantummaid.httpmaid.security.basicauth.BasicAuthAuthentication.basicAuthAuthentication;
 import static de.quantummaid.httpmaid.security.filtering.FilterConfigurator.filterConfigurator;
 import static de.quantummaid.httpmaid.security.oauth2.OAuth2Authenticator.oAuth2Authenticator;
 import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
@@ -47,6 +53,27 @@ public final class SecurityConfigurators {
         return BasicAuthConfigurator.basicAuthenticationConfigurator(authenticator);
     }
 
+    public static BasicAuthConfigurator toDoBasicAuthWith(final Authenticator<HttpRequest> authenticator) {
+        return BasicAuthConfigurator.basicAuthenticationConfigurator(authenticator);
+    }
+
+    public static CachingAuthenticator<HttpRequest> cachingBasicAuthResultsOf(final BasicAuthAuthenticator authenticator,
+                                                                              final Duration timeToLive,
+                                                                              final int maximumNumberOfEntries) {
+        return cachingAuthenticator(
+                basicAuthAuthentication(authenticator),
+                request -> request.headers().optionalHeader(AUTHORIZATION),
+                timeToLive,
+                maximumNumberOfEntries
+        );
+    }
+
+    public static CachingAuthenticator<String> cachingAuthenticationResultsOf(final Authenticator<String> authenticator,
+                                                                              final Duration timeToLive,
+                                                                              final int maximumNumberOfEntries) {
+        return cachingAuthenticator(authenticator, timeToLive, maximumNumberOfEntries);
+    }
+
     public static AuthenticatorConfigurator toAuthenticateRequestsUsing(final Authenticator<HttpRequest> authenticator) {
         return authenticatorConfigurator(metaData -> {
             final HttpRequest request = httpRequest(metaData);
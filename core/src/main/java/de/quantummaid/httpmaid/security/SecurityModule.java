@@ -30,8 +30,12 @@ import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+
+import static de.quantummaid.httpmaid.security.SecurityPhaseProcessor.securityPhaseProcessor;
 
 @ToString
 @EqualsAndHashCode
@@ -50,9 +54,12 @@ public final class SecurityModule implements ChainModule {
 
     @Override
     public void register(final ChainExtender extender) {
+        final Map<ChainName, List<SecurityProcessor>> processorsByChain = new LinkedHashMap<>();
         securityProcessors.forEach(securityProcessor -> {
             final ChainName chainName = securityProcessor.chainName();
-            extender.appendProcessor(chainName, securityProcessor);
+            processorsByChain.computeIfAbsent(chainName, name -> new LinkedList<>()).add(securityProcessor);
         });
+        processorsByChain.forEach((chainName, processors) ->
+                extender.appendProcessor(chainName, securityPhaseProcessor(processors)));
     }
 }
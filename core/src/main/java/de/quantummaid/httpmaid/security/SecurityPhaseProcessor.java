@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.security;
+
+import de.quantummaid.httpmaid.chains.MetaData;
+import de.quantummaid.httpmaid.chains.Processor;
+import de.quantummaid.httpmaid.handler.http.HttpRequest;
+import de.quantummaid.httpmaid.path.Path;
+import de.quantummaid.httpmaid.path.PathTemplate;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import static de.quantummaid.httpmaid.handler.http.HttpRequest.httpRequest;
+import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
+
+/**
+ * Runs all {@link SecurityProcessor}s of one chain. Which of them apply only depends on which
+ * path templates of their path filters match the request path. The processors are therefore
+ * resolved once per combination of matching templates: {@code /users/1} and {@code /users/2}
+ * share one entry, and requests to public paths skip security entirely.
+ */
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class SecurityPhaseProcessor implements Processor {
+    private static final int MAX_CACHED_SIGNATURES = 1024;
+    private static final SecurityProcessor[] NONE = new SecurityProcessor[0];
+
+    private final SecurityProcessor[] securityProcessors;
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final PathTemplate[] pathTemplates;
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final Map<PathTemplate, Integer> templateIndices;
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final Map<BitSet, SecurityProcessor[]> applicableProcessorsBySignature = new ConcurrentHashMap<>();
+
+    static SecurityPhaseProcessor securityPhaseProcessor(final List<SecurityProcessor> securityProcessors) {
+        validateNotNull(securityProcessors, "securityProcessors");
+        final Map<PathTemplate, Integer> templateIndices = new LinkedHashMap<>();
+        securityProcessors.forEach(securityProcessor -> securityProcessor.pathTemplates()
+                .forEach(pathTemplate -> templateIndices.putIfAbsent(pathTemplate, templateIndices.size())));
+        final PathTemplate[] pathTemplates = templateIndices.keySet().toArray(PathTemplate[]::new);
+        return new SecurityPhaseProcessor(securityProcessors.toArray(NONE), pathTemplates, templateIndices);
+    }
+
+    @Override
+    public void apply(final MetaData metaData) {
+        final HttpRequest request = httpRequest(metaData);
+        final SecurityProcessor[] applicableProcessors = applicableProcessors(request.path());
+        for (final SecurityProcessor securityProcessor : applicableProcessors) {
+            securityProcessor.apply(metaData, request);
+        }
+    }
+
+    int numberOfCachedSignatures() {
+        return applicableProcessorsBySignature.size();
+    }
+
+    private SecurityProcessor[] applicableProcessors(final Path path) {
+        final BitSet signature = signatureOf(path);
+        final SecurityProcessor[] cached = applicableProcessorsBySignature.get(signature);
+        if (cached != null) {
+            return cached;
+        }
+        final SecurityProcessor[] applicableProcessors = computeApplicableProcessors(signature);
+        if (applicableProcessorsBySignature.size() < MAX_CACHED_SIGNATURES) {
+            applicableProcessorsBySignature.put(signature, applicableProcessors);
+        }
+        return applicableProcessors;
+    }
+
+    private BitSet signatureOf(final Path path) {
+        final BitSet signature = new BitSet(pathTemplates.length);
+        for (int i = 0; i < pathTemplates.length; ++i) {
+            if (pathTemplates[i].matches(path)) {
+                signature.set(i);
+            }
+        }
+        return signature;
+    }
+
+    private SecurityProcessor[] computeApplicableProcessors(final BitSet signature) {
+        final Predicate<PathTemplate> matchingTemplates = pathTemplate -> signature.get(templateIndices.get(pathTemplate));
+        int count = 0;
+        final SecurityProcessor[] applicableProcessors = new SecurityProcessor[securityProcessors.length];
+        for (final SecurityProcessor securityProcessor : securityProcessors) {
+            if (securityProcessor.appliesTo(matchingTemplates)) {
+                applicableProcessors[count] = securityProcessor;
+                count = count + 1;
+            }
+        }
+        if (count == 0) {
+            return NONE;
+        }
+        return Arrays.copyOf(applicableProcessors, count);
+    }
+}
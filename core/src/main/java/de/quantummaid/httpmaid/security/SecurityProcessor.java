@@ -25,12 +25,16 @@ import de.quantummaid.httpmaid.chains.ChainName;
 import de.quantummaid.httpmaid.chains.MetaData;
 import de.quantummaid.httpmaid.chains.Processor;
 import de.quantummaid.httpmaid.handler.http.HttpRequest;
+import de.quantummaid.httpmaid.path.Path;
+import de.quantummaid.httpmaid.path.PathTemplate;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 
 import static de.quantummaid.httpmaid.handler.http.HttpRequest.httpRequest;
 import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
@@ -41,7 +45,8 @@ import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
 public final class SecurityProcessor implements Processor {
     private final Processor processor;
     private final ChainName chainName;
-    private final List<Filter> filters;
+    private final List<PathFilter> pathFilters;
+    private final List<Filter> requestFilters;
 
     public static SecurityProcessor securityProcessor(final Processor processor,
                                                       final ChainName chainName,
@@ -49,21 +54,55 @@ public final class SecurityProcessor implements Processor {
         validateNotNull(processor, "processor");
         validateNotNull(chainName, "chainName");
         validateNotNull(filters, "filters");
-        return new SecurityProcessor(processor, chainName, filters);
+        final List<PathFilter> pathFilters = new ArrayList<>();
+        final List<Filter> requestFilters = new ArrayList<>();
+        filters.forEach(filter -> {
+            if (filter instanceof PathFilter) {
+                pathFilters.add((PathFilter) filter);
+            } else {
+                requestFilters.add(filter);
+            }
+        });
+        return new SecurityProcessor(processor, chainName, List.copyOf(pathFilters), List.copyOf(requestFilters));
     }
 
     ChainName chainName() {
         return chainName;
     }
 
-    @Override
-    public void apply(final MetaData metaData) {
-        final HttpRequest request = httpRequest(metaData);
-        for(final Filter filter : filters) {
-            if(!filter.filter(request)) {
+    List<PathTemplate> pathTemplates() {
+        final List<PathTemplate> pathTemplates = new ArrayList<>();
+        pathFilters.forEach(pathFilter -> pathTemplates.addAll(pathFilter.pathTemplates()));
+        return pathTemplates;
+    }
+
+    boolean appliesTo(final Path path) {
+        return appliesTo(pathTemplate -> pathTemplate.matches(path));
+    }
+
+    boolean appliesTo(final Predicate<PathTemplate> matchingTemplates) {
+        for (final PathFilter pathFilter : pathFilters) {
+            if (!pathFilter.filter(matchingTemplates)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void apply(final MetaData metaData, final HttpRequest request) {
+        for (final Filter filter : requestFilters) {
+            if (!filter.filter(request)) {
                 return;
             }
         }
         processor.apply(metaData);
     }
+
+    @Override
+    public void apply(final MetaData metaData) {
+        final HttpRequest request = httpRequest(metaData);
+        if (appliesTo(request.path())) {
+            apply(metaData, request);
+        }
+    }
 }
@@ -86,7 +86,7 @@ public final class AuthenticatorConfigurator implements SecurityConfigurator<Aut
 
     public AuthenticatorConfigurator failingOnMissingAuthenticationOnlyForRequestsThat(final Filter filter) {
         validateNotNull(filter, "filter");
-        return notFailingOnMissingAuthenticationForRequestsThat(request -> !filter.filter(request));
+        return notFailingOnMissingAuthenticationForRequestsThat(filter.negate());
     }
 
     public AuthenticatorConfigurator failingOnMissingAuthenticationOnlyForRequestsTo(final String... paths) {
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.security.authentication;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
+
+/**
+ * Remembers successful authentications for a limited time so that repeated requests carrying the same
+ * credentials skip the wrapped {@link Authenticator}. Credentials are only kept as salted SHA-256 hashes.
+ * Failed authentications are never cached.
+ */
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CachingAuthenticator<T> implements Authenticator<T> {
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+    private static final int ENTRIES_CHECKED_PER_INSERT = 8;
+
+    private final Authenticator<T> delegate;
+    private final Function<T, Optional<String>> credentialsExtractor;
+    private final long timeToLiveInNanos;
+    private final int maximumNumberOfEntries;
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final byte[] salt;
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final Map<String, CachedAuthentication> entries = new ConcurrentHashMap<>();
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final Queue<Map.Entry<String, CachedAuthentication>> evictionQueue = new ConcurrentLinkedQueue<>();
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final AtomicLong hits = new AtomicLong();
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final AtomicLong misses = new AtomicLong();
+
+    public static CachingAuthenticator<String> cachingAuthenticator(final Authenticator<String> delegate,
+                                                                    final Duration timeToLive,
+                                                                    final int maximumNumberOfEntries) {
+        return cachingAuthenticator(delegate, Optional::ofNullable, timeToLive, maximumNumberOfEntries);
+    }
+
+    public static <T> CachingAuthenticator<T> cachingAuthenticator(final Authenticator<T> delegate,
+                                                                   final Function<T, Optional<String>> credentialsExtractor,
+                                                                   final Duration timeToLive,
+                                                                   final int maximumNumberOfEntries) {
+        validateNotNull(delegate, "delegate");
+        validateNotNull(credentialsExtractor, "credentialsExtractor");
+        validateNotNull(timeToLive, "timeToLive");
+        if (timeToLive.isNegative() || timeToLive.isZero()) {
+            throw new IllegalArgumentException("timeToLive must be positive");
+        }
+        if (maximumNumberOfEntries <= 0) {
+            throw new IllegalArgumentException("maximumNumberOfEntries must be positive");
+        }
+        final byte[] salt = new byte[16];
+        SECURE_RANDOM.nextBytes(salt);
+        return new CachingAuthenticator<>(delegate, credentialsExtractor, timeToLive.toNanos(), maximumNumberOfEntries, salt);
+    }
+
+    @Override
+    public Optional<?> authenticate(final T challenge) {
+        final Optional<String> credentials = credentialsExtractor.apply(challenge);
+        if (credentials.isEmpty()) {
+            return delegate.authenticate(challenge);
+        }
+        final String key = hash(credentials.get());
+        final long now = System.nanoTime();
+        final CachedAuthentication cached = entries.get(key);
+        if (cached != null && cached.isValidAt(now)) {
+            hits.incrementAndGet();
+            return cached.authenticationInformation;
+        }
+        misses.incrementAndGet();
+        final Optional<?> authenticationInformation = delegate.authenticate(challenge);
+        if (authenticationInformation.isPresent()) {
+            store(key, new CachedAuthentication(authenticationInformation, now + timeToLiveInNanos), now);
+        } else if (cached != null) {
+            entries.remove(key, cached);
+        }
+        return authenticationInformation;
+    }
+
+    public void invalidate(final String credentials) {
+        validateNotNull(credentials, "credentials");
+        entries.remove(hash(credentials));
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+        evictionQueue.clear();
+    }
+
+    public long hits() {
+        return hits.get();
+    }
+
+    public long misses() {
+        return misses.get();
+    }
+
+    private void store(final String key, final CachedAuthentication authentication, final long now) {
+        removeExpiredEntries(now);
+        if (entries.size() >= maximumNumberOfEntries && !entries.containsKey(key)) {
+            return;
+        }
+        entries.put(key, authentication);
+        evictionQueue.add(Map.entry(key, authentication));
+    }
+
+    private void removeExpiredEntries(final long now) {
+        for (int i = 0; i < ENTRIES_CHECKED_PER_INSERT; ++i) {
+            final Map.Entry<String, CachedAuthentication> candidate = evictionQueue.poll();
+            if (candidate == null) {
+                return;
+            }
+            final String key = candidate.getKey();
+            final CachedAuthentication authentication = candidate.getValue();
+            if (entries.get(key) != authentication) {
+                continue;
+            }
+            if (!authentication.isValidAt(now)) {
+                entries.remove(key, authentication);
+                continue;
+            }
+            evictionQueue.add(candidate);
+        }
+    }
+
+    private String hash(final String credentials) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(salt);
+            final byte[] hash = digest.digest(credentials.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class CachedAuthentication {
+        private final Optional<?> authenticationInformation;
+        private final long expiresAt;
+
+        boolean isValidAt(final long now) {
+            return now - expiresAt < 0;
+        }
+    }
+}
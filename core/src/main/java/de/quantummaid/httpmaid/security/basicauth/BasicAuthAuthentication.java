@@ -30,21 +30,16 @@ import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import static de.quantummaid.httpmaid.http.Http.Headers.AUTHORIZATION;
 import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
-import static java.util.regex.Pattern.compile;
 
 @ToString
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class BasicAuthAuthentication implements Authenticator<HttpRequest> {
-    private static final Pattern PATTERN = compile("(?<username>[^:]++):(?<password>.*+)");
-
     private final BasicAuthAuthenticator authenticator;
 
     public static BasicAuthAuthentication basicAuthAuthentication(final BasicAuthAuthenticator authenticator) {
@@ -59,11 +54,13 @@ public final class BasicAuthAuthentication implements Authenticator<HttpRequest>
                 .filter(authorizationHeader -> authorizationHeader.type().equals("Basic"))
                 .map(AuthorizationHeader::credentials)
                 .map(Base64Decoder::decodeBase64)
-                .map(PATTERN::matcher)
-                .filter(Matcher::matches)
-                .flatMap(matcher -> {
-                    final String username = matcher.group("username");
-                    final String password = matcher.group("password");
+                .flatMap(usernameAndPassword -> {
+                    final int separator = usernameAndPassword.indexOf(':');
+                    if (separator <= 0) {
+                        return empty();
+                    }
+                    final String username = usernameAndPassword.substring(0, separator);
+                    final String password = usernameAndPassword.substring(separator + 1);
                     if (authenticator.isAuthenticated(username, password)) {
                         return of(username);
                     } else {
@@ -25,6 +25,7 @@ import de.quantummaid.httpmaid.chains.ChainName;
 import de.quantummaid.httpmaid.chains.DependencyRegistry;
 import de.quantummaid.httpmaid.handler.http.HttpRequest;
 import de.quantummaid.httpmaid.security.Filter;
+import de.quantummaid.httpmaid.security.authentication.Authenticator;
 import de.quantummaid.httpmaid.security.authentication.AuthenticatorConfigurator;
 import de.quantummaid.httpmaid.security.config.SecurityConfigurator;
 import lombok.AccessLevel;
@@ -49,7 +50,11 @@ public final class BasicAuthConfigurator implements SecurityConfigurator<BasicAu
     private volatile String realm;
 
     public static BasicAuthConfigurator basicAuthenticationConfigurator(final BasicAuthAuthenticator authenticator) {
-        final BasicAuthAuthentication basicAuthAuthentication = basicAuthAuthentication(authenticator);
+        return basicAuthenticationConfigurator(basicAuthAuthentication(authenticator));
+    }
+
+    public static BasicAuthConfigurator basicAuthenticationConfigurator(final Authenticator<HttpRequest> basicAuthAuthentication) {
+        validateNotNull(basicAuthAuthentication, "basicAuthAuthentication");
         final AuthenticatorConfigurator authenticatorConfigurator = authenticatorConfigurator(metaData -> {
             final HttpRequest request = httpRequest(metaData);
             return basicAuthAuthentication.authenticate(request);
@@ -33,7 +33,7 @@ public interface FilterConfigurator<T extends FilterConfigurator> {
     }
 
     default T exceptRequestsThat(final Filter filter) {
-        return onlyRequestsThat(request -> !filter.filter(request));
+        return onlyRequestsThat(filter.negate());
     }
 
     default T exceptRequestsTo(final String... paths) {
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.util.streams;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+import static de.quantummaid.httpmaid.util.streams.StreamLimitExceededException.streamLimitExceededException;
+
+public final class ByteBufferOutputStream extends ByteArrayOutputStream {
+    private final int maximumSize;
+    private boolean limitExceeded;
+
+    private ByteBufferOutputStream(final int maximumSize) {
+        super();
+        this.maximumSize = maximumSize;
+    }
+
+    public static ByteBufferOutputStream byteBufferOutputStream() {
+        return new ByteBufferOutputStream(Integer.MAX_VALUE);
+    }
+
+    public static ByteBufferOutputStream byteBufferOutputStream(final int maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("maximumSize must not be negative");
+        }
+        return new ByteBufferOutputStream(maximumSize);
+    }
+
+    @Override
+    public synchronized void write(final int b) {
+        ensureCapacityFor(1);
+        super.write(b);
+    }
+
+    @Override
+    public synchronized void write(final byte[] b, final int off, final int len) {
+        ensureCapacityFor(len);
+        super.write(b, off, len);
+    }
+
+    public synchronized boolean limitExceeded() {
+        return limitExceeded;
+    }
+
+    public synchronized ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(buf, 0, count);
+    }
+
+    private void ensureCapacityFor(final int length) {
+        if (limitExceeded || length > maximumSize - count) {
+            limitExceeded = true;
+            throw streamLimitExceededException(maximumSize);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.util.streams;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.LongFunction;
+
+final class LimitedInputStream extends FilterInputStream {
+    private final long maximumLength;
+    private final LongFunction<? extends RuntimeException> limitExceededException;
+    private long remaining;
+
+    LimitedInputStream(final InputStream inputStream,
+                       final long maximumLength,
+                       final LongFunction<? extends RuntimeException> limitExceededException) {
+        super(inputStream);
+        this.maximumLength = maximumLength;
+        this.limitExceededException = limitExceededException;
+        this.remaining = maximumLength;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int next = super.read();
+        if (next != -1) {
+            consume(1);
+        }
+        return next;
+    }
+
+    @Override
+    public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        final int read = super.read(buffer, offset, (int) Math.min(length, remaining + 1));
+        if (read > 0) {
+            consume(read);
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(final long count) throws IOException {
+        final long skipped = super.skip(Math.min(count, remaining + 1));
+        consume(skipped);
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    private void consume(final long count) {
+        remaining -= count;
+        if (remaining < 0) {
+            throw limitExceededException.apply(maximumLength);
+        }
+    }
+}
@@ -25,13 +25,21 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.util.Scanner;
+import java.nio.ByteBuffer;
+import java.util.function.LongFunction;
 
+import static de.quantummaid.httpmaid.util.streams.StreamLimitExceededException.streamLimitExceededException;
 import static de.quantummaid.httpmaid.util.streams.StreamProcessingException.streamProcessingException;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.copyOf;
 
 public final class Streams {
     private static final int BUFFER_SIZE = 1024;
+    private static final int TRANSFER_BUFFER_SIZE = 16 * 1024;
+    private static final int MAXIMUM_INITIAL_BUFFER_SIZE = 1024 * 1024;
+    private static final int MAXIMUM_ARRAY_SIZE = Integer.MAX_VALUE - 8;
 
     private Streams() {
     }
@@ -40,24 +48,100 @@ public final class Streams {
         return new ByteArrayInputStream(string.getBytes(UTF_8));
     }
 
+    public static InputStream limitInputStream(final InputStream inputStream,
+                                               final long maximumLength) {
+        return limitInputStream(inputStream, maximumLength, StreamLimitExceededException::streamLimitExceededException);
+    }
+
+    public static InputStream limitInputStream(final InputStream inputStream,
+                                               final long maximumLength,
+                                               final LongFunction<? extends RuntimeException> limitExceededException) {
+        if (maximumLength == Long.MAX_VALUE) {
+            return inputStream;
+        }
+        return new LimitedInputStream(inputStream, maximumLength, limitExceededException);
+    }
+
     public static String inputStreamToString(final InputStream inputStream) {
-        final Scanner scanner = new Scanner(inputStream, UTF_8).useDelimiter("\\A");
-        if (scanner.hasNext()) {
-            return scanner.next();
+        return inputStreamToString(inputStream, BUFFER_SIZE, MAXIMUM_ARRAY_SIZE);
+    }
+
+    public static String inputStreamToString(final InputStream inputStream,
+                                             final long expectedLength,
+                                             final long maximumLength) {
+        final ByteBuffer bytes = inputStreamToByteBuffer(inputStream, expectedLength, maximumLength);
+        return new String(bytes.array(), 0, bytes.limit(), UTF_8);
+    }
+
+    public static ByteBuffer inputStreamToByteBuffer(final InputStream inputStream,
+                                                     final long expectedLength,
+                                                     final long maximumLength) {
+        final int limit = (int) min(maximumLength, MAXIMUM_ARRAY_SIZE);
+        byte[] buffer = new byte[(int) max(0, min(expectedLength, min(limit, MAXIMUM_INITIAL_BUFFER_SIZE)))];
+        int length = 0;
+        try {
+            while (true) {
+                if (length == buffer.length) {
+                    final int next = inputStream.read();
+                    if (next == -1) {
+                        break;
+                    }
+                    if (length >= limit) {
+                        throw streamLimitExceededException(maximumLength);
+                    }
+                    buffer = copyOf(buffer, (int) min(max((long) length * 2, BUFFER_SIZE), limit));
+                    buffer[length] = (byte) next;
+                    length = length + 1;
+                }
+                final int read = inputStream.read(buffer, length, buffer.length - length);
+                if (read == -1) {
+                    break;
+                }
+                length = length + read;
+            }
+        } catch (final IOException e) {
+            throw streamProcessingException(e);
         }
-        return "";
+        return ByteBuffer.wrap(buffer, 0, length);
     }
 
     public static void streamInputStreamToOutputStream(final InputStream inputStream,
                                                        final OutputStream outputStream) {
+        transferInputStreamToOutputStream(inputStream, outputStream);
         try {
-            final byte[] buffer = new byte[BUFFER_SIZE];
+            outputStream.close();
+        } catch (final IOException e) {
+            throw streamProcessingException(e);
+        }
+    }
+
+    public static void transferInputStreamToOutputStream(final InputStream inputStream,
+                                                         final OutputStream outputStream) {
+        final byte[] buffer = new byte[TRANSFER_BUFFER_SIZE];
+        try (inputStream) {
             int length;
             while ((length = inputStream.read(buffer)) != -1) {
                 outputStream.write(buffer, 0, length);
             }
-            inputStream.close();
-            outputStream.close();
+        } catch (final IOException e) {
+            throw streamProcessingException(e);
+        }
+    }
+
+    public static void writeByteBufferToOutputStream(final ByteBuffer byteBuffer,
+                                                     final OutputStream outputStream) {
+        final ByteBuffer source = byteBuffer.duplicate();
+        try {
+            if (source.hasArray()) {
+                outputStream.write(source.array(), source.arrayOffset() + source.position(), source.remaining());
+                return;
+            }
+            final byte[] buffer = new byte[min(TRANSFER_BUFFER_SIZE, source.remaining())];
+            while (source.hasRemaining()) {
+                final int length = min(buffer.length, source.remaining());
+                source.get(buffer, 0, length);
+                outputStream.write(buffer, 0, length);
+            }
         } catch (final IOException e) {
             throw streamProcessingException(e);
         }
@@ -27,17 +27,23 @@ import de.quantummaid.httpmaid.http.QueryParameterName;
 import de.quantummaid.httpmaid.runtimeconfiguration.RuntimeConfigurationValueProvider;
 import de.quantummaid.httpmaid.websockets.additionaldata.AdditionalWebsocketDataProvider;
 import de.quantummaid.httpmaid.websockets.authorization.WebsocketAuthorizer;
+import de.quantummaid.httpmaid.websockets.endpoint.QueueOverflowPolicy;
+import de.quantummaid.httpmaid.websockets.endpoint.WebsocketMessageProcessing;
 import de.quantummaid.httpmaid.websockets.registry.WebsocketRegistry;
 import de.quantummaid.httpmaid.websockets.registry.filter.header.HeaderFilter;
 import de.quantummaid.httpmaid.websockets.registry.filter.queryparameter.QueryParameterFilter;
+import de.quantummaid.httpmaid.websockets.sender.FanOut;
 
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import static de.quantummaid.httpmaid.chains.Configurator.configuratorForType;
 import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
+import static de.quantummaid.httpmaid.websockets.endpoint.WebsocketMessageProcessing.queuedMessageProcessing;
 import static de.quantummaid.httpmaid.websockets.registry.filter.header.AllowAllHeaderFilter.allowAllHeaderFilter;
 import static de.quantummaid.httpmaid.websockets.registry.filter.header.AllowListHeaderFilter.allowListHeaderFilter;
 import static de.quantummaid.httpmaid.websockets.registry.filter.queryparameter.AllowListQueryParameterFilter.allowListQueryParameterFilter;
+import static de.quantummaid.httpmaid.websockets.sender.FanOut.parallelFanOut;
 import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.toList;
 
@@ -77,6 +83,20 @@ public final class WebsocketConfigurators {
                 websocketsModule -> websocketsModule.setWebsocketAuthorizerProvider(authorizer));
     }
 
+    public static Configurator toFanOutWebsocketMessagesOn(final Executor executor,
+                                                           final int batchSize,
+                                                           final int parallelism) {
+        final FanOut fanOut = parallelFanOut(executor, batchSize, parallelism);
+        return configuratorForType(WebsocketsModule.class, websocketsModule -> websocketsModule.setFanOut(fanOut));
+    }
+
+    public static Configurator toProcessWebsocketMessagesOn(final Executor executor,
+                                                            final int queueDepth,
+                                                            final QueueOverflowPolicy overflowPolicy) {
+        final WebsocketMessageProcessing messageProcessing = queuedMessageProcessing(executor, queueDepth, overflowPolicy);
+        return configuratorForType(WebsocketsModule.class, websocketsModule -> websocketsModule.setMessageProcessing(messageProcessing));
+    }
+
     public static Configurator toRememberAdditionalHeadersInWebsocketMessages(final String... headerNames) {
         final List<HeaderName> list = stream(headerNames)
                 .map(HeaderName::headerName)
@@ -29,10 +29,12 @@ import de.quantummaid.httpmaid.runtimeconfiguration.RuntimeConfigurationValue;
 import de.quantummaid.httpmaid.runtimeconfiguration.RuntimeConfigurationValueProvider;
 import de.quantummaid.httpmaid.websockets.additionaldata.AdditionalWebsocketDataProvider;
 import de.quantummaid.httpmaid.websockets.authorization.WebsocketAuthorizer;
+import de.quantummaid.httpmaid.websockets.endpoint.WebsocketMessageProcessing;
 import de.quantummaid.httpmaid.websockets.registry.InMemoryRegistry;
 import de.quantummaid.httpmaid.websockets.registry.WebsocketRegistry;
 import de.quantummaid.httpmaid.websockets.registry.filter.header.HeaderFilter;
 import de.quantummaid.httpmaid.websockets.registry.filter.queryparameter.QueryParameterFilter;
+import de.quantummaid.httpmaid.websockets.sender.FanOut;
 import de.quantummaid.httpmaid.websockets.sender.WebsocketSenders;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
@@ -49,6 +51,8 @@ import static de.quantummaid.httpmaid.chains.rules.Drop.drop;
 import static de.quantummaid.httpmaid.chains.rules.Jump.jumpTo;
 import static de.quantummaid.httpmaid.websockets.WebsocketMetaDataKeys.*;
 import static de.quantummaid.httpmaid.websockets.authorization.AuthorizationDecision.success;
+import static de.quantummaid.httpmaid.websockets.endpoint.WebsocketMessageProcessing.WEBSOCKET_MESSAGE_PROCESSING;
+import static de.quantummaid.httpmaid.websockets.endpoint.WebsocketMessageProcessing.callerThreadMessageProcessing;
 import static de.quantummaid.httpmaid.websockets.processors.AddAdditionalWebsocketDataProcessor.addAdditionalWebsocketDataProcessor;
 import static de.quantummaid.httpmaid.websockets.processors.AddWebsocketsMetaDataProcessor.addWebsocketRegistryProcessor;
 import static de.quantummaid.httpmaid.websockets.processors.AuthorizeWebsocketProcessor.authorizeWebsocketProcessor;
@@ -59,6 +63,7 @@ import static de.quantummaid.httpmaid.websockets.processors.RemoveWebsocketFromR
 import static de.quantummaid.httpmaid.websockets.processors.RestoreWebsocketContextInformationProcessor.restoreWebsocketContextInformationProcessor;
 import static de.quantummaid.httpmaid.websockets.registry.filter.header.AllowListHeaderFilter.onlyAllowingDefaultHeaders;
 import static de.quantummaid.httpmaid.websockets.registry.filter.queryparameter.AllowAllQueryParameterFilter.allowAllQueryParameterFilter;
+import static de.quantummaid.httpmaid.websockets.sender.FanOut.callerThreadFanOut;
 import static de.quantummaid.httpmaid.websockets.sender.WebsocketSenders.WEBSOCKET_SENDERS;
 
 @ToString
@@ -75,6 +80,8 @@ public final class WebsocketsModule implements ChainModule {
     private RuntimeConfigurationValueProvider<WebsocketAuthorizer> websocketAuthorizerProvider = () -> request -> success();
     private HeaderFilter headerFilter = onlyAllowingDefaultHeaders();
     private QueryParameterFilter queryParameterFilter = allowAllQueryParameterFilter();
+    private FanOut fanOut = callerThreadFanOut();
+    private WebsocketMessageProcessing messageProcessing = callerThreadMessageProcessing();
 
     public static WebsocketsModule websocketsModule() {
         return new WebsocketsModule();
@@ -104,14 +111,24 @@ public final class WebsocketsModule implements ChainModule {
         this.queryParameterFilter = queryParameterFilter;
     }
 
+    public void setFanOut(final FanOut fanOut) {
+        this.fanOut = fanOut;
+    }
+
+    public void setMessageProcessing(final WebsocketMessageProcessing messageProcessing) {
+        this.messageProcessing = messageProcessing;
+    }
+
     @Override
     public void register(final ChainExtender extender) {
         final RuntimeConfiguration runtimeConfiguration = extender.getMetaDatum(RUNTIME_CONFIGURATION);
         final RuntimeConfigurationValue<WebsocketRegistry> websocketRegistry = runtimeConfiguration.create(websocketRegistryProvider);
 
         extender.addMetaDatum(WEBSOCKET_REGISTRY, websocketRegistry);
+        extender.addMetaDatum(WEBSOCKET_MESSAGE_PROCESSING, messageProcessing);
 
         final WebsocketSenders websocketSenders = extender.getMetaDatum(WEBSOCKET_SENDERS);
+        websocketSenders.fanOutUsing(fanOut);
         extender.appendProcessor(INIT, addWebsocketRegistryProcessor(websocketSenders, websocketRegistry));
         extender.appendProcessor(PRE_PROCESS, restoreWebsocketContextInformationProcessor());
 
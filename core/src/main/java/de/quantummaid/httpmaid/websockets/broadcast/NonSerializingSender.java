@@ -26,8 +26,7 @@ import de.quantummaid.httpmaid.websockets.criteria.WebsocketCriteria;
 import de.quantummaid.httpmaid.websockets.registry.ConnectionInformation;
 import de.quantummaid.httpmaid.websockets.registry.WebsocketRegistry;
 import de.quantummaid.httpmaid.websockets.registry.WebsocketRegistryEntry;
-import de.quantummaid.httpmaid.websockets.sender.WebsocketSender;
-import de.quantummaid.httpmaid.websockets.sender.WebsocketSenderId;
+import de.quantummaid.httpmaid.websockets.sender.DeliveryReport;
 import de.quantummaid.httpmaid.websockets.sender.WebsocketSenders;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
@@ -35,13 +34,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 
+import java.nio.ByteBuffer;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletionStage;
 
 import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
 import static de.quantummaid.httpmaid.websockets.criteria.WebsocketCriteria.websocketCriteria;
-import static java.util.stream.Collectors.groupingBy;
-import static java.util.stream.Collectors.toList;
 
 @ToString
 @EqualsAndHashCode
@@ -58,25 +56,30 @@ public final class NonSerializingSender {
         return new NonSerializingSender(websocketRegistry, websocketSenders, metaData);
     }
 
-    public void sendToAll(final String message) {
-        sendTo(message, websocketCriteria());
+    public CompletionStage<DeliveryReport> sendToAll(final String message) {
+        return sendTo(message, websocketCriteria());
     }
 
-    public void sendTo(final String message, final WebsocketCriteria criteria) {
+    public CompletionStage<DeliveryReport> sendTo(final String message, final WebsocketCriteria criteria) {
         validateNotNull(message, "message");
         validateNotNull(criteria, "criteria");
         final List<WebsocketRegistryEntry> connections = websocketRegistry.connections(criteria);
-        final Map<WebsocketSenderId, List<WebsocketRegistryEntry>> bySenderId = connections.stream()
-                .collect(groupingBy(WebsocketRegistryEntry::getSenderId));
-        bySenderId.forEach((websocketSenderId, websocketRegistryEntries) -> {
-            final List<ConnectionInformation> collectionInformations = websocketRegistryEntries.stream()
-                    .map(WebsocketRegistryEntry::connectionInformation)
-                    .collect(toList());
-            final WebsocketSender<ConnectionInformation> sender = websocketSenders.senderById(websocketSenderId);
-            sender.send(message, collectionInformations, (connectionInformation, throwable) -> {
-                log.info("exception when sending to websocket {} - removing websocket; request metadata: {}", connectionInformation, metaData, throwable);
-                websocketRegistry.removeConnection(connectionInformation);
-            });
-        });
+        return websocketSenders.send(message, connections, this::onException);
+    }
+
+    public CompletionStage<DeliveryReport> sendBinaryToAll(final ByteBuffer message) {
+        return sendBinaryTo(message, websocketCriteria());
+    }
+
+    public CompletionStage<DeliveryReport> sendBinaryTo(final ByteBuffer message, final WebsocketCriteria criteria) {
+        validateNotNull(message, "message");
+        validateNotNull(criteria, "criteria");
+        final List<WebsocketRegistryEntry> connections = websocketRegistry.connections(criteria);
+        return websocketSenders.sendBinary(message, connections, this::onException);
+    }
+
+    private void onException(final ConnectionInformation connectionInformation, final Throwable throwable) {
+        log.info("exception when sending to websocket {} - removing websocket; request metadata: {}", connectionInformation, metaData, throwable);
+        websocketRegistry.removeConnection(connectionInformation);
     }
 }
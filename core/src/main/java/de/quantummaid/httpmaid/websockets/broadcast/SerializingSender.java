@@ -28,8 +28,7 @@ import de.quantummaid.httpmaid.websockets.criteria.WebsocketCriteria;
 import de.quantummaid.httpmaid.websockets.registry.ConnectionInformation;
 import de.quantummaid.httpmaid.websockets.registry.WebsocketRegistry;
 import de.quantummaid.httpmaid.websockets.registry.WebsocketRegistryEntry;
-import de.quantummaid.httpmaid.websockets.sender.WebsocketSender;
-import de.quantummaid.httpmaid.websockets.sender.WebsocketSenderId;
+import de.quantummaid.httpmaid.websockets.sender.DeliveryReport;
 import de.quantummaid.httpmaid.websockets.sender.WebsocketSenders;
 import de.quantummaid.reflectmaid.resolvedtype.ResolvedType;
 import lombok.AccessLevel;
@@ -38,13 +37,15 @@ import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 
+import java.nio.ByteBuffer;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiConsumer;
 
 import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
 import static de.quantummaid.httpmaid.websockets.criteria.WebsocketCriteria.websocketCriteria;
-import static java.util.stream.Collectors.groupingBy;
-import static java.util.stream.Collectors.toList;
+import static de.quantummaid.httpmaid.websockets.sender.DeliveryReport.emptyDeliveryReport;
+import static java.util.concurrent.CompletableFuture.completedStage;
 
 @ToString
 @EqualsAndHashCode
@@ -74,28 +75,28 @@ public final class SerializingSender<T> {
         );
     }
 
-    public void sendToAll(final T message) {
-        sendTo(message, websocketCriteria());
+    public CompletionStage<DeliveryReport> sendToAll(final T message) {
+        return sendTo(message, websocketCriteria());
     }
 
-    public void sendTo(final T message, final WebsocketCriteria criteria) {
+    public CompletionStage<DeliveryReport> sendTo(final T message, final WebsocketCriteria criteria) {
         validateNotNull(message, "message");
         validateNotNull(criteria, "criteria");
         final List<WebsocketRegistryEntry> connections = websocketRegistry.connections(criteria);
-        final Map<WebsocketSenderId, List<WebsocketRegistryEntry>> bySenderId = connections.stream()
-                .collect(groupingBy(WebsocketRegistryEntry::getSenderId));
-        bySenderId.forEach((websocketSenderId, websocketRegistryEntries) -> {
-            final List<ConnectionInformation> connectionInformations = websocketRegistryEntries.stream()
-                    .map(WebsocketRegistryEntry::connectionInformation)
-                    .collect(toList());
-            final WebsocketSender<ConnectionInformation> sender = websocketSenders.senderById(websocketSenderId);
-            final Object serialized = serializer.serialize(message, messageType);
-            final String marshalled = marshaller.marshall(serialized);
-            sender.send(marshalled, connectionInformations, (connectionInformation, throwable) -> {
-                log.info("exception when sending to websocket {} - removing websocket; request metadata: {}",
-                        connectionInformation, metaData, throwable);
-                websocketRegistry.removeConnection(connectionInformation);
-            });
-        });
+        if (connections.isEmpty()) {
+            return completedStage(emptyDeliveryReport());
+        }
+        final Object serialized = serializer.serialize(message, messageType);
+        final BiConsumer<ConnectionInformation, Throwable> onException = (connectionInformation, throwable) -> {
+            log.info("exception when sending to websocket {} - removing websocket; request metadata: {}",
+                    connectionInformation, metaData, throwable);
+            websocketRegistry.removeConnection(connectionInformation);
+        };
+        if (marshaller.isBinary()) {
+            final ByteBuffer marshalled = marshaller.marshallToBinary(serialized);
+            return websocketSenders.sendBinary(marshalled, connections, onException);
+        }
+        final String marshalled = marshaller.marshall(serialized);
+        return websocketSenders.send(marshalled, connections, onException);
     }
 }
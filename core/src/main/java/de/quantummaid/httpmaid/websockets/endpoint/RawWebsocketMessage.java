@@ -31,9 +31,11 @@ import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.nio.ByteBuffer;
 import java.util.Map;
 
 import static de.quantummaid.httpmaid.HttpMaidChainKeys.IS_HTTP_REQUEST;
+import static de.quantummaid.httpmaid.HttpMaidChainKeys.REQUEST_BODY_BINARY;
 import static de.quantummaid.httpmaid.HttpMaidChainKeys.REQUEST_BODY_STRING;
 import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
 import static de.quantummaid.httpmaid.websockets.WebsocketMetaDataKeys.*;
@@ -44,6 +46,7 @@ import static de.quantummaid.httpmaid.websockets.WebsocketMetaDataKeys.*;
 public final class RawWebsocketMessage implements RawRequest {
     private final ConnectionInformation connectionInformation;
     private final String body;
+    private final ByteBuffer binaryBody;
     private final WebsocketRegistryEntry registryEntry;
     private final Map<MetaDataKey<?>, Object> additionalMetaData;
 
@@ -61,6 +64,7 @@ public final class RawWebsocketMessage implements RawRequest {
         return new RawWebsocketMessage(connectionInformation,
                 body,
                 null,
+                null,
                 additionalMetaData
         );
     }
@@ -74,6 +78,42 @@ public final class RawWebsocketMessage implements RawRequest {
         validateNotNull(registryEntry, "registryEntry");
         validateNotNull(additionalMetaData, "additionalMetaData");
         return new RawWebsocketMessage(connectionInformation,
+                body,
+                null,
+                registryEntry,
+                additionalMetaData
+        );
+    }
+
+    public static RawWebsocketMessage rawBinaryWebsocketMessage(final ConnectionInformation connectionInformation,
+                                                                final ByteBuffer body) {
+        return rawBinaryWebsocketMessage(connectionInformation, body, Map.of());
+    }
+
+    public static RawWebsocketMessage rawBinaryWebsocketMessage(final ConnectionInformation connectionInformation,
+                                                                final ByteBuffer body,
+                                                                final Map<MetaDataKey<?>, Object> additionalMetaData) {
+        validateNotNull(connectionInformation, "connectionInformation");
+        validateNotNull(body, "body");
+        validateNotNull(additionalMetaData, "additionalMetaData");
+        return new RawWebsocketMessage(connectionInformation,
+                null,
+                body,
+                null,
+                additionalMetaData
+        );
+    }
+
+    public static RawWebsocketMessage rawBinaryWebsocketMessageWithMetaData(final ConnectionInformation connectionInformation,
+                                                                            final ByteBuffer body,
+                                                                            final WebsocketRegistryEntry registryEntry,
+                                                                            final Map<MetaDataKey<?>, Object> additionalMetaData) {
+        validateNotNull(connectionInformation, "connectionInformation");
+        validateNotNull(body, "body");
+        validateNotNull(registryEntry, "registryEntry");
+        validateNotNull(additionalMetaData, "additionalMetaData");
+        return new RawWebsocketMessage(connectionInformation,
+                null,
                 body,
                 registryEntry,
                 additionalMetaData
@@ -85,7 +125,11 @@ public final class RawWebsocketMessage implements RawRequest {
         metaData.set(REQUEST_TYPE, WEBSOCKET_MESSAGE);
         metaData.set(IS_HTTP_REQUEST, false);
         metaData.set(WEBSOCKET_CONNECTION_INFORMATION, connectionInformation);
-        metaData.set(REQUEST_BODY_STRING, body);
+        if (binaryBody != null) {
+            metaData.set(REQUEST_BODY_BINARY, binaryBody);
+        } else {
+            metaData.set(REQUEST_BODY_STRING, body);
+        }
         additionalMetaData.forEach(metaData::setUnchecked);
         if (registryEntry != null) {
             metaData.set(WEBSOCKET_REGISTRY_ENTRY, registryEntry);
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.websockets.endpoint;
+
+import de.quantummaid.httpmaid.chains.MetaDataKey;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+
+import static de.quantummaid.httpmaid.chains.MetaDataKey.metaDataKey;
+import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
+import static de.quantummaid.httpmaid.websockets.endpoint.WebsocketMessageQueue.callerThreadQueue;
+import static de.quantummaid.httpmaid.websockets.endpoint.WebsocketMessageQueue.executorQueue;
+import static de.quantummaid.httpmaid.websockets.endpoint.WebsocketMessageQueueMetrics.websocketMessageQueueMetrics;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class WebsocketMessageProcessing {
+    public static final MetaDataKey<WebsocketMessageProcessing> WEBSOCKET_MESSAGE_PROCESSING = metaDataKey("WEBSOCKET_MESSAGE_PROCESSING");
+
+    private final Executor executor;
+    private final int queueDepth;
+    private final QueueOverflowPolicy overflowPolicy;
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final Set<WebsocketMessageQueue> openQueues = ConcurrentHashMap.newKeySet();
+    private final LongAdder droppedMessages = new LongAdder();
+    private final LongAdder overflowDisconnects = new LongAdder();
+
+    public static WebsocketMessageProcessing callerThreadMessageProcessing() {
+        return new WebsocketMessageProcessing(null, 0, null);
+    }
+
+    public static WebsocketMessageProcessing queuedMessageProcessing(final Executor executor,
+                                                                     final int queueDepth,
+                                                                     final QueueOverflowPolicy overflowPolicy) {
+        validateNotNull(executor, "executor");
+        validateNotNull(overflowPolicy, "overflowPolicy");
+        if (queueDepth <= 0) {
+            throw new IllegalArgumentException("queueDepth must be positive");
+        }
+        return new WebsocketMessageProcessing(executor, queueDepth, overflowPolicy);
+    }
+
+    public WebsocketMessageQueue openQueue(final Runnable disconnect) {
+        validateNotNull(disconnect, "disconnect");
+        if (executor == null) {
+            return callerThreadQueue();
+        }
+        final WebsocketMessageQueue queue = executorQueue(this, executor, queueDepth, overflowPolicy, disconnect);
+        openQueues.add(queue);
+        return queue;
+    }
+
+    public WebsocketMessageQueueMetrics metrics() {
+        long queuedMessages = 0;
+        int longestQueue = 0;
+        int queues = 0;
+        for (final WebsocketMessageQueue queue : openQueues) {
+            final int length = queue.length();
+            queuedMessages += length;
+            longestQueue = Math.max(longestQueue, length);
+            queues++;
+        }
+        return websocketMessageQueueMetrics(queues, queuedMessages, longestQueue,
+                droppedMessages.sum(), overflowDisconnects.sum());
+    }
+
+    void messageDropped() {
+        droppedMessages.increment();
+    }
+
+    void disconnectedOnOverflow() {
+        overflowDisconnects.increment();
+    }
+
+    void queueClosed(final WebsocketMessageQueue queue) {
+        openQueues.remove(queue);
+    }
+}
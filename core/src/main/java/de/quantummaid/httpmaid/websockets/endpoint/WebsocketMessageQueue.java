@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.websockets.endpoint;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static de.quantummaid.httpmaid.websockets.endpoint.QueueOverflowPolicy.BLOCK;
+import static de.quantummaid.httpmaid.websockets.endpoint.QueueOverflowPolicy.CLOSE_CONNECTION;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class WebsocketMessageQueue {
+    private final WebsocketMessageProcessing processing;
+    private final Executor executor;
+    private final int queueDepth;
+    private final BlockingQueue<Runnable> messages;
+    private final QueueOverflowPolicy overflowPolicy;
+    private final Runnable disconnect;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final AtomicBoolean finished = new AtomicBoolean();
+    private final AtomicReference<Runnable> lastMessage = new AtomicReference<>();
+
+    static WebsocketMessageQueue callerThreadQueue() {
+        return new WebsocketMessageQueue(null, null, 0, null, null, null);
+    }
+
+    static WebsocketMessageQueue executorQueue(final WebsocketMessageProcessing processing,
+                                               final Executor executor,
+                                               final int queueDepth,
+                                               final QueueOverflowPolicy overflowPolicy,
+                                               final Runnable disconnect) {
+        return new WebsocketMessageQueue(processing, executor, queueDepth,
+                new ArrayBlockingQueue<>(queueDepth), overflowPolicy, disconnect);
+    }
+
+    public void submit(final Runnable message) {
+        if (executor == null) {
+            message.run();
+            return;
+        }
+        if (closed.get()) {
+            processing.messageDropped();
+            return;
+        }
+        if (!messages.offer(message) && !handleOverflow(message)) {
+            return;
+        }
+        if (closed.get() && messages.remove(message)) {
+            processing.messageDropped();
+            return;
+        }
+        scheduleDrain();
+    }
+
+    public void close(final Runnable finalMessage) {
+        if (executor == null) {
+            finalMessage.run();
+            return;
+        }
+        closed.set(true);
+        lastMessage.set(finalMessage);
+        scheduleDrain();
+    }
+
+    int length() {
+        return messages.size();
+    }
+
+    private boolean handleOverflow(final Runnable message) {
+        if (overflowPolicy == BLOCK) {
+            try {
+                messages.put(message);
+                return true;
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        processing.messageDropped();
+        if (overflowPolicy == CLOSE_CONNECTION && closed.compareAndSet(false, true)) {
+            log.info("websocket message queue overflowed - closing connection");
+            processing.disconnectedOnOverflow();
+            disconnect.run();
+        } else {
+            log.debug("websocket message queue overflowed - dropping message");
+        }
+        return false;
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (final RuntimeException e) {
+                draining.set(false);
+                throw e;
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            for (int i = 0; i < queueDepth; ++i) {
+                final Runnable message = messages.poll();
+                if (message == null) {
+                    break;
+                }
+                if (finished.get()) {
+                    processing.messageDropped();
+                } else {
+                    runSafely(message);
+                }
+            }
+            final Runnable finalMessage = lastMessage.get();
+            if (finalMessage != null && messages.isEmpty() && lastMessage.compareAndSet(finalMessage, null)) {
+                finished.set(true);
+                processing.queueClosed(this);
+                runSafely(finalMessage);
+            }
+        } finally {
+            draining.set(false);
+        }
+        if (!messages.isEmpty() || lastMessage.get() != null) {
+            scheduleDrain();
+        }
+    }
+
+    private static void runSafely(final Runnable message) {
+        try {
+            message.run();
+        } catch (final RuntimeException e) {
+            log.error("exception while processing websocket message", e);
+        }
+    }
+}
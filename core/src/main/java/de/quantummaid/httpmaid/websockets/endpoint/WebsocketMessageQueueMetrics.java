@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.websockets.endpoint;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class WebsocketMessageQueueMetrics {
+    private final int openQueues;
+    private final long queuedMessages;
+    private final int longestQueue;
+    private final long droppedMessages;
+    private final long overflowDisconnects;
+
+    static WebsocketMessageQueueMetrics websocketMessageQueueMetrics(final int openQueues,
+                                                                     final long queuedMessages,
+                                                                     final int longestQueue,
+                                                                     final long droppedMessages,
+                                                                     final long overflowDisconnects) {
+        return new WebsocketMessageQueueMetrics(openQueues, queuedMessages, longestQueue, droppedMessages, overflowDisconnects);
+    }
+
+    public int openQueues() {
+        return openQueues;
+    }
+
+    public long queuedMessages() {
+        return queuedMessages;
+    }
+
+    public int longestQueue() {
+        return longestQueue;
+    }
+
+    public long droppedMessages() {
+        return droppedMessages;
+    }
+
+    public long overflowDisconnects() {
+        return overflowDisconnects;
+    }
+}
@@ -21,6 +21,8 @@
 
 package de.quantummaid.httpmaid.websockets.registry;
 
+import de.quantummaid.httpmaid.websockets.criteria.HeaderCriterion;
+import de.quantummaid.httpmaid.websockets.criteria.QueryParameterCriterion;
 import de.quantummaid.httpmaid.websockets.criteria.WebsocketCriteria;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
@@ -29,50 +31,131 @@ import lombok.ToString;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import static de.quantummaid.httpmaid.websockets.criteria.HeaderCriterion.headerCriterion;
+import static de.quantummaid.httpmaid.websockets.criteria.QueryParameterCriterion.queryParameterCriterion;
 import static java.lang.String.format;
+import static java.util.Collections.emptySet;
 import static java.util.stream.Collectors.toList;
 
 @ToString
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class InMemoryRegistry implements WebsocketRegistry {
-    private final List<WebsocketRegistryEntry> entries;
+    private final Map<ConnectionInformation, WebsocketRegistryEntry> entries;
+    private final Map<HeaderCriterion, Set<ConnectionInformation>> headerIndex;
+    private final Map<QueryParameterCriterion, Set<ConnectionInformation>> queryParameterIndex;
 
     public static InMemoryRegistry inMemoryRegistry() {
-        return new InMemoryRegistry(new ArrayList<>());
+        return new InMemoryRegistry(new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
     }
 
     @Override
-    public synchronized List<WebsocketRegistryEntry> connections(final WebsocketCriteria criteria) {
-        return entries.stream()
-                .filter(criteria::filter)
-                .collect(toList());
+    public List<WebsocketRegistryEntry> connections(final WebsocketCriteria criteria) {
+        final Optional<Set<ConnectionInformation>> candidates = candidates(criteria);
+        if (!candidates.isPresent()) {
+            return entries.values().stream()
+                    .filter(criteria::filter)
+                    .collect(toList());
+        }
+        final List<WebsocketRegistryEntry> connections = new ArrayList<>();
+        for (final ConnectionInformation connectionInformation : candidates.get()) {
+            final WebsocketRegistryEntry entry = entries.get(connectionInformation);
+            if (entry != null && criteria.filter(entry)) {
+                connections.add(entry);
+            }
+        }
+        return connections;
     }
 
     @Override
-    public synchronized WebsocketRegistryEntry byConnectionInformation(final ConnectionInformation connectionInformation) {
-        return entries.stream()
-                .filter(entry -> entry.connectionInformation().equals(connectionInformation))
-                .findFirst()
-                .orElseThrow(() -> new RuntimeException(format("No websocket registered by '%s'", connectionInformation)));
+    public WebsocketRegistryEntry byConnectionInformation(final ConnectionInformation connectionInformation) {
+        final WebsocketRegistryEntry entry = entries.get(connectionInformation);
+        if (entry == null) {
+            throw new RuntimeException(format("No websocket registered by '%s'", connectionInformation));
+        }
+        return entry;
     }
 
     @Override
-    public synchronized void addConnection(final WebsocketRegistryEntry entry) {
-        entries.add(entry);
+    public void addConnection(final WebsocketRegistryEntry entry) {
+        entries.compute(entry.connectionInformation(), (connectionInformation, existing) -> {
+            if (existing != null) {
+                return existing;
+            }
+            index(entry);
+            return entry;
+        });
     }
 
     @Override
-    public synchronized void removeConnection(final ConnectionInformation connectionInformation) {
-        final List<WebsocketRegistryEntry> entriesToRemove = entries.stream()
-                .filter(entry -> entry.connectionInformation().equals(connectionInformation))
-                .collect(toList());
-        entries.removeAll(entriesToRemove);
+    public void removeConnection(final ConnectionInformation connectionInformation) {
+        entries.computeIfPresent(connectionInformation, (key, entry) -> {
+            unindex(entry);
+            return null;
+        });
     }
 
     @Override
     public long countConnections() {
         return entries.size();
     }
+
+    private Optional<Set<ConnectionInformation>> candidates(final WebsocketCriteria criteria) {
+        Set<ConnectionInformation> smallest = null;
+        for (final HeaderCriterion criterion : criteria.headerCriteria()) {
+            smallest = smaller(smallest, headerIndex.getOrDefault(criterion, emptySet()));
+        }
+        for (final QueryParameterCriterion criterion : criteria.queryParameterCriteria()) {
+            smallest = smaller(smallest, queryParameterIndex.getOrDefault(criterion, emptySet()));
+        }
+        return Optional.ofNullable(smallest);
+    }
+
+    private static Set<ConnectionInformation> smaller(final Set<ConnectionInformation> current,
+                                                      final Set<ConnectionInformation> candidate) {
+        if (current == null || candidate.size() < current.size()) {
+            return candidate;
+        }
+        return current;
+    }
+
+    private void index(final WebsocketRegistryEntry entry) {
+        final ConnectionInformation connectionInformation = entry.connectionInformation();
+        entry.headers().asList().forEach(header ->
+                index(headerIndex, headerCriterion(header.name(), header.value()), connectionInformation));
+        entry.queryParameters().asList().forEach(queryParameter ->
+                index(queryParameterIndex, queryParameterCriterion(queryParameter.name(), queryParameter.value()), connectionInformation));
+    }
+
+    private void unindex(final WebsocketRegistryEntry entry) {
+        final ConnectionInformation connectionInformation = entry.connectionInformation();
+        entry.headers().asList().forEach(header ->
+                unindex(headerIndex, headerCriterion(header.name(), header.value()), connectionInformation));
+        entry.queryParameters().asList().forEach(queryParameter ->
+                unindex(queryParameterIndex, queryParameterCriterion(queryParameter.name(), queryParameter.value()), connectionInformation));
+    }
+
+    private static <K> void index(final Map<K, Set<ConnectionInformation>> index,
+                                  final K key,
+                                  final ConnectionInformation connectionInformation) {
+        index.compute(key, (k, connections) -> {
+            final Set<ConnectionInformation> indexed = connections == null ? ConcurrentHashMap.newKeySet() : connections;
+            indexed.add(connectionInformation);
+            return indexed;
+        });
+    }
+
+    private static <K> void unindex(final Map<K, Set<ConnectionInformation>> index,
+                                    final K key,
+                                    final ConnectionInformation connectionInformation) {
+        index.computeIfPresent(key, (k, connections) -> {
+            connections.remove(connectionInformation);
+            return connections.isEmpty() ? null : connections;
+        });
+    }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.websockets.sender;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DeliveryReport {
+    private static final DeliveryReport EMPTY = new DeliveryReport(0, 0);
+
+    private final int recipients;
+    private final int failed;
+
+    public static DeliveryReport emptyDeliveryReport() {
+        return EMPTY;
+    }
+
+    static DeliveryReport deliveryReport(final int recipients, final int failed) {
+        return new DeliveryReport(recipients, failed);
+    }
+
+    DeliveryReport plus(final DeliveryReport other) {
+        return new DeliveryReport(recipients + other.recipients, failed + other.failed);
+    }
+
+    public int recipients() {
+        return recipients;
+    }
+
+    public int delivered() {
+        return recipients - failed;
+    }
+
+    public int failed() {
+        return failed;
+    }
+}
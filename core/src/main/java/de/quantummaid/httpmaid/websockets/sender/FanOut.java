@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.websockets.sender;
+
+import de.quantummaid.httpmaid.websockets.registry.ConnectionInformation;
+import de.quantummaid.httpmaid.websockets.registry.WebsocketRegistryEntry;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
+import static de.quantummaid.httpmaid.websockets.sender.DeliveryReport.deliveryReport;
+import static de.quantummaid.httpmaid.websockets.sender.DeliveryReport.emptyDeliveryReport;
+import static java.lang.Math.floorMod;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.completedStage;
+
+/**
+ * Spreads the delivery of a websocket message over batches of connections. The parallel fan-out assigns every
+ * connection to one of a fixed number of lanes and sends the batches of a lane one after another, so a connection
+ * never receives two messages concurrently and receives them in the order they were sent. The caller thread
+ * fan-out sends on whichever thread sends the message and does not order sends from different threads.
+ */
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FanOut {
+    private final Executor executor;
+    private final int batchSize;
+    @ToString.Exclude
+    private final AtomicReferenceArray<CompletableFuture<DeliveryReport>> lanes;
+
+    public static FanOut callerThreadFanOut() {
+        return new FanOut(null, Integer.MAX_VALUE, null);
+    }
+
+    public static FanOut parallelFanOut(final Executor executor,
+                                        final int batchSize,
+                                        final int parallelism) {
+        validateNotNull(executor, "executor");
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        final AtomicReferenceArray<CompletableFuture<DeliveryReport>> lanes = new AtomicReferenceArray<>(parallelism);
+        for (int i = 0; i < parallelism; ++i) {
+            lanes.set(i, completedFuture(emptyDeliveryReport()));
+        }
+        return new FanOut(executor, batchSize, lanes);
+    }
+
+    CompletionStage<DeliveryReport> deliver(final List<WebsocketRegistryEntry> connections,
+                                            final Function<WebsocketSenderId, WebsocketSender<ConnectionInformation>> senders,
+                                            final Transmission transmission,
+                                            final BiConsumer<ConnectionInformation, Throwable> onException) {
+        final List<CompletionStage<DeliveryReport>> batchReports = new ArrayList<>();
+        bySenderId(connections).forEach((senderId, connectionInformations) -> {
+            final WebsocketSender<ConnectionInformation> sender = senders.apply(senderId);
+            byLane(connectionInformations).forEach((lane, laneConnections) -> {
+                for (int start = 0; start < laneConnections.size(); start += batchSize) {
+                    final int end = (int) Math.min((long) start + batchSize, laneConnections.size());
+                    final List<ConnectionInformation> batch = laneConnections.subList(start, end);
+                    batchReports.add(submit(lane, () -> sendBatch(batch, sender, transmission, onException)));
+                }
+            });
+        });
+        CompletionStage<DeliveryReport> report = completedStage(emptyDeliveryReport());
+        for (final CompletionStage<DeliveryReport> batchReport : batchReports) {
+            report = report.thenCombine(batchReport, DeliveryReport::plus);
+        }
+        return report;
+    }
+
+    private CompletionStage<DeliveryReport> submit(final int lane, final Supplier<DeliveryReport> batch) {
+        if (executor == null) {
+            return completedStage(batch.get());
+        }
+        final CompletableFuture<DeliveryReport> report = new CompletableFuture<>();
+        final CompletableFuture<DeliveryReport> previous = lanes.getAndSet(lane, report);
+        previous.whenComplete((ignored, exception) -> dispatch(batch, report));
+        return report;
+    }
+
+    private void dispatch(final Supplier<DeliveryReport> batch, final CompletableFuture<DeliveryReport> report) {
+        final Runnable task = () -> {
+            try {
+                report.complete(batch.get());
+            } catch (final RuntimeException e) {
+                report.completeExceptionally(e);
+            }
+        };
+        try {
+            executor.execute(task);
+        } catch (final RejectedExecutionException e) {
+            task.run();
+        }
+    }
+
+    private Map<Integer, List<ConnectionInformation>> byLane(final List<ConnectionInformation> connectionInformations) {
+        if (lanes == null) {
+            return Map.of(0, connectionInformations);
+        }
+        final Map<Integer, List<ConnectionInformation>> byLane = new LinkedHashMap<>();
+        connectionInformations.forEach(connectionInformation -> {
+            final int lane = floorMod(connectionInformation.uniqueIdentifier().hashCode(), lanes.length());
+            byLane.computeIfAbsent(lane, ignored -> new ArrayList<>()).add(connectionInformation);
+        });
+        return byLane;
+    }
+
+    private static DeliveryReport sendBatch(final List<ConnectionInformation> batch,
+                                            final WebsocketSender<ConnectionInformation> sender,
+                                            final Transmission transmission,
+                                            final BiConsumer<ConnectionInformation, Throwable> onException) {
+        final AtomicInteger failed = new AtomicInteger();
+        transmission.transmit(sender, batch, (connectionInformation, throwable) -> {
+            failed.incrementAndGet();
+            onException.accept(connectionInformation, throwable);
+        });
+        return deliveryReport(batch.size(), failed.get());
+    }
+
+    private static Map<WebsocketSenderId, List<ConnectionInformation>> bySenderId(final List<WebsocketRegistryEntry> connections) {
+        final Map<WebsocketSenderId, List<ConnectionInformation>> bySenderId = new LinkedHashMap<>();
+        connections.forEach(entry -> bySenderId
+                .computeIfAbsent(entry.senderId(), senderId -> new ArrayList<>())
+                .add(entry.connectionInformation()));
+        return bySenderId;
+    }
+
+    interface Transmission {
+        void transmit(WebsocketSender<ConnectionInformation> sender,
+                      List<ConnectionInformation> batch,
+                      BiConsumer<ConnectionInformation, Throwable> onException);
+    }
+}
@@ -23,9 +23,15 @@ package de.quantummaid.httpmaid.websockets.sender;
 
 import de.quantummaid.httpmaid.websockets.registry.ConnectionInformation;
 
+import java.nio.ByteBuffer;
+
 public interface NonSerializableConnectionInformation extends ConnectionInformation {
     void send(String message);
 
+    default void sendBinary(final ByteBuffer message) {
+        throw new UnsupportedOperationException("Cannot send binary message because this connection only supports text");
+    }
+
     void disconnect();
 
     @Override
@@ -26,6 +26,7 @@ import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.function.BiConsumer;
 
@@ -54,6 +55,19 @@ public final class NonSerializableWebsocketSender implements WebsocketSender<Non
         });
     }
 
+    @Override
+    public void sendBinary(final ByteBuffer message,
+                           final List<NonSerializableConnectionInformation> connectionInformations,
+                           final BiConsumer<NonSerializableConnectionInformation, Throwable> onException) {
+        connectionInformations.forEach(connectionInformation -> {
+            try {
+                connectionInformation.sendBinary(message.asReadOnlyBuffer());
+            } catch (final Exception e) {
+                onException.accept(connectionInformation, e);
+            }
+        });
+    }
+
     @Override
     public void disconnect(final List<NonSerializableConnectionInformation> connectionInformations,
                            final BiConsumer<NonSerializableConnectionInformation, Throwable> onException) {
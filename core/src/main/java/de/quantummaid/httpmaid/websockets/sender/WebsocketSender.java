@@ -23,12 +23,21 @@ package de.quantummaid.httpmaid.websockets.sender;
 
 import de.quantummaid.httpmaid.websockets.registry.ConnectionInformation;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.function.BiConsumer;
 
+import static java.lang.String.format;
+
 public interface WebsocketSender<T extends ConnectionInformation> {
     void send(String message, List<T> connectionInformations, BiConsumer<T, Throwable> onException);
 
+    default void sendBinary(final ByteBuffer message,
+                            final List<T> connectionInformations,
+                            final BiConsumer<T, Throwable> onException) {
+        throw new UnsupportedOperationException(format("websocket sender %s does not support binary messages", senderId()));
+    }
+
     WebsocketSenderId senderId();
 
     void disconnect(List<T> connectionInformations, BiConsumer<T, Throwable> onException);
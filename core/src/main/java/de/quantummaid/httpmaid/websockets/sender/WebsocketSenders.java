@@ -23,15 +23,22 @@ package de.quantummaid.httpmaid.websockets.sender;
 
 import de.quantummaid.httpmaid.chains.MetaDataKey;
 import de.quantummaid.httpmaid.websockets.registry.ConnectionInformation;
+import de.quantummaid.httpmaid.websockets.registry.WebsocketRegistryEntry;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 
 import static de.quantummaid.httpmaid.chains.MetaDataKey.metaDataKey;
+import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
+import static de.quantummaid.httpmaid.websockets.sender.FanOut.callerThreadFanOut;
 import static de.quantummaid.httpmaid.websockets.sender.NonSerializableWebsocketSender.NON_SERIALIZABLE_WEBSOCKET_SENDER;
 import static de.quantummaid.httpmaid.websockets.sender.NonSerializableWebsocketSender.nonSerializableWebsocketSender;
 
@@ -42,6 +49,7 @@ public final class WebsocketSenders {
     public static final MetaDataKey<WebsocketSenders> WEBSOCKET_SENDERS = metaDataKey("WEBSOCKET_SENDERS");
 
     private final Map<WebsocketSenderId, WebsocketSender<ConnectionInformation>> senders;
+    private volatile FanOut fanOut = callerThreadFanOut();
 
     public static WebsocketSenders websocketSenders() {
         final WebsocketSenders websocketSenders = new WebsocketSenders(new ConcurrentHashMap<>());
@@ -58,4 +66,23 @@ public final class WebsocketSenders {
     public WebsocketSender<ConnectionInformation> senderById(final WebsocketSenderId id) {
         return senders.get(id);
     }
+
+    public void fanOutUsing(final FanOut fanOut) {
+        validateNotNull(fanOut, "fanOut");
+        this.fanOut = fanOut;
+    }
+
+    public CompletionStage<DeliveryReport> send(final String message,
+                                                final List<WebsocketRegistryEntry> connections,
+                                                final BiConsumer<ConnectionInformation, Throwable> onException) {
+        return fanOut.deliver(connections, this::senderById,
+                (sender, batch, batchOnException) -> sender.send(message, batch, batchOnException), onException);
+    }
+
+    public CompletionStage<DeliveryReport> sendBinary(final ByteBuffer message,
+                                                      final List<WebsocketRegistryEntry> connections,
+                                                      final BiConsumer<ConnectionInformation, Throwable> onException) {
+        return fanOut.deliver(connections, this::senderById,
+                (sender, batch, batchOnException) -> sender.sendBinary(message.asReadOnlyBuffer(), batch, batchOnException), onException);
+    }
 }
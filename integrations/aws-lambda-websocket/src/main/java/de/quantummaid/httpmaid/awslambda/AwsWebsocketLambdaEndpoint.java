@@ -35,6 +35,7 @@ import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.nio.ByteBuffer;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -49,6 +50,7 @@ import static de.quantummaid.httpmaid.awslambda.registry.EntryDeserializer.deser
 import static de.quantummaid.httpmaid.awslambda.sender.AwsWebsocketSender.AWS_WEBSOCKET_SENDER;
 import static de.quantummaid.httpmaid.awslambda.sender.AwsWebsocketSender.awsWebsocketSender;
 import static de.quantummaid.httpmaid.awslambda.sender.apigateway.async.ApiGatewayAsyncClientFactory.defaultAsyncApiGatewayClientFactory;
+import static de.quantummaid.httpmaid.checkpoint.CheckpointHooks.CHECKPOINT_HOOKS;
 import static de.quantummaid.httpmaid.closing.ClosingActions.CLOSING_ACTIONS;
 import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
 import static de.quantummaid.httpmaid.util.Validators.validateNotNullNorEmpty;
@@ -56,9 +58,14 @@ import static de.quantummaid.httpmaid.websockets.WebsocketMetaDataKeys.WEBSOCKET
 import static de.quantummaid.httpmaid.websockets.authorization.AuthorizationDecision.AUTHORIZATION_DECISION;
 import static de.quantummaid.httpmaid.websockets.endpoint.RawWebsocketConnectBuilder.rawWebsocketConnectBuilder;
 import static de.quantummaid.httpmaid.websockets.endpoint.RawWebsocketDisconnect.rawWebsocketDisconnect;
+import static de.quantummaid.httpmaid.websockets.endpoint.RawWebsocketMessage.rawBinaryWebsocketMessage;
+import static de.quantummaid.httpmaid.websockets.endpoint.RawWebsocketMessage.rawBinaryWebsocketMessageWithMetaData;
 import static de.quantummaid.httpmaid.websockets.endpoint.RawWebsocketMessage.rawWebsocketMessage;
 import static de.quantummaid.httpmaid.websockets.endpoint.RawWebsocketMessage.rawWebsocketMessageWithMetaData;
 import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.util.Base64.getDecoder;
+import static java.util.Base64.getEncoder;
 import static java.util.Collections.emptyMap;
 
 @ToString
@@ -89,6 +96,7 @@ public final class AwsWebsocketLambdaEndpoint {
         final AwsWebsocketSender websocketSender = awsWebsocketSender(apiGatewayClientFactory);
         httpMaid.addWebsocketSender(AWS_WEBSOCKET_SENDER, websocketSender);
         httpMaid.getMetaDatum(CLOSING_ACTIONS).addClosingAction(websocketSender);
+        httpMaid.getMetaDatum(CHECKPOINT_HOOKS).addCheckpointHook(websocketSender);
         return new AwsWebsocketLambdaEndpoint(httpMaid, region);
     }
 
@@ -152,6 +160,15 @@ public final class AwsWebsocketLambdaEndpoint {
         return httpMaid.handleRequestSynchronously(() -> {
             final String body = event.getAsString("body");
             final Map<MetaDataKey<?>, Object> additionalMetaData = Map.of(AWS_LAMBDA_EVENT, event);
+            if (isBase64Encoded(event)) {
+                final ByteBuffer binaryBody = ByteBuffer.wrap(getDecoder().decode(body));
+                if (isAlreadyAuthorized(event)) {
+                    final WebsocketRegistryEntry registryEntry = extractWebsocketRegistryEntry(event, connectionInformation);
+                    return rawBinaryWebsocketMessageWithMetaData(connectionInformation, binaryBody, registryEntry, additionalMetaData);
+                } else {
+                    return rawBinaryWebsocketMessage(connectionInformation, binaryBody, additionalMetaData);
+                }
+            }
             if (isAlreadyAuthorized(event)) {
                 final WebsocketRegistryEntry registryEntry = extractWebsocketRegistryEntry(event, connectionInformation);
                 return rawWebsocketMessageWithMetaData(connectionInformation, body, registryEntry, additionalMetaData);
@@ -160,11 +177,20 @@ public final class AwsWebsocketLambdaEndpoint {
             }
         }, response -> {
             final LinkedHashMap<String, Object> responseMap = new LinkedHashMap<>();
-            response.optionalStringBody().ifPresent(s -> responseMap.put("body", s));
+            response.dispatchBody(
+                    stringBody -> responseMap.put("body", stringBody),
+                    binaryBody -> {
+                        responseMap.put("body", US_ASCII.decode(getEncoder().encode(binaryBody)).toString());
+                        responseMap.put("isBase64Encoded", true);
+                    });
             return responseMap;
         });
     }
 
+    private static boolean isBase64Encoded(final AwsLambdaEvent event) {
+        return event.getOrDefault("isBase64Encoded", () -> false);
+    }
+
     private boolean isAlreadyAuthorized(final AwsLambdaEvent event) {
         final AwsLambdaEvent context = event.getMap(REQUEST_CONTEXT_KEY);
         return context.containsKey(AUTHORIZER_KEY);
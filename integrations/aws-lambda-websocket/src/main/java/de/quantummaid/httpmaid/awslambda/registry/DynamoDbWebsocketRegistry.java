@@ -39,7 +39,6 @@ import static de.quantummaid.httpmaid.awslambda.registry.EntryDeserializer.deser
 import static de.quantummaid.httpmaid.awslambda.registry.EntryDeserializer.serializeEntry;
 import static de.quantummaid.httpmaid.awslambda.registry.queryexecutor.DefaultQueryExecutor.defaultQueryExecutor;
 import static de.quantummaid.httpmaid.awslambda.repository.dynamodb.DynamoDbRepository.dynamoDbRepository;
-import static de.quantummaid.httpmaid.websockets.criteria.WebsocketCriteria.websocketCriteria;
 
 @ToString
 @EqualsAndHashCode
@@ -92,6 +91,6 @@ public final class DynamoDbWebsocketRegistry implements WebsocketRegistry {
 
     @Override
     public long countConnections() {
-        return connections(websocketCriteria()).size();
+        return repository.countAll();
     }
 }
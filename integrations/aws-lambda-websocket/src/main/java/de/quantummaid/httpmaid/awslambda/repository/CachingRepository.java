@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.awslambda.repository;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CachingRepository implements Repository {
+    private final Repository delegate;
+    private final long timeToLiveInNanos;
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Map<String, Map<String, Object>> entries;
+    @EqualsAndHashCode.Exclude
+    private long expiresAt;
+
+    public static CachingRepository cachingRepository(final Repository delegate,
+                                                      final Duration timeToLive) {
+        validateNotNull(delegate, "delegate");
+        validateNotNull(timeToLive, "timeToLive");
+        if (timeToLive.isNegative() || timeToLive.isZero()) {
+            throw new IllegalArgumentException("timeToLive must be positive");
+        }
+        return new CachingRepository(delegate, timeToLive.toNanos());
+    }
+
+    @Override
+    public synchronized void store(final String key, final Map<String, Object> value) {
+        delegate.store(key, value);
+        if (isFresh()) {
+            entries.put(key, value);
+        }
+    }
+
+    @Override
+    public synchronized void delete(final String key) {
+        delegate.delete(key);
+        if (isFresh()) {
+            entries.remove(key);
+        }
+    }
+
+    @Override
+    public synchronized Map<String, Object> load(final String key) {
+        if (isFresh()) {
+            final Map<String, Object> cached = entries.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        return delegate.load(key);
+    }
+
+    @Override
+    public synchronized Map<String, Map<String, Object>> loadAll() {
+        if (!isFresh()) {
+            entries = new LinkedHashMap<>(delegate.loadAll());
+            expiresAt = System.nanoTime() + timeToLiveInNanos;
+        }
+        return new LinkedHashMap<>(entries);
+    }
+
+    @Override
+    public synchronized long countAll() {
+        if (isFresh()) {
+            return entries.size();
+        }
+        return delegate.countAll();
+    }
+
+    public synchronized void invalidate() {
+        entries = null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    private boolean isFresh() {
+        return entries != null && System.nanoTime() - expiresAt < 0;
+    }
+}
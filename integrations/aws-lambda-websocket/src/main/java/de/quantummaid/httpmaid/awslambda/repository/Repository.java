@@ -33,4 +33,8 @@ public interface Repository extends Closeable {
     Map<String, Object> load(String key);
 
     Map<String, Map<String, Object>> loadAll();
+
+    default long countAll() {
+        return loadAll().size();
+    }
 }
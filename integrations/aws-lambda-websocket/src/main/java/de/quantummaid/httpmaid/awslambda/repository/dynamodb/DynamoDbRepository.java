@@ -31,12 +31,19 @@ import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.*;
 
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
 
 import static de.quantummaid.httpmaid.awslambda.repository.dynamodb.DynamoDbMarshaller.marshalTopLevelMap;
 import static de.quantummaid.httpmaid.awslambda.repository.dynamodb.DynamoDbRepositoryException.dynamoDbRepositoryException;
 import static de.quantummaid.httpmaid.awslambda.repository.dynamodb.DynamoDbUnmarshaller.unmarshalMap;
 import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.IntStream.range;
 
 @Slf4j
 @ToString
@@ -48,6 +55,8 @@ public final class DynamoDbRepository implements Repository {
     private final String tableName;
     private final String primaryKey;
     private final Double enforcedMaxWriteCapacityUnits;
+    private final int scanSegments;
+    private final ExecutorService scanExecutor;
 
     public static DynamoDbRepository dynamoDbRepository(final String tableName,
                                                         final String primaryKey) {
@@ -65,10 +74,32 @@ public final class DynamoDbRepository implements Repository {
                                                         final String tableName,
                                                         final String primaryKey,
                                                         final Double enforcedMaxWriteCapacityUnits) {
+        return dynamoDbRepository(dynamoDbClient, tableName, primaryKey, enforcedMaxWriteCapacityUnits, 1);
+    }
+
+    public static DynamoDbRepository dynamoDbRepository(final DynamoDbClient dynamoDbClient,
+                                                        final String tableName,
+                                                        final String primaryKey,
+                                                        final Double enforcedMaxWriteCapacityUnits,
+                                                        final int scanSegments) {
         validateNotNull(dynamoDbClient, "dynamoDbClient");
         validateNotNull(tableName, "tableName");
         validateNotNull(primaryKey, "primaryKey");
-        return new DynamoDbRepository(dynamoDbClient, tableName, primaryKey, enforcedMaxWriteCapacityUnits);
+        if (scanSegments <= 0) {
+            throw new IllegalArgumentException("scanSegments must be positive");
+        }
+        final ExecutorService scanExecutor;
+        if (scanSegments > 1) {
+            scanExecutor = newFixedThreadPool(scanSegments, runnable -> {
+                final Thread thread = new Thread(runnable, "httpmaid-dynamodb-scan");
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            scanExecutor = null;
+        }
+        return new DynamoDbRepository(dynamoDbClient, tableName, primaryKey,
+                enforcedMaxWriteCapacityUnits, scanSegments, scanExecutor);
     }
 
     @Override
@@ -129,24 +160,72 @@ public final class DynamoDbRepository implements Repository {
     @SuppressWarnings("unchecked")
     @Override
     public Map<String, Map<String, Object>> loadAll() {
-        final ScanResponse scan = dynamoDbClient.scan(builder -> builder.tableName(tableName));
+        final List<Map<String, Map<String, Object>>> segments = scanAllSegments(segment -> {
+            final ScanRequest request = scanRequest(segment).build();
+            final Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+            dynamoDbClient.scanPaginator(request).items().stream()
+                    .map(DynamoDbUnmarshaller::unmarshalMap)
+                    .forEach(map -> {
+                        final String key = (String) map.get(primaryKey);
+                        final Map<String, Object> value = (Map<String, Object>) map.get(VALUE_IDENTIFIER);
+                        result.put(key, value);
+                    });
+            return result;
+        });
+        if (segments.size() == 1) {
+            return segments.get(0);
+        }
         final Map<String, Map<String, Object>> result = new LinkedHashMap<>();
-        scan.items().stream()
-                .map(DynamoDbUnmarshaller::unmarshalMap)
-                .forEach(map -> {
-                    final String key = (String) map.get(primaryKey);
-                    final Map<String, Object> value = (Map<String, Object>) map.get(VALUE_IDENTIFIER);
-                    result.put(key, value);
-                });
+        segments.forEach(result::putAll);
         return result;
     }
 
+    @Override
+    public long countAll() {
+        final List<Long> segments = scanAllSegments(segment -> {
+            final ScanRequest request = scanRequest(segment)
+                    .select(Select.COUNT)
+                    .build();
+            return dynamoDbClient.scanPaginator(request).stream()
+                    .mapToLong(ScanResponse::count)
+                    .sum();
+        });
+        return segments.stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    private ScanRequest.Builder scanRequest(final int segment) {
+        final ScanRequest.Builder builder = ScanRequest.builder()
+                .tableName(tableName);
+        if (scanSegments > 1) {
+            builder.segment(segment)
+                    .totalSegments(scanSegments);
+        }
+        return builder;
+    }
+
+    private <T> List<T> scanAllSegments(final Function<Integer, T> scanSegment) {
+        if (scanExecutor == null) {
+            return List.of(scanSegment.apply(0));
+        }
+        final List<CompletableFuture<T>> futures = range(0, scanSegments)
+                .mapToObj(segment -> CompletableFuture.supplyAsync(() -> scanSegment.apply(segment), scanExecutor))
+                .collect(toList());
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .collect(toList());
+    }
+
     public DynamoDbClient dynamoDbClient() {
         return dynamoDbClient;
     }
 
     @Override
     public void close() {
+        if (scanExecutor != null) {
+            scanExecutor.shutdown();
+        }
         dynamoDbClient.close();
     }
 }
@@ -25,6 +25,7 @@ import de.quantummaid.httpmaid.awslambda.AwsWebsocketConnectionInformation;
 import de.quantummaid.httpmaid.awslambda.sender.apigateway.AbstractGatewayClient;
 import de.quantummaid.httpmaid.awslambda.sender.apigateway.ApiGatewayClientFactory;
 import de.quantummaid.httpmaid.awslambda.sender.apigateway.GatewayOperation;
+import de.quantummaid.httpmaid.checkpoint.CheckpointHook;
 import de.quantummaid.httpmaid.websockets.sender.WebsocketSender;
 import de.quantummaid.httpmaid.websockets.sender.WebsocketSenderId;
 import lombok.AccessLevel;
@@ -33,6 +34,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
@@ -46,7 +48,7 @@ import static java.util.stream.Collectors.toMap;
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 @Slf4j
-public final class AwsWebsocketSender implements WebsocketSender<AwsWebsocketConnectionInformation>, AutoCloseable {
+public final class AwsWebsocketSender implements WebsocketSender<AwsWebsocketConnectionInformation>, CheckpointHook, AutoCloseable {
     public static final WebsocketSenderId AWS_WEBSOCKET_SENDER = websocketSenderId("AWS_WEBSOCKET_SENDER");
 
     private final ClientCache clientCache;
@@ -64,6 +66,14 @@ public final class AwsWebsocketSender implements WebsocketSender<AwsWebsocketCon
                 client.sendMessage(connectionId, message));
     }
 
+    @Override
+    public void sendBinary(final ByteBuffer message,
+                           final List<AwsWebsocketConnectionInformation> connectionInformations,
+                           final BiConsumer<AwsWebsocketConnectionInformation, Throwable> onException) {
+        runOperation(connectionInformations, onException, (client, connectionId) ->
+                client.sendBinaryMessage(connectionId, message.asReadOnlyBuffer()));
+    }
+
     @Override
     public void disconnect(final List<AwsWebsocketConnectionInformation> connectionInformations,
                            final BiConsumer<AwsWebsocketConnectionInformation, Throwable> onException) {
@@ -89,6 +99,11 @@ public final class AwsWebsocketSender implements WebsocketSender<AwsWebsocketCon
         return AWS_WEBSOCKET_SENDER;
     }
 
+    @Override
+    public void beforeCheckpoint() {
+        clientCache.clear();
+    }
+
     @Override
     public void close() {
         clientCache.close();
@@ -42,6 +42,15 @@ public final class ClientCache implements AutoCloseable {
         return clientsByEndpointUrl.computeIfAbsent(endpointUrl, clientFactory::provide);
     }
 
+    public void clear() {
+        for (final String endpointUrl : clientsByEndpointUrl.keySet()) {
+            final AbstractGatewayClient client = clientsByEndpointUrl.remove(endpointUrl);
+            if (client != null) {
+                client.close();
+            }
+        }
+    }
+
     @Override
     public void close() {
         clientFactory.close();
@@ -21,10 +21,15 @@
 
 package de.quantummaid.httpmaid.awslambda.sender.apigateway;
 
+import java.nio.ByteBuffer;
+
 public interface AbstractGatewayClient extends AutoCloseable {
     GatewayOperation sendMessage(String connectionId,
                                  String message);
 
+    GatewayOperation sendBinaryMessage(String connectionId,
+                                       ByteBuffer message);
+
     GatewayOperation disconnect(String connectionId);
 
     @Override
@@ -25,6 +25,8 @@ import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.services.apigatewaymanagementapi.model.DeleteConnectionRequest;
 import software.amazon.awssdk.services.apigatewaymanagementapi.model.PostToConnectionRequest;
 
+import java.nio.ByteBuffer;
+
 public final class ApiGatewayClientUtils {
 
     private ApiGatewayClientUtils() {
@@ -38,6 +40,14 @@ public final class ApiGatewayClientUtils {
                 .build();
     }
 
+    public static PostToConnectionRequest postToConnectionRequest(final String connectionId,
+                                                                  final ByteBuffer message) {
+        return PostToConnectionRequest.builder()
+                .connectionId(connectionId)
+                .data(SdkBytes.fromByteBuffer(message))
+                .build();
+    }
+
     public static DeleteConnectionRequest deleteConnectionRequest(final String connectionId) {
         return DeleteConnectionRequest.builder()
                 .connectionId(connectionId)
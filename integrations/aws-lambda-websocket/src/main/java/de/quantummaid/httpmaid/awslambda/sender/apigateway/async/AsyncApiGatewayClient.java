@@ -31,6 +31,7 @@ import software.amazon.awssdk.services.apigatewaymanagementapi.model.DeleteConne
 import software.amazon.awssdk.services.apigatewaymanagementapi.model.PostToConnectionRequest;
 import software.amazon.awssdk.services.apigatewaymanagementapi.model.PostToConnectionResponse;
 
+import java.nio.ByteBuffer;
 import java.util.concurrent.CompletableFuture;
 
 import static de.quantummaid.httpmaid.awslambda.sender.apigateway.ApiGatewayClientUtils.deleteConnectionRequest;
@@ -53,6 +54,14 @@ public final class AsyncApiGatewayClient implements AbstractGatewayClient {
         return futureGatewayOperation(future);
     }
 
+    @Override
+    public GatewayOperation sendBinaryMessage(final String connectionId,
+                                              final ByteBuffer message) {
+        final PostToConnectionRequest request = postToConnectionRequest(connectionId, message);
+        final CompletableFuture<PostToConnectionResponse> future = client.postToConnection(request);
+        return futureGatewayOperation(future);
+    }
+
     @Override
     public GatewayOperation disconnect(final String connectionId) {
         final DeleteConnectionRequest request = deleteConnectionRequest(connectionId);
@@ -29,6 +29,8 @@ import software.amazon.awssdk.services.apigatewaymanagementapi.ApiGatewayManagem
 import software.amazon.awssdk.services.apigatewaymanagementapi.model.DeleteConnectionRequest;
 import software.amazon.awssdk.services.apigatewaymanagementapi.model.PostToConnectionRequest;
 
+import java.nio.ByteBuffer;
+
 import static de.quantummaid.httpmaid.awslambda.sender.apigateway.ApiGatewayClientUtils.deleteConnectionRequest;
 import static de.quantummaid.httpmaid.awslambda.sender.apigateway.ApiGatewayClientUtils.postToConnectionRequest;
 import static de.quantummaid.httpmaid.awslambda.sender.apigateway.sync.AlreadyExecutedGatewayOperation.executeSynchronouslyNow;
@@ -48,6 +50,13 @@ public final class SyncApiGatewayClient implements AbstractGatewayClient {
         return executeSynchronouslyNow(() -> client.postToConnection(request));
     }
 
+    @Override
+    public GatewayOperation sendBinaryMessage(final String connectionId,
+                                              final ByteBuffer message) {
+        final PostToConnectionRequest request = postToConnectionRequest(connectionId, message);
+        return executeSynchronouslyNow(() -> client.postToConnection(request));
+    }
+
     @Override
     public GatewayOperation disconnect(final String connectionId) {
         final DeleteConnectionRequest request = deleteConnectionRequest(connectionId);
@@ -22,17 +22,29 @@
 package de.quantummaid.httpmaid.awslambda;
 
 import de.quantummaid.httpmaid.HttpMaid;
+import de.quantummaid.httpmaid.checkpoint.CheckpointHooks;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.List;
 import java.util.Map;
 
 import static de.quantummaid.httpmaid.awslambda.AwsLambdaEvent.awsLambdaEvent;
 import static de.quantummaid.httpmaid.awslambda.HttpApiHandler.handleHttpApiRequest;
+import static de.quantummaid.httpmaid.awslambda.LambdaJsonReader.readEvent;
+import static de.quantummaid.httpmaid.awslambda.LambdaJsonWriter.lambdaJsonWriter;
 import static de.quantummaid.httpmaid.awslambda.RestApiHandler.handleRestApiRequest;
+import static de.quantummaid.httpmaid.checkpoint.CheckpointHooks.CHECKPOINT_HOOKS;
 import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 @ToString
 @EqualsAndHashCode
@@ -47,16 +59,71 @@ public final class AwsLambdaEndpoint {
 
     public Map<String, Object> delegate(final Map<String, Object> event) {
         final AwsLambdaEvent awsLambdaEvent = awsLambdaEvent(event);
+        if (isHttpApiEvent(event)) {
+            return handleHttpApiRequest(awsLambdaEvent, httpMaid);
+        } else {
+            return handleRestApiRequest(awsLambdaEvent, httpMaid);
+        }
+    }
 
+    public void delegate(final InputStream inputStream, final OutputStream outputStream) throws IOException {
+        validateNotNull(inputStream, "inputStream");
+        validateNotNull(outputStream, "outputStream");
+        final Map<String, Object> event = readEvent(inputStream);
+        final AwsLambdaEvent awsLambdaEvent = awsLambdaEvent(event);
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, UTF_8));
+        final LambdaJsonWriter jsonWriter = lambdaJsonWriter(writer);
+        if (isHttpApiEvent(event)) {
+            handleHttpApiRequest(awsLambdaEvent, httpMaid, jsonWriter);
+        } else {
+            handleRestApiRequest(awsLambdaEvent, httpMaid, jsonWriter);
+        }
+        writer.flush();
+    }
+
+    private static boolean isHttpApiEvent(final Map<String, Object> event) {
         final String version = (String) event.get("version");
-        if (version == null) {
-            return handleRestApiRequest(awsLambdaEvent, httpMaid);
+        if (version == null || "1.0".equals(version)) {
+            return false;
         } else if ("2.0".equals(version)) {
-            return handleHttpApiRequest(awsLambdaEvent, httpMaid);
-        } else if ("1.0".equals(version)) {
-            return handleRestApiRequest(awsLambdaEvent, httpMaid);
+            return true;
         } else {
             throw new UnsupportedOperationException("Unable to handle lambda event: " + event);
         }
     }
+
+    /**
+     * Handles each event exactly like a real invocation and discards the responses. The events run through the
+     * registered handlers including all of their side effects (database writes, websocket sends, ...), so they
+     * should target routes that are safe to call or that recognise warm-up requests.
+     *
+     * @param events lambda events as they would be passed to {@link #delegate(Map)}
+     */
+    public void warmUp(final List<Map<String, Object>> events) {
+        validateNotNull(events, "events");
+        events.forEach(this::delegate);
+    }
+
+    /**
+     * Registers the events to be handled by {@link #warmUp(List)} before a checkpoint is taken. They run through
+     * the real handlers with all of their side effects, once for every checkpoint.
+     *
+     * @param events lambda events as they would be passed to {@link #delegate(Map)}
+     * @return this endpoint
+     */
+    public AwsLambdaEndpoint warmingUpBeforeCheckpointWith(final List<Map<String, Object>> events) {
+        validateNotNull(events, "events");
+        final List<Map<String, Object>> warmUpEvents = List.copyOf(events);
+        final CheckpointHooks checkpointHooks = httpMaid.getMetaDatum(CHECKPOINT_HOOKS);
+        checkpointHooks.addWarmUp(() -> warmUp(warmUpEvents));
+        return this;
+    }
+
+    public void beforeCheckpoint() {
+        httpMaid.beforeCheckpoint();
+    }
+
+    public void afterRestore() {
+        httpMaid.afterRestore();
+    }
 }
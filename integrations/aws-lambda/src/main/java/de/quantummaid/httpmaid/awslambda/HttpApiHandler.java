@@ -22,17 +22,20 @@
 package de.quantummaid.httpmaid.awslambda;
 
 import de.quantummaid.httpmaid.HttpMaid;
+import de.quantummaid.httpmaid.endpoint.RawHttpRequest;
 import de.quantummaid.httpmaid.endpoint.RawHttpRequestBuilder;
 import de.quantummaid.httpmaid.endpoint.RawResponse;
 import de.quantummaid.httpmaid.http.HeadersBuilder;
 import de.quantummaid.httpmaid.http.QueryParameters;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import static de.quantummaid.httpmaid.awslambda.EventUtils.extractPotentiallyEncodedBody;
+import static de.quantummaid.httpmaid.awslambda.LambdaResponseMap.lambdaResponseMap;
 import static de.quantummaid.httpmaid.awslambda.RequestBuilderFactory.createRequestBuilder;
 import static de.quantummaid.httpmaid.http.HeadersBuilder.headersBuilder;
 import static de.quantummaid.httpmaid.http.Http.Headers.COOKIE;
@@ -46,49 +49,74 @@ public final class HttpApiHandler {
 
     static Map<String, Object> handleHttpApiRequest(final AwsLambdaEvent event,
                                                     final HttpMaid httpMaid) {
-        return httpMaid.handleRequestSynchronously(() -> {
-            final RawHttpRequestBuilder builder = createRequestBuilder(event);
-
-            final AwsLambdaEvent requestContext = event.getMap("requestContext");
-            final AwsLambdaEvent httpInformation = requestContext.getMap("http");
-            final String httpRequestMethod = httpInformation.getAsString("method");
-            builder.withMethod(httpRequestMethod);
-            final String path = httpInformation.getAsString("path");
-            builder.withPath(path);
-
-            final Map<String, String> headers = event.getOrDefault("headers", LinkedHashMap::new);
-            final HeadersBuilder headersBuilder = headersBuilder();
-            headers.forEach((key, commaSeparatedValues) -> {
-                final String[] values = commaSeparatedValues.split(",");
-                stream(values).forEach(value -> headersBuilder.withAdditionalHeader(key, value));
-            });
-            final List<String> cookies = event.getOrDefault("cookies", ArrayList::new);
-            cookies.forEach(cookie -> headersBuilder.withAdditionalHeader(COOKIE, cookie));
-            builder.withHeaders(headersBuilder.build());
-
-            final String queryString = event.getAsString("rawQueryString");
-            final QueryParameters queryParameters = QueryParameters.fromQueryString(queryString);
-            builder.withQueryParameters(queryParameters);
-
-            final String body = extractPotentiallyEncodedBody(event);
-            builder.withBody(body);
-
-            return builder.build();
-        }, response -> {
-            final LinkedHashMap<String, Object> responseMap = new LinkedHashMap<>();
-            final int statusCode = response.status();
-            responseMap.put("statusCode", statusCode);
-            final String responseBody = response.stringBody();
-            responseMap.put("body", responseBody);
-            setHeadersInResponse(response, responseMap);
-            return responseMap;
+        return httpMaid.handleRequestSynchronously(() -> httpApiRequest(event), response -> {
+            final LambdaResponseMap responseMap = lambdaResponseMap();
+            project(response, responseMap);
+            return responseMap.asMap();
         });
     }
 
-    private static void setHeadersInResponse(final RawResponse response,
-                                             final Map<String, Object> responseMap) {
+    static void handleHttpApiRequest(final AwsLambdaEvent event,
+                                     final HttpMaid httpMaid,
+                                     final LambdaJsonWriter writer) throws IOException {
+        final RawResponse response = httpMaid.handleRequestSynchronously(() -> httpApiRequest(event), rawResponse -> rawResponse);
+        if (response == null) {
+            writer.nullValue();
+            return;
+        }
+        writer.beginObject();
+        project(response, writer);
+        writer.endObject();
+    }
+
+    private static void project(final RawResponse response,
+                                final LambdaResponseSink sink) throws IOException {
         final List<String> cookies = new ArrayList<>();
         final Map<String, String> singleHeaders = new LinkedHashMap<>();
+        splitHeaders(response, singleHeaders, cookies);
+        sink.field("statusCode", response.status());
+        sink.field("body", response.stringBody());
+        sink.field("headers", singleHeaders);
+        sink.field("cookies", cookies);
+    }
+
+    private static RawHttpRequest httpApiRequest(final AwsLambdaEvent event) {
+        final RawHttpRequestBuilder builder = createRequestBuilder(event);
+
+        final AwsLambdaEvent requestContext = event.getMap("requestContext");
+        final AwsLambdaEvent httpInformation = requestContext.getMap("http");
+        final String httpRequestMethod = httpInformation.getAsString("method");
+        builder.withMethod(httpRequestMethod);
+        final String path = httpInformation.getAsString("path");
+        builder.withPath(path);
+
+        final Map<String, String> headers = event.getOrDefault("headers", LinkedHashMap::new);
+        final HeadersBuilder headersBuilder = headersBuilder();
+        headers.forEach((key, commaSeparatedValues) -> {
+            if (commaSeparatedValues.indexOf(',') < 0) {
+                headersBuilder.withAdditionalHeader(key, commaSeparatedValues);
+            } else {
+                final String[] values = commaSeparatedValues.split(",");
+                stream(values).forEach(value -> headersBuilder.withAdditionalHeader(key, value));
+            }
+        });
+        final List<String> cookies = event.getOrDefault("cookies", ArrayList::new);
+        cookies.forEach(cookie -> headersBuilder.withAdditionalHeader(COOKIE, cookie));
+        builder.withHeaders(headersBuilder.build());
+
+        final String queryString = event.getAsString("rawQueryString");
+        final QueryParameters queryParameters = QueryParameters.fromQueryString(queryString);
+        builder.withQueryParameters(queryParameters);
+
+        final String body = extractPotentiallyEncodedBody(event);
+        builder.withBody(body);
+
+        return builder.build();
+    }
+
+    private static void splitHeaders(final RawResponse response,
+                                     final Map<String, String> singleHeaders,
+                                     final List<String> cookies) {
         final Map<String, List<String>> responseHeaders = response.headers();
         responseHeaders.forEach((key, values) -> {
             if (key.equalsIgnoreCase(SET_COOKIE)) {
@@ -98,8 +126,5 @@ public final class HttpApiHandler {
                 singleHeaders.put(key, joinedValues);
             }
         });
-
-        responseMap.put("headers", singleHeaders);
-        responseMap.put("cookies", cookies);
     }
 }
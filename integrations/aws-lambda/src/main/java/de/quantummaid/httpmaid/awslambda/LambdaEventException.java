@@ -37,6 +37,11 @@ public final class LambdaEventException extends IllegalArgumentException {
         return new LambdaEventException(message);
     }
 
+    public static LambdaEventException malformedLambdaEventException(final String reason) {
+        final String message = String.format("Lambda event is not valid JSON: %s", reason);
+        return new LambdaEventException(message);
+    }
+
     public static LambdaEventException unknownKeyException(final String key, final Map<String, Object> map) {
         final String message = String.format("Can't find key '%s' in lambda event %s", key, map);
         return new LambdaEventException(message);
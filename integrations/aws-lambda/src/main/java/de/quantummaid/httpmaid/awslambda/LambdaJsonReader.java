@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.awslambda;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static de.quantummaid.httpmaid.awslambda.LambdaEventException.malformedLambdaEventException;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Single-pass JSON reader for lambda events that reads straight from the
+ * invocation input stream into the structure {@link AwsLambdaEvent} expects.
+ */
+final class LambdaJsonReader {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder stringScratch = new StringBuilder();
+    private final StringBuilder numberScratch = new StringBuilder();
+    private int position;
+    private int limit;
+
+    private LambdaJsonReader(final Reader reader) {
+        this.reader = reader;
+    }
+
+    static Map<String, Object> readEvent(final InputStream inputStream) throws IOException {
+        final LambdaJsonReader jsonReader = new LambdaJsonReader(new InputStreamReader(inputStream, UTF_8));
+        final int first = jsonReader.nextNonWhitespace();
+        if (first != '{') {
+            throw malformedLambdaEventException("expected a JSON object");
+        }
+        final Map<String, Object> event = jsonReader.readObject();
+        if (jsonReader.nextNonWhitespace() != -1) {
+            throw malformedLambdaEventException("unexpected content after the event object");
+        }
+        return event;
+    }
+
+    private Object readValue(final int first) throws IOException {
+        switch (first) {
+            case '{':
+                return readObject();
+            case '[':
+                return readArray();
+            case '"':
+                return readString();
+            case 't':
+                expectLiteral("rue");
+                return Boolean.TRUE;
+            case 'f':
+                expectLiteral("alse");
+                return Boolean.FALSE;
+            case 'n':
+                expectLiteral("ull");
+                return null;
+            case -1:
+                throw malformedLambdaEventException("unexpected end of event");
+            default:
+                return readNumber(first);
+        }
+    }
+
+    private Map<String, Object> readObject() throws IOException {
+        final Map<String, Object> object = new LinkedHashMap<>();
+        int c = nextNonWhitespace();
+        if (c == '}') {
+            return object;
+        }
+        while (true) {
+            if (c != '"') {
+                throw malformedLambdaEventException("expected a field name");
+            }
+            final String name = readString();
+            if (nextNonWhitespace() != ':') {
+                throw malformedLambdaEventException("expected ':' after field '" + name + "'");
+            }
+            object.put(name, readValue(nextNonWhitespace()));
+            c = nextNonWhitespace();
+            if (c == '}') {
+                return object;
+            }
+            if (c != ',') {
+                throw malformedLambdaEventException("expected ',' or '}' in object");
+            }
+            c = nextNonWhitespace();
+        }
+    }
+
+    private List<Object> readArray() throws IOException {
+        final List<Object> array = new ArrayList<>();
+        int c = nextNonWhitespace();
+        if (c == ']') {
+            return array;
+        }
+        while (true) {
+            array.add(readValue(c));
+            c = nextNonWhitespace();
+            if (c == ']') {
+                return array;
+            }
+            if (c != ',') {
+                throw malformedLambdaEventException("expected ',' or ']' in array");
+            }
+            c = nextNonWhitespace();
+        }
+    }
+
+    private String readString() throws IOException {
+        stringScratch.setLength(0);
+        while (true) {
+            if (position == limit && !fill()) {
+                throw malformedLambdaEventException("unterminated string");
+            }
+            final int start = position;
+            while (position < limit) {
+                final char c = buffer[position];
+                if (c == '"' || c == '\\') {
+                    break;
+                }
+                ++position;
+            }
+            stringScratch.append(buffer, start, position - start);
+            if (position == limit) {
+                continue;
+            }
+            final char terminator = buffer[position++];
+            if (terminator == '"') {
+                return stringScratch.toString();
+            }
+            stringScratch.append(readEscape());
+        }
+    }
+
+    private char readEscape() throws IOException {
+        final int c = next();
+        switch (c) {
+            case '"':
+            case '\\':
+            case '/':
+                return (char) c;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                int value = 0;
+                for (int i = 0; i < 4; ++i) {
+                    final int digit = Character.digit(next(), 16);
+                    if (digit < 0) {
+                        throw malformedLambdaEventException("invalid unicode escape");
+                    }
+                    value = (value << 4) | digit;
+                }
+                return (char) value;
+            default:
+                throw malformedLambdaEventException("invalid escape sequence");
+        }
+    }
+
+    private Number readNumber(final int first) throws IOException {
+        numberScratch.setLength(0);
+        numberScratch.append((char) first);
+        boolean decimal = false;
+        while (position < limit || fill()) {
+            final char c = buffer[position];
+            if ((c >= '0' && c <= '9') || c == '-' || c == '+') {
+                numberScratch.append(c);
+            } else if (c == '.' || c == 'e' || c == 'E') {
+                decimal = true;
+                numberScratch.append(c);
+            } else {
+                break;
+            }
+            ++position;
+        }
+        final String number = numberScratch.toString();
+        try {
+            if (decimal) {
+                return Double.valueOf(number);
+            }
+            final long value = Long.parseLong(number);
+            if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+                return (int) value;
+            }
+            return value;
+        } catch (final NumberFormatException e) {
+            throw malformedLambdaEventException("invalid value '" + number + "'");
+        }
+    }
+
+    private void expectLiteral(final String rest) throws IOException {
+        for (int i = 0; i < rest.length(); ++i) {
+            if (next() != rest.charAt(i)) {
+                throw malformedLambdaEventException("invalid literal");
+            }
+        }
+    }
+
+    private int nextNonWhitespace() throws IOException {
+        while (true) {
+            final int c = nextOrEnd();
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                return c;
+            }
+        }
+    }
+
+    private int next() throws IOException {
+        final int c = nextOrEnd();
+        if (c == -1) {
+            throw malformedLambdaEventException("unexpected end of event");
+        }
+        return c;
+    }
+
+    private int nextOrEnd() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++];
+    }
+
+    private boolean fill() throws IOException {
+        final int read = reader.read(buffer, 0, buffer.length);
+        if (read <= 0) {
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+}
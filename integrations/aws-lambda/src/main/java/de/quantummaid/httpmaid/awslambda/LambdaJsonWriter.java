@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.awslambda;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+
+import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
+
+/**
+ * Writes lambda responses as JSON directly to the output, without building
+ * an intermediate map for the lambda runtime to serialize.
+ */
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class LambdaJsonWriter implements LambdaResponseSink {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Writer writer;
+    private boolean firstField = true;
+
+    static LambdaJsonWriter lambdaJsonWriter(final Writer writer) {
+        validateNotNull(writer, "writer");
+        return new LambdaJsonWriter(writer);
+    }
+
+    void nullValue() throws IOException {
+        writer.write("null");
+    }
+
+    void beginObject() throws IOException {
+        writer.write('{');
+        firstField = true;
+    }
+
+    void endObject() throws IOException {
+        writer.write('}');
+    }
+
+    @Override
+    public void field(final String name, final int value) throws IOException {
+        name(name);
+        writer.write(Integer.toString(value));
+    }
+
+    @Override
+    public void field(final String name, final String value) throws IOException {
+        name(name);
+        string(value);
+    }
+
+    @Override
+    public void field(final String name, final List<String> values) throws IOException {
+        name(name);
+        stringArray(values);
+    }
+
+    @Override
+    public void field(final String name, final Map<String, String> values) throws IOException {
+        name(name);
+        writer.write('{');
+        boolean first = true;
+        for (final Map.Entry<String, String> entry : values.entrySet()) {
+            if (!first) {
+                writer.write(',');
+            }
+            first = false;
+            string(entry.getKey());
+            writer.write(':');
+            string(entry.getValue());
+        }
+        writer.write('}');
+    }
+
+    @Override
+    public void multiValueField(final String name, final Map<String, List<String>> values) throws IOException {
+        name(name);
+        writer.write('{');
+        boolean first = true;
+        for (final Map.Entry<String, List<String>> entry : values.entrySet()) {
+            if (!first) {
+                writer.write(',');
+            }
+            first = false;
+            string(entry.getKey());
+            writer.write(':');
+            stringArray(entry.getValue());
+        }
+        writer.write('}');
+    }
+
+    private void name(final String name) throws IOException {
+        if (!firstField) {
+            writer.write(',');
+        }
+        firstField = false;
+        string(name);
+        writer.write(':');
+    }
+
+    private void stringArray(final List<String> values) throws IOException {
+        writer.write('[');
+        for (int i = 0; i < values.size(); ++i) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            string(values.get(i));
+        }
+        writer.write(']');
+    }
+
+    private void string(final String value) throws IOException {
+        if (value == null) {
+            nullValue();
+            return;
+        }
+        writer.write('"');
+        int start = 0;
+        final int length = value.length();
+        for (int i = 0; i < length; ++i) {
+            final char c = value.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\') {
+                continue;
+            }
+            writer.write(value, start, i - start);
+            start = i + 1;
+            switch (c) {
+                case '"':
+                    writer.write("\\\"");
+                    break;
+                case '\\':
+                    writer.write("\\\\");
+                    break;
+                case '\n':
+                    writer.write("\\n");
+                    break;
+                case '\r':
+                    writer.write("\\r");
+                    break;
+                case '\t':
+                    writer.write("\\t");
+                    break;
+                default:
+                    writer.write("\\u00");
+                    writer.write(HEX[c >> 4]);
+                    writer.write(HEX[c & 0xF]);
+                    break;
+            }
+        }
+        writer.write(value, start, length - start);
+        writer.write('"');
+    }
+}
@@ -19,46 +19,53 @@
  * under the License.
  */
 
-package de.quantummaid.httpmaid.path.statemachine;
+package de.quantummaid.httpmaid.awslambda;
 
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 @ToString
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
-public final class MatchingResult {
-    private final boolean successful;
-    private final Map<String, String> captures;
+final class LambdaResponseMap implements LambdaResponseSink {
+    private final Map<String, Object> responseMap;
 
-    public static MatchingResult matchingResult(final boolean successful) {
-        return new MatchingResult(successful, new HashMap<>());
+    static LambdaResponseMap lambdaResponseMap() {
+        return new LambdaResponseMap(new LinkedHashMap<>());
     }
 
-    public MatchingResult merge(final Map<String, String> otherCaptures) {
-        final Map<String, String> mergedCaptures = new HashMap<>(captures);
-        mergedCaptures.putAll(otherCaptures);
-        return new MatchingResult(true, mergedCaptures);
+    @Override
+    public void field(final String name, final int value) {
+        responseMap.put(name, value);
     }
 
-    public static MatchingResult success(final Map<String, String> captures) {
-        return new MatchingResult(true, captures);
+    @Override
+    public void field(final String name, final String value) {
+        responseMap.put(name, value);
     }
 
-    public static MatchingResult fail() {
-        return new MatchingResult(false, new HashMap<>());
+    @Override
+    public void field(final String name, final List<String> values) {
+        responseMap.put(name, values);
     }
 
-    public boolean isSuccessful() {
-        return successful;
+    @Override
+    public void field(final String name, final Map<String, String> values) {
+        responseMap.put(name, values);
     }
 
-    public Map<String, String> captures() {
-        return captures;
+    @Override
+    public void multiValueField(final String name, final Map<String, List<String>> values) {
+        responseMap.put(name, values);
+    }
+
+    Map<String, Object> asMap() {
+        return responseMap;
     }
 }
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.awslambda;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Receives the fields of a lambda response, so that the response layout is defined once for both the
+ * map returned to the lambda runtime and the JSON written directly to the output stream.
+ */
+interface LambdaResponseSink {
+
+    void field(String name, int value) throws IOException;
+
+    void field(String name, String value) throws IOException;
+
+    void field(String name, List<String> values) throws IOException;
+
+    void field(String name, Map<String, String> values) throws IOException;
+
+    void multiValueField(String name, Map<String, List<String>> values) throws IOException;
+}
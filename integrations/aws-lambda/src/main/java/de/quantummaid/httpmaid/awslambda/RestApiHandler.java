@@ -22,19 +22,22 @@
 package de.quantummaid.httpmaid.awslambda;
 
 import de.quantummaid.httpmaid.HttpMaid;
+import de.quantummaid.httpmaid.endpoint.RawHttpRequest;
 import de.quantummaid.httpmaid.endpoint.RawHttpRequestBuilder;
+import de.quantummaid.httpmaid.endpoint.RawResponse;
 import de.quantummaid.httpmaid.http.HeadersBuilder;
 import de.quantummaid.httpmaid.http.QueryParameters;
 import de.quantummaid.httpmaid.http.QueryParametersBuilder;
 
+import java.io.IOException;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import static de.quantummaid.httpmaid.awslambda.EventUtils.extractPotentiallyEncodedBody;
+import static de.quantummaid.httpmaid.awslambda.LambdaResponseMap.lambdaResponseMap;
 import static de.quantummaid.httpmaid.awslambda.RequestBuilderFactory.createRequestBuilder;
 
 public final class RestApiHandler {
@@ -44,41 +47,55 @@ public final class RestApiHandler {
 
     static Map<String, Object> handleRestApiRequest(final AwsLambdaEvent event,
                                                     final HttpMaid httpMaid) {
-        return httpMaid.handleRequestSynchronously(() -> {
-            final RawHttpRequestBuilder builder = createRequestBuilder(event);
+        return httpMaid.handleRequestSynchronously(() -> restApiRequest(event), response -> {
+            final LambdaResponseMap responseMap = lambdaResponseMap();
+            project(response, responseMap);
+            return responseMap.asMap();
+        });
+    }
+
+    static void handleRestApiRequest(final AwsLambdaEvent event,
+                                     final HttpMaid httpMaid,
+                                     final LambdaJsonWriter writer) throws IOException {
+        final RawResponse response = httpMaid.handleRequestSynchronously(() -> restApiRequest(event), rawResponse -> rawResponse);
+        if (response == null) {
+            writer.nullValue();
+            return;
+        }
+        writer.beginObject();
+        project(response, writer);
+        writer.endObject();
+    }
 
-            final String httpRequestMethod = event.getAsString("httpMethod");
-            builder.withMethod(httpRequestMethod);
+    private static void project(final RawResponse response,
+                                final LambdaResponseSink sink) throws IOException {
+        sink.field("statusCode", response.status());
+        sink.multiValueField("multiValueHeaders", response.headers());
+        sink.field("body", response.stringBody());
+    }
 
-            final String encodedPath = event.getAsString("path");
-            final String path = URLDecoder.decode(encodedPath, StandardCharsets.UTF_8);
-            builder.withPath(path);
+    private static RawHttpRequest restApiRequest(final AwsLambdaEvent event) {
+        final RawHttpRequestBuilder builder = createRequestBuilder(event);
 
-            builder.withPath(path);
-            final Map<String, List<String>> headers = event.getOrDefault("multiValueHeaders", HashMap::new);
-            final HeadersBuilder headersBuilder = HeadersBuilder.headersBuilder();
-            headersBuilder.withHeadersMap(headers);
-            builder.withHeaders(headersBuilder.build());
+        final String httpRequestMethod = event.getAsString("httpMethod");
+        builder.withMethod(httpRequestMethod);
 
-            final Map<String, List<String>> queryParameters = event.getOrDefault("multiValueQueryStringParameters", HashMap::new);
-            final QueryParametersBuilder queryParametersBuilder = QueryParameters.builder();
-            queryParameters.forEach(queryParametersBuilder::withParameter);
-            builder.withQueryParameters(queryParametersBuilder.build());
+        final String encodedPath = event.getAsString("path");
+        final String path = URLDecoder.decode(encodedPath, StandardCharsets.UTF_8);
+        builder.withPath(path);
 
-            final String body = extractPotentiallyEncodedBody(event);
-            builder.withBody(body);
-            return builder.build();
-        }, response -> {
-            final int statusCode = response.status();
-            final Map<String, List<String>> responseHeaders = response.headers();
-            final String responseBody = response.stringBody();
+        final Map<String, List<String>> headers = event.getOrDefault("multiValueHeaders", HashMap::new);
+        final HeadersBuilder headersBuilder = HeadersBuilder.headersBuilder();
+        headersBuilder.withHeadersMap(headers);
+        builder.withHeaders(headersBuilder.build());
 
-            final LinkedHashMap<String, Object> responseMap = new LinkedHashMap<>();
-            responseMap.put("statusCode", statusCode);
-            responseMap.put("multiValueHeaders", responseHeaders);
-            responseMap.put("body", responseBody);
+        final Map<String, List<String>> queryParameters = event.getOrDefault("multiValueQueryStringParameters", HashMap::new);
+        final QueryParametersBuilder queryParametersBuilder = QueryParameters.builder();
+        queryParameters.forEach(queryParametersBuilder::withParameter);
+        builder.withQueryParameters(queryParametersBuilder.build());
 
-            return responseMap;
-        });
+        final String body = extractPotentiallyEncodedBody(event);
+        builder.withBody(body);
+        return builder.build();
     }
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.awslambda;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static de.quantummaid.httpmaid.util.Validators.validateNotNullNorEmpty;
+
+/**
+ * Builds synthetic lambda events for {@link AwsLambdaEndpoint#warmUp(java.util.List)}. The events are not
+ * special-cased anywhere: they are routed to the real handlers, which run with all of their side effects
+ * (database writes, websocket sends, ...). Only point them at routes that are safe to call.
+ */
+public final class WarmUpEvents {
+
+    private WarmUpEvents() {
+    }
+
+    public static Map<String, Object> httpApiWarmUpEvent(final String method, final String path) {
+        validateNotNullNorEmpty(method, "method");
+        validateNotNullNorEmpty(path, "path");
+        final Map<String, Object> http = new LinkedHashMap<>();
+        http.put("method", method);
+        http.put("path", path);
+        final Map<String, Object> requestContext = new LinkedHashMap<>();
+        requestContext.put("http", http);
+        final Map<String, Object> event = new LinkedHashMap<>();
+        event.put("version", "2.0");
+        event.put("rawPath", path);
+        event.put("rawQueryString", "");
+        event.put("headers", new LinkedHashMap<>());
+        event.put("requestContext", requestContext);
+        event.put("isBase64Encoded", false);
+        return event;
+    }
+}
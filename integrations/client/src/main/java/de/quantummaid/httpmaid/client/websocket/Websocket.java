@@ -22,10 +22,13 @@
 package de.quantummaid.httpmaid.client.websocket;
 
 import java.io.Closeable;
+import java.nio.ByteBuffer;
 
 public interface Websocket extends Closeable {
     void send(String message);
 
+    void sendBinary(ByteBuffer message);
+
     @Override
     void close();
 }
@@ -21,6 +21,14 @@
 
 package de.quantummaid.httpmaid.client.websocket;
 
+import java.nio.ByteBuffer;
+
+import static de.quantummaid.httpmaid.client.HttpMaidClientException.httpMaidClientException;
+
 public interface WebsocketMessageHandler {
     void handle(String message);
+
+    default void handleBinary(final ByteBuffer message) {
+        throw httpMaidClientException("received a binary websocket message but the message handler only supports text messages");
+    }
 }
@@ -29,6 +29,8 @@ import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.nio.ByteBuffer;
+
 @ToString
 @EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
@@ -46,6 +48,11 @@ public final class BypassedConnectionInformation implements NonSerializableConne
         messageHandler.handle(message);
     }
 
+    @Override
+    public void sendBinary(final ByteBuffer message) {
+        messageHandler.handleBinary(message);
+    }
+
     @Override
     public void disconnect() {
         closeHandler.onClose();
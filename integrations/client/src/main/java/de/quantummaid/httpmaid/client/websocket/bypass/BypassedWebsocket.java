@@ -30,7 +30,10 @@ import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.nio.ByteBuffer;
+
 import static de.quantummaid.httpmaid.websockets.endpoint.RawWebsocketDisconnect.rawWebsocketDisconnect;
+import static de.quantummaid.httpmaid.websockets.endpoint.RawWebsocketMessage.rawBinaryWebsocketMessage;
 import static de.quantummaid.httpmaid.websockets.endpoint.RawWebsocketMessage.rawWebsocketMessage;
 
 @ToString
@@ -50,8 +53,15 @@ public final class BypassedWebsocket implements Websocket {
     public void send(final String message) {
         httpMaid.handleRequest(
                 () -> rawWebsocketMessage(connectionInformation, message),
-                response -> response.optionalStringBody()
-                        .ifPresent(messageHandler::handle)
+                response -> response.dispatchBody(messageHandler::handle, messageHandler::handleBinary)
+        );
+    }
+
+    @Override
+    public void sendBinary(final ByteBuffer message) {
+        httpMaid.handleRequest(
+                () -> rawBinaryWebsocketMessage(connectionInformation, message),
+                response -> response.dispatchBody(messageHandler::handle, messageHandler::handleBinary)
         );
     }
 
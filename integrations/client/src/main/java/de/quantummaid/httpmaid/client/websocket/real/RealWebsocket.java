@@ -35,6 +35,7 @@ import org.eclipse.jetty.websocket.api.WebSocketListener;
 import org.eclipse.jetty.websocket.client.WebSocketClient;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import static de.quantummaid.httpmaid.client.HttpMaidClientException.httpMaidClientException;
 import static de.quantummaid.httpmaid.client.websocket.real.RealWebsocketState.initialWebsocketState;
@@ -74,6 +75,18 @@ public final class RealWebsocket implements Websocket, WebSocketListener {
         }
     }
 
+    @Override
+    public synchronized void sendBinary(final ByteBuffer message) {
+        if (!websocketState.isConnected()) {
+            throw httpMaidClientException("not connected");
+        }
+        try {
+            session.getRemote().sendBytes(message);
+        } catch (final IOException e) {
+            throw httpMaidClientException(e);
+        }
+    }
+
     @Override
     public synchronized void onWebSocketConnect(final Session session) {
         this.session = session;
@@ -91,8 +104,8 @@ public final class RealWebsocket implements Websocket, WebSocketListener {
     }
 
     @Override
-    public void onWebSocketBinary(final byte[] bytes, final int i, final int i1) {
-        throw new UnsupportedOperationException("binary websocket messages are not supported.");
+    public void onWebSocketBinary(final byte[] bytes, final int offset, final int length) {
+        messageHandler.handleBinary(ByteBuffer.wrap(bytes, offset, length));
     }
 
     @Override
@@ -26,7 +26,10 @@ import software.amazon.awssdk.services.cognitoidentityprovider.CognitoIdentityPr
 
 import java.util.function.Supplier;
 
+import static de.quantummaid.httpmaid.awslambdacognitoauthorizer.CognitoTokenVerifier.cognitoTokenVerifier;
 import static de.quantummaid.httpmaid.awslambdacognitoauthorizer.CognitoWebsocketAuthorizer.cognitoWebsocketAuthorizer;
+import static de.quantummaid.httpmaid.awslambdacognitoauthorizer.JwksTokenVerifier.jwksTokenVerifier;
+import static de.quantummaid.httpmaid.awslambdacognitoauthorizer.TokenVerificationCache.noTokenVerificationCache;
 import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
 import static de.quantummaid.httpmaid.websockets.WebsocketConfigurators.toAuthorizeWebsocketsUsing;
 import static de.quantummaid.httpmaid.websockets.WebsocketConfigurators.toStoreAdditionalDataInWebsocketContext;
@@ -59,8 +62,31 @@ public final class CognitoConfigurators {
                                                                 final String issuerUrl,
                                                                 final String poolClientId,
                                                                 final TokenExtractor tokenExtractor) {
+        return toAuthorizeWebsocketsWithCognito(client, issuerUrl, poolClientId, tokenExtractor, noTokenVerificationCache());
+    }
+
+    public static Configurator toAuthorizeWebsocketsWithCognito(final Supplier<CognitoIdentityProviderClient> client,
+                                                                final String issuerUrl,
+                                                                final String poolClientId,
+                                                                final TokenExtractor tokenExtractor,
+                                                                final TokenVerificationCache tokenVerificationCache) {
+        validateNotNull(client, "client");
+        return toAuthorizeWebsocketsUsing(() -> cognitoWebsocketAuthorizer(
+                cognitoTokenVerifier(client.get()),
+                tokenVerificationCache,
+                tokenExtractor,
+                issuerUrl,
+                poolClientId
+        ));
+    }
+
+    public static Configurator toAuthorizeWebsocketsWithLocallyVerifiedCognitoTokens(final String issuerUrl,
+                                                                                     final String poolClientId,
+                                                                                     final TokenExtractor tokenExtractor,
+                                                                                     final TokenVerificationCache tokenVerificationCache) {
         return toAuthorizeWebsocketsUsing(() -> cognitoWebsocketAuthorizer(
-                client.get(),
+                jwksTokenVerifier(issuerUrl),
+                tokenVerificationCache,
                 tokenExtractor,
                 issuerUrl,
                 poolClientId
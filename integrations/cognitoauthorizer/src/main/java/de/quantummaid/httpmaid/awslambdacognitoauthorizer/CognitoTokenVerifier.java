@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.awslambdacognitoauthorizer;
+
+import de.quantummaid.httpmaid.awslambdacognitoauthorizer.jwt.JwtInformation;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.cognitoidentityprovider.CognitoIdentityProviderClient;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.GetUserResponse;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.NotAuthorizedException;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.PasswordResetRequiredException;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.UserNotConfirmedException;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.UserNotFoundException;
+
+import static de.quantummaid.httpmaid.awslambdacognitoauthorizer.TokenVerification.authorized;
+import static de.quantummaid.httpmaid.awslambdacognitoauthorizer.TokenVerification.rejected;
+import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
+
+@Slf4j
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CognitoTokenVerifier implements TokenVerifier {
+    private final CognitoIdentityProviderClient client;
+
+    public static CognitoTokenVerifier cognitoTokenVerifier(final CognitoIdentityProviderClient client) {
+        validateNotNull(client, "client");
+        return new CognitoTokenVerifier(client);
+    }
+
+    @Override
+    public TokenVerification verify(final String accessToken, final JwtInformation jwtInformation) {
+        try {
+            log.debug("calling cognito...");
+            final GetUserResponse getUserResponse = client.getUser(builder -> builder
+                    .accessToken(accessToken)
+            );
+            log.debug("call to cognito was successful: {}", getUserResponse);
+            return authorized(getUserResponse, jwtInformation.payloadMap());
+        } catch (final NotAuthorizedException | PasswordResetRequiredException | UserNotConfirmedException | UserNotFoundException e) {
+            log.debug("rejecting authorization request because call to cognito threw an exception", e);
+            return rejected();
+        }
+    }
+}
@@ -31,10 +31,13 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import software.amazon.awssdk.services.cognitoidentityprovider.CognitoIdentityProviderClient;
-import software.amazon.awssdk.services.cognitoidentityprovider.model.*;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.GetUserResponse;
 
 import java.util.Map;
 
+import static de.quantummaid.httpmaid.awslambdacognitoauthorizer.CognitoTokenVerifier.cognitoTokenVerifier;
+import static de.quantummaid.httpmaid.awslambdacognitoauthorizer.TokenVerification.rejected;
+import static de.quantummaid.httpmaid.awslambdacognitoauthorizer.TokenVerificationCache.noTokenVerificationCache;
 import static de.quantummaid.httpmaid.awslambdacognitoauthorizer.jwt.JwtParser.extractJwtPayload;
 import static de.quantummaid.httpmaid.chains.MetaDataKey.metaDataKey;
 import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
@@ -47,7 +50,8 @@ public final class CognitoWebsocketAuthorizer implements WebsocketAuthorizer {
     public static final MetaDataKey<GetUserResponse> GET_USER_RESPONSE = metaDataKey("GET_USER_RESPONSE");
     public static final MetaDataKey<Map<String, Object>> AUTHORIZATION_TOKEN = metaDataKey("AUTHORIZATION_TOKEN");
 
-    private final CognitoIdentityProviderClient client;
+    private final TokenVerifier tokenVerifier;
+    private final TokenVerificationCache tokenVerificationCache;
     private final TokenExtractor tokenExtractor;
     private final String issuerUrl;
     private final String clientId;
@@ -57,38 +61,47 @@ public final class CognitoWebsocketAuthorizer implements WebsocketAuthorizer {
                                                                         final String issuerUrl,
                                                                         final String clientId) {
         validateNotNull(client, "client");
+        return cognitoWebsocketAuthorizer(
+                cognitoTokenVerifier(client), noTokenVerificationCache(), tokenExtractor, issuerUrl, clientId);
+    }
+
+    public static CognitoWebsocketAuthorizer cognitoWebsocketAuthorizer(final TokenVerifier tokenVerifier,
+                                                                        final TokenVerificationCache tokenVerificationCache,
+                                                                        final TokenExtractor tokenExtractor,
+                                                                        final String issuerUrl,
+                                                                        final String clientId) {
+        validateNotNull(tokenVerifier, "tokenVerifier");
+        validateNotNull(tokenVerificationCache, "tokenVerificationCache");
         validateNotNull(tokenExtractor, "tokenExtractor");
         validateNotNull(issuerUrl, "issuerUrl");
         validateNotNull(clientId, "clientId");
-        return new CognitoWebsocketAuthorizer(client, tokenExtractor, issuerUrl, clientId);
+        return new CognitoWebsocketAuthorizer(tokenVerifier, tokenVerificationCache, tokenExtractor, issuerUrl, clientId);
     }
 
     @Override
     public AuthorizationDecision isAuthorized(final HttpRequest request) {
         final String accessToken = tokenExtractor.extract(request);
-        try {
-            final JwtInformation jwtInformation = extractJwtPayload(accessToken);
-            if (!jwtInformation.matches(issuerUrl, clientId)) {
-                log.debug("rejecting token because issuer was '{}' and client id was '{}' but has to be '{}' and '{}'",
-                        jwtInformation.issuerUrl(),
-                        jwtInformation.clientId(),
-                        issuerUrl,
-                        clientId
-                );
-                return fail();
-            }
-            log.debug("calling cognito...");
-            final GetUserResponse getUserResponse = client.getUser(builder -> builder
-                    .accessToken(accessToken)
-            );
-            log.debug("call to cognito was successful: {}", getUserResponse);
-            final MetaData metaData = request.getMetaData();
-            metaData.set(GET_USER_RESPONSE, getUserResponse);
-            metaData.set(AUTHORIZATION_TOKEN, jwtInformation.payloadMap());
-            return success();
-        } catch (final NotAuthorizedException | PasswordResetRequiredException | UserNotConfirmedException | UserNotFoundException e) {
-            log.debug("rejecting authorization request because call to cognito threw an exception", e);
+        final TokenVerification verification = tokenVerificationCache.verify(accessToken, this::verify);
+        if (!verification.isAuthorized()) {
             return fail();
         }
+        final MetaData metaData = request.getMetaData();
+        metaData.set(GET_USER_RESPONSE, verification.getUserResponse());
+        metaData.set(AUTHORIZATION_TOKEN, verification.authorizationToken());
+        return success();
+    }
+
+    private TokenVerification verify(final String accessToken) {
+        final JwtInformation jwtInformation = extractJwtPayload(accessToken);
+        if (!jwtInformation.matches(issuerUrl, clientId)) {
+            log.debug("rejecting token because issuer was '{}' and client id was '{}' but has to be '{}' and '{}'",
+                    jwtInformation.issuerUrl(),
+                    jwtInformation.clientId(),
+                    issuerUrl,
+                    clientId
+            );
+            return rejected();
+        }
+        return tokenVerifier.verify(accessToken, jwtInformation);
     }
 }
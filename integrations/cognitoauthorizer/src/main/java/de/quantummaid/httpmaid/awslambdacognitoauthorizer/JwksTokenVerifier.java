@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.awslambdacognitoauthorizer;
+
+import de.quantummaid.httpmaid.awslambdacognitoauthorizer.jwt.JwtInformation;
+import de.quantummaid.mapmaid.mapper.marshalling.Unmarshaller;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.GetUserResponse;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static de.quantummaid.httpmaid.awslambdacognitoauthorizer.TokenVerification.authorized;
+import static de.quantummaid.httpmaid.awslambdacognitoauthorizer.TokenVerification.rejected;
+import static de.quantummaid.httpmaid.awslambdacognitoauthorizer.TokenVerification.temporarilyRejected;
+import static de.quantummaid.httpmaid.awslambdacognitoauthorizer.jwt.JwtParser.extractJwtHeader;
+import static de.quantummaid.httpmaid.http.Http.StatusCodes.OK;
+import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
+import static de.quantummaid.mapmaid.minimaljson.MinimalJsonUnmarshaller.minimalJsonUnmarshaller;
+import static java.lang.String.format;
+
+/**
+ * Verifies RS256-signed Cognito access tokens locally against the user pool's JSON Web Key Set
+ * instead of calling Cognito. The {@link GetUserResponse} handed to enrichers only carries the
+ * username from the token; user attributes are not available in this mode.
+ */
+@Slf4j
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JwksTokenVerifier implements TokenVerifier {
+    private static final Unmarshaller<String> UNMARSHALLER = minimalJsonUnmarshaller();
+    private static final long MINIMUM_MILLIS_BETWEEN_REFRESHES = 60_000;
+
+    private final Supplier<String> jwksSource;
+    private final Map<String, PublicKey> keys = new ConcurrentHashMap<>();
+    private volatile long lastRefresh = Long.MIN_VALUE;
+
+    public static JwksTokenVerifier jwksTokenVerifier(final String issuerUrl) {
+        validateNotNull(issuerUrl, "issuerUrl");
+        final URI jwksUri = URI.create(issuerUrl + "/.well-known/jwks.json");
+        return jwksTokenVerifier(() -> fetch(jwksUri));
+    }
+
+    public static JwksTokenVerifier jwksTokenVerifier(final Supplier<String> jwksSource) {
+        validateNotNull(jwksSource, "jwksSource");
+        return new JwksTokenVerifier(jwksSource);
+    }
+
+    @Override
+    public TokenVerification verify(final String accessToken, final JwtInformation jwtInformation) {
+        final Map<String, Object> header = extractJwtHeader(accessToken);
+        if (!"RS256".equals(header.get("alg"))) {
+            log.debug("rejecting token because it is not signed with RS256");
+            return rejected();
+        }
+        final String keyId = (String) header.get("kid");
+        if (keyId == null) {
+            log.debug("rejecting token because it does not name its key");
+            return rejected();
+        }
+        final PublicKey key = keyFor(keyId);
+        if (key == null) {
+            log.debug("rejecting token because its key is not (yet) known");
+            return temporarilyRejected();
+        }
+        if (!hasValidSignature(accessToken, key)) {
+            log.debug("rejecting token because its signature could not be verified");
+            return rejected();
+        }
+        final boolean expired = jwtInformation.expiresAt()
+                .map(expiresAt -> !expiresAt.isAfter(Instant.now()))
+                .orElse(true);
+        if (expired || !"access".equals(jwtInformation.tokenUse())) {
+            log.debug("rejecting token because it is expired or not an access token");
+            return rejected();
+        }
+        final GetUserResponse getUserResponse = GetUserResponse.builder()
+                .username(jwtInformation.username())
+                .build();
+        return authorized(getUserResponse, jwtInformation.payloadMap());
+    }
+
+    private PublicKey keyFor(final String keyId) {
+        final PublicKey key = keys.get(keyId);
+        if (key != null) {
+            return key;
+        }
+        refreshKeys();
+        return keys.get(keyId);
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized void refreshKeys() {
+        final long now = System.currentTimeMillis();
+        if (lastRefresh != Long.MIN_VALUE && now - lastRefresh < MINIMUM_MILLIS_BETWEEN_REFRESHES) {
+            return;
+        }
+        final Map<String, Object> jwks = unmarshal(jwksSource.get());
+        final List<Map<String, Object>> jsonWebKeys = (List<Map<String, Object>>) jwks.get("keys");
+        final Map<String, PublicKey> fetchedKeys = new HashMap<>();
+        jsonWebKeys.stream()
+                .filter(jsonWebKey -> "RSA".equals(jsonWebKey.get("kty")))
+                .forEach(jsonWebKey -> fetchedKeys.put((String) jsonWebKey.get("kid"), rsaPublicKey(jsonWebKey)));
+        keys.putAll(fetchedKeys);
+        lastRefresh = now;
+    }
+
+    private static boolean hasValidSignature(final String accessToken, final PublicKey key) {
+        final int signatureStart = accessToken.lastIndexOf('.');
+        final byte[] signingInput = accessToken.substring(0, signatureStart).getBytes(StandardCharsets.US_ASCII);
+        try {
+            final byte[] signature = Base64.getUrlDecoder().decode(accessToken.substring(signatureStart + 1));
+            final Signature verifier = Signature.getInstance("SHA256withRSA");
+            verifier.initVerify(key);
+            verifier.update(signingInput);
+            return verifier.verify(signature);
+        } catch (final IllegalArgumentException | GeneralSecurityException e) {
+            log.debug("signature verification failed", e);
+            return false;
+        }
+    }
+
+    private static PublicKey rsaPublicKey(final Map<String, Object> jsonWebKey) {
+        final Base64.Decoder decoder = Base64.getUrlDecoder();
+        final BigInteger modulus = new BigInteger(1, decoder.decode((String) jsonWebKey.get("n")));
+        final BigInteger exponent = new BigInteger(1, decoder.decode((String) jsonWebKey.get("e")));
+        try {
+            return KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(modulus, exponent));
+        } catch (final GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String fetch(final URI uri) {
+        final HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+        try {
+            final HttpResponse<String> response = HttpClient.newHttpClient()
+                    .send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != OK) {
+                throw new IllegalStateException(format("fetching %s failed with status %d", uri, response.statusCode()));
+            }
+            return response.body();
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> unmarshal(final String json) {
+        try {
+            return (Map<String, Object>) UNMARSHALLER.unmarshal(json);
+        } catch (final Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
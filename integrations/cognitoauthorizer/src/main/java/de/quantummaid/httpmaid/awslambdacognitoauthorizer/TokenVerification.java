@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.awslambdacognitoauthorizer;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.GetUserResponse;
+
+import java.util.Map;
+
+import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TokenVerification {
+    private static final TokenVerification REJECTED = new TokenVerification(null, null, true);
+    private static final TokenVerification TEMPORARILY_REJECTED = new TokenVerification(null, null, false);
+
+    private final GetUserResponse getUserResponse;
+    private final Map<String, Object> authorizationToken;
+    private final boolean cacheable;
+
+    public static TokenVerification authorized(final GetUserResponse getUserResponse,
+                                               final Map<String, Object> authorizationToken) {
+        validateNotNull(getUserResponse, "getUserResponse");
+        validateNotNull(authorizationToken, "authorizationToken");
+        return new TokenVerification(getUserResponse, authorizationToken, true);
+    }
+
+    public static TokenVerification rejected() {
+        return REJECTED;
+    }
+
+    public static TokenVerification temporarilyRejected() {
+        return TEMPORARILY_REJECTED;
+    }
+
+    public boolean isAuthorized() {
+        return getUserResponse != null;
+    }
+
+    public boolean isCacheable() {
+        return cacheable;
+    }
+
+    public GetUserResponse getUserResponse() {
+        return getUserResponse;
+    }
+
+    public Map<String, Object> authorizationToken() {
+        return authorizationToken;
+    }
+}
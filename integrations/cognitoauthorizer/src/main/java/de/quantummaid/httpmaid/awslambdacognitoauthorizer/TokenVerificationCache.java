@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.awslambdacognitoauthorizer;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+
+import static de.quantummaid.httpmaid.awslambdacognitoauthorizer.jwt.JwtInformation.jwtInformation;
+import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
+
+/**
+ * Remembers the outcome of token verifications, keyed by the SHA-256 hash of the token.
+ * Successful verifications are kept for at most {@code timeToLive} and never beyond the
+ * token's {@code exp} claim, rejections for {@code rejectionTimeToLive}. Concurrent
+ * verifications of the same token share a single lookup. Every insert checks a few of the
+ * oldest entries and evicts the expired ones, so the cache never has to be scanned as a whole.
+ */
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TokenVerificationCache {
+    private static final int ENTRIES_CHECKED_PER_INSERT = 8;
+
+    private final long timeToLiveInMillis;
+    private final long rejectionTimeToLiveInMillis;
+    private final int maximumNumberOfEntries;
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final Map<String, CompletableFuture<CachedVerification>> entries;
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final Queue<Map.Entry<String, CompletableFuture<CachedVerification>>> evictionQueue;
+
+    public static TokenVerificationCache noTokenVerificationCache() {
+        return new TokenVerificationCache(0, 0, 0, new ConcurrentHashMap<>(), new ConcurrentLinkedQueue<>());
+    }
+
+    public static TokenVerificationCache tokenVerificationCache(final Duration timeToLive,
+                                                                final Duration rejectionTimeToLive,
+                                                                final int maximumNumberOfEntries) {
+        validateNotNull(timeToLive, "timeToLive");
+        validateNotNull(rejectionTimeToLive, "rejectionTimeToLive");
+        if (timeToLive.isNegative() || rejectionTimeToLive.isNegative()) {
+            throw new IllegalArgumentException("timeToLive and rejectionTimeToLive must not be negative");
+        }
+        if (maximumNumberOfEntries <= 0) {
+            throw new IllegalArgumentException("maximumNumberOfEntries must be positive");
+        }
+        return new TokenVerificationCache(timeToLive.toMillis(), rejectionTimeToLive.toMillis(),
+                maximumNumberOfEntries, new ConcurrentHashMap<>(), new ConcurrentLinkedQueue<>());
+    }
+
+    public TokenVerification verify(final String accessToken,
+                                    final Function<String, TokenVerification> verifier) {
+        validateNotNull(accessToken, "accessToken");
+        validateNotNull(verifier, "verifier");
+        if (maximumNumberOfEntries == 0) {
+            return verifier.apply(accessToken);
+        }
+        final String key = hash(accessToken);
+        while (true) {
+            final CompletableFuture<CachedVerification> existing = entries.get(key);
+            if (existing != null) {
+                final boolean inFlight = !existing.isDone();
+                final CachedVerification cached = existing.join();
+                if (cached != null && (inFlight || cached.isValidAt(System.currentTimeMillis()))) {
+                    return cached.verification;
+                }
+                entries.remove(key, existing);
+                continue;
+            }
+            removeExpiredEntries();
+            if (entries.size() >= maximumNumberOfEntries) {
+                return verifier.apply(accessToken);
+            }
+            final CompletableFuture<CachedVerification> lookup = new CompletableFuture<>();
+            if (entries.putIfAbsent(key, lookup) == null) {
+                evictionQueue.add(Map.entry(key, lookup));
+                return lookUp(key, accessToken, verifier, lookup);
+            }
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void invalidate() {
+        entries.clear();
+        evictionQueue.clear();
+    }
+
+    private TokenVerification lookUp(final String key,
+                                     final String accessToken,
+                                     final Function<String, TokenVerification> verifier,
+                                     final CompletableFuture<CachedVerification> lookup) {
+        CachedVerification result = null;
+        try {
+            final TokenVerification verification = verifier.apply(accessToken);
+            result = cachedVerification(verification);
+            return verification;
+        } finally {
+            if (result == null || !result.isValidAt(System.currentTimeMillis())) {
+                entries.remove(key, lookup);
+            }
+            lookup.complete(result);
+        }
+    }
+
+    private CachedVerification cachedVerification(final TokenVerification verification) {
+        final long now = System.currentTimeMillis();
+        if (!verification.isCacheable()) {
+            return new CachedVerification(verification, now);
+        }
+        if (!verification.isAuthorized()) {
+            return new CachedVerification(verification, now + rejectionTimeToLiveInMillis);
+        }
+        final long expiresAt = jwtInformation(verification.authorizationToken()).expiresAt()
+                .map(Instant::toEpochMilli)
+                .map(tokenExpiry -> Math.min(tokenExpiry, now + timeToLiveInMillis))
+                .orElse(now + timeToLiveInMillis);
+        return new CachedVerification(verification, expiresAt);
+    }
+
+    private void removeExpiredEntries() {
+        final long now = System.currentTimeMillis();
+        for (int i = 0; i < ENTRIES_CHECKED_PER_INSERT; ++i) {
+            final Map.Entry<String, CompletableFuture<CachedVerification>> candidate = evictionQueue.poll();
+            if (candidate == null) {
+                return;
+            }
+            final String key = candidate.getKey();
+            final CompletableFuture<CachedVerification> future = candidate.getValue();
+            if (entries.get(key) != future) {
+                continue;
+            }
+            if (future.isDone()) {
+                final CachedVerification cached = future.join();
+                if (cached == null || !cached.isValidAt(now)) {
+                    entries.remove(key, future);
+                    continue;
+                }
+            }
+            evictionQueue.add(candidate);
+        }
+    }
+
+    private static String hash(final String accessToken) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            final byte[] hash = digest.digest(accessToken.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    private static final class CachedVerification {
+        private final TokenVerification verification;
+        private final long expiresAt;
+
+        boolean isValidAt(final long now) {
+            return now < expiresAt;
+        }
+    }
+}
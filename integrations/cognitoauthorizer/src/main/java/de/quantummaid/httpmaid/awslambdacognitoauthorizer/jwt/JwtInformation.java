@@ -25,7 +25,10 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.Map;
+import java.util.Optional;
 
 @ToString
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
@@ -54,6 +57,29 @@ public final class JwtInformation {
         return (String) payloadMap.get("client_id");
     }
 
+    public String tokenUse() {
+        return (String) payloadMap.get("token_use");
+    }
+
+    public String username() {
+        return (String) payloadMap.get("username");
+    }
+
+    public Optional<Instant> expiresAt() {
+        final Object expiration = payloadMap.get("exp");
+        if (expiration instanceof Number) {
+            return Optional.of(Instant.ofEpochSecond(((Number) expiration).longValue()));
+        }
+        if (expiration instanceof String) {
+            try {
+                return Optional.of(Instant.ofEpochSecond(new BigDecimal((String) expiration).longValue()));
+            } catch (final NumberFormatException e) {
+                return Optional.empty();
+            }
+        }
+        return Optional.empty();
+    }
+
     public Map<String, Object> payloadMap() {
         return payloadMap;
     }
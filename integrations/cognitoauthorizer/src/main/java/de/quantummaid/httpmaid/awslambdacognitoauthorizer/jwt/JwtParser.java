@@ -37,16 +37,40 @@ public final class JwtParser {
     }
 
     public static JwtInformation extractJwtPayload(final String token) {
-        final String[] parts = token.split("\\.");
-        final String encodedPayload = parts[1];
-
-        final Base64.Decoder decoder = Base64.getDecoder();
-        final byte[] bytes = decoder.decode(encodedPayload);
-        final String payload = new String(bytes, StandardCharsets.UTF_8);
-        final Map<String, Object> payloadMap = unmarshal(payload);
+        final int headerEnd = token.indexOf('.');
+        final int payloadEnd = token.indexOf('.', headerEnd + 1);
+        if (headerEnd < 0 || payloadEnd < 0) {
+            throw new IllegalArgumentException("token is not a JWT");
+        }
+        final String encodedPayload = token.substring(headerEnd + 1, payloadEnd);
+        final Map<String, Object> payloadMap = decodePart(encodedPayload);
         return jwtInformation(payloadMap);
     }
 
+    public static Map<String, Object> extractJwtHeader(final String token) {
+        final int headerEnd = token.indexOf('.');
+        if (headerEnd < 0) {
+            throw new IllegalArgumentException("token is not a JWT");
+        }
+        return decodePart(token.substring(0, headerEnd));
+    }
+
+    private static byte[] decodeBase64(final String encoded) {
+        final Base64.Decoder decoder;
+        if (encoded.indexOf('-') >= 0 || encoded.indexOf('_') >= 0) {
+            decoder = Base64.getUrlDecoder();
+        } else {
+            decoder = Base64.getDecoder();
+        }
+        return decoder.decode(encoded);
+    }
+
+    private static Map<String, Object> decodePart(final String encodedPart) {
+        final byte[] bytes = decodeBase64(encodedPart);
+        final String json = new String(bytes, StandardCharsets.UTF_8);
+        return unmarshal(json);
+    }
+
     @SuppressWarnings("unchecked")
     private static Map<String, Object> unmarshal(final String payload) {
         try {
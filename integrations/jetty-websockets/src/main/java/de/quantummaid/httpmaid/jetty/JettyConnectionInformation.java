@@ -30,6 +30,7 @@ import org.eclipse.jetty.websocket.api.Session;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 
 import static de.quantummaid.httpmaid.jetty.JettyEndpointException.jettyEndpointException;
 
@@ -52,6 +53,15 @@ public final class JettyConnectionInformation implements NonSerializableConnecti
         }
     }
 
+    @Override
+    public void sendBinary(final ByteBuffer message) {
+        try {
+            session.getRemote().sendBytes(message);
+        } catch (final IOException e) {
+            throw jettyEndpointException(e);
+        }
+    }
+
     @Override
     public void disconnect() {
         try {
@@ -23,6 +23,8 @@ package de.quantummaid.httpmaid.jetty;
 
 import de.quantummaid.httpmaid.HttpMaid;
 import de.quantummaid.httpmaid.websockets.endpoint.RawWebsocketConnectBuilder;
+import de.quantummaid.httpmaid.websockets.endpoint.WebsocketMessageProcessing;
+import de.quantummaid.httpmaid.websockets.endpoint.WebsocketMessageQueue;
 import de.quantummaid.httpmaid.websockets.registry.WebsocketRegistryEntry;
 import de.quantummaid.httpmaid.websockets.sender.NonSerializableConnectionInformation;
 import lombok.AccessLevel;
@@ -33,9 +35,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.eclipse.jetty.websocket.api.Session;
 import org.eclipse.jetty.websocket.api.WebSocketListener;
 
+import java.nio.ByteBuffer;
+
 import static de.quantummaid.httpmaid.jetty.JettyConnectionInformation.jettyConnectionInformation;
 import static de.quantummaid.httpmaid.websockets.endpoint.RawWebsocketConnect.rawWebsocketConnectBuilder;
 import static de.quantummaid.httpmaid.websockets.endpoint.RawWebsocketDisconnect.rawWebsocketDisconnect;
+import static de.quantummaid.httpmaid.websockets.endpoint.RawWebsocketMessage.rawBinaryWebsocketMessage;
 import static de.quantummaid.httpmaid.websockets.endpoint.RawWebsocketMessage.rawWebsocketMessage;
 
 @ToString
@@ -45,16 +50,20 @@ import static de.quantummaid.httpmaid.websockets.endpoint.RawWebsocketMessage.ra
 public final class JettyHttpMaidWebsocket implements WebSocketListener {
     private final HttpMaid httpMaid;
     private final WebsocketRegistryEntry websocketRegistryEntry;
+    private final WebsocketMessageProcessing messageProcessing;
     private NonSerializableConnectionInformation connectionInformation;
+    private WebsocketMessageQueue messageQueue;
 
     public static JettyHttpMaidWebsocket jettyHttpMaidWebsocket(final HttpMaid endpoint,
-                                                                final WebsocketRegistryEntry websocketRegistryEntry) {
-        return new JettyHttpMaidWebsocket(endpoint, websocketRegistryEntry);
+                                                                final WebsocketRegistryEntry websocketRegistryEntry,
+                                                                final WebsocketMessageProcessing messageProcessing) {
+        return new JettyHttpMaidWebsocket(endpoint, websocketRegistryEntry, messageProcessing);
     }
 
     @Override
     public synchronized void onWebSocketConnect(final Session session) {
         this.connectionInformation = jettyConnectionInformation(session);
+        this.messageQueue = messageProcessing.openQueue(connectionInformation::disconnect);
         httpMaid.handleRequest(() -> {
             final RawWebsocketConnectBuilder builder = rawWebsocketConnectBuilder();
             builder.withNonSerializableConnectionInformation(connectionInformation);
@@ -66,19 +75,23 @@ public final class JettyHttpMaidWebsocket implements WebSocketListener {
 
     @Override
     public synchronized void onWebSocketText(final String message) {
-        httpMaid.handleRequest(
+        messageQueue.submit(() -> httpMaid.handleRequest(
                 () -> rawWebsocketMessage(connectionInformation, message),
-                response -> response.optionalStringBody()
-                        .ifPresent(connectionInformation::send)
-        );
+                response -> response.dispatchBody(connectionInformation::send, connectionInformation::sendBinary)
+        ));
     }
 
     @Override
-    public void onWebSocketClose(final int i, final String s) {
-        httpMaid.handleRequest(
+    public synchronized void onWebSocketClose(final int i, final String s) {
+        final Runnable disconnect = () -> httpMaid.handleRequest(
                 () -> rawWebsocketDisconnect(connectionInformation),
                 response -> {
                 });
+        if (messageQueue == null) {
+            disconnect.run();
+        } else {
+            messageQueue.close(disconnect);
+        }
     }
 
     @Override
@@ -87,9 +100,11 @@ public final class JettyHttpMaidWebsocket implements WebSocketListener {
     }
 
     @Override
-    public void onWebSocketBinary(final byte[] bytes, final int i, final int i1) {
-        final String message = "binary websocket messages are not supported";
-        log.info(message);
-        throw new UnsupportedOperationException(message);
+    public synchronized void onWebSocketBinary(final byte[] bytes, final int offset, final int length) {
+        final ByteBuffer message = ByteBuffer.wrap(bytes, offset, length);
+        messageQueue.submit(() -> httpMaid.handleRequest(
+                () -> rawBinaryWebsocketMessage(connectionInformation, message),
+                response -> response.dispatchBody(connectionInformation::send, connectionInformation::sendBinary)
+        ));
     }
 }
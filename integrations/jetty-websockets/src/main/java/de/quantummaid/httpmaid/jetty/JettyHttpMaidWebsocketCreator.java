@@ -26,6 +26,7 @@ import de.quantummaid.httpmaid.endpoint.RawResponse;
 import de.quantummaid.httpmaid.http.Headers;
 import de.quantummaid.httpmaid.websockets.authorization.AuthorizationDecision;
 import de.quantummaid.httpmaid.websockets.endpoint.RawWebsocketAuthorizationBuilder;
+import de.quantummaid.httpmaid.websockets.endpoint.WebsocketMessageProcessing;
 import de.quantummaid.httpmaid.websockets.registry.WebsocketRegistryEntry;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
@@ -45,6 +46,7 @@ import static de.quantummaid.httpmaid.jetty.UpgradeRequestUtils.extractQueryPara
 import static de.quantummaid.httpmaid.websockets.WebsocketMetaDataKeys.WEBSOCKET_REGISTRY_ENTRY;
 import static de.quantummaid.httpmaid.websockets.authorization.AuthorizationDecision.AUTHORIZATION_DECISION;
 import static de.quantummaid.httpmaid.websockets.endpoint.RawWebsocketAuthorizationBuilder.rawWebsocketAuthorizationBuilder;
+import static de.quantummaid.httpmaid.websockets.endpoint.WebsocketMessageProcessing.WEBSOCKET_MESSAGE_PROCESSING;
 import static de.quantummaid.httpmaid.websockets.sender.NonSerializableWebsocketSender.NON_SERIALIZABLE_WEBSOCKET_SENDER;
 
 @ToString
@@ -78,6 +80,7 @@ public final class JettyHttpMaidWebsocketCreator implements WebSocketCreator {
         }
 
         final WebsocketRegistryEntry registryEntry = rawResponse.metaData().get(WEBSOCKET_REGISTRY_ENTRY);
-        return jettyHttpMaidWebsocket(httpMaid, registryEntry);
+        final WebsocketMessageProcessing messageProcessing = httpMaid.getMetaDatum(WEBSOCKET_MESSAGE_PROCESSING);
+        return jettyHttpMaidWebsocket(httpMaid, registryEntry, messageProcessing);
     }
 }
@@ -39,6 +39,7 @@ public final class JettyWebsocketEndpoint {
             server.setHandler(servletHandler);
             final JettyHttpMaidWebsocketServlet servlet = jettyHttpMaidWebsocketServlet(httpMaid);
             final ServletHolder servletHolder = new ServletHolder(servlet);
+            servletHolder.setAsyncSupported(true);
             servletHandler.addServletWithMapping(servletHolder, "/*");
         });
     }
@@ -22,7 +22,9 @@
 package de.quantummaid.httpmaid.jetty;
 
 import de.quantummaid.httpmaid.HttpMaid;
+import de.quantummaid.httpmaid.endpoint.AsyncResponseTimeout;
 import de.quantummaid.httpmaid.endpoint.RawHttpRequestBuilder;
+import de.quantummaid.httpmaid.endpoint.RawResponse;
 import de.quantummaid.httpmaid.http.Headers;
 import de.quantummaid.httpmaid.http.HeadersBuilder;
 import de.quantummaid.httpmaid.http.QueryParameters;
@@ -31,25 +33,38 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import org.eclipse.jetty.server.Request;
 import org.eclipse.jetty.server.handler.AbstractHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import javax.servlet.AsyncContext;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.Enumeration;
+import java.util.concurrent.CompletableFuture;
 
+import static de.quantummaid.httpmaid.CoreModule.ASYNC_RESPONSE_TIMEOUT;
+import static de.quantummaid.httpmaid.endpoint.AsyncResponseTimeout.asyncResponseTimeout;
 import static de.quantummaid.httpmaid.endpoint.RawHttpRequest.rawHttpRequestBuilder;
 import static de.quantummaid.httpmaid.http.HeadersBuilder.headersBuilder;
+import static de.quantummaid.httpmaid.http.Http.StatusCodes.SERVICE_UNAVAILABLE;
+import static de.quantummaid.httpmaid.http.body.ResponseBody.UNKNOWN_LENGTH;
+import static de.quantummaid.httpmaid.servlet.AsyncTimeoutListener.asyncTimeoutListener;
 import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
 import static java.util.Arrays.asList;
 
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 final class JettyEndpointHandler extends AbstractHandler {
+    private static final Logger LOGGER = LoggerFactory.getLogger(JettyEndpointHandler.class);
+
     private final HttpMaid httpMaid;
+    private final long asyncTimeoutInMillis;
 
     static AbstractHandler jettyEndpointHandler(final HttpMaid httpMaid) {
         validateNotNull(httpMaid, "httpMaid");
-        return new JettyEndpointHandler(httpMaid);
+        final long asyncTimeoutInMillis = httpMaid.getMetaDatum(ASYNC_RESPONSE_TIMEOUT).toMillis();
+        return new JettyEndpointHandler(httpMaid, asyncTimeoutInMillis);
     }
 
     @Override
@@ -57,7 +72,7 @@ final class JettyEndpointHandler extends AbstractHandler {
                        final Request request,
                        final HttpServletRequest httpServletRequest,
                        final HttpServletResponse httpServletResponse) {
-        httpMaid.handleRequest(() -> {
+        final CompletableFuture<RawResponse> completion = httpMaid.handleRequestAsynchronously(() -> {
                     final RawHttpRequestBuilder builder = rawHttpRequestBuilder();
                     final String path = request.getPathInfo();
                     builder.withPath(path);
@@ -71,12 +86,47 @@ final class JettyEndpointHandler extends AbstractHandler {
                     builder.withBody(body);
                     return builder.build();
                 },
-                response -> {
-                    response.setHeaders(httpServletResponse::addHeader);
-                    httpServletResponse.setStatus(response.status());
-                    final OutputStream outputStream = httpServletResponse.getOutputStream();
-                    response.streamBodyToOutputStream(outputStream);
-                });
+                response -> response).toCompletableFuture();
+        if (!completion.isDone() && request.isAsyncSupported()) {
+            request.setHandled(true);
+            final AsyncContext asyncContext = request.startAsync();
+            final AsyncResponseTimeout timeout = asyncResponseTimeout(asyncTimeoutInMillis);
+            asyncContext.setTimeout(asyncTimeoutInMillis);
+            asyncContext.addListener(asyncTimeoutListener(() -> timeout.timeOut(() -> {
+                httpServletResponse.setStatus(SERVICE_UNAVAILABLE);
+                asyncContext.complete();
+            })));
+            completion.whenComplete((response, exception) -> timeout.complete(response, completedResponse -> {
+                try {
+                    respond(completedResponse, httpServletResponse);
+                } finally {
+                    asyncContext.complete();
+                }
+            }));
+            return;
+        }
+        final RawResponse response = completion.exceptionally(exception -> null).join();
+        respond(response, httpServletResponse);
+    }
+
+    private static void respond(final RawResponse response,
+                                final HttpServletResponse httpServletResponse) {
+        if (response == null) {
+            return;
+        }
+        try {
+            response.setHeaders(httpServletResponse::addHeader);
+            httpServletResponse.setStatus(response.status());
+            final long contentLength = response.contentLength();
+            if (response.permitsBody() && contentLength != UNKNOWN_LENGTH) {
+                httpServletResponse.setContentLengthLong(contentLength);
+            }
+            final OutputStream outputStream = httpServletResponse.getOutputStream();
+            response.streamBodyToOutputStream(outputStream);
+        } catch (final Exception e) {
+            LOGGER.error("Exception in endpoint reponse handling", e);
+            // throwing an exception here might pose a security risk (http://cwe.mitre.org/data/definitions/600.html)
+        }
     }
 
     private static Headers extractHeaders(final HttpServletRequest request) {
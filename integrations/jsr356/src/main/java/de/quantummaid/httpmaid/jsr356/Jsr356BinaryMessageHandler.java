@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.jsr356;
+
+import de.quantummaid.httpmaid.HttpMaid;
+import de.quantummaid.httpmaid.websockets.sender.NonSerializableConnectionInformation;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import javax.websocket.MessageHandler;
+import javax.websocket.Session;
+import java.nio.ByteBuffer;
+
+import static de.quantummaid.httpmaid.websockets.endpoint.RawWebsocketMessage.rawBinaryWebsocketMessage;
+
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class Jsr356BinaryMessageHandler implements MessageHandler.Whole<ByteBuffer> {
+    private final NonSerializableConnectionInformation connectionInformation;
+    private final Session session;
+    private final HttpMaid httpMaid;
+
+    public static MessageHandler.Whole<ByteBuffer> jsr356BinaryMessageHandler(final NonSerializableConnectionInformation connectionInformation,
+                                                                              final Session session,
+                                                                              final HttpMaid httpMaid) {
+        return new Jsr356BinaryMessageHandler(connectionInformation, session, httpMaid);
+    }
+
+    @Override
+    public void onMessage(final ByteBuffer message) {
+        httpMaid.handleRequest(
+                () -> rawBinaryWebsocketMessage(connectionInformation, message),
+                response -> response.dispatchBody(connectionInformation::send, connectionInformation::sendBinary)
+        );
+    }
+}
@@ -29,6 +29,7 @@ import lombok.ToString;
 
 import javax.websocket.Session;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import static de.quantummaid.httpmaid.jsr356.Jsr356Exception.jsr356Exception;
 
@@ -51,6 +52,15 @@ public final class Jsr356ConnectionInformation implements NonSerializableConnect
         }
     }
 
+    @Override
+    public void sendBinary(final ByteBuffer message) {
+        try {
+            session.getBasicRemote().sendBinary(message);
+        } catch (final IOException e) {
+            throw jsr356Exception(e);
+        }
+    }
+
     @Override
     public void disconnect() {
         try {
@@ -35,6 +35,7 @@ import javax.websocket.Endpoint;
 import javax.websocket.EndpointConfig;
 import javax.websocket.Session;
 
+import static de.quantummaid.httpmaid.jsr356.Jsr356BinaryMessageHandler.jsr356BinaryMessageHandler;
 import static de.quantummaid.httpmaid.jsr356.Jsr356ConnectionInformation.jsr356ConnectionInformation;
 import static de.quantummaid.httpmaid.jsr356.Jsr356MessageHandler.jsr356MessageHandler;
 import static de.quantummaid.httpmaid.websockets.endpoint.RawWebsocketConnect.rawWebsocketConnectBuilder;
@@ -67,6 +68,7 @@ public class Jsr356Endpoint extends Endpoint {
                 }
         );
         session.addMessageHandler(jsr356MessageHandler(connectionInformation, session, httpMaid));
+        session.addMessageHandler(jsr356BinaryMessageHandler(connectionInformation, session, httpMaid));
     }
 
     @Override
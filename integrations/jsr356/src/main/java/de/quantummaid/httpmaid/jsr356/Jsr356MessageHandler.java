@@ -51,8 +51,7 @@ public final class Jsr356MessageHandler implements MessageHandler.Whole<String>
     public void onMessage(final String message) {
         httpMaid.handleRequest(
                 () -> rawWebsocketMessage(connectionInformation, message),
-                response -> response.optionalStringBody()
-                        .ifPresent(connectionInformation::send)
+                response -> response.dispatchBody(connectionInformation::send, connectionInformation::sendBinary)
         );
     }
 }
@@ -31,8 +31,8 @@ import lombok.ToString;
 
 import java.io.InputStream;
 
-import static de.quantummaid.httpmaid.HttpMaidChainKeys.REQUEST_BODY_STREAM;
 import static de.quantummaid.httpmaid.HttpMaidChainKeys.REQUEST_CONTENT_TYPE;
+import static de.quantummaid.httpmaid.handler.http.HttpRequest.httpRequest;
 import static de.quantummaid.httpmaid.multipart.MultipartChainKeys.MULTIPART_ITERATOR_BODY;
 import static de.quantummaid.httpmaid.multipart.MultipartParser.parse;
 
@@ -47,7 +47,7 @@ public final class MultipartProcessor implements Processor {
 
     @Override
     public void apply(final MetaData metaData) {
-        final InputStream body = metaData.get(REQUEST_BODY_STREAM);
+        final InputStream body = httpRequest(metaData).optionalBodyStream().orElseThrow();
         final ContentType contentType = metaData.get(REQUEST_CONTENT_TYPE);
         final MultipartIteratorBody multipartIteratorBody = parse(body, contentType);
         metaData.set(MULTIPART_ITERATOR_BODY, multipartIteratorBody);
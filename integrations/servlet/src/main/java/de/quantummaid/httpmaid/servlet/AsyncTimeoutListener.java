@@ -19,28 +19,42 @@
  * under the License.
  */
 
-package de.quantummaid.httpmaid.path.statemachine;
+package de.quantummaid.httpmaid.servlet;
 
 import lombok.AccessLevel;
-import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 
-import java.util.Optional;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
 
-import static de.quantummaid.httpmaid.path.statemachine.SuccessfulTransition.successfulTransition;
+import static de.quantummaid.httpmaid.util.Validators.validateNotNull;
 
-@EqualsAndHashCode
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
-public final class Transition<T> {
-    private final StateMachineMatcher<T> matcher;
-    private final State target;
+public final class AsyncTimeoutListener implements AsyncListener {
+    private final Runnable onTimeout;
 
-    public static <T> Transition<T> transition(final StateMachineMatcher<T> predicate, final State target) {
-        return new Transition<>(predicate, target);
+    public static AsyncListener asyncTimeoutListener(final Runnable onTimeout) {
+        validateNotNull(onTimeout, "onTimeout");
+        return new AsyncTimeoutListener(onTimeout);
     }
 
-    public Optional<SuccessfulTransition> transition(final T input) {
-        return matcher.matchAndReturnCaptures(input)
-                .map(captures -> successfulTransition(target, captures));
+    @Override
+    public void onTimeout(final AsyncEvent event) {
+        onTimeout.run();
+    }
+
+    @Override
+    public void onComplete(final AsyncEvent event) {
+        // nothing to clean up
+    }
+
+    @Override
+    public void onError(final AsyncEvent event) {
+        // errors are reported through the request's completion
+    }
+
+    @Override
+    public void onStartAsync(final AsyncEvent event) {
+        // the listener is registered after the context was started
     }
 }
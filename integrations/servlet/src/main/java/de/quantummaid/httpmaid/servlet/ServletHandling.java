@@ -22,20 +22,32 @@
 package de.quantummaid.httpmaid.servlet;
 
 import de.quantummaid.httpmaid.HttpMaid;
+import de.quantummaid.httpmaid.endpoint.AsyncResponseTimeout;
 import de.quantummaid.httpmaid.endpoint.RawHttpRequest;
 import de.quantummaid.httpmaid.endpoint.RawHttpRequestBuilder;
+import de.quantummaid.httpmaid.endpoint.RawResponse;
 import de.quantummaid.httpmaid.http.Headers;
 import de.quantummaid.httpmaid.http.HeadersBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import javax.servlet.AsyncContext;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.Enumeration;
+import java.util.concurrent.CompletableFuture;
 
+import static de.quantummaid.httpmaid.CoreModule.ASYNC_RESPONSE_TIMEOUT;
+import static de.quantummaid.httpmaid.endpoint.AsyncResponseTimeout.asyncResponseTimeout;
+import static de.quantummaid.httpmaid.http.Http.StatusCodes.SERVICE_UNAVAILABLE;
+import static de.quantummaid.httpmaid.http.body.ResponseBody.UNKNOWN_LENGTH;
+import static de.quantummaid.httpmaid.servlet.AsyncTimeoutListener.asyncTimeoutListener;
 import static java.util.Optional.ofNullable;
 
 public final class ServletHandling {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ServletHandling.class);
 
     private ServletHandling() {
     }
@@ -43,18 +55,53 @@ public final class ServletHandling {
     public static void handle(final HttpMaid httpMaid,
                               final HttpServletRequest request,
                               final HttpServletResponse response) {
-        httpMaid.handleRequest(() -> {
+        final CompletableFuture<RawResponse> completion = httpMaid.handleRequestAsynchronously(() -> {
             final RawHttpRequestBuilder builder = extractMetaDataFromHttpServletRequest(request);
             final InputStream body = request.getInputStream();
             builder.withBody(body);
             return builder.build();
-        }, rawResponse -> {
+        }, rawResponse -> rawResponse).toCompletableFuture();
+        if (!completion.isDone() && request.isAsyncSupported()) {
+            final AsyncContext asyncContext = request.startAsync();
+            final long asyncTimeoutInMillis = httpMaid.getMetaDatum(ASYNC_RESPONSE_TIMEOUT).toMillis();
+            final AsyncResponseTimeout timeout = asyncResponseTimeout(asyncTimeoutInMillis);
+            asyncContext.setTimeout(asyncTimeoutInMillis);
+            asyncContext.addListener(asyncTimeoutListener(() -> timeout.timeOut(() -> {
+                response.setStatus(SERVICE_UNAVAILABLE);
+                asyncContext.complete();
+            })));
+            completion.whenComplete((rawResponse, exception) -> timeout.complete(rawResponse, completedResponse -> {
+                try {
+                    respond(completedResponse, response);
+                } finally {
+                    asyncContext.complete();
+                }
+            }));
+            return;
+        }
+        final RawResponse rawResponse = completion.exceptionally(exception -> null).join();
+        respond(rawResponse, response);
+    }
+
+    private static void respond(final RawResponse rawResponse,
+                                final HttpServletResponse response) {
+        if (rawResponse == null) {
+            return;
+        }
+        try {
             rawResponse.setHeaders(response::addHeader);
             final int responseStatus = rawResponse.status();
             response.setStatus(responseStatus);
+            final long contentLength = rawResponse.contentLength();
+            if (rawResponse.permitsBody() && contentLength != UNKNOWN_LENGTH) {
+                response.setContentLengthLong(contentLength);
+            }
             final OutputStream outputStream = response.getOutputStream();
             rawResponse.streamBodyToOutputStream(outputStream);
-        });
+        } catch (final Exception e) {
+            LOGGER.error("Exception in endpoint reponse handling", e);
+            // throwing an exception here might pose a security risk (http://cwe.mitre.org/data/definitions/600.html)
+        }
     }
 
     public static RawHttpRequestBuilder extractMetaDataFromHttpServletRequest(final HttpServletRequest request) {
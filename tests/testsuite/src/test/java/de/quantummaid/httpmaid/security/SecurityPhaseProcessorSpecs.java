@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.security;
+
+import de.quantummaid.httpmaid.chains.MetaData;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static de.quantummaid.httpmaid.HttpMaidChainKeys.PATH;
+import static de.quantummaid.httpmaid.chains.ChainName.chainName;
+import static de.quantummaid.httpmaid.chains.MetaData.emptyMetaData;
+import static de.quantummaid.httpmaid.path.Path.path;
+import static de.quantummaid.httpmaid.security.Filter.pathsFilter;
+import static de.quantummaid.httpmaid.security.SecurityPhaseProcessor.securityPhaseProcessor;
+import static de.quantummaid.httpmaid.security.SecurityProcessor.securityProcessor;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+public final class SecurityPhaseProcessorSpecs {
+
+    @Test
+    public void parameterisedPathsShareOneCacheEntry() {
+        final List<String> calls = new ArrayList<>();
+        final SecurityPhaseProcessor processor = securityPhaseProcessor(List.of(
+                securityProcessor(metaData -> calls.add("users"), chainName("TEST"), List.of(pathsFilter("/users/<id>"))),
+                securityProcessor(metaData -> calls.add("not admin"), chainName("TEST"), List.of(pathsFilter("/admin").negate()))
+        ));
+
+        for (int i = 0; i < 100; ++i) {
+            processor.apply(metaDataFor("/users/" + i));
+        }
+        assertThat(processor.numberOfCachedSignatures(), is(1));
+        assertThat(calls.size(), is(200));
+
+        calls.clear();
+        processor.apply(metaDataFor("/admin"));
+        processor.apply(metaDataFor("/public"));
+        processor.apply(metaDataFor("/other"));
+        assertThat(calls, contains("not admin", "not admin"));
+        assertThat(processor.numberOfCachedSignatures(), is(3));
+    }
+
+    private static MetaData metaDataFor(final String path) {
+        final MetaData metaData = emptyMetaData();
+        metaData.set(PATH, path(path));
+        return metaData;
+    }
+}
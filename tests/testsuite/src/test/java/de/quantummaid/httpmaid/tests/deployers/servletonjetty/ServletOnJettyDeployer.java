@@ -57,6 +57,7 @@ public final class ServletOnJettyDeployer implements PortDeployer {
         final ServletHandler servletHandler = new ServletHandler();
         current.setHandler(servletHandler);
         final ServletHolder servletHolder = new ServletHolder(servletEndpointFor(httpMaid));
+        servletHolder.setAsyncSupported(true);
         servletHandler.addServletWithMapping(servletHolder, "/*");
         try {
             current.start();
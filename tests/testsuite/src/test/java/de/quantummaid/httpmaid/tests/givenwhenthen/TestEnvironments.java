@@ -36,8 +36,11 @@ import static de.quantummaid.httpmaid.tests.deployers.fakeawslambda.FakeHttpApiG
 import static de.quantummaid.httpmaid.tests.deployers.fakeawslambda.FakeHttpApiGatewayV2PayloadWithWsAuthDeployer.fakeHttpApiGatewayV2PayloadWithWsAuthDeployer;
 import static de.quantummaid.httpmaid.tests.deployers.fakeawslambda.FakeRestApiGatewayDeployer.fakeRestApiGatewayDeployer;
 import static de.quantummaid.httpmaid.tests.deployers.fakeawslambda.FakeRestApiGatewayWithWsAuthorizationDeployer.fakeRestApiGatewayWithWsAuthorizationDeployer;
+import static de.quantummaid.httpmaid.tests.deployers.jetty.JettyDeployer.jettyDeployer;
 import static de.quantummaid.httpmaid.tests.deployers.jettywebsockets.JettyWebsocketsDeployer.jettyWebsocketsDeployer;
 import static de.quantummaid.httpmaid.tests.deployers.jsr356ontyrus.Jsr356OnTyrusDeployer.programmaticJsr356OnTyrusDeployer;
+import static de.quantummaid.httpmaid.tests.deployers.purejava.PureJavaDeployer.pureJavaDeployer;
+import static de.quantummaid.httpmaid.tests.deployers.servletonjetty.ServletOnJettyDeployer.servletOnJettyDeployer;
 import static de.quantummaid.httpmaid.tests.givenwhenthen.TestEnvironment.testEnvironment;
 import static java.util.stream.Collectors.toList;
 
@@ -49,6 +52,7 @@ public final class TestEnvironments {
     public static final String ENVIRONMENTS_WITH_ALL_CAPABILITIES = PACKAGE + "environmentsWithAllCapabilities";
     public static final String ENVIRONMENTS_WITH_ALL_CAPABILITIES_WITHOUT_SHITTY_CLIENT = PACKAGE + "environmentsWithAllCapabilitiesWithoutShittyClient";
     public static final String ONLY_SHITTY_CLIENT = PACKAGE + "onlyShittyClient";
+    public static final String HTTP_SERVER_ENVIRONMENTS = PACKAGE + "httpServerEnvironments";
 
     private TestEnvironments() {
     }
@@ -127,6 +131,22 @@ public final class TestEnvironments {
                 .collect(toList());
     }
 
+    public static List<TestEnvironment> httpServerEnvironments() {
+        return withTheRawClient(List.of(
+                pureJavaDeployer(),
+                jettyDeployer(),
+                servletOnJettyDeployer()
+        ));
+    }
+
+    private static List<TestEnvironment> withTheRawClient(final List<Deployer> deployers) {
+        return deployers.stream()
+                .flatMap(deployer -> deployer.supportedClients().stream()
+                        .filter(clientFactory -> clientFactory.getClass().equals(ShittyClientFactory.class))
+                        .map(client -> testEnvironment(deployer, client)))
+                .collect(toList());
+    }
+
     public static List<TestEnvironment> allEnvironments() {
         return activeDeployers()
                 .stream()
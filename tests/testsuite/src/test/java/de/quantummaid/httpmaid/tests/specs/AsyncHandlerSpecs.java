@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.tests.specs;
+
+import de.quantummaid.httpmaid.handler.http.AsyncHttpHandler;
+import de.quantummaid.httpmaid.tests.givenwhenthen.TestEnvironment;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static de.quantummaid.httpmaid.Configurators.toTimeOutAsynchronousResponsesAfter;
+import static de.quantummaid.httpmaid.HttpMaid.anHttpMaid;
+import static de.quantummaid.httpmaid.exceptions.ExceptionConfigurators.toMapExceptionsOfType;
+import static de.quantummaid.httpmaid.tests.givenwhenthen.TestEnvironments.ALL_ENVIRONMENTS;
+import static de.quantummaid.httpmaid.tests.givenwhenthen.TestEnvironments.HTTP_SERVER_ENVIRONMENTS;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.delayedExecutor;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+public final class AsyncHandlerSpecs {
+    private static final Executor LATER = delayedExecutor(100, MILLISECONDS);
+
+    @ParameterizedTest
+    @MethodSource(ALL_ENVIRONMENTS)
+    public void anAsyncHandlerCanFinishTheResponseOnAnotherThread(final TestEnvironment testEnvironment) {
+        testEnvironment.given(
+                anHttpMaid()
+                        .get("/test", (AsyncHttpHandler) (request, response) -> supplyAsync(() -> "foo", LATER)
+                                .thenAccept(response::setBody))
+                        .build()
+        )
+                .when().aRequestToThePath("/test").viaTheGetMethod().withAnEmptyBody().isIssued()
+                .theStatusCodeWas(200)
+                .theResponseBodyWas("foo");
+    }
+
+    @ParameterizedTest
+    @MethodSource(ALL_ENVIRONMENTS)
+    public void anAsyncHandlerCanReturnAnAlreadyCompletedStage(final TestEnvironment testEnvironment) {
+        testEnvironment.given(
+                anHttpMaid()
+                        .get("/test", (AsyncHttpHandler) (request, response) -> {
+                            response.setBody("foo");
+                            return completedFuture(null);
+                        })
+                        .build()
+        )
+                .when().aRequestToThePath("/test").viaTheGetMethod().withAnEmptyBody().isIssued()
+                .theStatusCodeWas(200)
+                .theResponseBodyWas("foo");
+    }
+
+    @ParameterizedTest
+    @MethodSource(ALL_ENVIRONMENTS)
+    public void aFailedStageIsMappedLikeAThrownException(final TestEnvironment testEnvironment) {
+        testEnvironment.given(
+                anHttpMaid()
+                        .get("/test", (AsyncHttpHandler) (request, response) -> supplyAsync(() -> {
+                            throw new UnsupportedOperationException();
+                        }, LATER))
+                        .configured(toMapExceptionsOfType(UnsupportedOperationException.class,
+                                (exception, request, response) -> response.setStatus(501)))
+                        .build()
+        )
+                .when().aRequestToThePath("/test").viaTheGetMethod().withAnEmptyBody().isIssued()
+                .theStatusCodeWas(501)
+                .theResponseBodyWas("");
+    }
+
+    @ParameterizedTest
+    @MethodSource(HTTP_SERVER_ENVIRONMENTS)
+    public void anAsyncHandlerThatNeverCompletesTimesOut(final TestEnvironment testEnvironment) {
+        testEnvironment.given(
+                anHttpMaid()
+                        .get("/test", (AsyncHttpHandler) (request, response) -> new CompletableFuture<>())
+                        .configured(toTimeOutAsynchronousResponsesAfter(Duration.ofMillis(200)))
+                        .build()
+        )
+                .when().aRequestToThePath("/test").viaTheGetMethod().withAnEmptyBody().isIssued()
+                .theStatusCodeWas(503);
+    }
+}
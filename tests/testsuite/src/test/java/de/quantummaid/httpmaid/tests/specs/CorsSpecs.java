@@ -28,6 +28,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import java.util.concurrent.TimeUnit;
 
 import static de.quantummaid.httpmaid.HttpMaid.anHttpMaid;
+import static de.quantummaid.httpmaid.cors.CorsConfigurators.toActivateCORSWithAllowedOrigins;
 import static de.quantummaid.httpmaid.cors.CorsConfigurators.toActivateCORSWithoutValidatingTheOrigin;
 import static de.quantummaid.httpmaid.exceptions.ExceptionConfigurators.toMapExceptionsByDefaultUsing;
 import static de.quantummaid.httpmaid.exceptions.ExceptionConfigurators.toMapExceptionsOfType;
@@ -150,4 +151,24 @@ public final class CorsSpecs {
                 .theReponseContainsTheHeader("Access-Control-Allow-Origin", "localhost")
                 .theResponseDoesNotContainTheHeader("Access-Control-Allow-Credentials");
     }
+
+    @ParameterizedTest
+    @MethodSource(ALL_ENVIRONMENTS)
+    public void corsPreflightRequestWithHeadersThatAreNotAllowedIsRejected(final TestEnvironment testEnvironment) {
+        testEnvironment.given(
+                anHttpMaid()
+                        .configured(toActivateCORSWithAllowedOrigins("foo.bar")
+                                .withAllowedMethods(GET, POST, PUT, DELETE)
+                                .withAllowedHeaders("X-Custom-Header"))
+                        .build()
+        )
+                .when().aRequestToThePath("/the/path/does/not/matter/for/options/requests")
+                .viaTheOptionsMethod().withAnEmptyBody().withTheHeader("Origin", "foo.bar")
+                .withTheHeader("Access-Control-Request-Headers", "X-Other-Header")
+                .withTheHeader("Access-Control-Request-Method", "PUT").isIssued()
+                .theStatusCodeWas(200)
+                .theResponseDoesNotContainTheHeader("Access-Control-Allow-Origin")
+                .theResponseDoesNotContainTheHeader("Access-Control-Allow-Headers")
+                .theResponseDoesNotContainTheHeader("Access-Control-Allow-Methods");
+    }
 }
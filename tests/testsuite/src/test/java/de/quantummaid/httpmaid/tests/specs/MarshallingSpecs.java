@@ -29,6 +29,7 @@ import de.quantummaid.mapmaid.builder.AdvancedBuilder;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.nio.ByteBuffer;
 import java.util.Map;
 
 import static de.quantummaid.httpmaid.HttpMaid.anHttpMaid;
@@ -36,6 +37,7 @@ import static de.quantummaid.httpmaid.exceptions.ExceptionConfigurators.toMapExc
 import static de.quantummaid.httpmaid.http.headers.ContentType.fromString;
 import static de.quantummaid.httpmaid.marshalling.MarshallingConfigurators.*;
 import static de.quantummaid.httpmaid.tests.givenwhenthen.TestEnvironments.ALL_ENVIRONMENTS;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 public final class MarshallingSpecs {
 
@@ -73,6 +75,40 @@ public final class MarshallingSpecs {
                 .theResponseBodyWas("b");
     }
 
+    @ParameterizedTest
+    @MethodSource(ALL_ENVIRONMENTS)
+    public void binaryMarshallerCanBeSet(final TestEnvironment testEnvironment) {
+        testEnvironment.given(
+                anHttpMaid()
+                        .post("/", (request, response) -> request.optionalBodyMap().ifPresent(response::setBody))
+                        .configured(toMarshallBinaryContentType(fromString("qwer"),
+                                body -> Map.of("a", String.valueOf(body.remaining())),
+                                map -> ByteBuffer.wrap(((String) ((Map) map).get("a")).getBytes(UTF_8))))
+                        .configured(toMarshallByDefaultUsingTheContentType(fromString("qwer")))
+                        .build()
+        )
+                .when().aRequestToThePath("/").viaThePostMethod().withTheBody("abcd").withContentType("qwer").withTheHeader("Accept", "qwer").isIssued()
+                .theStatusCodeWas(200)
+                .theResponseBodyWas("4");
+    }
+
+    @ParameterizedTest
+    @MethodSource(ALL_ENVIRONMENTS)
+    public void streamingMarshallerCanBeSet(final TestEnvironment testEnvironment) {
+        testEnvironment.given(
+                anHttpMaid()
+                        .post("/", (request, response) -> request.optionalBodyMap().ifPresent(response::setBody))
+                        .configured(toMarshallContentTypeUsingStreams(fromString("qwer"),
+                                body -> Map.of("a", String.valueOf(body.readAllBytes().length)),
+                                (map, outputStream) -> outputStream.write(((String) ((Map) map).get("a")).getBytes(UTF_8))))
+                        .configured(toMarshallByDefaultUsingTheContentType(fromString("qwer")))
+                        .build()
+        )
+                .when().aRequestToThePath("/").viaThePostMethod().withTheBody("abcdef").withContentType("qwer").withTheHeader("Accept", "qwer").isIssued()
+                .theStatusCodeWas(200)
+                .theResponseBodyWas("6");
+    }
+
     @ParameterizedTest
     @MethodSource(ALL_ENVIRONMENTS)
     public void requestUsesContentTypeHeaderForUnmarshalling(final TestEnvironment testEnvironment) {
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.tests.specs;
+
+import de.quantummaid.httpmaid.tests.givenwhenthen.TestEnvironment;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayInputStream;
+
+import static de.quantummaid.httpmaid.HttpMaid.anHttpMaid;
+import static de.quantummaid.httpmaid.tests.givenwhenthen.TestEnvironments.ALL_ENVIRONMENTS;
+import static de.quantummaid.httpmaid.tests.givenwhenthen.TestEnvironments.HTTP_SERVER_ENVIRONMENTS;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+public final class ResponseBodySpecs {
+
+    @ParameterizedTest
+    @MethodSource(HTTP_SERVER_ENVIRONMENTS)
+    public void stringBodiesAreSentWithAContentLength(final TestEnvironment testEnvironment) {
+        testEnvironment.given(() ->
+                anHttpMaid()
+                        .get("/test", (request, response) -> response.setBody("h\u00e4llo"))
+                        .build()
+        )
+                .when().aRequestToThePath("/test").viaTheGetMethod().withAnEmptyBody().isIssued()
+                .theStatusCodeWas(200)
+                .theResponseBodyWas("h\u00e4llo")
+                .theReponseContainsTheHeaderRawValue("Content-Length", "6")
+                .theResponseDoesNotContainTheHeader("Transfer-Encoding");
+    }
+
+    @ParameterizedTest
+    @MethodSource(HTTP_SERVER_ENVIRONMENTS)
+    public void byteBodiesAreSentWithAContentLength(final TestEnvironment testEnvironment) {
+        testEnvironment.given(() ->
+                anHttpMaid()
+                        .get("/test", (request, response) -> response.setBody("bytes".getBytes(UTF_8)))
+                        .build()
+        )
+                .when().aRequestToThePath("/test").viaTheGetMethod().withAnEmptyBody().isIssued()
+                .theStatusCodeWas(200)
+                .theResponseBodyWas("bytes")
+                .theReponseContainsTheHeaderRawValue("Content-Length", "5")
+                .theResponseDoesNotContainTheHeader("Transfer-Encoding");
+    }
+
+    @ParameterizedTest
+    @MethodSource(HTTP_SERVER_ENVIRONMENTS)
+    public void streamBodiesAreSentChunked(final TestEnvironment testEnvironment) {
+        testEnvironment.given(() ->
+                anHttpMaid()
+                        .get("/test", (request, response) -> response.setBody(new ByteArrayInputStream("stream".getBytes(UTF_8))))
+                        .build()
+        )
+                .when().aRequestToThePath("/test").viaTheGetMethod().withAnEmptyBody().isIssued()
+                .theStatusCodeWas(200)
+                .theResponseBodyWas("stream")
+                .theReponseContainsTheHeaderRawValue("Transfer-Encoding", "chunked")
+                .theResponseDoesNotContainTheHeader("Content-Length");
+    }
+
+    @ParameterizedTest
+    @MethodSource(HTTP_SERVER_ENVIRONMENTS)
+    public void emptyBodiesAreSentWithAZeroContentLength(final TestEnvironment testEnvironment) {
+        testEnvironment.given(() ->
+                anHttpMaid()
+                        .get("/test", (request, response) -> response.setStatus(200))
+                        .build()
+        )
+                .when().aRequestToThePath("/test").viaTheGetMethod().withAnEmptyBody().isIssued()
+                .theStatusCodeWas(200)
+                .theResponseBodyWas("")
+                .theReponseContainsTheHeaderRawValue("Content-Length", "0")
+                .theResponseDoesNotContainTheHeader("Transfer-Encoding");
+    }
+
+    @ParameterizedTest
+    @MethodSource(ALL_ENVIRONMENTS)
+    public void aLaterStringBodyReplacesAnEarlierByteBody(final TestEnvironment testEnvironment) {
+        testEnvironment.given(() ->
+                anHttpMaid()
+                        .get("/test", (request, response) -> {
+                            response.setBody("bytes".getBytes(UTF_8));
+                            response.setBody("string");
+                        })
+                        .build()
+        )
+                .when().aRequestToThePath("/test").viaTheGetMethod().withAnEmptyBody().isIssued()
+                .theStatusCodeWas(200)
+                .theResponseBodyWas("string");
+    }
+
+    @ParameterizedTest
+    @MethodSource(ALL_ENVIRONMENTS)
+    public void aLaterStreamBodyReplacesAnEarlierByteBody(final TestEnvironment testEnvironment) {
+        testEnvironment.given(() ->
+                anHttpMaid()
+                        .get("/test", (request, response) -> {
+                            response.setBody("bytes".getBytes(UTF_8));
+                            response.setBody(new ByteArrayInputStream("stream".getBytes(UTF_8)));
+                        })
+                        .build()
+        )
+                .when().aRequestToThePath("/test").viaTheGetMethod().withAnEmptyBody().isIssued()
+                .theStatusCodeWas(200)
+                .theResponseBodyWas("stream");
+    }
+}
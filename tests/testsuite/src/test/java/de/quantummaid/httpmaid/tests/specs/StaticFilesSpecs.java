@@ -37,6 +37,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Stream;
 
+import static de.quantummaid.httpmaid.Configurators.toCacheJavaResources;
 import static de.quantummaid.httpmaid.HttpMaid.anHttpMaid;
 import static de.quantummaid.httpmaid.exceptions.ExceptionConfigurators.toMapExceptionsOfType;
 import static de.quantummaid.httpmaid.tests.givenwhenthen.TestEnvironments.ALL_ENVIRONMENTS;
@@ -226,6 +227,22 @@ public final class StaticFilesSpecs {
         }
     }
 
+    @ParameterizedTest
+    @MethodSource(ALL_ENVIRONMENTS)
+    public void aJavaResourcesDirectoryCanBeServedFromACache(final TestEnvironment testEnvironment) {
+        for (final FileDescriptor file : CORRECT_FILES) {
+            testEnvironment.given(
+                    anHttpMaid()
+                            .get("*", (request, response) -> response.mapPathToJavaResourceInDirectory("staticfiles/directory"))
+                            .configured(toCacheJavaResources(1024))
+                            .build()
+            )
+                    .when().aRequestToThePath(file.path).viaTheGetMethod().withAnEmptyBody().isIssued()
+                    .theStatusCodeWas(200)
+                    .theResponseBodyWas(file.content);
+        }
+    }
+
     @ParameterizedTest
     @MethodSource(ALL_ENVIRONMENTS)
     public void aNonExistentFileInAServedJavaResourcesDirectoryLeadsToAnException(final TestEnvironment testEnvironment) {
@@ -91,4 +91,26 @@ public final class AuthorizationSpecs {
                 .theStatusCodeWas(200)
                 .theResponseBodyWas("the secret");
     }
+
+    @ParameterizedTest
+    @MethodSource(ALL_ENVIRONMENTS)
+    public void routeAndRequestFiltersCanBeCombined(final TestEnvironment testEnvironment) {
+        testEnvironment.given(
+                anHttpMaid()
+                        .get("/secret", (request, response) -> response.setBody("the secret"))
+                        .get("/public", (request, response) -> response.setBody("public"))
+                        .configured(toAuthorizeRequestsUsing((authenticationInformation, request) -> false)
+                                .onlyRequestsTo("/secret")
+                                .exceptRequestsThat(request -> request.headers().optionalHeader("override").isPresent()))
+                        .build()
+        )
+                .when().aRequestToThePath("/public").viaTheGetMethod().withAnEmptyBody().isIssued()
+                .theStatusCodeWas(200)
+                .theResponseBodyWas("public")
+                .andWhen().aRequestToThePath("/secret").viaTheGetMethod().withAnEmptyBody().isIssued()
+                .theStatusCodeWas(401)
+                .andWhen().aRequestToThePath("/secret").viaTheGetMethod().withAnEmptyBody().withTheHeader("override", "true").isIssued()
+                .theStatusCodeWas(200)
+                .theResponseBodyWas("the secret");
+    }
 }
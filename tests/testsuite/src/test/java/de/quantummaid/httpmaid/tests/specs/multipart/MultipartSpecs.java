@@ -29,6 +29,7 @@ import static de.quantummaid.httpmaid.tests.givenwhenthen.MultipartBuilder.start
 import static de.quantummaid.httpmaid.tests.givenwhenthen.TestEnvironments.ALL_ENVIRONMENTS;
 import static de.quantummaid.httpmaid.tests.givenwhenthen.builders.MultipartElement.aFile;
 import static de.quantummaid.httpmaid.tests.givenwhenthen.builders.MultipartElement.aFormControl;
+import static de.quantummaid.httpmaid.tests.specs.multipart.handler.MultipartHttpMaidConfiguration.theMultipartHttpMaidInstanceLimitingRequestBodiesTo;
 import static de.quantummaid.httpmaid.tests.specs.multipart.handler.MultipartHttpMaidConfiguration.theMultipartHttpMaidInstanceUsedForTesting;
 
 public final class MultipartSpecs {
@@ -73,6 +74,15 @@ public final class MultipartSpecs {
                 .theResponseBodyWas("[{controlname=myfile,filename=asdf.txt,content=foooo}]");
     }
 
+    @ParameterizedTest
+    @MethodSource(ALL_ENVIRONMENTS)
+    public void testOversizedMultipartBodiesAreRejected(final TestEnvironment testEnvironment) {
+        testEnvironment.given(theMultipartHttpMaidInstanceLimitingRequestBodiesTo(100))
+                .when().aRequestToThePath("/dump").viaThePostMethod()
+                .withTheMultipartBody(startingWith(aFile("myfile", "asdf.txt", "o".repeat(1000)))).isIssued()
+                .theStatusCodeWas(413);
+    }
+
     @ParameterizedTest
     @MethodSource(ALL_ENVIRONMENTS)
     public void testMultipartWithoutFile(final TestEnvironment testEnvironment) {
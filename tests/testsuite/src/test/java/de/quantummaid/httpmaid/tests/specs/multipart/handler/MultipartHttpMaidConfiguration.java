@@ -26,6 +26,7 @@ import de.quantummaid.httpmaid.multipart.MultipartIteratorBody;
 import de.quantummaid.httpmaid.multipart.MultipartPart;
 import de.quantummaid.httpmaid.path.Path;
 
+import static de.quantummaid.httpmaid.Configurators.toLimitRequestBodiesTo;
 import static de.quantummaid.httpmaid.HttpMaid.anHttpMaid;
 import static de.quantummaid.httpmaid.http.Http.StatusCodes.FORBIDDEN;
 import static de.quantummaid.httpmaid.http.HttpRequestMethod.*;
@@ -77,4 +78,13 @@ public final class MultipartHttpMaidConfiguration {
                 .configured(toExposeMultipartBodiesUsingMultipartIteratorBody())
                 .build();
     }
+
+    public static HttpMaid theMultipartHttpMaidInstanceLimitingRequestBodiesTo(final long maximumSizeInBytes) {
+        return anHttpMaid()
+                .serving(DumpMultipartBodyHandler.dumpMultipartBodyHandler())
+                .forRequestPath("/dump").andRequestMethods(POST)
+                .configured(toExposeMultipartBodiesUsingMultipartIteratorBody())
+                .configured(toLimitRequestBodiesTo(maximumSizeInBytes))
+                .build();
+    }
 }
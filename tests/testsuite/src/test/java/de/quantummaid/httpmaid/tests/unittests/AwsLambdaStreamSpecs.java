@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.tests.unittests;
+
+import de.quantummaid.httpmaid.awslambda.AwsLambdaEndpoint;
+import de.quantummaid.httpmaid.awslambda.LambdaEventException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static de.quantummaid.httpmaid.HttpMaid.anHttpMaid;
+import static de.quantummaid.httpmaid.awslambda.AwsLambdaEndpoint.awsLambdaEndpointFor;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class AwsLambdaStreamSpecs {
+
+    @Test
+    public void httpApiEventsCanBeHandledFromStreams() throws IOException {
+        final String event = "{\"version\":\"2.0\",\"rawPath\":\"/echo\",\"rawQueryString\":\"q=1\"," +
+                "\"cookies\":[\"c=2\"],\"headers\":{\"h\":\"3\"}," +
+                "\"requestContext\":{\"http\":{\"method\":\"POST\",\"path\":\"/echo\"},\"timeEpoch\":1700000000000}," +
+                "\"body\":\"\\\"b\\u00e9\\\"\",\"isBase64Encoded\":false}";
+        final String response = handle(event);
+        assertThat(response, is("{\"statusCode\":200," +
+                "\"body\":\"q=1 c=2 h=3 \\\"b\u00e9\\\"\"," +
+                "\"headers\":{\"x-custom\":\"a,b\"}," +
+                "\"cookies\":[\"s=1\"]}"));
+    }
+
+    @Test
+    public void restApiEventsCanBeHandledFromStreams() throws IOException {
+        final String event = "{\"httpMethod\":\"POST\",\"path\":\"/echo\"," +
+                "\"multiValueHeaders\":{\"h\":[\"3\"],\"Cookie\":[\"c=2\"]}," +
+                "\"multiValueQueryStringParameters\":{\"q\":[\"1\"]}," +
+                "\"requestContext\":{},\"body\":\"Ym9keQ==\",\"isBase64Encoded\":true}";
+        final String response = handle(event);
+        assertThat(response, is("{\"statusCode\":200," +
+                "\"multiValueHeaders\":{\"set-cookie\":[\"s=1\"],\"x-custom\":[\"a\",\"b\"]}," +
+                "\"body\":\"q=1 c=2 h=3 body\"}"));
+    }
+
+    @Test
+    public void mapResponsesHaveTheSameLayoutAsStreamedResponses() {
+        final Map<String, Object> event = Map.of(
+                "httpMethod", "POST",
+                "path", "/echo",
+                "multiValueHeaders", Map.of("h", List.of("3"), "Cookie", List.of("c=2")),
+                "multiValueQueryStringParameters", Map.of("q", List.of("1")),
+                "requestContext", Map.of(),
+                "body", "body",
+                "isBase64Encoded", false);
+        final Map<String, Object> response = endpoint().delegate(event);
+        assertThat(List.copyOf(response.keySet()), is(List.of("statusCode", "multiValueHeaders", "body")));
+        assertThat(response.get("statusCode"), is(200));
+        assertThat(response.get("body"), is("q=1 c=2 h=3 body"));
+        assertThat(response.get("multiValueHeaders"), is(Map.of("set-cookie", List.of("s=1"), "x-custom", List.of("a", "b"))));
+    }
+
+    @Test
+    public void malformedEventsAreRejected() {
+        assertThrows(LambdaEventException.class, () -> handle("{\"version\":"));
+    }
+
+    private static String handle(final String event) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        endpoint().delegate(new ByteArrayInputStream(event.getBytes(UTF_8)), outputStream);
+        return outputStream.toString(UTF_8);
+    }
+
+    private static AwsLambdaEndpoint endpoint() {
+        return awsLambdaEndpointFor(anHttpMaid()
+                .post("/echo", (request, response) -> {
+                    final String query = request.queryParameters().parameter("q");
+                    final String cookie = request.cookies().getCookie("c");
+                    final String header = request.headers().header("h");
+                    response.setBody("q=" + query + " c=" + cookie + " h=" + header + " " + request.bodyString());
+                    response.addHeader("Set-Cookie", "s=1");
+                    response.addHeader("X-Custom", "a");
+                    response.addHeader("X-Custom", "b");
+                })
+                .build());
+    }
+}
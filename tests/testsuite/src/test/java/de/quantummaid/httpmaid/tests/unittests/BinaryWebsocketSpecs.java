@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.tests.unittests;
+
+import de.quantummaid.httpmaid.HttpMaid;
+import de.quantummaid.httpmaid.endpoint.RawResponse;
+import de.quantummaid.httpmaid.websockets.endpoint.RawWebsocketAuthorizationBuilder;
+import de.quantummaid.httpmaid.websockets.endpoint.RawWebsocketConnectBuilder;
+import de.quantummaid.httpmaid.websockets.registry.WebsocketRegistryEntry;
+import de.quantummaid.httpmaid.websockets.sender.NonSerializableConnectionInformation;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static de.quantummaid.httpmaid.HttpMaid.anHttpMaid;
+import static de.quantummaid.httpmaid.endpoint.RawHttpRequest.rawHttpRequestBuilder;
+import static de.quantummaid.httpmaid.http.HeadersBuilder.headersBuilder;
+import static de.quantummaid.httpmaid.http.headers.ContentType.fromString;
+import static de.quantummaid.httpmaid.http.body.ResponseBody.stringBody;
+import static de.quantummaid.httpmaid.marshalling.MarshallingConfigurators.toMarshallBinaryContentType;
+import static de.quantummaid.httpmaid.marshalling.MarshallingConfigurators.toMarshallByDefaultUsingTheContentType;
+import static de.quantummaid.httpmaid.websockets.WebsocketMetaDataKeys.WEBSOCKET_REGISTRY_ENTRY;
+import static de.quantummaid.httpmaid.websockets.endpoint.RawWebsocketAuthorizationBuilder.rawWebsocketAuthorizationBuilder;
+import static de.quantummaid.httpmaid.websockets.endpoint.RawWebsocketConnectBuilder.rawWebsocketConnectBuilder;
+import static de.quantummaid.httpmaid.websockets.endpoint.RawWebsocketMessage.rawBinaryWebsocketMessage;
+import static de.quantummaid.httpmaid.websockets.sender.NonSerializableWebsocketSender.NON_SERIALIZABLE_WEBSOCKET_SENDER;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public final class BinaryWebsocketSpecs {
+
+    @Test
+    public void binaryMessagesReachHandlersAndRepliesStayBinary() {
+        final HttpMaid httpMaid = anHttpMaid()
+                .websocket((request, response) -> {
+                    final ByteBuffer body = request.binaryBody();
+                    final byte[] reversed = new byte[body.remaining()];
+                    for (int i = reversed.length - 1; i >= 0; i--) {
+                        reversed[i] = body.get();
+                    }
+                    response.setBody(reversed);
+                })
+                .build();
+        final RecordingConnection connection = connect(httpMaid);
+
+        send(httpMaid, connection, new byte[]{1, 2, (byte) 0xFF});
+
+        assertThat(connection.textMessages, empty());
+        assertThat(connection.binaryMessages, contains(List.of((byte) 0xFF, (byte) 2, (byte) 1)));
+    }
+
+    @Test
+    public void aLaterStringBodyRepliesWithATextMessage() {
+        final HttpMaid httpMaid = anHttpMaid()
+                .websocket((request, response) -> {
+                    response.setBody(new byte[]{1});
+                    response.setBody("text");
+                })
+                .build();
+        final RecordingConnection connection = connect(httpMaid);
+
+        send(httpMaid, connection, new byte[]{1});
+
+        assertThat(connection.binaryMessages, empty());
+        assertThat(connection.textMessages, contains("text"));
+    }
+
+    @Test
+    public void aLaterResponseBodyIsNotFlaggedAsBinary() {
+        final HttpMaid httpMaid = anHttpMaid()
+                .websocket((request, response) -> {
+                    response.setBody(new byte[]{1});
+                    response.setBody(stringBody("text"));
+                })
+                .build();
+        final RecordingConnection connection = connect(httpMaid);
+
+        send(httpMaid, connection, new byte[]{1});
+
+        assertThat(connection.binaryMessages, empty());
+        assertThat(connection.textMessages, contains("text"));
+    }
+
+    @Test
+    public void handlersCanBroadcastBinaryMessages() {
+        final HttpMaid httpMaid = anHttpMaid()
+                .post("/broadcast", (request, response) ->
+                        request.websockets().sender().sendBinaryToAll(ByteBuffer.wrap(new byte[]{4, 2})))
+                .websocket((request, response) -> response.setBody("connected"))
+                .build();
+        final RecordingConnection first = connect(httpMaid);
+        final RecordingConnection second = connect(httpMaid);
+
+        final RawResponse response = httpMaid.handleRequestSynchronously(() -> rawHttpRequestBuilder()
+                .withMethod("POST")
+                .withPath("/broadcast")
+                .withQueryString(null)
+                .withHeaders(headersBuilder().build())
+                .withBody("")
+                .build(), raw -> raw);
+
+        assertThat(response.status(), is(200));
+        assertThat(first.binaryMessages, contains(List.of((byte) 4, (byte) 2)));
+        assertThat(second.binaryMessages, contains(List.of((byte) 4, (byte) 2)));
+    }
+
+    @Test
+    public void binaryMarshallersAreUsedForRoutingAndReplies() {
+        final HttpMaid httpMaid = anHttpMaid()
+                .websocket("ping", (request, response) -> response.setBody(Map.of("message", "pong")))
+                .configured(toMarshallBinaryContentType(fromString("application/x-length-prefixed"),
+                        BinaryWebsocketSpecs::decode,
+                        map -> encode((String) ((Map<?, ?>) map).get("message"))))
+                .configured(toMarshallByDefaultUsingTheContentType(fromString("application/x-length-prefixed")))
+                .build();
+        final RecordingConnection connection = connect(httpMaid);
+
+        send(httpMaid, connection, encode("ping").array());
+
+        assertThat(connection.binaryMessages, contains(toList(encode("pong"))));
+    }
+
+    private static RecordingConnection connect(final HttpMaid httpMaid) {
+        final RawResponse authorization = httpMaid.handleRequestSynchronously(() -> {
+            final RawWebsocketAuthorizationBuilder builder = rawWebsocketAuthorizationBuilder(NON_SERIALIZABLE_WEBSOCKET_SENDER);
+            builder.withQueryParameterMap(Map.of());
+            builder.withHeaders(headersBuilder().build());
+            return builder.build();
+        }, response -> response);
+        final WebsocketRegistryEntry registryEntry = authorization.metaData().get(WEBSOCKET_REGISTRY_ENTRY);
+        final RecordingConnection connection = new RecordingConnection();
+        httpMaid.handleRequest(() -> {
+            final RawWebsocketConnectBuilder builder = rawWebsocketConnectBuilder();
+            builder.withNonSerializableConnectionInformation(connection);
+            builder.withRegistryEntry(registryEntry);
+            return builder.build();
+        }, ignored -> {
+        });
+        return connection;
+    }
+
+    private static void send(final HttpMaid httpMaid,
+                             final RecordingConnection connection,
+                             final byte[] message) {
+        httpMaid.handleRequest(
+                () -> rawBinaryWebsocketMessage(connection, ByteBuffer.wrap(message)),
+                response -> response.dispatchBody(connection::send, connection::sendBinary)
+        );
+    }
+
+    private static Map<String, Object> decode(final ByteBuffer bytes) {
+        final byte[] message = new byte[bytes.get()];
+        bytes.get(message);
+        return Map.of("message", new String(message));
+    }
+
+    private static ByteBuffer encode(final String message) {
+        final ByteBuffer bytes = ByteBuffer.allocate(message.length() + 1);
+        bytes.put((byte) message.length());
+        bytes.put(message.getBytes());
+        return bytes.flip();
+    }
+
+    private static List<Byte> toList(final ByteBuffer bytes) {
+        final List<Byte> list = new ArrayList<>();
+        final ByteBuffer source = bytes.duplicate();
+        while (source.hasRemaining()) {
+            list.add(source.get());
+        }
+        return list;
+    }
+
+    private static final class RecordingConnection implements NonSerializableConnectionInformation {
+        private final List<String> textMessages = new ArrayList<>();
+        private final List<List<Byte>> binaryMessages = new ArrayList<>();
+
+        @Override
+        public void send(final String message) {
+            textMessages.add(message);
+        }
+
+        @Override
+        public void sendBinary(final ByteBuffer message) {
+            binaryMessages.add(toList(message));
+        }
+
+        @Override
+        public void disconnect() {
+        }
+    }
+}
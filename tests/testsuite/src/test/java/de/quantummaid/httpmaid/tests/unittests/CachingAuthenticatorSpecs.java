@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.tests.unittests;
+
+import de.quantummaid.httpmaid.security.authentication.Authenticator;
+import de.quantummaid.httpmaid.security.authentication.CachingAuthenticator;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static de.quantummaid.httpmaid.security.SecurityConfigurators.cachingAuthenticationResultsOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public final class CachingAuthenticatorSpecs {
+
+    @Test
+    public void successfulAuthenticationsAreServedFromTheCache() {
+        final AtomicInteger calls = new AtomicInteger();
+        final CachingAuthenticator<String> authenticator = cachingAuthenticationResultsOf(
+                countingAuthenticator(calls), Duration.ofMinutes(1), 10);
+        assertThat(authenticator.authenticate("valid"), is(Optional.of("user")));
+        assertThat(authenticator.authenticate("valid"), is(Optional.of("user")));
+        assertThat(calls.get(), is(1));
+        assertThat(authenticator.hits(), is(1L));
+        assertThat(authenticator.misses(), is(1L));
+    }
+
+    @Test
+    public void failedAuthenticationsAreNotCached() {
+        final AtomicInteger calls = new AtomicInteger();
+        final CachingAuthenticator<String> authenticator = cachingAuthenticationResultsOf(
+                countingAuthenticator(calls), Duration.ofMinutes(1), 10);
+        assertThat(authenticator.authenticate("invalid"), is(Optional.empty()));
+        assertThat(authenticator.authenticate("invalid"), is(Optional.empty()));
+        assertThat(calls.get(), is(2));
+        assertThat(authenticator.hits(), is(0L));
+    }
+
+    @Test
+    public void cachedAuthenticationsCanBeInvalidated() {
+        final AtomicInteger calls = new AtomicInteger();
+        final CachingAuthenticator<String> authenticator = cachingAuthenticationResultsOf(
+                countingAuthenticator(calls), Duration.ofMinutes(1), 10);
+        authenticator.authenticate("valid");
+        authenticator.invalidate("valid");
+        authenticator.authenticate("valid");
+        authenticator.invalidateAll();
+        authenticator.authenticate("valid");
+        assertThat(calls.get(), is(3));
+    }
+
+    @Test
+    public void cachedAuthenticationsExpire() throws InterruptedException {
+        final AtomicInteger calls = new AtomicInteger();
+        final CachingAuthenticator<String> authenticator = cachingAuthenticationResultsOf(
+                countingAuthenticator(calls), Duration.ofMillis(20), 10);
+        authenticator.authenticate("valid");
+        Thread.sleep(50);
+        authenticator.authenticate("valid");
+        assertThat(calls.get(), is(2));
+    }
+
+    @Test
+    public void theNumberOfCachedAuthenticationsIsBounded() {
+        final AtomicInteger calls = new AtomicInteger();
+        final CachingAuthenticator<String> authenticator = cachingAuthenticationResultsOf(
+                countingAuthenticator(calls), Duration.ofMinutes(1), 2);
+        authenticator.authenticate("valid1");
+        authenticator.authenticate("valid2");
+        authenticator.authenticate("valid3");
+        authenticator.authenticate("valid3");
+        assertThat(calls.get(), is(4));
+        authenticator.authenticate("valid1");
+        assertThat(calls.get(), is(4));
+    }
+
+    @Test
+    public void expiredAuthenticationsMakeRoomForNewOnes() throws InterruptedException {
+        final AtomicInteger calls = new AtomicInteger();
+        final CachingAuthenticator<String> authenticator = cachingAuthenticationResultsOf(
+                countingAuthenticator(calls), Duration.ofMillis(20), 2);
+        authenticator.authenticate("valid1");
+        authenticator.authenticate("valid2");
+        Thread.sleep(50);
+        authenticator.authenticate("valid3");
+        authenticator.authenticate("valid3");
+        assertThat(calls.get(), is(3));
+    }
+
+    private static Authenticator<String> countingAuthenticator(final AtomicInteger calls) {
+        return credentials -> {
+            calls.incrementAndGet();
+            if (credentials.startsWith("valid")) {
+                return Optional.of("user");
+            }
+            return Optional.empty();
+        };
+    }
+}
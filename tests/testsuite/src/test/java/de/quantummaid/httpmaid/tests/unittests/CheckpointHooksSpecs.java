@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.tests.unittests;
+
+import de.quantummaid.httpmaid.HttpMaid;
+import de.quantummaid.httpmaid.checkpoint.CheckpointHook;
+import de.quantummaid.httpmaid.checkpoint.CheckpointHooks;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static de.quantummaid.httpmaid.HttpMaid.anHttpMaid;
+import static de.quantummaid.httpmaid.checkpoint.CheckpointHooks.CHECKPOINT_HOOKS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+
+public final class CheckpointHooksSpecs {
+
+    @Test
+    public void hooksRunInReverseOrderBeforeCheckpointAndInOrderAfterRestore() {
+        final List<String> calls = new ArrayList<>();
+        final HttpMaid httpMaid = anHttpMaid()
+                .get("/", (request, response) -> response.setBody("ok"))
+                .build();
+        final CheckpointHooks checkpointHooks = httpMaid.getMetaDatum(CHECKPOINT_HOOKS);
+        checkpointHooks.addCheckpointHook(recordingHook("a", calls));
+        checkpointHooks.addCheckpointHook(recordingHook("b", calls));
+
+        httpMaid.beforeCheckpoint();
+        httpMaid.afterRestore();
+
+        assertThat(calls, contains("before b", "before a", "after a", "after b"));
+    }
+
+    @Test
+    public void warmUpsRunBeforeAllOtherHooks() {
+        final List<String> calls = new ArrayList<>();
+        final HttpMaid httpMaid = anHttpMaid()
+                .get("/", (request, response) -> response.setBody("ok"))
+                .build();
+        final CheckpointHooks checkpointHooks = httpMaid.getMetaDatum(CHECKPOINT_HOOKS);
+        checkpointHooks.addCheckpointHook(recordingHook("a", calls));
+        checkpointHooks.addWarmUp(() -> calls.add("warm up 1"));
+        checkpointHooks.addCheckpointHook(recordingHook("b", calls));
+        checkpointHooks.addWarmUp(() -> calls.add("warm up 2"));
+
+        httpMaid.beforeCheckpoint();
+
+        assertThat(calls, contains("warm up 1", "warm up 2", "before b", "before a"));
+    }
+
+    private static CheckpointHook recordingHook(final String name, final List<String> calls) {
+        return new CheckpointHook() {
+            @Override
+            public void beforeCheckpoint() {
+                calls.add("before " + name);
+            }
+
+            @Override
+            public void afterRestore() {
+                calls.add("after " + name);
+            }
+        };
+    }
+}
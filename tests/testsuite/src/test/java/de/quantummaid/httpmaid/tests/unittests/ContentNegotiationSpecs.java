@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.tests.unittests;
+
+import de.quantummaid.httpmaid.chains.MetaData;
+import de.quantummaid.httpmaid.http.headers.ContentType;
+import de.quantummaid.httpmaid.marshalling.Marshaller;
+import de.quantummaid.httpmaid.marshalling.Marshallers;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static de.quantummaid.httpmaid.HttpMaidChainKeys.REQUEST_CONTENT_TYPE;
+import static de.quantummaid.httpmaid.HttpMaidChainKeys.REQUEST_HEADERS;
+import static de.quantummaid.httpmaid.chains.MetaData.emptyMetaData;
+import static de.quantummaid.httpmaid.http.Header.header;
+import static de.quantummaid.httpmaid.http.HeaderName.headerName;
+import static de.quantummaid.httpmaid.http.HeaderValue.headerValue;
+import static de.quantummaid.httpmaid.http.Headers.headers;
+import static de.quantummaid.httpmaid.http.headers.ContentType.json;
+import static de.quantummaid.httpmaid.http.headers.ContentType.xml;
+import static de.quantummaid.httpmaid.http.headers.ContentType.yaml;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public final class ContentNegotiationSpecs {
+
+    @Test
+    public void theContentTypeWithTheHighestQualityIsChosen() {
+        final Marshallers marshallers = marshallersFor(json(), xml(), yaml());
+        assertThat(negotiate(marshallers, "application/json;q=0.5, application/xml;q=0.9, */*;q=0.1"), is(xml()));
+        assertThat(negotiate(marshallers, "application/yaml"), is(yaml()));
+    }
+
+    @Test
+    public void multipleAcceptHeadersAreCombined() {
+        final Marshallers marshallers = marshallersFor(json(), xml(), yaml());
+        assertThat(negotiate(marshallers, "text/html", "application/xml;q=0.9", "*/*;q=0.8"), is(xml()));
+    }
+
+    @Test
+    public void theMostSpecificRangeDeterminesTheQuality() {
+        final Marshallers marshallers = marshallersFor(json(), xml());
+        assertThat(negotiate(marshallers, "application/*;q=0.9, application/xml;q=0.1"), is(json()));
+        assertThat(negotiate(marshallers, "*/*, application/json;q=0"), is(xml()));
+    }
+
+    @Test
+    public void mediaRangesAreMatchedCaseInsensitively() {
+        final Marshallers marshallers = marshallersFor(json(), xml());
+        assertThat(negotiate(marshallers, "Application/XML"), is(xml()));
+        assertThat(negotiate(marshallers, "APPLICATION/*;q=0.9, application/json;q=0.1"), is(xml()));
+    }
+
+    @Test
+    public void theRequestContentTypeBreaksTies() {
+        final Marshallers marshallers = marshallersFor(json(), xml(), yaml());
+        final MetaData metaData = metaData("application/*");
+        metaData.set(REQUEST_CONTENT_TYPE, yaml());
+        assertThat(marshallers.determineResponseContentType(metaData), is(yaml()));
+    }
+
+    @Test
+    public void theDefaultContentTypeIsUsedIfNothingIsAccepted() {
+        final Marshallers marshallers = marshallersFor(json(), xml());
+        assertThat(negotiate(marshallers, "text/html"), is(json()));
+        assertThat(negotiate(marshallers), is(json()));
+    }
+
+    @Test
+    public void negotiationsAreCachedButTheDefaultContentTypeIsProvidedPerRequest() {
+        final AtomicInteger defaultContentTypeRequests = new AtomicInteger();
+        final Marshallers marshallers = Marshallers.marshallers(marshallerMap(json(), xml()), request -> {
+            defaultContentTypeRequests.incrementAndGet();
+            return json();
+        });
+        assertThat(negotiate(marshallers, "text/html, application/*"), is(json()));
+        assertThat(negotiate(marshallers, "text/html, application/*"), is(json()));
+        assertThat(defaultContentTypeRequests.get(), is(2));
+        assertThat(negotiate(marshallers, "application/xml"), is(xml()));
+        assertThat(defaultContentTypeRequests.get(), is(2));
+    }
+
+    private static ContentType negotiate(final Marshallers marshallers, final String... acceptHeaders) {
+        return marshallers.determineResponseContentType(metaData(acceptHeaders));
+    }
+
+    private static MetaData metaData(final String... acceptHeaders) {
+        final MetaData metaData = emptyMetaData();
+        metaData.set(REQUEST_HEADERS, headers(List.of(acceptHeaders).stream()
+                .map(value -> header(headerName("Accept"), headerValue(value)))
+                .collect(toList())));
+        return metaData;
+    }
+
+    private static Marshallers marshallersFor(final ContentType... contentTypes) {
+        return Marshallers.marshallers(marshallerMap(contentTypes), request -> contentTypes[0]);
+    }
+
+    private static Map<ContentType, Marshaller> marshallerMap(final ContentType... contentTypes) {
+        final Map<ContentType, Marshaller> marshallers = new LinkedHashMap<>();
+        for (final ContentType contentType : contentTypes) {
+            marshallers.put(contentType, map -> contentType.internalValueForMapping());
+        }
+        return marshallers;
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.tests.unittests;
+
+import de.quantummaid.httpmaid.http.Headers;
+import de.quantummaid.httpmaid.http.QueryParameters;
+import de.quantummaid.httpmaid.websockets.registry.ConnectionInformation;
+import de.quantummaid.httpmaid.websockets.registry.WebsocketRegistryEntry;
+import de.quantummaid.httpmaid.websockets.sender.DeliveryReport;
+import de.quantummaid.httpmaid.websockets.sender.WebsocketSender;
+import de.quantummaid.httpmaid.websockets.sender.WebsocketSenderId;
+import de.quantummaid.httpmaid.websockets.sender.WebsocketSenders;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.function.BiConsumer;
+
+import static de.quantummaid.httpmaid.http.HeadersBuilder.headersBuilder;
+import static de.quantummaid.httpmaid.websockets.registry.WebsocketRegistryEntry.restoreFromStrings;
+import static de.quantummaid.httpmaid.websockets.sender.FanOut.parallelFanOut;
+import static de.quantummaid.httpmaid.websockets.sender.WebsocketSenderId.websocketSenderId;
+import static de.quantummaid.httpmaid.websockets.sender.WebsocketSenders.websocketSenders;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.IntStream.range;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public final class FanOutSpecs {
+
+    @Test
+    public void everyConnectionReceivesTheMessageOnTheCallerThreadByDefault() {
+        final RecordingSender sender = new RecordingSender();
+        final WebsocketSenders websocketSenders = websocketSenders();
+        websocketSenders.addWebsocketSender(sender.senderId(), sender);
+
+        final DeliveryReport report = websocketSenders.send("foo", connections(5), (connection, exception) -> {
+        }).toCompletableFuture().join();
+
+        assertThat(report.recipients(), is(5));
+        assertThat(report.delivered(), is(4));
+        assertThat(report.failed(), is(1));
+        assertThat(sender.received.size(), is(5));
+        assertThat(sender.batches.size(), is(1));
+        assertThat(sender.threads, everyItem(is(Thread.currentThread().getName())));
+    }
+
+    @Test
+    public void connectionsAreDeliveredInBatchesOnTheConfiguredExecutor() {
+        final RecordingSender sender = new RecordingSender();
+        final WebsocketSenders websocketSenders = websocketSenders();
+        websocketSenders.addWebsocketSender(sender.senderId(), sender);
+        final ExecutorService executor = newFixedThreadPool(2);
+        try {
+            websocketSenders.fanOutUsing(parallelFanOut(executor, 3, 4));
+            final ConcurrentLinkedQueue<ConnectionInformation> failures = new ConcurrentLinkedQueue<>();
+
+            final DeliveryReport report = websocketSenders.send("foo", connections(10), (connection, exception) ->
+                    failures.add(connection)).toCompletableFuture().join();
+
+            assertThat(report.recipients(), is(10));
+            assertThat(report.failed(), is(1));
+            assertThat(failures.size(), is(1));
+            assertThat(failures.peek().uniqueIdentifier(), is("3"));
+            assertThat(sender.received.stream().sorted().collect(toList()),
+                    contains("0", "1", "2", "3", "4", "5", "6", "7", "8", "9"));
+            assertThat(sender.batches, containsInAnyOrder(3, 3, 2, 2));
+            assertThat(sender.threads, not(hasItem(Thread.currentThread().getName())));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void messagesToAConnectionAreSentOneAfterAnotherInOrder() {
+        final RecordingSender sender = new RecordingSender();
+        final WebsocketSenders websocketSenders = websocketSenders();
+        websocketSenders.addWebsocketSender(sender.senderId(), sender);
+        final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        websocketSenders.fanOutUsing(parallelFanOut(tasks::add, 3, 2));
+        final List<WebsocketRegistryEntry> connections = connections(10);
+
+        final CompletionStage<DeliveryReport> first = websocketSenders.send("first", connections, (connection, exception) -> {
+        });
+        final CompletionStage<DeliveryReport> second = websocketSenders.send("second", connections, (connection, exception) -> {
+        });
+
+        assertThat(tasks.size(), is(2));
+        for (Runnable task = tasks.poll(); task != null; task = tasks.poll()) {
+            task.run();
+        }
+        assertThat(first.toCompletableFuture().join().recipients(), is(10));
+        assertThat(second.toCompletableFuture().join().recipients(), is(10));
+        range(0, 10).mapToObj(String::valueOf).forEach(id -> assertThat(
+                sender.messagesTo(id), contains("first", "second")));
+    }
+
+    @Test
+    public void aFanOutFromAPoolThreadDoesNotBlockWhenThePoolIsSaturated() throws Exception {
+        final RecordingSender sender = new RecordingSender();
+        final WebsocketSenders websocketSenders = websocketSenders();
+        websocketSenders.addWebsocketSender(sender.senderId(), sender);
+        final ExecutorService executor = newFixedThreadPool(1);
+        try {
+            websocketSenders.fanOutUsing(parallelFanOut(executor, 1, 1));
+            final DeliveryReport report = executor.submit(() -> websocketSenders.send("foo", connections(5), (connection, exception) -> {
+            }).toCompletableFuture())
+                    .get(10, SECONDS)
+                    .get(10, SECONDS);
+            assertThat(report.recipients(), is(5));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void invalidFanOutConfigurationsAreRejected() {
+        Exception exception = null;
+        try {
+            parallelFanOut(Runnable::run, 0, 1);
+        } catch (final IllegalArgumentException e) {
+            exception = e;
+        }
+        assertThat(exception, notNullValue());
+        assertThat(exception.getMessage(), is("batchSize must be positive"));
+    }
+
+    @Test
+    public void aFanOutWithoutParallelismIsRejected() {
+        Exception exception = null;
+        try {
+            parallelFanOut(Runnable::run, 1, 0);
+        } catch (final IllegalArgumentException e) {
+            exception = e;
+        }
+        assertThat(exception, notNullValue());
+        assertThat(exception.getMessage(), is("parallelism must be positive"));
+    }
+
+    private static List<WebsocketRegistryEntry> connections(final int count) {
+        final Headers headers = headersBuilder().build();
+        return range(0, count)
+                .mapToObj(String::valueOf)
+                .map(id -> restoreFromStrings(() -> id, "recording", headers, QueryParameters.builder().build(), Map.of()))
+                .collect(toList());
+    }
+
+    private static final class RecordingSender implements WebsocketSender<ConnectionInformation> {
+        private final ConcurrentLinkedQueue<String> received = new ConcurrentLinkedQueue<>();
+        private final ConcurrentLinkedQueue<Map.Entry<String, String>> messages = new ConcurrentLinkedQueue<>();
+        private final ConcurrentLinkedQueue<Integer> batches = new ConcurrentLinkedQueue<>();
+        private final ConcurrentLinkedQueue<String> threads = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public void send(final String message,
+                         final List<ConnectionInformation> connectionInformations,
+                         final BiConsumer<ConnectionInformation, Throwable> onException) {
+            batches.add(connectionInformations.size());
+            threads.add(Thread.currentThread().getName());
+            connectionInformations.forEach(connectionInformation -> {
+                received.add(connectionInformation.uniqueIdentifier());
+                messages.add(Map.entry(connectionInformation.uniqueIdentifier(), message));
+                if (connectionInformation.uniqueIdentifier().equals("3")) {
+                    onException.accept(connectionInformation, new IllegalStateException("gone"));
+                }
+            });
+        }
+
+        List<String> messagesTo(final String uniqueIdentifier) {
+            return messages.stream()
+                    .filter(entry -> entry.getKey().equals(uniqueIdentifier))
+                    .map(Map.Entry::getValue)
+                    .collect(toList());
+        }
+
+        @Override
+        public WebsocketSenderId senderId() {
+            return websocketSenderId("recording");
+        }
+
+        @Override
+        public void disconnect(final List<ConnectionInformation> connectionInformations,
+                               final BiConsumer<ConnectionInformation, Throwable> onException) {
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.tests.unittests;
+
+import de.quantummaid.httpmaid.HttpMaid;
+import de.quantummaid.httpmaid.endpoint.RawResponse;
+import de.quantummaid.httpmaid.http.Headers;
+import de.quantummaid.httpmaid.http.HeadersBuilder;
+import de.quantummaid.httpmaid.http.HttpRequestException;
+import de.quantummaid.httpmaid.http.QueryParameters;
+import de.quantummaid.httpmaid.http.headers.cookies.Cookies;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static de.quantummaid.httpmaid.HttpMaid.anHttpMaid;
+import static de.quantummaid.httpmaid.endpoint.RawHttpRequest.rawHttpRequestBuilder;
+import static de.quantummaid.httpmaid.exceptions.ExceptionConfigurators.toMapExceptionsOfType;
+import static de.quantummaid.httpmaid.http.HeadersBuilder.headersBuilder;
+import static de.quantummaid.httpmaid.http.headers.cookies.Cookies.cookiesFromHeaders;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+public final class HeadersAndQueryParametersSpecs {
+
+    @Test
+    public void headersAreLookedUpCaseInsensitively() {
+        final HeadersBuilder builder = headersBuilder();
+        builder.withAdditionalHeader("Content-Type", "text/plain");
+        builder.withAdditionalHeader("X-Custom", "a");
+        builder.withAdditionalHeader("x-custom", "b");
+        final Headers headers = builder.build();
+        assertThat(headers.header("content-type"), is("text/plain"));
+        assertThat(headers.header("CONTENT-TYPE"), is("text/plain"));
+        assertThat(headers.allValuesFor("X-CUSTOM"), contains("a", "b"));
+        assertThat(headers.optionalHeader("Accept"), is(Optional.empty()));
+        assertThat(headers.allValuesFor("Accept"), is(empty()));
+    }
+
+    @Test
+    public void headersKeepTheirInsertionOrder() {
+        final HeadersBuilder builder = headersBuilder();
+        for (int i = 0; i < 50; ++i) {
+            builder.withAdditionalHeader("header" + (i % 7), String.valueOf(i));
+        }
+        final Headers headers = builder.build();
+        assertThat(headers.asMap().keySet(), contains(
+                "header0", "header1", "header2", "header3", "header4", "header5", "header6"));
+        assertThat(headers.allValuesFor("header3"), contains("3", "10", "17", "24", "31", "38", "45"));
+    }
+
+    @Test
+    public void headersAreNotAffectedByLaterChangesToTheBuilder() {
+        final HeadersBuilder builder = headersBuilder();
+        builder.withAdditionalHeader("a", "1");
+        final Headers headers = builder.build();
+        builder.withAdditionalHeader("a", "2");
+        assertThat(headers.allValuesFor("a"), contains("1"));
+    }
+
+    @Test
+    public void queryParametersAreLookedUpCaseSensitively() {
+        final QueryParameters queryParameters = QueryParameters.fromQueryString("a=1&A=2&b=3&a=4&c");
+        assertThat(queryParameters.allValuesFor("a"), contains("1", "4"));
+        assertThat(queryParameters.parameter("A"), is("2"));
+        assertThat(queryParameters.parameter("c"), is(""));
+        assertThat(queryParameters.optionalParameter("d"), is(Optional.empty()));
+        assertThat(List.copyOf(queryParameters.asMap().keySet()), contains("a", "A", "b", "c"));
+    }
+
+    @Test
+    public void queryParametersArePercentDecoded() {
+        final QueryParameters queryParameters = QueryParameters.fromQueryString("na%20me=a+b%26c&&x=1=2&=ignored");
+        assertThat(queryParameters.parameter("na me"), is("a b&c"));
+        assertThat(queryParameters.parameter("x"), is("1=2"));
+        assertThat(queryParameters.asList().size(), is(2));
+    }
+
+    @Test
+    public void parsedQueryParametersEqualBuiltQueryParameters() {
+        final QueryParameters parsed = QueryParameters.fromQueryString("a=1&b=2");
+        final QueryParameters built = QueryParameters.builder()
+                .withParameter("a", "1")
+                .withParameter("b", "2")
+                .build();
+        assertThat(parsed, is(built));
+        assertThat(parsed.hashCode(), is(built.hashCode()));
+    }
+
+    @Test
+    public void tooManyQueryParametersAreRejected() {
+        final QueryParameters queryParameters = QueryParameters.fromQueryString("a=1&".repeat(1001));
+        HttpRequestException exception = null;
+        try {
+            queryParameters.asList();
+        } catch (final HttpRequestException e) {
+            exception = e;
+        }
+        assertThat(exception, is(notNullValue()));
+    }
+
+    @Test
+    public void theQueryParameterLimitIsEnforcedWithoutParsing() {
+        final QueryParameters queryParameters = QueryParameters.fromQueryString("a=%&".repeat(1001));
+        HttpRequestException exception = null;
+        try {
+            queryParameters.enforceParameterLimit();
+        } catch (final HttpRequestException e) {
+            exception = e;
+        }
+        assertThat(exception, is(notNullValue()));
+        QueryParameters.fromQueryString("a=1&&".repeat(1000)).enforceParameterLimit();
+    }
+
+    @Test
+    public void theQueryParameterLimitIsEnforcedBeforeTheHandlerRuns() {
+        final AtomicBoolean handlerInvoked = new AtomicBoolean();
+        final HttpMaid httpMaid = anHttpMaid()
+                .get("/", (request, response) -> handlerInvoked.set(true))
+                .configured(toMapExceptionsOfType(HttpRequestException.class,
+                        (exception, request, response) -> response.setStatus(400)))
+                .build();
+        final RawResponse response = httpMaid.handleRequestSynchronously(() -> rawHttpRequestBuilder()
+                .withMethod("GET")
+                .withPath("/")
+                .withQueryString("a=1&".repeat(1001))
+                .withHeaders(headersBuilder().build())
+                .withBody("")
+                .build(), raw -> raw);
+        assertThat(response.status(), is(400));
+        assertThat(handlerInvoked.get(), is(false));
+    }
+
+    @Test
+    public void unparseableQueryParametersCanBePrintedAndCompared() {
+        final QueryParameters malformed = QueryParameters.fromQueryString("a=%zz");
+        final QueryParameters tooMany = QueryParameters.fromQueryString("a=1&".repeat(1001));
+        assertThat(malformed.toString(), containsString("a=%zz"));
+        assertThat(tooMany.toString(), containsString("a=1&"));
+        assertThat(malformed, is(QueryParameters.fromQueryString("a=%zz")));
+        assertThat(malformed.hashCode(), is(QueryParameters.fromQueryString("a=%zz").hashCode()));
+        assertThat(tooMany.equals(malformed), is(false));
+    }
+
+    @Test
+    public void cookiesAreParsedFromAllCookieHeaders() {
+        final HeadersBuilder builder = headersBuilder();
+        builder.withAdditionalHeader("Cookie", "a=1; b=\"quoted\";c=x=y");
+        builder.withAdditionalHeader("cookie", "d");
+        final Cookies cookies = cookiesFromHeaders(builder.build());
+        assertThat(cookies.getCookie("a"), is("1"));
+        assertThat(cookies.getCookie("b"), is("quoted"));
+        assertThat(cookies.getCookie("c"), is("x=y"));
+        assertThat(cookies.getCookie("d"), is(""));
+        assertThat(cookies.getOptionalCookie("e"), is(Optional.empty()));
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.tests.unittests;
+
+import de.quantummaid.httpmaid.http.HeadersBuilder;
+import de.quantummaid.httpmaid.http.QueryParameters;
+import de.quantummaid.httpmaid.websockets.registry.ConnectionInformation;
+import de.quantummaid.httpmaid.websockets.registry.InMemoryRegistry;
+import de.quantummaid.httpmaid.websockets.registry.WebsocketRegistryEntry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static de.quantummaid.httpmaid.http.HeadersBuilder.headersBuilder;
+import static de.quantummaid.httpmaid.websockets.criteria.WebsocketCriteria.websocketCriteria;
+import static de.quantummaid.httpmaid.websockets.registry.InMemoryRegistry.inMemoryRegistry;
+import static de.quantummaid.httpmaid.websockets.registry.WebsocketRegistryEntry.restoreFromStrings;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public final class InMemoryRegistrySpecs {
+
+    @Test
+    public void connectionsAreSelectedByHeadersAndQueryParameters() {
+        final InMemoryRegistry registry = inMemoryRegistry();
+        registry.addConnection(entry(() -> "a", "red", "1", Map.of()));
+        registry.addConnection(entry(() -> "b", "red", "2", Map.of()));
+        registry.addConnection(entry(() -> "c", "blue", "1", Map.of()));
+
+        assertThat(identifiers(registry.connections(websocketCriteria().header("Color", "red"))), containsInAnyOrder("a", "b"));
+        assertThat(identifiers(registry.connections(websocketCriteria().header("color", "red").queryParameter("id", "1"))), contains("a"));
+        assertThat(identifiers(registry.connections(websocketCriteria().header("color", "green"))), empty());
+        assertThat(identifiers(registry.connections(websocketCriteria())), containsInAnyOrder("a", "b", "c"));
+    }
+
+    @Test
+    public void additionalDataIsMatchedWithAndWithoutIndexedCriteria() {
+        final InMemoryRegistry registry = inMemoryRegistry();
+        registry.addConnection(entry(() -> "a", "red", "1", Map.of("user", "alice")));
+        registry.addConnection(entry(() -> "b", "red", "2", Map.of("user", "bob")));
+
+        assertThat(identifiers(registry.connections(websocketCriteria().additionalDataString("user", "bob"))), contains("b"));
+        assertThat(identifiers(registry.connections(websocketCriteria().header("color", "red").additionalDataString("user", "alice"))), contains("a"));
+    }
+
+    @Test
+    public void removedConnectionsAreNoLongerFound() {
+        final InMemoryRegistry registry = inMemoryRegistry();
+        final ConnectionInformation a = () -> "a";
+        final ConnectionInformation b = () -> "b";
+        registry.addConnection(entry(a, "red", "1", Map.of()));
+        registry.addConnection(entry(b, "red", "1", Map.of()));
+        registry.removeConnection(a);
+
+        assertThat(registry.countConnections(), is(1L));
+        assertThat(registry.byConnectionInformation(b).connectionInformation(), is(b));
+        assertThat(identifiers(registry.connections(websocketCriteria().header("color", "red"))), contains("b"));
+        Exception exception = null;
+        try {
+            registry.byConnectionInformation(a);
+        } catch (final RuntimeException e) {
+            exception = e;
+        }
+        assertThat(exception, notNullValue());
+    }
+
+    @Test
+    public void addingAConnectionTwiceKeepsTheFirstEntry() {
+        final InMemoryRegistry registry = inMemoryRegistry();
+        final ConnectionInformation a = () -> "a";
+        registry.addConnection(entry(a, "red", "1", Map.of()));
+        registry.addConnection(entry(a, "blue", "2", Map.of()));
+
+        assertThat(registry.countConnections(), is(1L));
+        assertThat(identifiers(registry.connections(websocketCriteria())), contains("a"));
+        assertThat(identifiers(registry.connections(websocketCriteria().header("color", "red"))), contains("a"));
+        assertThat(identifiers(registry.connections(websocketCriteria().header("color", "blue"))), empty());
+        assertThat(registry.byConnectionInformation(a).headers().header("Color"), is("red"));
+    }
+
+    private static WebsocketRegistryEntry entry(final ConnectionInformation connectionInformation,
+                                                final String color,
+                                                final String id,
+                                                final Map<String, Object> additionalData) {
+        final HeadersBuilder headers = headersBuilder();
+        headers.withAdditionalHeader("Color", color);
+        return restoreFromStrings(
+                connectionInformation,
+                "sender",
+                headers.build(),
+                QueryParameters.builder().withParameter("id", id).build(),
+                additionalData
+        );
+    }
+
+    private static List<String> identifiers(final List<WebsocketRegistryEntry> entries) {
+        return entries.stream()
+                .map(entry -> entry.connectionInformation().uniqueIdentifier())
+                .collect(toList());
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.tests.unittests;
+
+import de.quantummaid.httpmaid.chains.MetaData;
+import de.quantummaid.httpmaid.handler.http.files.JavaResourceCache;
+import de.quantummaid.httpmaid.http.HeadersBuilder;
+import de.quantummaid.httpmaid.http.ResponseHeaders;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+import static de.quantummaid.httpmaid.HttpMaidChainKeys.*;
+import static de.quantummaid.httpmaid.chains.MetaData.emptyMetaData;
+import static de.quantummaid.httpmaid.handler.http.files.JavaResourceCache.javaResourceCache;
+import static de.quantummaid.httpmaid.handler.http.files.MultiformatPath.multiformatPath;
+import static de.quantummaid.httpmaid.handler.http.files.FileLoader.loadJavaResource;
+import static de.quantummaid.httpmaid.http.HeadersBuilder.headersBuilder;
+import static de.quantummaid.httpmaid.http.ResponseHeaders.emptyResponseHeaders;
+import static de.quantummaid.httpmaid.util.streams.Streams.inputStreamToString;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public final class JavaResourceCacheSpecs {
+    private static final String COMPRESSIBLE = "staticfiles/compressible/text";
+
+    @Test
+    public void repeatedRequestsAreServedFromTheCache() {
+        final JavaResourceCache cache = javaResourceCache(1024, false);
+        assertThat(serve(cache, "staticfiles/directory/file1"), is("this is file1"));
+        assertThat(serve(cache, "staticfiles/directory/file1"), is("this is file1"));
+        assertThat(cache.hits(), is(1L));
+        assertThat(cache.misses(), is(1L));
+        assertThat(cache.currentSize(), is(13L));
+    }
+
+    @Test
+    public void theLeastRecentlyUsedResourceIsEvicted() {
+        final JavaResourceCache cache = javaResourceCache(26, false);
+        serve(cache, "staticfiles/directory/file1");
+        serve(cache, "staticfiles/directory/file2");
+        serve(cache, "staticfiles/directory/file1");
+        serve(cache, "staticfiles/directory/file3");
+        assertThat(cache.evictions(), is(1L));
+        serve(cache, "staticfiles/directory/file1");
+        assertThat(cache.hits(), is(2L));
+        serve(cache, "staticfiles/directory/file2");
+        assertThat(cache.misses(), is(4L));
+    }
+
+    @Test
+    public void resourcesLargerThanTheCacheAreServedWithoutBeingCached() {
+        final JavaResourceCache cache = javaResourceCache(10, false);
+        assertThat(serve(cache, "staticfiles/directory/file1"), is("this is file1"));
+        assertThat(cache.currentSize(), is(0L));
+    }
+
+    @Test
+    public void resourcesLargerThanTheCacheAreOnlyReadOnce() {
+        final JavaResourceCache cache = javaResourceCache(10, false);
+        assertThat(serve(cache, "staticfiles/directory/file1"), is("this is file1"));
+        assertThat(serve(cache, "staticfiles/directory/file1"), is("this is file1"));
+        assertThat(cache.misses(), is(2L));
+        assertThat(cache.currentSize(), is(0L));
+    }
+
+    @Test
+    public void theGzipVariantIsServedToClientsThatAcceptIt() throws IOException {
+        final JavaResourceCache cache = javaResourceCache(4096, true);
+        final MetaData metaData = serve(cache, COMPRESSIBLE, "gzip, deflate");
+        final ResponseHeaders responseHeaders = metaData.get(RESPONSE_HEADERS);
+        assertThat(responseHeaders.getHeader("Content-Encoding"), is("gzip"));
+        assertThat(responseHeaders.getHeader("Vary"), is("Accept-Encoding"));
+        try (InputStream gunzipped = new GZIPInputStream(metaData.get(RESPONSE_BODY).asInputStream())) {
+            assertThat(inputStreamToString(gunzipped), is(compressibleContent()));
+        }
+    }
+
+    @Test
+    public void theIdentityVariantIsServedToClientsThatDoNotAcceptGzip() {
+        final JavaResourceCache cache = javaResourceCache(4096, true);
+        final MetaData metaData = serve(cache, COMPRESSIBLE, "gzip;q=0");
+        final ResponseHeaders responseHeaders = metaData.get(RESPONSE_HEADERS);
+        assertThat(responseHeaders.getOptionalHeader("Content-Encoding").isPresent(), is(false));
+        assertThat(responseHeaders.getHeader("Vary"), is("Accept-Encoding"));
+        assertThat(inputStreamToString(metaData.get(RESPONSE_BODY).asInputStream()), is(compressibleContent()));
+        assertThat(cache.hits(), is(0L));
+    }
+
+    @Test
+    public void aResourceWhoseGzipVariantDoesNotFitIsServedWithoutBeingCached() {
+        final int size = compressibleContent().length();
+        final JavaResourceCache cache = javaResourceCache(size, true);
+        final MetaData metaData = serve(cache, COMPRESSIBLE, "identity");
+        assertThat(inputStreamToString(metaData.get(RESPONSE_BODY).asInputStream()), is(compressibleContent()));
+        assertThat(cache.currentSize(), is(0L));
+        serve(cache, COMPRESSIBLE, "identity");
+        assertThat(cache.hits(), is(0L));
+    }
+
+    @Test
+    public void aPreviouslySetBinaryBodyFlagIsCleared() {
+        final JavaResourceCache cache = javaResourceCache(10, false);
+        final MetaData metaData = emptyMetaData();
+        metaData.set(RESPONSE_HEADERS, emptyResponseHeaders());
+        metaData.set(IS_BINARY_RESPONSE_BODY, true);
+        cache.serve(multiformatPath("staticfiles/directory/file1"), metaData);
+        assertThat(metaData.getOptional(IS_BINARY_RESPONSE_BODY).isPresent(), is(false));
+        assertThat(inputStreamToString(metaData.get(RESPONSE_BODY).asInputStream()), is("this is file1"));
+    }
+
+    private static String serve(final JavaResourceCache cache, final String path) {
+        final MetaData metaData = emptyMetaData();
+        metaData.set(RESPONSE_HEADERS, emptyResponseHeaders());
+        cache.serve(multiformatPath(path), metaData);
+        return inputStreamToString(metaData.get(RESPONSE_BODY).asInputStream());
+    }
+
+    private static MetaData serve(final JavaResourceCache cache, final String path, final String acceptEncoding) {
+        final MetaData metaData = emptyMetaData();
+        metaData.set(RESPONSE_HEADERS, emptyResponseHeaders());
+        final HeadersBuilder headersBuilder = headersBuilder();
+        headersBuilder.withAdditionalHeader("Accept-Encoding", acceptEncoding);
+        metaData.set(REQUEST_HEADERS, headersBuilder.build());
+        cache.serve(multiformatPath(path), metaData);
+        return metaData;
+    }
+
+    private static String compressibleContent() {
+        return inputStreamToString(loadJavaResource(multiformatPath(COMPRESSIBLE)));
+    }
+}
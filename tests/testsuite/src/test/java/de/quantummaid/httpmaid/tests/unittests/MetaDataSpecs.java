@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.tests.unittests;
+
+import de.quantummaid.httpmaid.chains.MetaData;
+import de.quantummaid.httpmaid.chains.MetaDataKey;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static de.quantummaid.httpmaid.chains.MetaData.emptyMetaData;
+import static de.quantummaid.httpmaid.chains.MetaDataKey.metaDataKey;
+import static java.util.UUID.randomUUID;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class MetaDataSpecs {
+
+    @Test
+    public void metaDataWithDifferentNumbersOfSlotsCanBeEqual() {
+        final MetaDataKey<String> sharedKey = uniqueKey();
+        final MetaData shorter = emptyMetaData();
+        final MetaDataKey<String> laterKey = uniqueKey();
+        final MetaData longer = emptyMetaData();
+
+        shorter.set(sharedKey, "value");
+        longer.set(sharedKey, "value");
+        assertThat(shorter, is(longer));
+        assertThat(longer, is(shorter));
+        assertThat(shorter.hashCode(), is(longer.hashCode()));
+
+        longer.set(laterKey, "other");
+        assertThat(shorter, is(not(longer)));
+        assertThat(longer, is(not(shorter)));
+
+        longer.set(laterKey, null);
+        assertThat(shorter, is(longer));
+        assertThat(shorter.hashCode(), is(longer.hashCode()));
+    }
+
+    @Test
+    public void metaDataWithDifferentValuesIsNotEqual() {
+        final MetaDataKey<String> key = uniqueKey();
+        final MetaData first = emptyMetaData();
+        final MetaData second = emptyMetaData();
+        first.set(key, "a");
+        second.set(key, "b");
+        assertThat(first, is(not(second)));
+    }
+
+    @Test
+    public void keysRegisteredAfterTheMetaDataWasCreatedCanBeUsed() {
+        final MetaData metaData = emptyMetaData();
+        final MetaDataKey<String> key = uniqueKey();
+
+        assertThat(metaData.getOrNull(key), is(nullValue()));
+        assertThat(metaData.contains(key), is(false));
+        assertThat(metaData.getOptional(key), is(Optional.empty()));
+
+        metaData.set(key, "value");
+        assertThat(metaData.get(key), is("value"));
+        assertThat(metaData.contains(key), is(true));
+        assertThat(metaData.getOrSetDefault(key, () -> "default"), is("value"));
+    }
+
+    @Test
+    public void prettyPrintListsAllSetMetaData() {
+        final String setName = "SET_" + randomUUID();
+        final String unsetName = "UNSET_" + randomUUID();
+        final MetaDataKey<String> setKey = metaDataKey(setName);
+        metaDataKey(unsetName);
+        final MetaData metaData = emptyMetaData();
+        metaData.set(setKey, "the value");
+
+        final String prettyPrinted = metaData.prettyPrint();
+        assertThat(prettyPrinted, containsString(setName + " = the value"));
+        assertThat(prettyPrinted, not(containsString(unsetName)));
+        assertThat(metaData.toString(), is(prettyPrinted));
+    }
+
+    @Test
+    public void missingMetaDataIsReportedWithTheKeyName() {
+        final String name = "KEY_" + randomUUID();
+        final MetaDataKey<String> key = metaDataKey(name);
+        final MetaData metaData = emptyMetaData();
+        final RuntimeException exception = assertThrows(RuntimeException.class, () -> metaData.get(key));
+        assertThat(exception.getMessage(), containsString(name));
+    }
+
+    private static MetaDataKey<String> uniqueKey() {
+        return metaDataKey("KEY_" + randomUUID());
+    }
+}
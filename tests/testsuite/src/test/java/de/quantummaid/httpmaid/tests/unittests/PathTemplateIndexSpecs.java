@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.tests.unittests;
+
+import de.quantummaid.httpmaid.path.PathTemplateIndex;
+import de.quantummaid.httpmaid.path.PathTemplateMatch;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static de.quantummaid.httpmaid.path.Path.path;
+import static de.quantummaid.httpmaid.path.PathTemplate.pathTemplate;
+import static de.quantummaid.httpmaid.path.PathTemplateIndex.pathTemplateIndex;
+import static java.util.Map.of;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class PathTemplateIndexSpecs {
+
+    @Test
+    public void testFirstRegisteredTemplateWins() {
+        final List<String> templates = List.of("/a/<var>", "/a/b", "/*", "/a/b/c");
+        resolves(templates, "/a/b", "/a/<var>", of("var", "b"));
+        resolves(templates, "/a/x", "/a/<var>", of("var", "x"));
+        resolves(templates, "/a/b/c", "/*", of());
+        resolves(templates, "/", "/*", of());
+    }
+
+    @Test
+    public void testStaticSegmentsAreResolvedBeforeLaterWildcards() {
+        final List<String> templates = List.of("/static/a", "/static/*", "/<var>/a");
+        resolves(templates, "/static/a", "/static/a", of());
+        resolves(templates, "/static/b/c", "/static/*", of());
+        resolves(templates, "/other/a", "/<var>/a", of("var", "other"));
+        doesNotResolve(templates, "/other/b");
+    }
+
+    @Test
+    public void testCapturesOfWildcardAndRegexTemplates() {
+        final List<String> templates = List.of("/*/<var>/*", "/|(?<number>\\d+)|/x");
+        resolves(templates, "/asdf/qwer", "/*/<var>/*", of("var", "asdf"));
+        resolves(List.of("/|(?<number>\\d+)|/x"), "/1337/x", "/|(?<number>\\d+)|/x", of("number", "1337"));
+        doesNotResolve(List.of("/|(?<number>\\d+)|/x"), "/abc/x");
+    }
+
+    @Test
+    public void testFilterSkipsRejectedTemplates() {
+        final PathTemplateIndex<String> index = indexOf(List.of("/a", "/<var>"));
+        final Optional<PathTemplateMatch<String>> match = index.lookup(path("/a"), "/<var>"::equals);
+        assertThat(match.isPresent(), is(true));
+        assertThat(match.get().value(), is("/<var>"));
+        assertThat(match.get().captures(), is(of("var", "a")));
+    }
+
+    private static void resolves(final List<String> templates,
+                                 final String input,
+                                 final String expectedTemplate,
+                                 final Map<String, String> expectedCaptures) {
+        final Optional<PathTemplateMatch<String>> match = indexOf(templates).lookup(path(input), template -> true);
+        assertThat(match.isPresent(), is(true));
+        assertThat(match.get().value(), is(expectedTemplate));
+        assertThat(match.get().captures(), is(expectedCaptures));
+    }
+
+    private static void doesNotResolve(final List<String> templates, final String input) {
+        final Optional<PathTemplateMatch<String>> match = indexOf(templates).lookup(path(input), template -> true);
+        assertThat(match.isPresent(), is(false));
+    }
+
+    private static PathTemplateIndex<String> indexOf(final List<String> templates) {
+        final PathTemplateIndex<String> index = pathTemplateIndex();
+        for (int i = 0; i < templates.size(); ++i) {
+            final String template = templates.get(i);
+            index.add(pathTemplate(template), i, template);
+        }
+        return index;
+    }
+}
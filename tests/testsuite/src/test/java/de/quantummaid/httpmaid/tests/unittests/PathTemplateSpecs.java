@@ -26,6 +26,7 @@ import de.quantummaid.httpmaid.path.PathTemplate;
 import org.junit.jupiter.api.Test;
 
 import java.util.Map;
+import java.util.Optional;
 
 import static de.quantummaid.httpmaid.path.Path.path;
 import static de.quantummaid.httpmaid.path.PathTemplate.pathTemplate;
@@ -74,6 +75,15 @@ public final class PathTemplateSpecs {
         parametersExtracted("/|(?<qwer>\\d*)(?<asdf>\\d*)|", "/1337", of("qwer", "1337", "asdf", ""));
     }
 
+    @Test
+    public void testMatchAndExtractionInOneCall() {
+        final PathTemplate pathTemplate = pathTemplate("/*/<var>/|(?<number>\\d+)|");
+        final Optional<Map<String, String>> parameters = pathTemplate.matchAndExtractPathParameters(path("/a//b/qwer/1337"));
+        assertThat(parameters.isPresent(), is(true));
+        assertThat(parameters.get(), is(of("var", "qwer", "number", "1337")));
+        assertThat(pathTemplate.matchAndExtractPathParameters(path("/a/qwer/asdf")).isPresent(), is(false));
+    }
+
     private static void parametersExtracted(final String template,
                                             final String input,
                                             final Map<String, String> expectedParameters) {
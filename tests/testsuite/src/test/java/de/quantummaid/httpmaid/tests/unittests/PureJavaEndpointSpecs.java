@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.tests.unittests;
+
+import de.quantummaid.httpmaid.HttpMaid;
+import de.quantummaid.httpmaid.endpoint.purejavaendpoint.PureJavaEndpoint;
+import de.quantummaid.httpmaid.handler.http.AsyncHttpHandler;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static de.quantummaid.httpmaid.Configurators.toTimeOutAsynchronousResponsesAfter;
+import static de.quantummaid.httpmaid.HttpMaid.anHttpMaid;
+import static de.quantummaid.httpmaid.endpoint.purejavaendpoint.PureJavaEndpoint.pureJavaEndpointFor;
+import static de.quantummaid.httpmaid.tests.givenwhenthen.deploy.FreePortPool.freePort;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.Executors.newCachedThreadPool;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class PureJavaEndpointSpecs {
+
+    @Test
+    public void requestsAreHandledOnTheGivenExecutor() throws IOException {
+        final AtomicInteger executedTasks = new AtomicInteger();
+        final ExecutorService executor = newCachedThreadPool();
+        final HttpMaid httpMaid = anHttpMaid()
+                .get("/", (request, response) -> response.setBody(Thread.currentThread().getName()))
+                .build();
+        final int port = freePort();
+        try (PureJavaEndpoint ignored = pureJavaEndpointFor(httpMaid)
+                .handlingRequestsOn(task -> {
+                    executedTasks.incrementAndGet();
+                    executor.execute(task);
+                })
+                .listeningOnThePort(port)) {
+            assertThat(get(port), startsWith("pool-"));
+            assertThat(executedTasks.get(), is(greaterThan(0)));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void aFixedThreadPoolHandlesRequestsConcurrently() throws Exception {
+        final CountDownLatch bothArrived = new CountDownLatch(2);
+        final HttpMaid httpMaid = anHttpMaid()
+                .get("/", (request, response) -> {
+                    bothArrived.countDown();
+                    response.setBody(String.valueOf(await(bothArrived)));
+                })
+                .build();
+        final int port = freePort();
+        try (PureJavaEndpoint ignored = pureJavaEndpointFor(httpMaid)
+                .handlingRequestsOnAFixedThreadPool(2)
+                .listeningOnThePort(port)) {
+            final CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> get(port));
+            final CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> get(port));
+            assertThat(first.get(10, SECONDS), is("true"));
+            assertThat(second.get(10, SECONDS), is("true"));
+        }
+    }
+
+    @Test
+    public void aConfiguredBacklogStillAcceptsRequests() {
+        final HttpMaid httpMaid = anHttpMaid()
+                .get("/", (request, response) -> response.setBody("ok"))
+                .build();
+        final int port = freePort();
+        try (PureJavaEndpoint ignored = pureJavaEndpointFor(httpMaid)
+                .withABacklogOf(5)
+                .listeningOnThePort(port)) {
+            assertThat(get(port), is("ok"));
+        }
+    }
+
+    @Test
+    public void invalidSettingsAreRejected() {
+        final HttpMaid httpMaid = anHttpMaid().build();
+        assertThrows(IllegalArgumentException.class, () -> pureJavaEndpointFor(httpMaid).withABacklogOf(-1));
+        assertThrows(IllegalArgumentException.class, () -> pureJavaEndpointFor(httpMaid).handlingRequestsOnAFixedThreadPool(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> pureJavaEndpointFor(httpMaid).drainingRequestsOnShutdownFor(Duration.ofSeconds(-1)));
+    }
+
+    @Test
+    public void inFlightRequestsAreDrainedOnShutdown() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final HttpMaid httpMaid = anHttpMaid()
+                .get("/", (request, response) -> {
+                    started.countDown();
+                    sleep(500);
+                    response.setBody("drained");
+                })
+                .build();
+        final int port = freePort();
+        final PureJavaEndpoint endpoint = pureJavaEndpointFor(httpMaid)
+                .handlingRequestsOnAFixedThreadPool(1)
+                .drainingRequestsOnShutdownFor(Duration.ofSeconds(5))
+                .listeningOnThePort(port);
+        final CompletableFuture<String> response = CompletableFuture.supplyAsync(() -> get(port));
+        assertThat(started.await(10, SECONDS), is(true));
+        endpoint.close();
+        assertThat(response.get(10, SECONDS), is("drained"));
+    }
+
+    @Test
+    public void drainingIsBoundedByASingleDeadline() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch never = new CountDownLatch(1);
+        final HttpMaid httpMaid = anHttpMaid()
+                .get("/", (request, response) -> {
+                    started.countDown();
+                    await(never);
+                })
+                .build();
+        final int port = freePort();
+        final PureJavaEndpoint endpoint = pureJavaEndpointFor(httpMaid)
+                .handlingRequestsOnAFixedThreadPool(1)
+                .drainingRequestsOnShutdownFor(Duration.ofSeconds(1))
+                .listeningOnThePort(port);
+        CompletableFuture.runAsync(() -> get(port));
+        assertThat(started.await(10, SECONDS), is(true));
+        final long before = System.nanoTime();
+        endpoint.close();
+        final long closingMillis = (System.nanoTime() - before) / 1_000_000;
+        assertThat(closingMillis, is(lessThan(1900L)));
+    }
+
+    @Test
+    public void asyncResponsesTimeOut() throws Exception {
+        final CompletableFuture<Void> lateCompletion = new CompletableFuture<>();
+        final CountDownLatch closed = new CountDownLatch(1);
+        final InputStream lateBody = new ByteArrayInputStream("late".getBytes(UTF_8)) {
+            @Override
+            public void close() {
+                closed.countDown();
+            }
+        };
+        final HttpMaid httpMaid = anHttpMaid()
+                .get("/", (AsyncHttpHandler) (request, response) -> lateCompletion
+                        .thenRun(() -> response.setBody(lateBody)))
+                .configured(toTimeOutAsynchronousResponsesAfter(Duration.ofMillis(200)))
+                .build();
+        final int port = freePort();
+        try (PureJavaEndpoint ignored = pureJavaEndpointFor(httpMaid).listeningOnThePort(port)) {
+            assertThat(statusOf(port), is(503));
+            lateCompletion.complete(null);
+            assertThat(closed.await(10, SECONDS), is(true));
+        }
+    }
+
+    private static int statusOf(final int port) throws IOException {
+        final HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + port + "/").openConnection();
+        return connection.getResponseCode();
+    }
+
+    private static String get(final int port) {
+        try {
+            final HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + port + "/").openConnection();
+            try (InputStream inputStream = connection.getInputStream()) {
+                return new String(inputStream.readAllBytes(), UTF_8);
+            }
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean await(final CountDownLatch latch) {
+        try {
+            return latch.await(10, SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
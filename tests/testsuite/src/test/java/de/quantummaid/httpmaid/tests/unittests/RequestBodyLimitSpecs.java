@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.tests.unittests;
+
+import de.quantummaid.httpmaid.HttpMaid;
+import de.quantummaid.httpmaid.endpoint.RawResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+import static de.quantummaid.httpmaid.Configurators.toLimitRequestBodiesTo;
+import static de.quantummaid.httpmaid.HttpMaid.anHttpMaid;
+import static de.quantummaid.httpmaid.endpoint.RawHttpRequest.rawHttpRequestBuilder;
+import static de.quantummaid.httpmaid.http.HeadersBuilder.headersBuilder;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public final class RequestBodyLimitSpecs {
+
+    @Test
+    public void handlersReadingAnOversizedBodyStreamRespondWith413() {
+        final HttpMaid httpMaid = anHttpMaid()
+                .post("/", (request, response) -> {
+                    final InputStream body = request.optionalBodyStream().orElseThrow();
+                    try {
+                        body.readAllBytes();
+                    } catch (final IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    response.setBody("read");
+                })
+                .configured(toLimitRequestBodiesTo(10))
+                .build();
+
+        assertThat(post(httpMaid, "x".repeat(11)).status(), is(413));
+        assertThat(post(httpMaid, "x".repeat(10)).stringBody(), is("read"));
+    }
+
+    @Test
+    public void handlersReadingAnOversizedBodyStringRespondWith413() {
+        final HttpMaid httpMaid = anHttpMaid()
+                .post("/", (request, response) -> response.setBody(request.bodyString()))
+                .configured(toLimitRequestBodiesTo(10))
+                .build();
+
+        assertThat(post(httpMaid, "x".repeat(11)).status(), is(413));
+    }
+
+    private static RawResponse post(final HttpMaid httpMaid, final String body) {
+        return httpMaid.handleRequestSynchronously(() -> rawHttpRequestBuilder()
+                .withMethod("POST")
+                .withPath("/")
+                .withQueryString(null)
+                .withHeaders(headersBuilder().build())
+                .withBody(body)
+                .build(), raw -> raw);
+    }
+}
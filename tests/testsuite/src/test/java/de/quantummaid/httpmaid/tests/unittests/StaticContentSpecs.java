@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.tests.unittests;
+
+import de.quantummaid.httpmaid.chains.MetaData;
+import de.quantummaid.httpmaid.handler.http.files.StaticContent;
+import de.quantummaid.httpmaid.handler.http.files.StaticContentSource;
+import de.quantummaid.httpmaid.http.HeadersBuilder;
+import de.quantummaid.httpmaid.http.HttpRequestMethod;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static de.quantummaid.httpmaid.HttpMaidChainKeys.*;
+import static de.quantummaid.httpmaid.chains.MetaData.emptyMetaData;
+import static de.quantummaid.httpmaid.endpoint.RawResponse.rawResponse;
+import static de.quantummaid.httpmaid.handler.http.files.FileLoader.openFile;
+import static de.quantummaid.httpmaid.handler.http.files.StaticContent.staticContent;
+import static de.quantummaid.httpmaid.http.HeadersBuilder.headersBuilder;
+import static de.quantummaid.httpmaid.http.ResponseHeaders.emptyResponseHeaders;
+import static de.quantummaid.httpmaid.http.body.ResponseBody.bytesBody;
+import static de.quantummaid.httpmaid.http.body.ResponseBody.lazyFileChannelBody;
+import static de.quantummaid.httpmaid.util.streams.Streams.inputStreamToString;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+public final class StaticContentSpecs {
+    private static final String CONTENT = "0123456789";
+    private static final long LAST_MODIFIED = 1_600_000_000_000L;
+    private static final String ENTITY_TAG = "\"abc\"";
+
+    @Test
+    public void servesTheWholeContentWithValidators() {
+        final MetaData metaData = serve(Map.of());
+        assertThat(metaData.getOrNull(RESPONSE_STATUS), is(nullValue()));
+        assertThat(metaData.get(RESPONSE_HEADERS).getHeader("ETag"), is(ENTITY_TAG));
+        assertThat(metaData.get(RESPONSE_HEADERS).getHeader("Last-Modified"), is("Sun, 13 Sep 2020 12:26:40 GMT"));
+        assertThat(body(metaData), is(CONTENT));
+    }
+
+    @Test
+    public void answersAMatchingIfNoneMatchWithNotModified() {
+        final MetaData metaData = serve(Map.of("If-None-Match", "\"other\", W/\"abc\""));
+        assertThat(metaData.get(RESPONSE_STATUS), is(304));
+        assertThat(metaData.getOrNull(RESPONSE_BODY), is(nullValue()));
+    }
+
+    @Test
+    public void answersAnUpToDateIfModifiedSinceWithNotModified() {
+        final MetaData metaData = serve(Map.of("If-Modified-Since", "Sun, 13 Sep 2020 12:26:40 GMT"));
+        assertThat(metaData.get(RESPONSE_STATUS), is(304));
+    }
+
+    @Test
+    public void servesByteRanges() {
+        final MetaData metaData = serve(Map.of("Range", "bytes=2-4"));
+        assertThat(metaData.get(RESPONSE_STATUS), is(206));
+        assertThat(metaData.get(RESPONSE_HEADERS).getHeader("Content-Range"), is("bytes 2-4/10"));
+        assertThat(body(metaData), is("234"));
+    }
+
+    @Test
+    public void servesSuffixByteRanges() {
+        final MetaData metaData = serve(Map.of("Range", "bytes=-3"));
+        assertThat(metaData.get(RESPONSE_HEADERS).getHeader("Content-Range"), is("bytes 7-9/10"));
+        assertThat(body(metaData), is("789"));
+    }
+
+    @Test
+    public void rejectsUnsatisfiableByteRanges() {
+        final MetaData metaData = serve(Map.of("Range", "bytes=10-"));
+        assertThat(metaData.get(RESPONSE_STATUS), is(416));
+        assertThat(metaData.get(RESPONSE_HEADERS).getHeader("Content-Range"), is("bytes */10"));
+    }
+
+    @Test
+    public void ignoresRangesWhenIfRangeDoesNotMatch() {
+        final MetaData metaData = serve(Map.of("Range", "bytes=2-4", "If-Range", "\"other\""));
+        assertThat(metaData.getOrNull(RESPONSE_STATUS), is(nullValue()));
+        assertThat(body(metaData), is(CONTENT));
+    }
+
+    @Test
+    public void notModifiedResponsesHaveNoBodyLength() {
+        final MetaData metaData = serve(Map.of("If-None-Match", ENTITY_TAG));
+        metaData.set(RESPONSE_BODY, bytesBody(CONTENT.getBytes()));
+        assertThat(rawResponse(metaData).permitsBody(), is(false));
+        assertThat(rawResponse(metaData).contentLength(), is(0L));
+    }
+
+    @Test
+    public void fileBodiesOpenTheFileOnlyWhenWritten() throws IOException {
+        final File file = File.createTempFile("static-content", ".txt");
+        file.deleteOnExit();
+        Files.writeString(file.toPath(), CONTENT);
+        final AtomicInteger opened = new AtomicInteger();
+        final MetaData metaData = serve(Map.of("Range", "bytes=2-4"), (position, count) -> lazyFileChannelBody(() -> {
+            opened.incrementAndGet();
+            return openFile(file);
+        }, position, count));
+        assertThat(opened.get(), is(0));
+        assertThat(body(metaData), is("234"));
+        assertThat(opened.get(), is(1));
+    }
+
+    private static MetaData serve(final Map<String, String> requestHeaders) {
+        return serve(requestHeaders,
+                (position, count) -> bytesBody(CONTENT.substring((int) position, (int) (position + count)).getBytes()));
+    }
+
+    private static MetaData serve(final Map<String, String> requestHeaders,
+                                  final StaticContentSource source) {
+        final MetaData metaData = emptyMetaData();
+        metaData.set(METHOD, HttpRequestMethod.GET);
+        metaData.set(RESPONSE_HEADERS, emptyResponseHeaders());
+        final HeadersBuilder headersBuilder = headersBuilder();
+        requestHeaders.forEach(headersBuilder::withAdditionalHeader);
+        metaData.set(REQUEST_HEADERS, headersBuilder.build());
+        final StaticContent content = staticContent(CONTENT.length(), LAST_MODIFIED, ENTITY_TAG, source);
+        content.serve(metaData);
+        return metaData;
+    }
+
+    private static String body(final MetaData metaData) {
+        return inputStreamToString(metaData.get(RESPONSE_BODY).asInputStream());
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.tests.unittests;
+
+import de.quantummaid.httpmaid.HttpMaid;
+import de.quantummaid.httpmaid.endpoint.RawResponse;
+import de.quantummaid.httpmaid.http.body.ResponseBody;
+import de.quantummaid.httpmaid.marshalling.MarshallingException;
+import de.quantummaid.httpmaid.marshalling.StreamingMarshaller;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static de.quantummaid.httpmaid.HttpMaid.anHttpMaid;
+import static de.quantummaid.httpmaid.endpoint.RawHttpRequest.rawHttpRequestBuilder;
+import static de.quantummaid.httpmaid.exceptions.ExceptionConfigurators.toMapExceptionsOfType;
+import static de.quantummaid.httpmaid.http.HeadersBuilder.headersBuilder;
+import static de.quantummaid.httpmaid.http.body.ResponseBody.outputStreamBody;
+import static de.quantummaid.httpmaid.http.headers.ContentType.fromString;
+import static de.quantummaid.httpmaid.marshalling.MarshallingConfigurators.toMarshallByDefaultUsingTheContentType;
+import static de.quantummaid.httpmaid.marshalling.MarshallingConfigurators.toMarshallContentTypeUsingStreams;
+import static de.quantummaid.httpmaid.marshalling.MarshallingConfigurators.toThrowAnExceptionIfNoMarshallerWasFound;
+import static de.quantummaid.httpmaid.util.streams.Streams.inputStreamToString;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public final class StreamingMarshallerSpecs {
+
+    @Test
+    public void streamingMarshallersProduceBodiesWithAKnownLength() {
+        final AtomicInteger invocations = new AtomicInteger();
+        final HttpMaid httpMaid = httpMaidWithStreamingMarshaller((map, outputStream) -> {
+            invocations.incrementAndGet();
+            outputStream.write(((String) ((Map<?, ?>) map).get("a")).getBytes(UTF_8));
+        });
+
+        final RawResponse response = get(httpMaid);
+
+        assertThat(response.status(), is(200));
+        assertThat(response.contentLength(), is(6L));
+        assertThat(response.stringBody(), is("foobar"));
+        assertThat(response.stringBody(), is("foobar"));
+        assertThat(invocations.get(), is(1));
+    }
+
+    @Test
+    public void largeBodiesAreStreamedIntoTheResponse() {
+        final String largeValue = "x".repeat(100_000);
+        final AtomicInteger invocations = new AtomicInteger();
+        final HttpMaid httpMaid = httpMaidWithStreamingMarshaller((map, outputStream) -> {
+            invocations.incrementAndGet();
+            final byte[] bytes = largeValue.getBytes(UTF_8);
+            for (int offset = 0; offset < bytes.length; offset += 1000) {
+                outputStream.write(bytes, offset, 1000);
+            }
+        });
+
+        final RawResponse response = get(httpMaid);
+        assertThat(response.contentLength(), is(ResponseBody.UNKNOWN_LENGTH));
+        final ByteArrayOutputStream written = new ByteArrayOutputStream();
+        response.streamBodyToOutputStream(written);
+
+        assertThat(written.toString(UTF_8), is(largeValue));
+        assertThat(invocations.get(), is(2));
+    }
+
+    @Test
+    public void streamingMarshallerFailuresAreMappedBeforeTheResponseIsWritten() {
+        final HttpMaid httpMaid = httpMaidWithStreamingMarshaller((map, outputStream) -> {
+            throw new IOException("broken");
+        });
+
+        final RawResponse response = get(httpMaid);
+
+        assertThat(response.status(), is(599));
+    }
+
+    @Test
+    public void outputStreamBodiesAreWrittenOnceWhenBuffered() {
+        final AtomicInteger invocations = new AtomicInteger();
+        final ResponseBody body = outputStreamBody(outputStream -> {
+            invocations.incrementAndGet();
+            try {
+                outputStream.write("foo".getBytes(UTF_8));
+            } catch (final IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(body.contentLength(), is(ResponseBody.UNKNOWN_LENGTH));
+
+        assertThat(inputStreamToString(body.asInputStream()), is("foo"));
+        assertThat(body.asByteBuffer().remaining(), is(3));
+        final ByteArrayOutputStream written = new ByteArrayOutputStream();
+        body.writeTo(written);
+
+        assertThat(written.toString(UTF_8), is("foo"));
+        assertThat(body.contentLength(), is(3L));
+        assertThat(invocations.get(), is(1));
+    }
+
+    private static HttpMaid httpMaidWithStreamingMarshaller(final StreamingMarshaller marshaller) {
+        return anHttpMaid()
+                .get("/", (request, response) -> response.setBody(Map.of("a", "foobar")))
+                .configured(toMarshallContentTypeUsingStreams(fromString("qwer"), body -> Map.of(), marshaller))
+                .configured(toMarshallByDefaultUsingTheContentType(fromString("qwer")))
+                .configured(toThrowAnExceptionIfNoMarshallerWasFound())
+                .configured(toMapExceptionsOfType(MarshallingException.class,
+                        (exception, request, response) -> response.setStatus(599)))
+                .build();
+    }
+
+    private static RawResponse get(final HttpMaid httpMaid) {
+        return httpMaid.handleRequestSynchronously(() -> rawHttpRequestBuilder()
+                .withMethod("GET")
+                .withPath("/")
+                .withQueryString(null)
+                .withHeaders(headersBuilder().build())
+                .withBody("")
+                .build(), raw -> raw);
+    }
+}
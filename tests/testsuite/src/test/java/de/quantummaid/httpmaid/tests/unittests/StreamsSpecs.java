@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.tests.unittests;
+
+import de.quantummaid.httpmaid.util.streams.StreamLimitExceededException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static de.quantummaid.httpmaid.util.streams.Streams.inputStreamToString;
+import static de.quantummaid.httpmaid.util.streams.Streams.limitInputStream;
+import static de.quantummaid.httpmaid.util.streams.Streams.stringToInputStream;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+public final class StreamsSpecs {
+
+    @Test
+    public void anEmptyStreamIsReadAsAnEmptyString() {
+        assertThat(inputStreamToString(stringToInputStream("")), is(""));
+    }
+
+    @Test
+    public void multiByteCharactersSurviveBufferBoundaries() {
+        final String string = "a\u00e4\u20ac\ud83d\ude00".repeat(1000);
+        assertThat(inputStreamToString(stringToInputStream(string)), is(string));
+        assertThat(inputStreamToString(stringToInputStream(string), 3, Long.MAX_VALUE), is(string));
+    }
+
+    @Test
+    public void anInaccurateExpectedLengthDoesNotTruncateTheString() {
+        assertThat(inputStreamToString(stringToInputStream("abcdef"), 6, 6), is("abcdef"));
+        assertThat(inputStreamToString(stringToInputStream("abcdef"), 100, 100), is("abcdef"));
+        assertThat(inputStreamToString(stringToInputStream("abcdef"), 2, 100), is("abcdef"));
+    }
+
+    @Test
+    public void streamsLongerThanTheLimitAreRejected() {
+        StreamLimitExceededException exception = null;
+        try {
+            inputStreamToString(stringToInputStream("abcdef"), 6, 5);
+        } catch (final StreamLimitExceededException e) {
+            exception = e;
+        }
+        assertThat(exception, notNullValue());
+        assertThat(exception.getMessage(), is("stream exceeds the limit of 5 bytes"));
+    }
+
+    @Test
+    public void limitedStreamsCanBeReadUpToTheLimit() throws IOException {
+        assertThat(new String(limitInputStream(stringToInputStream("abcdef"), 6).readAllBytes(), UTF_8), is("abcdef"));
+    }
+
+    @Test
+    public void limitedStreamsRejectReadsBeyondTheLimit() throws IOException {
+        StreamLimitExceededException exception = null;
+        try {
+            limitInputStream(stringToInputStream("abcdef"), 5).readAllBytes();
+        } catch (final StreamLimitExceededException e) {
+            exception = e;
+        }
+        assertThat(exception, notNullValue());
+        assertThat(exception.getMessage(), is("stream exceeds the limit of 5 bytes"));
+    }
+}
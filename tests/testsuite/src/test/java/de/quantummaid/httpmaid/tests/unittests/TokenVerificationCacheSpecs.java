@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.tests.unittests;
+
+import de.quantummaid.httpmaid.awslambdacognitoauthorizer.TokenVerification;
+import de.quantummaid.httpmaid.awslambdacognitoauthorizer.TokenVerificationCache;
+import de.quantummaid.httpmaid.awslambdacognitoauthorizer.TokenVerifier;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.cognitoidentityprovider.CognitoIdentityProviderClient;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.GetUserRequest;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.GetUserResponse;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.NotAuthorizedException;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static de.quantummaid.httpmaid.awslambdacognitoauthorizer.CognitoTokenVerifier.cognitoTokenVerifier;
+import static de.quantummaid.httpmaid.awslambdacognitoauthorizer.JwksTokenVerifier.jwksTokenVerifier;
+import static de.quantummaid.httpmaid.awslambdacognitoauthorizer.TokenVerificationCache.tokenVerificationCache;
+import static de.quantummaid.httpmaid.awslambdacognitoauthorizer.jwt.JwtParser.extractJwtPayload;
+import static java.lang.String.format;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+public final class TokenVerificationCacheSpecs {
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    @Test
+    public void successfulVerificationsAreServedFromTheCache() {
+        final CountingCognitoClient client = new CountingCognitoClient(false);
+        final TokenVerificationCache cache = tokenVerificationCache(Duration.ofMinutes(5), Duration.ofSeconds(10), 100);
+        final String token = unsignedToken(Instant.now().plusSeconds(3600));
+        assertThat(cache.verify(token, verifierFor(cognitoTokenVerifier(client))).isAuthorized(), is(true));
+        assertThat(cache.verify(token, verifierFor(cognitoTokenVerifier(client))).isAuthorized(), is(true));
+        assertThat(client.calls.get(), is(1));
+    }
+
+    @Test
+    public void verificationsAreNotCachedBeyondTheExpiryOfTheToken() {
+        final CountingCognitoClient client = new CountingCognitoClient(false);
+        final TokenVerificationCache cache = tokenVerificationCache(Duration.ofMinutes(5), Duration.ofSeconds(10), 100);
+        final String token = unsignedToken(Instant.now().minusSeconds(1));
+        cache.verify(token, verifierFor(cognitoTokenVerifier(client)));
+        cache.verify(token, verifierFor(cognitoTokenVerifier(client)));
+        assertThat(client.calls.get(), is(2));
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    public void rejectionsAreCachedForTheirOwnTimeToLive() {
+        final String token = unsignedToken(Instant.now().plusSeconds(3600));
+
+        final CountingCognitoClient client = new CountingCognitoClient(true);
+        final TokenVerificationCache cache = tokenVerificationCache(Duration.ofMinutes(5), Duration.ofSeconds(10), 100);
+        assertThat(cache.verify(token, verifierFor(cognitoTokenVerifier(client))).isAuthorized(), is(false));
+        assertThat(cache.verify(token, verifierFor(cognitoTokenVerifier(client))).isAuthorized(), is(false));
+        assertThat(client.calls.get(), is(1));
+
+        final CountingCognitoClient uncachedClient = new CountingCognitoClient(true);
+        final TokenVerificationCache cacheWithoutRejections = tokenVerificationCache(Duration.ofMinutes(5), Duration.ZERO, 100);
+        cacheWithoutRejections.verify(token, verifierFor(cognitoTokenVerifier(uncachedClient)));
+        cacheWithoutRejections.verify(token, verifierFor(cognitoTokenVerifier(uncachedClient)));
+        assertThat(uncachedClient.calls.get(), is(2));
+    }
+
+    @Test
+    public void concurrentVerificationsOfTheSameTokenShareOneLookup() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger calls = new AtomicInteger();
+        final TokenVerificationCache cache = tokenVerificationCache(Duration.ofMinutes(5), Duration.ofSeconds(10), 100);
+        final String token = unsignedToken(Instant.now().plusSeconds(3600));
+        final Function<String, TokenVerification> slowVerifier = verifierFor((accessToken, jwtInformation) -> {
+            calls.incrementAndGet();
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return TokenVerification.authorized(GetUserResponse.builder().username("foo").build(), jwtInformation.payloadMap());
+        });
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<TokenVerification>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; ++i) {
+                futures.add(executor.submit(() -> cache.verify(token, slowVerifier)));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (final Future<TokenVerification> future : futures) {
+                assertThat(future.get().getUserResponse().username(), is("foo"));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(calls.get(), is(1));
+    }
+
+    @Test
+    public void expiredEntriesAreEvictedWhenNewTokensAreInserted() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final TokenVerificationCache cache = tokenVerificationCache(Duration.ofMinutes(5), Duration.ofMillis(50), 4);
+        final Function<String, TokenVerification> rejectingVerifier = accessToken -> {
+            calls.incrementAndGet();
+            return TokenVerification.rejected();
+        };
+        for (int i = 0; i < 4; ++i) {
+            cache.verify(unsignedToken(Instant.now().plusSeconds(3600 + i)), rejectingVerifier);
+        }
+        assertThat(cache.size(), is(4));
+
+        Thread.sleep(100);
+        cache.verify(unsignedToken(Instant.now().plusSeconds(7200)), rejectingVerifier);
+        assertThat(cache.size(), is(1));
+        assertThat(calls.get(), is(5));
+    }
+
+    @Test
+    public void tokensCanBeVerifiedLocallyAgainstAJsonWebKeySet() throws Exception {
+        final KeyPair keyPair = generateKeyPair();
+        final TokenVerifier verifier = jwksTokenVerifier(() -> jwksFor(keyPair, "key1"));
+
+        final String header = encode("{\"alg\": \"RS256\", \"kid\": \"key1\"}");
+        final String payload = encode(payloadJson(Instant.now().plusSeconds(3600), "access"));
+        final String token = signedToken(keyPair, header, payload);
+
+        final TokenVerification verification = verifier.verify(token, extractJwtPayload(token));
+        assertThat(verification.isAuthorized(), is(true));
+        assertThat(verification.getUserResponse().username(), is("foo"));
+
+        final String tamperedPayload = encode(payloadJson(Instant.now().plusSeconds(7200), "access"));
+        final String signature = token.substring(token.lastIndexOf('.') + 1);
+        final String tamperedToken = header + "." + tamperedPayload + "." + signature;
+        assertThat(verifier.verify(tamperedToken, extractJwtPayload(tamperedToken)).isAuthorized(), is(false));
+    }
+
+    @Test
+    public void rejectionsForUnknownKeysAreNotCached() throws Exception {
+        final KeyPair keyPair = generateKeyPair();
+        final TokenVerifier verifier = jwksTokenVerifier(() -> jwksFor(keyPair, "key1"));
+        final TokenVerificationCache cache = tokenVerificationCache(Duration.ofMinutes(5), Duration.ofMinutes(5), 100);
+
+        final String header = encode("{\"alg\": \"RS256\", \"kid\": \"key2\"}");
+        final String payload = encode(payloadJson(Instant.now().plusSeconds(3600), "access"));
+        final String token = signedToken(keyPair, header, payload);
+
+        final TokenVerification verification = cache.verify(token, verifierFor(verifier));
+        assertThat(verification.isAuthorized(), is(false));
+        assertThat(verification.isCacheable(), is(false));
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    public void aFailedKeyFetchDoesNotDelayTheNextOne() throws Exception {
+        final KeyPair keyPair = generateKeyPair();
+        final AtomicInteger fetches = new AtomicInteger();
+        final TokenVerifier verifier = jwksTokenVerifier(() -> {
+            if (fetches.incrementAndGet() == 1) {
+                throw new IllegalStateException("jwks endpoint unavailable");
+            }
+            return jwksFor(keyPair, "key1");
+        });
+
+        final String header = encode("{\"alg\": \"RS256\", \"kid\": \"key1\"}");
+        final String payload = encode(payloadJson(Instant.now().plusSeconds(3600), "access"));
+        final String token = signedToken(keyPair, header, payload);
+
+        IllegalStateException exception = null;
+        try {
+            verifier.verify(token, extractJwtPayload(token));
+        } catch (final IllegalStateException e) {
+            exception = e;
+        }
+        assertThat(exception, is(notNullValue()));
+        assertThat(verifier.verify(token, extractJwtPayload(token)).isAuthorized(), is(true));
+        assertThat(fetches.get(), is(2));
+    }
+
+    private static Function<String, TokenVerification> verifierFor(final TokenVerifier tokenVerifier) {
+        return accessToken -> tokenVerifier.verify(accessToken, extractJwtPayload(accessToken));
+    }
+
+    private static KeyPair generateKeyPair() throws Exception {
+        final KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return generator.generateKeyPair();
+    }
+
+    private static String jwksFor(final KeyPair keyPair, final String keyId) {
+        final RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+        return format("{\"keys\": [{\"kty\": \"RSA\", \"kid\": \"%s\", \"alg\": \"RS256\", \"n\": \"%s\", \"e\": \"%s\"}]}",
+                keyId, encode(publicKey.getModulus()), encode(publicKey.getPublicExponent()));
+    }
+
+    private static String signedToken(final KeyPair keyPair, final String header, final String payload) throws Exception {
+        final Signature signature = Signature.getInstance("SHA256withRSA");
+        signature.initSign(keyPair.getPrivate());
+        signature.update((header + "." + payload).getBytes(StandardCharsets.US_ASCII));
+        return header + "." + payload + "." + ENCODER.encodeToString(signature.sign());
+    }
+
+    private static String unsignedToken(final Instant expiresAt) {
+        return format("aaa.%s.ccc", encode(payloadJson(expiresAt, "access")));
+    }
+
+    private static String payloadJson(final Instant expiresAt, final String tokenUse) {
+        return format("{\"iss\": \"a\", \"client_id\": \"b\", \"username\": \"foo\", \"token_use\": \"%s\", \"exp\": %d}",
+                tokenUse, expiresAt.getEpochSecond());
+    }
+
+    private static String encode(final String string) {
+        return ENCODER.encodeToString(string.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String encode(final BigInteger bigInteger) {
+        final byte[] bytes = bigInteger.toByteArray();
+        if (bytes[0] == 0) {
+            final byte[] unsigned = new byte[bytes.length - 1];
+            System.arraycopy(bytes, 1, unsigned, 0, unsigned.length);
+            return ENCODER.encodeToString(unsigned);
+        }
+        return ENCODER.encodeToString(bytes);
+    }
+
+    private static final class CountingCognitoClient implements CognitoIdentityProviderClient {
+        private final AtomicInteger calls = new AtomicInteger();
+        private final boolean rejecting;
+
+        private CountingCognitoClient(final boolean rejecting) {
+            this.rejecting = rejecting;
+        }
+
+        @Override
+        public String serviceName() {
+            return "countingclient";
+        }
+
+        @Override
+        public GetUserResponse getUser(final Consumer<GetUserRequest.Builder> getUserRequest) {
+            calls.incrementAndGet();
+            if (rejecting) {
+                throw NotAuthorizedException.builder().message("not authorized").build();
+            }
+            return GetUserResponse.builder()
+                    .username("foo")
+                    .build();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.tests.unittests;
+
+import de.quantummaid.httpmaid.websockets.endpoint.WebsocketMessageProcessing;
+import de.quantummaid.httpmaid.websockets.endpoint.WebsocketMessageQueue;
+import de.quantummaid.httpmaid.websockets.endpoint.WebsocketMessageQueueMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static de.quantummaid.httpmaid.websockets.endpoint.QueueOverflowPolicy.CLOSE_CONNECTION;
+import static de.quantummaid.httpmaid.websockets.endpoint.QueueOverflowPolicy.DROP_MESSAGE;
+import static de.quantummaid.httpmaid.websockets.endpoint.WebsocketMessageProcessing.callerThreadMessageProcessing;
+import static de.quantummaid.httpmaid.websockets.endpoint.WebsocketMessageProcessing.queuedMessageProcessing;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.IntStream.range;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class WebsocketMessageQueueSpecs {
+
+    @Test
+    public void messagesAreProcessedOnTheCallerThreadByDefault() {
+        final WebsocketMessageProcessing processing = callerThreadMessageProcessing();
+        final WebsocketMessageQueue queue = processing.openQueue(() -> {
+        });
+        final List<String> threads = new CopyOnWriteArrayList<>();
+        queue.submit(() -> threads.add(Thread.currentThread().getName()));
+        queue.close(() -> threads.add(Thread.currentThread().getName()));
+
+        assertThat(threads, contains(Thread.currentThread().getName(), Thread.currentThread().getName()));
+        assertThat(processing.metrics().openQueues(), is(0));
+    }
+
+    @Test
+    public void messagesOfOneConnectionAreProcessedInOrderOnTheExecutor() throws InterruptedException {
+        final ExecutorService executor = newFixedThreadPool(4);
+        try {
+            final WebsocketMessageProcessing processing = queuedMessageProcessing(executor, 1000, DROP_MESSAGE);
+            final WebsocketMessageQueue queue = processing.openQueue(() -> {
+            });
+            final List<Integer> processed = new CopyOnWriteArrayList<>();
+            final CountDownLatch closed = new CountDownLatch(1);
+            range(0, 500).forEach(i -> queue.submit(() -> processed.add(i)));
+            queue.close(closed::countDown);
+
+            assertThat(closed.await(5, SECONDS), is(true));
+            assertThat(processed, is(range(0, 500).boxed().collect(toList())));
+            assertThat(processing.metrics().openQueues(), is(0));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void overflowingMessagesAreDroppedAndCounted() throws InterruptedException {
+        final ExecutorService executor = newFixedThreadPool(1);
+        try {
+            final WebsocketMessageProcessing processing = queuedMessageProcessing(executor, 2, DROP_MESSAGE);
+            final AtomicInteger disconnects = new AtomicInteger();
+            final WebsocketMessageQueue queue = processing.openQueue(disconnects::incrementAndGet);
+            final CountDownLatch blocker = blockExecutor(queue);
+            final AtomicInteger processed = new AtomicInteger();
+            range(0, 5).forEach(i -> queue.submit(processed::incrementAndGet));
+
+            final WebsocketMessageQueueMetrics metrics = processing.metrics();
+            assertThat(metrics.openQueues(), is(1));
+            assertThat(metrics.queuedMessages(), is(2L));
+            assertThat(metrics.longestQueue(), is(2));
+            assertThat(metrics.droppedMessages(), is(3L));
+            assertThat(metrics.overflowDisconnects(), is(0L));
+
+            final CountDownLatch closed = new CountDownLatch(1);
+            queue.close(closed::countDown);
+            blocker.countDown();
+            assertThat(closed.await(5, SECONDS), is(true));
+            assertThat(processed.get(), is(2));
+            assertThat(disconnects.get(), is(0));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void overflowCanCloseTheConnection() throws InterruptedException {
+        final ExecutorService executor = newFixedThreadPool(1);
+        try {
+            final WebsocketMessageProcessing processing = queuedMessageProcessing(executor, 1, CLOSE_CONNECTION);
+            final AtomicInteger disconnects = new AtomicInteger();
+            final WebsocketMessageQueue queue = processing.openQueue(disconnects::incrementAndGet);
+            final CountDownLatch blocker = blockExecutor(queue);
+            range(0, 4).forEach(i -> queue.submit(() -> {
+            }));
+
+            assertThat(disconnects.get(), is(1));
+            assertThat(processing.metrics().overflowDisconnects(), is(1L));
+
+            final CountDownLatch closed = new CountDownLatch(1);
+            queue.close(closed::countDown);
+            blocker.countDown();
+            assertThat(closed.await(5, SECONDS), is(true));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void messagesSubmittedAfterCloseAreDropped() throws InterruptedException {
+        final ExecutorService executor = newFixedThreadPool(1);
+        try {
+            final WebsocketMessageProcessing processing = queuedMessageProcessing(executor, 10, DROP_MESSAGE);
+            final WebsocketMessageQueue queue = processing.openQueue(() -> {
+            });
+            final CountDownLatch blocker = blockExecutor(queue);
+            final List<String> processed = new CopyOnWriteArrayList<>();
+            final CountDownLatch closed = new CountDownLatch(1);
+            queue.close(() -> {
+                processed.add("final");
+                closed.countDown();
+            });
+            queue.submit(() -> processed.add("late"));
+            blocker.countDown();
+
+            assertThat(closed.await(5, SECONDS), is(true));
+            assertThat(processed, contains("final"));
+            assertThat(processing.metrics().droppedMessages(), is(1L));
+            assertThat(processing.metrics().openQueues(), is(0));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void queueDepthMustBePositive() {
+        final ExecutorService executor = newFixedThreadPool(1);
+        try {
+            final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> queuedMessageProcessing(executor, 0, DROP_MESSAGE));
+            assertThat(exception.getMessage(), is("queueDepth must be positive"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static CountDownLatch blockExecutor(final WebsocketMessageQueue queue) throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch blocker = new CountDownLatch(1);
+        queue.submit(() -> {
+            started.countDown();
+            try {
+                blocker.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        started.await();
+        return blocker;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2020 Richard Hauswald - https://quantummaid.de/.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package de.quantummaid.httpmaid.websocketregistryspecs;
+
+import de.quantummaid.httpmaid.awslambda.registry.DynamoDbWebsocketRegistry;
+import de.quantummaid.httpmaid.awslambda.repository.CachingRepository;
+import de.quantummaid.httpmaid.awslambda.repository.Repository;
+import de.quantummaid.httpmaid.websocketregistryspecs.testsupport.WebsocketRegistryDeployment;
+import de.quantummaid.httpmaid.websocketregistryspecs.testsupport.WebsocketRegistryTestExtension;
+import de.quantummaid.httpmaid.websockets.registry.ConnectionInformation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static de.quantummaid.httpmaid.awslambda.AwsWebsocketConnectionInformation.awsWebsocketConnectionInformation;
+import static de.quantummaid.httpmaid.awslambda.registry.DynamoDbWebsocketRegistry.dynamoDbWebsocketRegistry;
+import static de.quantummaid.httpmaid.awslambda.repository.CachingRepository.cachingRepository;
+import static de.quantummaid.httpmaid.websocketregistryspecs.inmemory.InMemoryRepository.inMemoryRepository;
+import static de.quantummaid.httpmaid.websocketregistryspecs.testsupport.WebsocketRegistryDeployment.websocketRegistryDeployment;
+import static de.quantummaid.httpmaid.websockets.criteria.WebsocketCriteria.websocketCriteria;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(WebsocketRegistryTestExtension.class)
+public final class CachingInMemoryWebsocketRegistrySpecs implements WebsocketRegistrySpecs {
+
+    @Override
+    public WebsocketRegistryDeployment websocketRegistry() {
+        final Repository repository = cachingRepository(inMemoryRepository(), Duration.ofMinutes(1));
+        final DynamoDbWebsocketRegistry dynamoDbWebsocketRegistry = dynamoDbWebsocketRegistry(repository);
+        return websocketRegistryDeployment(dynamoDbWebsocketRegistry);
+    }
+
+    @Override
+    public ConnectionInformation connectionInformation() {
+        return awsWebsocketConnectionInformation("a", "b", "c", "d");
+    }
+
+    @Test
+    public void connectionsAreServedFromTheCacheUntilItIsInvalidated() {
+        final Repository delegate = inMemoryRepository();
+        final CachingRepository repository = cachingRepository(delegate, Duration.ofMinutes(1));
+        final DynamoDbWebsocketRegistry websocketRegistry = dynamoDbWebsocketRegistry(repository);
+        assertThat(websocketRegistry.connections(websocketCriteria()).size(), is(0));
+
+        delegate.store("a/b/c/d", Map.of("h", List.of(), "q", List.of(), "a", Map.of()));
+        assertThat(websocketRegistry.connections(websocketCriteria()).size(), is(0));
+        assertThat(websocketRegistry.countConnections(), is(0L));
+
+        repository.invalidate();
+        assertThat(websocketRegistry.connections(websocketCriteria()).size(), is(1));
+        assertThat(websocketRegistry.countConnections(), is(1L));
+    }
+}